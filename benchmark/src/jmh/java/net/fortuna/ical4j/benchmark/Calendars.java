@@ -0,0 +1,39 @@
+package net.fortuna.ical4j.benchmark;
+
+import net.fortuna.ical4j.data.CalendarBuilder;
+import net.fortuna.ical4j.data.ParserException;
+import net.fortuna.ical4j.model.Calendar;
+import net.fortuna.ical4j.model.Component;
+import net.fortuna.ical4j.model.Property;
+import net.fortuna.ical4j.model.component.VEvent;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Support for benchmarks operating on a calendar model.
+ */
+final class Calendars {
+
+    private Calendars() {
+    }
+
+    static Calendar build(Corpus corpus) throws IOException, ParserException {
+        return new CalendarBuilder().build(new StringReader(corpus.generate()));
+    }
+
+    /**
+     * @return the recurring events of the specified calendar, excluding overridden instances
+     */
+    static List<VEvent> recurringEvents(Calendar calendar) {
+        final List<VEvent> events = new ArrayList<>();
+        for (VEvent event : calendar.<VEvent>getComponents(Component.VEVENT)) {
+            if (event.getProperty(Property.RRULE) != null) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+}
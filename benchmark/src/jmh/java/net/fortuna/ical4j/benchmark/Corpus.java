@@ -0,0 +1,213 @@
+package net.fortuna.ical4j.benchmark;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+
+/**
+ * Calendars used as benchmark input. Each corpus is generated deterministically such that results are comparable
+ * between runs, and contains only timezones defined by the corpus itself (i.e. no timezone definitions are loaded from
+ * the timezone registry).
+ */
+public enum Corpus {
+
+    /**
+     * A single iTIP meeting request, as typically received or sent by a scheduling agent.
+     */
+    ITIP {
+        @Override
+        public String generate() {
+            final StringBuilder b = begin("REQUEST");
+            timezone(b, 0);
+            event(b, new Random(SEED), 0, zone(0), RULES[1], 5);
+            return end(b);
+        }
+    },
+
+    /**
+     * A large published feed of mostly single events in a few timezones.
+     */
+    FEED {
+        @Override
+        public String generate() {
+            final StringBuilder b = begin("PUBLISH");
+            for (int i = 0; i < 3; i++) {
+                timezone(b, i);
+            }
+            final Random random = new Random(SEED);
+            for (int i = 0; i < 50000; i++) {
+                event(b, random, i, zone(i % 3), i % 10 == 0 ? RULES[i % RULES.length] : null, 0);
+            }
+            return end(b);
+        }
+    },
+
+    /**
+     * Recurring events with complex rules, exceptions and overridden instances.
+     */
+    RRULE {
+        @Override
+        public String generate() {
+            final StringBuilder b = begin("PUBLISH");
+            timezone(b, 0);
+            final Random random = new Random(SEED);
+            for (int i = 0; i < 2000; i++) {
+                event(b, random, i, zone(0), RULES[i % RULES.length], 0);
+            }
+            return end(b);
+        }
+    },
+
+    /**
+     * Events referencing many different timezones with daylight saving rules.
+     */
+    TZID {
+        @Override
+        public String generate() {
+            final StringBuilder b = begin("PUBLISH");
+            for (int i = 0; i < TIMEZONES; i++) {
+                timezone(b, i);
+            }
+            final Random random = new Random(SEED);
+            for (int i = 0; i < 5000; i++) {
+                event(b, random, i, zone(i % TIMEZONES), i % 4 == 0 ? RULES[i % RULES.length] : null, 0);
+            }
+            return end(b);
+        }
+    };
+
+    private static final long SEED = 20200101L;
+
+    private static final int TIMEZONES = 40;
+
+    private static final DateTimeFormatter FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2020, 1, 6, 0, 0);
+
+    private static final String[] RULES = {
+            "FREQ=DAILY;INTERVAL=2;COUNT=200",
+            "FREQ=WEEKLY;BYDAY=MO,WE,FR;UNTIL=20221231T235959Z",
+            "FREQ=MONTHLY;BYDAY=-1FR;COUNT=36",
+            "FREQ=MONTHLY;BYMONTHDAY=1,15,-1;INTERVAL=2",
+            "FREQ=YEARLY;BYMONTH=3,6,9,12;BYDAY=MO,TU,WE,TH,FR;BYSETPOS=-1;UNTIL=20251231T235959Z",
+            "FREQ=WEEKLY;INTERVAL=3;BYDAY=TU,TH;WKST=SU;COUNT=100",
+            "FREQ=DAILY;BYHOUR=9,13,17;BYMINUTE=0,30;UNTIL=20210630T000000Z",
+    };
+
+    /**
+     * @return the corpus in iCalendar format
+     */
+    public abstract String generate();
+
+    /**
+     * @return the identifier of a timezone defined by corpora
+     */
+    private static String zone(int index) {
+        return "Benchmark/Zone-" + index;
+    }
+
+    private static StringBuilder begin(String method) {
+        final StringBuilder b = new StringBuilder();
+        b.append("BEGIN:VCALENDAR\r\n");
+        b.append("PRODID:-//ical4j//Benchmark//EN\r\n");
+        b.append("VERSION:2.0\r\n");
+        b.append("CALSCALE:GREGORIAN\r\n");
+        b.append("METHOD:").append(method).append("\r\n");
+        return b;
+    }
+
+    private static String end(StringBuilder b) {
+        return b.append("END:VCALENDAR\r\n").toString();
+    }
+
+    /**
+     * Appends a timezone with daylight saving rules, with offsets varying by index.
+     */
+    private static void timezone(StringBuilder b, int index) {
+        final int standard = index % 24 - 12;
+        b.append("BEGIN:VTIMEZONE\r\n");
+        b.append("TZID:").append(zone(index)).append("\r\n");
+        b.append("BEGIN:DAYLIGHT\r\n");
+        b.append("DTSTART:19700329T020000\r\n");
+        b.append("TZOFFSETFROM:").append(offset(standard)).append("\r\n");
+        b.append("TZOFFSETTO:").append(offset(standard + 1)).append("\r\n");
+        b.append("RRULE:FREQ=YEARLY;BYMONTH=3;BYDAY=-1SU\r\n");
+        b.append("TZNAME:Z").append(index).append("D\r\n");
+        b.append("END:DAYLIGHT\r\n");
+        b.append("BEGIN:STANDARD\r\n");
+        b.append("DTSTART:19701025T030000\r\n");
+        b.append("TZOFFSETFROM:").append(offset(standard + 1)).append("\r\n");
+        b.append("TZOFFSETTO:").append(offset(standard)).append("\r\n");
+        b.append("RRULE:FREQ=YEARLY;BYMONTH=10;BYDAY=-1SU\r\n");
+        b.append("TZNAME:Z").append(index).append("S\r\n");
+        b.append("END:STANDARD\r\n");
+        b.append("END:VTIMEZONE\r\n");
+    }
+
+    private static String offset(int hours) {
+        return String.format("%s%02d00", hours < 0 ? "-" : "+", Math.abs(hours));
+    }
+
+    /**
+     * Appends an event, with attendees where the corpus is an iTIP request and recurrence exceptions where a rule is
+     * specified.
+     */
+    private static void event(StringBuilder b, Random random, int index, String tzId, String rule, int attendees) {
+        final LocalDateTime start = EPOCH.plusDays(random.nextInt(730)).plusHours(8 + random.nextInt(10))
+                .plusMinutes(30 * random.nextInt(2));
+        final LocalDateTime end = start.plusMinutes(30 + 30 * random.nextInt(4));
+        final String uid = "event-" + index + "@benchmark.ical4j";
+
+        b.append("BEGIN:VEVENT\r\n");
+        b.append("UID:").append(uid).append("\r\n");
+        b.append("DTSTAMP:20200101T000000Z\r\n");
+        b.append("DTSTART;TZID=").append(tzId).append(':').append(FORMAT.format(start)).append("\r\n");
+        b.append("DTEND;TZID=").append(tzId).append(':').append(FORMAT.format(end)).append("\r\n");
+        b.append("SUMMARY:Meeting ").append(index).append("\r\n");
+        b.append("DESCRIPTION:Agenda for meeting ").append(index)
+                .append(":\\n1. Review\\, discussion\\; actions\\n2. Any other business\r\n");
+        b.append("LOCATION:Room ").append(random.nextInt(50)).append("\r\n");
+        b.append("ORGANIZER;CN=Organiser:mailto:organiser@benchmark.ical4j\r\n");
+        attendees(b, attendees);
+        b.append("SEQUENCE:0\r\n");
+        b.append("STATUS:CONFIRMED\r\n");
+        b.append("TRANSP:OPAQUE\r\n");
+        if (rule != null) {
+            b.append("RRULE:").append(rule).append("\r\n");
+            b.append("EXDATE;TZID=").append(tzId).append(':').append(FORMAT.format(start.plusWeeks(1)))
+                    .append(',').append(FORMAT.format(start.plusWeeks(2))).append("\r\n");
+            b.append("RDATE;TZID=").append(tzId).append(':').append(FORMAT.format(start.plusDays(3))).append("\r\n");
+        }
+        b.append("BEGIN:VALARM\r\n");
+        b.append("ACTION:DISPLAY\r\n");
+        b.append("DESCRIPTION:Reminder\r\n");
+        b.append("TRIGGER:-PT15M\r\n");
+        b.append("END:VALARM\r\n");
+        b.append("END:VEVENT\r\n");
+
+        if (rule != null) {
+            // an overridden instance..
+            final LocalDateTime instance = start.plusWeeks(4);
+            b.append("BEGIN:VEVENT\r\n");
+            b.append("UID:").append(uid).append("\r\n");
+            b.append("DTSTAMP:20200101T000000Z\r\n");
+            b.append("RECURRENCE-ID;TZID=").append(tzId).append(':').append(FORMAT.format(instance)).append("\r\n");
+            b.append("DTSTART;TZID=").append(tzId).append(':').append(FORMAT.format(instance.plusHours(1)))
+                    .append("\r\n");
+            b.append("DTEND;TZID=").append(tzId).append(':')
+                    .append(FORMAT.format(instance.plusHours(1).plusMinutes(30))).append("\r\n");
+            b.append("SUMMARY:Meeting ").append(index).append(" (moved)\r\n");
+            b.append("ORGANIZER;CN=Organiser:mailto:organiser@benchmark.ical4j\r\n");
+            attendees(b, attendees);
+            b.append("SEQUENCE:1\r\n");
+            b.append("END:VEVENT\r\n");
+        }
+    }
+
+    private static void attendees(StringBuilder b, int count) {
+        for (int i = 0; i < count; i++) {
+            b.append("ATTENDEE;CN=Attendee ").append(i).append(";ROLE=REQ-PARTICIPANT;PARTSTAT=NEEDS-ACTION;RSVP=TRUE")
+                    .append(":mailto:attendee-").append(i).append("@benchmark.ical4j\r\n");
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package net.fortuna.ical4j.benchmark;
+
+import net.fortuna.ical4j.model.BusyTimeIndex;
+import net.fortuna.ical4j.model.Calendar;
+import net.fortuna.ical4j.model.ComponentList;
+import net.fortuna.ical4j.model.DateTime;
+import net.fortuna.ical4j.model.component.CalendarComponent;
+import net.fortuna.ical4j.model.component.VFreeBusy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures replies to a one month free/busy request for the events of the TZID corpus.
+ */
+@State(Scope.Benchmark)
+public class FreeBusyBenchmark {
+
+    private ComponentList<CalendarComponent> components;
+
+    private BusyTimeIndex index;
+
+    private VFreeBusy request;
+
+    @Setup
+    public void setup() throws Exception {
+        final Calendar calendar = Calendars.build(Corpus.TZID);
+        components = calendar.getComponents();
+        index = new BusyTimeIndex(calendar);
+        request = new VFreeBusy(new DateTime("20200601T000000Z"), new DateTime("20200701T000000Z"));
+    }
+
+    @Benchmark
+    public VFreeBusy reply() {
+        return new VFreeBusy(request, components);
+    }
+
+    @Benchmark
+    public VFreeBusy replyIndexed() {
+        return new VFreeBusy(request, index);
+    }
+}
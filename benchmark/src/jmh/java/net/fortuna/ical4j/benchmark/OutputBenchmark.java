@@ -0,0 +1,69 @@
+package net.fortuna.ical4j.benchmark;
+
+import net.fortuna.ical4j.data.CalendarOutputter;
+import net.fortuna.ical4j.model.Calendar;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Measures writing a calendar model as iCalendar text, without validation.
+ */
+@State(Scope.Benchmark)
+public class OutputBenchmark {
+
+    @Param({"ITIP", "FEED", "RRULE", "TZID"})
+    public Corpus corpus;
+
+    private Calendar calendar;
+
+    private final CalendarOutputter outputter = new CalendarOutputter(false);
+
+    @Setup
+    public void setup() throws Exception {
+        calendar = Calendars.build(corpus);
+    }
+
+    @Benchmark
+    public long output() throws IOException {
+        final CountingWriter out = new CountingWriter();
+        outputter.output(calendar, out);
+        return out.count;
+    }
+
+    /**
+     * Discards output such that only the cost of formatting is measured.
+     */
+    private static final class CountingWriter extends Writer {
+
+        private long count;
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            count += len;
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            count += len;
+        }
+
+        @Override
+        public void write(int c) {
+            count++;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package net.fortuna.ical4j.benchmark;
+
+import net.fortuna.ical4j.data.CalendarBuilder;
+import net.fortuna.ical4j.data.ParserException;
+import net.fortuna.ical4j.model.Calendar;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+/**
+ * Measures building a calendar model from iCalendar text.
+ */
+@State(Scope.Benchmark)
+public class ParseBenchmark {
+
+    @Param({"ITIP", "FEED", "RRULE", "TZID"})
+    public Corpus corpus;
+
+    private String data;
+
+    @Setup
+    public void setup() {
+        data = corpus.generate();
+    }
+
+    @Benchmark
+    public Calendar build() throws IOException, ParserException {
+        return new CalendarBuilder().build(new StringReader(data));
+    }
+}
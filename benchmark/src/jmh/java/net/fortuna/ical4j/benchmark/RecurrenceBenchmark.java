@@ -0,0 +1,52 @@
+package net.fortuna.ical4j.benchmark;
+
+import net.fortuna.ical4j.model.Calendar;
+import net.fortuna.ical4j.model.DateTime;
+import net.fortuna.ical4j.model.Period;
+import net.fortuna.ical4j.model.Property;
+import net.fortuna.ical4j.model.Recur;
+import net.fortuna.ical4j.model.component.VEvent;
+import net.fortuna.ical4j.model.parameter.Value;
+import net.fortuna.ical4j.model.property.DtStart;
+import net.fortuna.ical4j.model.property.RRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+
+/**
+ * Measures expansion of the recurring events of the RRULE corpus over a three year period.
+ */
+@State(Scope.Benchmark)
+public class RecurrenceBenchmark {
+
+    private List<VEvent> events;
+
+    private Period period;
+
+    @Setup
+    public void setup() throws Exception {
+        final Calendar calendar = Calendars.build(Corpus.RRULE);
+        events = Calendars.recurringEvents(calendar);
+        period = new Period(new DateTime("20200101T000000Z"), new DateTime("20230101T000000Z"));
+    }
+
+    @Benchmark
+    public void getDates(Blackhole blackhole) {
+        for (VEvent event : events) {
+            final Recur recur = event.<RRule>getProperty(Property.RRULE).getRecur();
+            final DtStart start = event.getProperty(Property.DTSTART);
+            blackhole.consume(recur.getDates(start.getDate(), period, Value.DATE_TIME));
+        }
+    }
+
+    @Benchmark
+    public void calculateRecurrenceSet(Blackhole blackhole) {
+        for (VEvent event : events) {
+            blackhole.consume(event.calculateRecurrenceSet(period));
+        }
+    }
+}
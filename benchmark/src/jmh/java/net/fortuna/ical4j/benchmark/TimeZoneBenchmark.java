@@ -0,0 +1,54 @@
+package net.fortuna.ical4j.benchmark;
+
+import net.fortuna.ical4j.model.Calendar;
+import net.fortuna.ical4j.model.Component;
+import net.fortuna.ical4j.model.TimeZone;
+import net.fortuna.ical4j.model.component.VTimeZone;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Measures offset calculation for timezones defined by VTIMEZONE components with daylight saving rules.
+ */
+@State(Scope.Benchmark)
+public class TimeZoneBenchmark {
+
+    private static final int INSTANTS = 1024;
+
+    private TimeZone[] timezones;
+
+    private long[] instants;
+
+    @Setup
+    public void setup() throws Exception {
+        final Calendar calendar = Calendars.build(Corpus.TZID);
+        final List<VTimeZone> vTimeZones = calendar.getComponents(Component.VTIMEZONE);
+        timezones = new TimeZone[vTimeZones.size()];
+        for (int i = 0; i < timezones.length; i++) {
+            timezones[i] = new TimeZone(vTimeZones.get(i));
+        }
+
+        // instants between 1990 and 2040..
+        final Random random = new Random(20200101L);
+        instants = new long[INSTANTS];
+        for (int i = 0; i < instants.length; i++) {
+            instants[i] = 631152000000L + (long) (random.nextDouble() * 1577836800000L);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INSTANTS)
+    public long getOffset() {
+        long sum = 0;
+        for (int i = 0; i < instants.length; i++) {
+            sum += timezones[i % timezones.length].getOffset(instants[i]);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,37 @@
+package net.fortuna.ical4j.benchmark;
+
+import net.fortuna.ical4j.model.Calendar;
+import net.fortuna.ical4j.validate.CalendarValidatorImpl;
+import net.fortuna.ical4j.validate.ValidationException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures validation of a calendar, including iTIP validation of its components.
+ */
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    @Param({"ITIP", "FEED", "RRULE", "TZID"})
+    public Corpus corpus;
+
+    private Calendar calendar;
+
+    private final CalendarValidatorImpl validator = new CalendarValidatorImpl();
+
+    @Setup
+    public void setup() throws Exception {
+        calendar = Calendars.build(corpus);
+        // fail early rather than measuring the cost of an exception..
+        validator.validate(calendar);
+    }
+
+    @Benchmark
+    public Calendar validate() throws ValidationException {
+        validator.validate(calendar);
+        return calendar;
+    }
+}
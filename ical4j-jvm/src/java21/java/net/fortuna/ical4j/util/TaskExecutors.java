@@ -0,0 +1,38 @@
+package net.fortuna.ical4j.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Provides executors suited to running many short-lived, independent tasks such as the generation of iTIP messages
+ * in bulk.
+ *
+ * This implementation runs each task in a new virtual thread.
+ *
+ * <pre>
+ *     ExecutorService executor = TaskExecutors.newTaskExecutor();
+ *     BatchScheduler&lt;VEvent&gt; scheduler = new BatchScheduler&lt;&gt;(userAgent, executor);
+ * </pre>
+ */
+public final class TaskExecutors {
+
+    /**
+     * Constructor made private to enforce static nature.
+     */
+    private TaskExecutors() {
+    }
+
+    /**
+     * @return a new executor that should be shut down when no longer required
+     */
+    public static ExecutorService newTaskExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ical4j-task-", 1).factory());
+    }
+
+    /**
+     * @return true if executors provided by this class run tasks in virtual threads
+     */
+    public static boolean isVirtual() {
+        return true;
+    }
+}
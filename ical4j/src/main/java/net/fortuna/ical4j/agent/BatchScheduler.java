@@ -0,0 +1,348 @@
+package net.fortuna.ical4j.agent;
+
+import net.fortuna.ical4j.model.Calendar;
+import net.fortuna.ical4j.model.ComponentBuilder;
+import net.fortuna.ical4j.model.ComponentFactory;
+import net.fortuna.ical4j.model.Property;
+import net.fortuna.ical4j.model.component.*;
+import net.fortuna.ical4j.model.property.Attendee;
+
+import java.lang.reflect.Array;
+import java.net.URI;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Generates iTIP messages in bulk using a {@link UserAgent}.
+ *
+ * Messages may be generated for many components at once, in which case each component is transformed and validated
+ * independently as if by the corresponding user agent method. Alternatively a single message (the template) may be
+ * fanned out to each of its attendees, in which case the template is transformed and validated once and each
+ * recipient receives a message containing the components in which they are an attendee. By default components are
+ * included with all of their attendees. Optionally each copy of a component may include only the recipient's own
+ * "ATTENDEE" property (e.g. where a CANCEL message is sent to attendees removed from a meeting, who need not learn
+ * of the remaining attendees). As each message differs from the template only by the omission of components or
+ * other attendees, messages are not validated individually.
+ *
+ * Messages generated from a template share all other content with the template (i.e. calendar properties, components
+ * or component properties, sub-components and any VTIMEZONE components) and as such must be treated as read-only.
+ * Use {@link Calendar#Calendar(Calendar)} to obtain a message that may be modified.
+ *
+ * Example - Send an updated meeting request to all attendees:
+ *
+ * <pre>
+ *     BatchScheduler&lt;VEvent&gt; scheduler = new BatchScheduler&lt;&gt;(userAgent, ForkJoinPool.commonPool());
+ *     Map&lt;URI, Calendar&gt; messages = scheduler.request(Collections.singletonList(timezone), meeting);
+ *     messages.forEach((recipient, message) -&gt; transport.send(recipient, message));
+ * </pre>
+ *
+ * Instances may be shared by multiple concurrent threads, provided the underlying user agent may be.
+ *
+ * @param <T> the type of component scheduled
+ */
+public class BatchScheduler<T extends CalendarComponent> {
+
+    private static final int DEFAULT_BATCH_SIZE = 64;
+
+    /**
+     * Factories for components that may be scheduled via iTIP.
+     */
+    private static final List<ComponentFactory> COMPONENT_FACTORIES = Arrays.asList(new VEvent.Factory(),
+            new VToDo.Factory(), new VJournal.Factory(), new VFreeBusy.Factory());
+
+    private final UserAgent<T> userAgent;
+
+    private final Executor executor;
+
+    private final int batchSize;
+
+    /**
+     * Creates a new instance that generates messages on the calling thread.
+     * @param userAgent the user agent used to generate messages
+     */
+    public BatchScheduler(UserAgent<T> userAgent) {
+        this(userAgent, Runnable::run);
+    }
+
+    /**
+     * @param userAgent the user agent used to generate messages
+     * @param executor the executor used to generate messages
+     */
+    public BatchScheduler(UserAgent<T> userAgent, Executor executor) {
+        this(userAgent, executor, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * @param userAgent the user agent used to generate messages
+     * @param executor the executor used to generate messages
+     * @param batchSize the number of messages generated by each task
+     */
+    public BatchScheduler(UserAgent<T> userAgent, Executor executor, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.userAgent = userAgent;
+        this.executor = executor;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Publishes each of the specified components in a separate message.
+     * @param components the components to publish
+     * @return a list of messages conforming to iTIP method PUBLISH, in the order of the specified components
+     */
+    public List<Calendar> publish(Collection<? extends T> components) {
+        return each(components, userAgent::publish);
+    }
+
+    /**
+     * Requests attendance to each of the specified components in a separate message.
+     * @param components the components to request
+     * @return a list of messages conforming to iTIP method REQUEST, in the order of the specified components
+     */
+    public List<Calendar> request(Collection<? extends T> components) {
+        return each(components, userAgent::request);
+    }
+
+    /**
+     * Cancels each of the specified components in a separate message.
+     * @param components the components to cancel
+     * @return a list of messages conforming to iTIP method CANCEL, in the order of the specified components
+     */
+    public List<Calendar> cancel(Collection<? extends T> components) {
+        return each(components, userAgent::cancel);
+    }
+
+    /**
+     * Requests attendance to one or more components, generating a message for each attendee.
+     * @param timezones timezones referenced by the components, included in each message
+     * @param component one or more components
+     * @return messages conforming to iTIP method REQUEST by attendee calendar address
+     */
+    @SafeVarargs
+    public final Map<URI, Calendar> request(Collection<VTimeZone> timezones, T... component) {
+        // elements are copied such that the generic array isn't exposed..
+        final List<T> components = new ArrayList<>(component.length);
+        for (final T c : component) {
+            components.add(c);
+        }
+        return fanOut(withTimezones(userAgent.request(toArray(components)), timezones));
+    }
+
+    /**
+     * Cancels one or more components, generating a message for each attendee.
+     * @param timezones timezones referenced by the components, included in each message
+     * @param component one or more components
+     * @return messages conforming to iTIP method CANCEL by attendee calendar address
+     */
+    @SafeVarargs
+    public final Map<URI, Calendar> cancel(Collection<VTimeZone> timezones, T... component) {
+        // elements are copied such that the generic array isn't exposed..
+        final List<T> components = new ArrayList<>(component.length);
+        for (final T c : component) {
+            components.add(c);
+        }
+        return fanOut(withTimezones(userAgent.cancel(toArray(components)), timezones));
+    }
+
+    /**
+     * Generates a message for each attendee of a previously validated message. Each message includes the components
+     * of the template in which the recipient is an attendee (with all attendees), together with any VTIMEZONE
+     * components.
+     * @param template a validated iTIP message
+     * @return messages by attendee calendar address, in the order attendees appear in the template
+     */
+    public Map<URI, Calendar> fanOut(final Calendar template) {
+        return fanOut(template, false);
+    }
+
+    /**
+     * Generates a message for each attendee of a previously validated message. Each message includes the components
+     * of the template in which the recipient is an attendee, together with any VTIMEZONE components.
+     * @param template a validated iTIP message
+     * @param recipientOnly if true each component includes only the "ATTENDEE" properties of the recipient, otherwise
+     *                      components include all attendees
+     * @return messages by attendee calendar address, in the order attendees appear in the template
+     */
+    public Map<URI, Calendar> fanOut(final Calendar template, final boolean recipientOnly) {
+        // attendees are indexed once such that each message is generated in time proportional to its size..
+        final List<Part> parts = new ArrayList<>();
+        final Set<URI> recipients = new LinkedHashSet<>();
+        for (final CalendarComponent component : template.getComponents()) {
+            final Part part = new Part(component);
+            parts.add(part);
+            if (part.attendees != null) {
+                recipients.addAll(part.attendees.keySet());
+            }
+        }
+
+        final List<URI> ordered = new ArrayList<>(recipients);
+        final List<CompletableFuture<List<Calendar>>> batches = new ArrayList<>();
+        for (int i = 0; i < ordered.size(); i += batchSize) {
+            final List<URI> batch = ordered.subList(i, Math.min(i + batchSize, ordered.size()));
+            batches.add(CompletableFuture.supplyAsync(() -> {
+                final List<Calendar> messages = new ArrayList<>(batch.size());
+                for (final URI recipient : batch) {
+                    messages.add(messageFor(template, parts, recipient, recipientOnly));
+                }
+                return messages;
+            }, executor));
+        }
+
+        final Map<URI, Calendar> messages = new LinkedHashMap<>();
+        final Iterator<URI> recipient = ordered.iterator();
+        for (final List<Calendar> batch : join(batches)) {
+            for (final Calendar message : batch) {
+                messages.put(recipient.next(), message);
+            }
+        }
+        return messages;
+    }
+
+    private List<Calendar> each(Collection<? extends T> components, Function<T[], Calendar> method) {
+        final List<T> list = new ArrayList<>(components);
+        final List<CompletableFuture<List<Calendar>>> batches = new ArrayList<>();
+        for (int i = 0; i < list.size(); i += batchSize) {
+            final List<T> batch = list.subList(i, Math.min(i + batchSize, list.size()));
+            batches.add(CompletableFuture.supplyAsync(() -> {
+                final List<Calendar> messages = new ArrayList<>(batch.size());
+                for (final T component : batch) {
+                    messages.add(method.apply(arrayOf(component)));
+                }
+                return messages;
+            }, executor));
+        }
+
+        final List<Calendar> messages = new ArrayList<>(list.size());
+        for (final List<Calendar> batch : join(batches)) {
+            messages.addAll(batch);
+        }
+        return messages;
+    }
+
+    private static <R> List<R> join(List<CompletableFuture<R>> futures) {
+        final List<R> results = new ArrayList<>(futures.size());
+        for (final CompletableFuture<R> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Creates an array of the runtime type of the component, as required by user agent implementations.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T[] arrayOf(T component) {
+        final T[] array = (T[]) Array.newInstance(component.getClass(), 1);
+        array[0] = component;
+        return array;
+    }
+
+    /**
+     * Creates an array of the runtime type of the components, as required by user agent implementations.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T[] toArray(List<T> components) {
+        if (components.isEmpty()) {
+            throw new IllegalArgumentException("At least one component is required");
+        }
+        return components.toArray((T[]) Array.newInstance(components.get(0).getClass(), components.size()));
+    }
+
+    private static Calendar withTimezones(Calendar message, Collection<VTimeZone> timezones) {
+        for (final VTimeZone timezone : timezones) {
+            // validated once here rather than in each message..
+            timezone.validate();
+            message.getComponents().add(timezone);
+        }
+        return message;
+    }
+
+    private static Calendar messageFor(Calendar template, List<Part> parts, URI recipient, boolean recipientOnly) {
+        final Calendar message = new Calendar();
+        message.getProperties().addAll(template.getProperties());
+        for (final Part part : parts) {
+            if (part.attendees == null) {
+                // e.g. VTIMEZONE..
+                message.getComponents().add(part.component);
+            } else {
+                final List<Attendee> attendees = part.attendees.get(recipient);
+                if (attendees != null) {
+                    message.getComponents().add(recipientOnly ? part.copyFor(attendees) : part.component);
+                }
+            }
+        }
+        return message;
+    }
+
+    /**
+     * A component of a template, with its attendees indexed by calendar address.
+     */
+    private static class Part {
+
+        private final CalendarComponent component;
+
+        /**
+         * Attendees by calendar address, or null if the component has no attendees.
+         */
+        private final Map<URI, List<Attendee>> attendees;
+
+        /**
+         * Properties other than attendees, shared by all copies.
+         */
+        private final List<Property> properties = new ArrayList<>();
+
+        /**
+         * The position of the attendees of a copy relative to the shared properties.
+         */
+        private int attendeeIndex = -1;
+
+        private Part(CalendarComponent component) {
+            this.component = component;
+            final Map<URI, List<Attendee>> attendees = new HashMap<>();
+            for (final Property property : component.getProperties()) {
+                if (property instanceof Attendee) {
+                    if (attendeeIndex < 0) {
+                        attendeeIndex = properties.size();
+                    }
+                    attendees.computeIfAbsent(((Attendee) property).getCalAddress(), k -> new ArrayList<>(1))
+                            .add((Attendee) property);
+                } else {
+                    properties.add(property);
+                }
+            }
+            this.attendees = !attendees.isEmpty() ? attendees : null;
+        }
+
+        /**
+         * Creates a copy of the component sharing all properties and sub-components, but including only the
+         * specified attendees.
+         */
+        @SuppressWarnings("unchecked")
+        private CalendarComponent copyFor(List<Attendee> recipientAttendees) {
+            final ComponentBuilder<CalendarComponent> builder = new ComponentBuilder<>();
+            builder.factories(COMPONENT_FACTORIES).name(component.getName());
+            for (int i = 0; i < properties.size(); i++) {
+                if (i == attendeeIndex) {
+                    recipientAttendees.forEach(builder::property);
+                }
+                builder.property(properties.get(i));
+            }
+            if (attendeeIndex == properties.size()) {
+                recipientAttendees.forEach(builder::property);
+            }
+            component.forEachSubComponent(builder::subComponent);
+            return builder.build();
+        }
+    }
+}
@@ -32,18 +32,23 @@
 package net.fortuna.ical4j.data;
 
 import net.fortuna.ical4j.model.*;
+import net.fortuna.ical4j.model.component.CalendarComponent;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.Charset;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
- * Parses and builds an iCalendar model from an input stream. Note that this class is not thread-safe.
+ * Parses and builds an iCalendar model from an input stream. Note that this class is not thread-safe: the
+ * underlying parser is stateless, however each builder retains the state of the calendar being built in its content
+ * handler. A builder may be reused for subsequent (sequential) parses, and {@link CalendarBuilderPool} may be used
+ * to share a bounded number of builders between multiple threads.
  *
  * @author Ben Fortuna
  *         <p/>
@@ -62,8 +67,19 @@ public class CalendarBuilder implements Consumer<Calendar> {
 
     private final ContentHandler contentHandler;
 
+    private final Supplier<List<ParameterFactory>> parameterFactorySupplier;
+
+    private final Supplier<List<PropertyFactory>> propertyFactorySupplier;
+
+    private final Supplier<List<ComponentFactory>> componentFactorySupplier;
+
     private final TimeZoneRegistry tzRegistry;
 
+    /**
+     * Resolved parser options, or null to resolve the default options for each parse.
+     */
+    private final ParserOptions options;
+
     /**
      * The calendar instance created by the builder.
      */
@@ -75,7 +91,12 @@ public class CalendarBuilder implements Consumer<Calendar> {
     public CalendarBuilder() {
         this.parser = CalendarParserFactory.getInstance().get();
         this.tzRegistry = TimeZoneRegistryFactory.getInstance().createRegistry();
-        this.contentHandler = new DefaultContentHandler(this, tzRegistry);
+        this.parameterFactorySupplier = new DefaultParameterFactorySupplier();
+        this.propertyFactorySupplier = new DefaultPropertyFactorySupplier();
+        this.componentFactorySupplier = new DefaultComponentFactorySupplier();
+        this.contentHandler = new DefaultContentHandler(this, tzRegistry, parameterFactorySupplier,
+                propertyFactorySupplier, componentFactorySupplier);
+        this.options = null;
     }
 
     /**
@@ -86,7 +107,12 @@ public class CalendarBuilder implements Consumer<Calendar> {
     public CalendarBuilder(final CalendarParser parser) {
         this.parser = parser;
         this.tzRegistry = TimeZoneRegistryFactory.getInstance().createRegistry();
-        this.contentHandler = new DefaultContentHandler(this, tzRegistry);
+        this.parameterFactorySupplier = new DefaultParameterFactorySupplier();
+        this.propertyFactorySupplier = new DefaultPropertyFactorySupplier();
+        this.componentFactorySupplier = new DefaultComponentFactorySupplier();
+        this.contentHandler = new DefaultContentHandler(this, tzRegistry, parameterFactorySupplier,
+                propertyFactorySupplier, componentFactorySupplier);
+        this.options = null;
     }
 
     /**
@@ -97,7 +123,12 @@ public class CalendarBuilder implements Consumer<Calendar> {
     public CalendarBuilder(final TimeZoneRegistry tzRegistry) {
         this.parser = CalendarParserFactory.getInstance().get();
         this.tzRegistry = tzRegistry;
-        this.contentHandler = new DefaultContentHandler(this, tzRegistry);
+        this.parameterFactorySupplier = new DefaultParameterFactorySupplier();
+        this.propertyFactorySupplier = new DefaultPropertyFactorySupplier();
+        this.componentFactorySupplier = new DefaultComponentFactorySupplier();
+        this.contentHandler = new DefaultContentHandler(this, tzRegistry, parameterFactorySupplier,
+                propertyFactorySupplier, componentFactorySupplier);
+        this.options = null;
     }
 
     /**
@@ -111,7 +142,12 @@ public class CalendarBuilder implements Consumer<Calendar> {
     public CalendarBuilder(CalendarParser parser, TimeZoneRegistry tzRegistry) {
         this.parser = parser;
         this.tzRegistry = tzRegistry;
-        this.contentHandler = new DefaultContentHandler(this, tzRegistry);
+        this.parameterFactorySupplier = new DefaultParameterFactorySupplier();
+        this.propertyFactorySupplier = new DefaultPropertyFactorySupplier();
+        this.componentFactorySupplier = new DefaultComponentFactorySupplier();
+        this.contentHandler = new DefaultContentHandler(this, tzRegistry, parameterFactorySupplier,
+                propertyFactorySupplier, componentFactorySupplier);
+        this.options = null;
     }
 
     /**
@@ -137,8 +173,44 @@ public class CalendarBuilder implements Consumer<Calendar> {
 
         this.parser = parser;
         this.tzRegistry = tzRegistry;
+        this.parameterFactorySupplier = parameterFactorySupplier;
+        this.propertyFactorySupplier = propertyFactorySupplier;
+        this.componentFactorySupplier = componentFactorySupplier;
         this.contentHandler = new DefaultContentHandler(this, tzRegistry, parameterFactorySupplier,
                 propertyFactorySupplier, componentFactorySupplier);
+        this.options = null;
+    }
+
+    /**
+     * Constructs a new calendar builder that applies the specified options rather than the compatibility hints.
+     *
+     * @param options parser options applied to all calendars built
+     */
+    public CalendarBuilder(ParserOptions options) {
+        this(CalendarParserFactory.getInstance().get(), new DefaultParameterFactorySupplier(),
+                new DefaultPropertyFactorySupplier(), new DefaultComponentFactorySupplier(),
+                TimeZoneRegistryFactory.getInstance().createRegistry(), options);
+    }
+
+    /**
+     * @param parser                   a custom calendar parser
+     * @param tzRegistry               a custom timezone registry
+     * @param options                  parser options applied to all calendars built
+     */
+    public CalendarBuilder(CalendarParser parser, Supplier<List<ParameterFactory>> parameterFactorySupplier,
+                           Supplier<List<PropertyFactory>> propertyFactorySupplier,
+                           Supplier<List<ComponentFactory>> componentFactorySupplier,
+                           TimeZoneRegistry tzRegistry, ParserOptions options) {
+
+        this.parser = parser;
+        this.tzRegistry = tzRegistry;
+        // resolve once such that subsequent changes to compatibility hints don't apply..
+        this.options = options.resolve();
+        this.parameterFactorySupplier = parameterFactorySupplier;
+        this.propertyFactorySupplier = propertyFactorySupplier;
+        this.componentFactorySupplier = componentFactorySupplier;
+        this.contentHandler = new DefaultContentHandler(this, tzRegistry, parameterFactorySupplier,
+                propertyFactorySupplier, componentFactorySupplier, this.options);
     }
 
     @Override
@@ -155,7 +227,22 @@ public class CalendarBuilder implements Consumer<Calendar> {
      * @throws ParserException where an error occurs parsing data from the stream
      */
     public Calendar build(final InputStream in) throws IOException, ParserException {
-        return build(new InputStreamReader(in, DEFAULT_CHARSET));
+        return build(new InputStreamReader(MeteredInputStream.wrap(in), DEFAULT_CHARSET));
+    }
+
+    /**
+     * Builds an iCalendar model from the specified UTF-8 encoded file. The file is memory-mapped and decoded
+     * directly, avoiding the overhead of buffered stream and reader decoding for large files.
+     *
+     * @param path the path of a file to read calendar data from
+     * @return a calendar parsed from the specified file
+     * @throws IOException     where an error occurs reading data from the specified file
+     * @throws ParserException where an error occurs parsing data from the file
+     */
+    public Calendar build(final Path path) throws IOException, ParserException {
+        try (Reader in = new MappedFileReader(path)) {
+            return build(in);
+        }
     }
 
     /**
@@ -168,7 +255,8 @@ public class CalendarBuilder implements Consumer<Calendar> {
      * @throws ParserException where an error occurs parsing data from the reader
      */
     public Calendar build(final Reader in) throws IOException, ParserException {
-        return build(new UnfoldingReader(in));
+        final ParserOptions resolved = resolveOptions();
+        return build(new UnfoldingReader(in, resolved), resolved);
     }
 
     /**
@@ -180,10 +268,87 @@ public class CalendarBuilder implements Consumer<Calendar> {
      * @throws ParserException where an error occurs parsing data from the reader
      */
     public Calendar build(final UnfoldingReader uin) throws IOException, ParserException {
-        parser.parse(uin, contentHandler);
+        return build(uin, resolveOptions());
+    }
+
+    /**
+     * Parses the specified reader, supplying each top-level component to the specified consumer as soon as it is
+     * parsed. Unlike {@link #build(Reader)} no calendar model is retained, and as such this method is suitable for
+     * processing calendars too large to hold in memory.
+     *
+     * @param in a reader to read calendar data from
+     * @param consumer a consumer of parsed top-level components
+     * @throws IOException     where an error occurs reading data from the specified reader
+     * @throws ParserException where an error occurs parsing data from the reader
+     * @see StreamingContentHandler
+     */
+    public void stream(final Reader in, final Consumer<CalendarComponent> consumer)
+            throws IOException, ParserException {
+
+        final ParserOptions resolved = resolveOptions();
+        final ContentHandler handler = new StreamingContentHandler(consumer, calendar -> { }, tzRegistry,
+                parameterFactorySupplier, propertyFactorySupplier, componentFactorySupplier, options);
+        parser.parse(new UnfoldingReader(in, resolved), handler, resolved);
+    }
+
+    /**
+     * Parses the specified input stream, supplying each top-level component to the specified consumer as soon as
+     * it is parsed.
+     *
+     * @param in an input stream to read calendar data from
+     * @param consumer a consumer of parsed top-level components
+     * @throws IOException     where an error occurs reading data from the specified stream
+     * @throws ParserException where an error occurs parsing data from the stream
+     * @see #stream(Reader, Consumer)
+     */
+    public void stream(final InputStream in, final Consumer<CalendarComponent> consumer)
+            throws IOException, ParserException {
+        stream(new InputStreamReader(MeteredInputStream.wrap(in), DEFAULT_CHARSET), consumer);
+    }
+
+    /**
+     * Parses the specified UTF-8 encoded file, supplying each top-level component to the specified consumer as
+     * soon as it is parsed. The file is memory-mapped and decoded directly.
+     *
+     * @param path the path of a file to read calendar data from
+     * @param consumer a consumer of parsed top-level components
+     * @throws IOException     where an error occurs reading data from the specified file
+     * @throws ParserException where an error occurs parsing data from the file
+     * @see #stream(Reader, Consumer)
+     */
+    public void stream(final Path path, final Consumer<CalendarComponent> consumer)
+            throws IOException, ParserException {
+        try (Reader in = new MappedFileReader(path)) {
+            stream(in, consumer);
+        }
+    }
+
+    private Calendar build(final UnfoldingReader uin, final ParserOptions resolved)
+            throws IOException, ParserException {
+
+        // discard any state remaining from a previous failed parse..
+        reset();
+
+        parser.parse(uin, contentHandler, resolved);
         return calendar;
     }
 
+    /**
+     * Discards the state of the previous parse, including the last calendar built, such that the builder may be
+     * reused. Timezones registered with the timezone registry by previous parses are retained.
+     */
+    public void reset() {
+        contentHandler.reset();
+        calendar = null;
+    }
+
+    private ParserOptions resolveOptions() {
+        if (options != null) {
+            return options;
+        }
+        return ParserOptions.defaults().resolve();
+    }
+
     /**
      * Returns the timezone registry used in the construction of calendars.
      *
@@ -0,0 +1,118 @@
+package net.fortuna.ical4j.data;
+
+import net.fortuna.ical4j.model.Calendar;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * A bounded pool of {@link CalendarBuilder} instances, supporting the parsing of calendars by multiple concurrent
+ * threads without constructing a new builder (and associated content handler and timezone registry) for each parse.
+ *
+ * Each parse borrows an idle builder from the pool, or creates a new builder if none are idle. On completion the
+ * builder is reset and returned to the pool, unless the pool already holds the maximum number of idle builders in
+ * which case the builder is discarded. As such the pool never blocks a parse.
+ *
+ * Example - Share builders between request threads:
+ *
+ * <pre>
+ *     CalendarBuilderPool pool = new CalendarBuilderPool(() -&gt; new CalendarBuilder(options), 16);
+ *     ...
+ *     Calendar calendar = pool.build(in);
+ * </pre>
+ *
+ * On release the timezone registry of the builder is cleared, such that timezones defined by one input are never used
+ * to resolve timezone references in subsequent inputs parsed by the same builder. As such each builder supplied to the
+ * pool must have its own timezone registry.
+ *
+ * Instances of this class are thread-safe.
+ */
+public class CalendarBuilderPool {
+
+    private static final int DEFAULT_MAX_IDLE = 8;
+
+    private final Supplier<CalendarBuilder> builderSupplier;
+
+    private final BlockingQueue<CalendarBuilder> idle;
+
+    /**
+     * Creates a new pool of default calendar builders.
+     */
+    public CalendarBuilderPool() {
+        this(CalendarBuilder::new, DEFAULT_MAX_IDLE);
+    }
+
+    /**
+     * @param builderSupplier supplies new builders when no idle builder is available
+     * @param maxIdle the maximum number of idle builders retained by the pool
+     */
+    public CalendarBuilderPool(Supplier<CalendarBuilder> builderSupplier, int maxIdle) {
+        if (maxIdle < 1) {
+            throw new IllegalArgumentException("Maximum idle builders must be positive");
+        }
+        this.builderSupplier = builderSupplier;
+        this.idle = new ArrayBlockingQueue<>(maxIdle);
+    }
+
+    /**
+     * Builds an iCalendar model from the specified input stream using a pooled builder.
+     *
+     * @param in an input stream to read calendar data from
+     * @return a calendar parsed from the specified input stream
+     * @throws IOException     where an error occurs reading data from the specified stream
+     * @throws ParserException where an error occurs parsing data from the stream
+     * @see CalendarBuilder#build(InputStream)
+     */
+    public Calendar build(final InputStream in) throws IOException, ParserException {
+        final CalendarBuilder builder = borrow();
+        try {
+            return builder.build(in);
+        } finally {
+            release(builder);
+        }
+    }
+
+    /**
+     * Builds an iCalendar model from the specified reader using a pooled builder.
+     *
+     * @param in a reader to read calendar data from
+     * @return a calendar parsed from the specified reader
+     * @throws IOException     where an error occurs reading data from the specified reader
+     * @throws ParserException where an error occurs parsing data from the reader
+     * @see CalendarBuilder#build(Reader)
+     */
+    public Calendar build(final Reader in) throws IOException, ParserException {
+        final CalendarBuilder builder = borrow();
+        try {
+            return builder.build(in);
+        } finally {
+            release(builder);
+        }
+    }
+
+    /**
+     * @return the number of idle builders currently held by the pool
+     */
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    private CalendarBuilder borrow() {
+        final CalendarBuilder builder = idle.poll();
+        if (builder != null) {
+            return builder;
+        }
+        return builderSupplier.get();
+    }
+
+    private void release(CalendarBuilder builder) {
+        // don't retain the last calendar built, or timezones defined by the input..
+        builder.reset();
+        builder.getRegistry().clear();
+        idle.offer(builder);
+    }
+}
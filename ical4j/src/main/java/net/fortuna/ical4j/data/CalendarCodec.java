@@ -0,0 +1,1057 @@
+package net.fortuna.ical4j.data;
+
+import net.fortuna.ical4j.model.*;
+import net.fortuna.ical4j.model.component.CalendarComponent;
+import net.fortuna.ical4j.model.component.VTimeZone;
+import net.fortuna.ical4j.model.property.DateProperty;
+import net.fortuna.ical4j.model.property.ExRule;
+import net.fortuna.ical4j.model.property.RRule;
+import net.fortuna.ical4j.model.property.XProperty;
+import net.fortuna.ical4j.util.Constants;
+import net.fortuna.ical4j.util.Strings;
+import net.fortuna.ical4j.util.TimeZones;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Encodes iCalendar models in a compact binary form that may be decoded significantly faster than parsing the
+ * equivalent iCalendar text, intended for caching previously parsed calendars.
+ *
+ * The encoding is versioned, and consists of a header followed by the calendar properties and components in their
+ * original order. Names, parameter values and timezone identifiers are written once to a string table and thereafter
+ * referenced by index. DATE and DATE-TIME values of date properties are written as variable-length integers (seconds
+ * or days since the epoch), and recurrence rules (RRULE and EXRULE) as their individual rule parts, such that these
+ * values are decoded without parsing. Other property values are written as text.
+ *
+ * Calendars may be decoded into a complete object model equivalent to that built by {@link CalendarBuilder} from the
+ * calendar's iCalendar representation, including resolution of timezone references once all components are decoded.
+ * Alternatively decoded content may be supplied to any {@link ContentHandler} in the same way as a parser, without
+ * building an object model. This may be used to apply the {@link ParserOptions#getProjection() projection} or
+ * {@link ParserOptions#isLazyProperties() lazy properties} of a {@link DefaultContentHandler}, or to process components
+ * in constant memory via a {@link StreamingContentHandler}.
+ *
+ * Example - Cache a parsed calendar:
+ *
+ * <pre>
+ *     CalendarCodec codec = new CalendarCodec();
+ *     byte[] data = codec.encode(calendar);
+ *     ...
+ *     Calendar cached = codec.decode(data);
+ * </pre>
+ *
+ * Local (floating) date-time and DATE values are encoded relative to the default timezone at the time of encoding,
+ * and decoded relative to the default timezone at the time of decoding, consistent with their iCalendar text
+ * representation. Instances may be shared by multiple threads, however as with {@link CalendarBuilder} timezones
+ * defined by decoded calendars are registered with the (shared) timezone registry.
+ */
+public class CalendarCodec {
+
+    /**
+     * The current version of the encoding.
+     */
+    public static final int VERSION = 1;
+
+    private static final byte[] MAGIC = {'I', 'C', 'B'};
+
+    private static final int TEXT = 0;
+
+    /**
+     * An unescaped value of a property that is escaped in its text representation.
+     */
+    private static final int ESCAPED_TEXT = 1;
+
+    private static final int UTC_DATE_TIME = 2;
+
+    private static final int ZONED_DATE_TIME = 3;
+
+    private static final int FLOATING_DATE_TIME = 4;
+
+    private static final int DATE = 5;
+
+    private static final int RECUR = 6;
+
+    private static final int SECONDS_PER_DAY = 86400;
+
+    private final ParserOptions options;
+
+    private final TimeZoneRegistry tzRegistry;
+
+    private final Supplier<List<ParameterFactory>> parameterFactorySupplier;
+
+    private final Supplier<List<PropertyFactory>> propertyFactorySupplier;
+
+    private final Supplier<List<ComponentFactory>> componentFactorySupplier;
+
+    /**
+     * Creates a new instance with default options.
+     */
+    public CalendarCodec() {
+        this(ParserOptions.defaults());
+    }
+
+    /**
+     * @param options parser options applied to decoded content
+     */
+    public CalendarCodec(ParserOptions options) {
+        this(options, TimeZoneRegistryFactory.getInstance().createRegistry(),
+                new DefaultParameterFactorySupplier(), new DefaultPropertyFactorySupplier(),
+                new DefaultComponentFactorySupplier());
+    }
+
+    /**
+     * @param options parser options applied to decoded content
+     * @param tzRegistry a timezone registry used to resolve timezone references
+     * @param parameterFactorySupplier supplies parameter factories
+     * @param propertyFactorySupplier supplies property factories
+     * @param componentFactorySupplier supplies component factories
+     */
+    public CalendarCodec(ParserOptions options, TimeZoneRegistry tzRegistry,
+                         Supplier<List<ParameterFactory>> parameterFactorySupplier,
+                         Supplier<List<PropertyFactory>> propertyFactorySupplier,
+                         Supplier<List<ComponentFactory>> componentFactorySupplier) {
+        this.options = options;
+        this.tzRegistry = tzRegistry;
+        this.parameterFactorySupplier = parameterFactorySupplier;
+        this.propertyFactorySupplier = propertyFactorySupplier;
+        this.componentFactorySupplier = componentFactorySupplier;
+    }
+
+    /**
+     * @param calendar a calendar to encode
+     * @return the encoded calendar
+     * @throws IOException where an error occurs encoding the calendar
+     */
+    public byte[] encode(final Calendar calendar) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        encode(calendar, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * @param calendar a calendar to encode
+     * @param out the stream to write the encoded calendar to
+     * @throws IOException where an error occurs writing to the stream
+     */
+    public void encode(final Calendar calendar, final OutputStream out) throws IOException {
+        new Encoder(new Output(out)).calendar(calendar);
+    }
+
+    /**
+     * @param data an encoded calendar
+     * @return the decoded calendar
+     * @throws IOException where the data is truncated
+     * @throws ParserException where the data is not a valid encoding or contains invalid values
+     */
+    public Calendar decode(final byte[] data) throws IOException, ParserException {
+        return decode(new Input(null, data, data.length));
+    }
+
+    /**
+     * @param in a stream containing an encoded calendar
+     * @return the decoded calendar
+     * @throws IOException where an error occurs reading from the stream
+     * @throws ParserException where the data is not a valid encoding or contains invalid values
+     */
+    public Calendar decode(final InputStream in) throws IOException, ParserException {
+        return decode(new Input(in, new byte[8192], 0));
+    }
+
+    /**
+     * Supplies the content of an encoded calendar to the specified handler as parse events. Values are supplied in
+     * their iCalendar text representation, and components and properties not included by the handler are skipped.
+     *
+     * @param in a stream containing an encoded calendar
+     * @param handler the handler supplied with calendar content
+     * @throws IOException where an error occurs reading from the stream
+     * @throws ParserException where the data is not a valid encoding or the handler rejects a value
+     */
+    public void decode(final InputStream in, final ContentHandler handler) throws IOException, ParserException {
+        final Input input = new Input(in, new byte[8192], 0);
+        try {
+            new Replay(input, handler).calendar();
+        } catch (URISyntaxException | ParseException e) {
+            throw new ParserException(e.getMessage(), 0, e);
+        } catch (RuntimeException e) {
+            throw new ParserException(e.getMessage(), 0, e);
+        }
+    }
+
+    private Calendar decode(final Input input) throws IOException, ParserException {
+        try {
+            // options are resolved once per calendar such that all values are decoded consistently..
+            return new Decoder(input, options.resolve()).calendar();
+        } catch (URISyntaxException | ParseException e) {
+            throw new ParserException(e.getMessage(), 0, e);
+        } catch (RuntimeException e) {
+            throw new ParserException(e.getMessage(), 0, e);
+        }
+    }
+
+    /**
+     * Writes a calendar, retaining the string table for its duration.
+     */
+    private static final class Encoder {
+
+        private final Output out;
+
+        private final Map<String, Integer> strings = new HashMap<>();
+
+        private Encoder(Output out) {
+            this.out = out;
+        }
+
+        private void calendar(Calendar calendar) throws IOException {
+            out.write(MAGIC);
+            out.writeByte(VERSION);
+            properties(calendar.getProperties());
+            final ComponentList<CalendarComponent> components = calendar.getComponents();
+            out.writeVarint(components.size());
+            for (CalendarComponent component : components) {
+                component(component);
+            }
+            out.flush();
+        }
+
+        private void component(Component component) throws IOException {
+            name(component.getName());
+            properties(component.getProperties());
+            final List<Component> subComponents = new ArrayList<>();
+            component.forEachSubComponent(subComponents::add);
+            out.writeVarint(subComponents.size());
+            for (Component subComponent : subComponents) {
+                component(subComponent);
+            }
+        }
+
+        private void properties(List<Property> properties) throws IOException {
+            out.writeVarint(properties.size());
+            for (Property property : properties) {
+                property(property);
+            }
+        }
+
+        private void property(Property property) throws IOException {
+            name(property.getName());
+            final ParameterList parameters = property.getParameters();
+            out.writeVarint(parameters.size());
+            for (Parameter parameter : parameters) {
+                name(parameter.getName());
+                name(parameter.getValue());
+            }
+
+            if (property instanceof DateProperty && ((DateProperty) property).getDate() != null) {
+                date(((DateProperty) property).getDate());
+            } else if (property instanceof RRule && isEncodable(((RRule) property).getRecur())) {
+                recur(((RRule) property).getRecur());
+            } else if (property instanceof ExRule && isEncodable(((ExRule) property).getRecur())) {
+                recur(((ExRule) property).getRecur());
+            } else {
+                // experimental properties retain their escaped value when parsed..
+                out.writeByte(property instanceof Escapable && !(property instanceof XProperty)
+                        ? ESCAPED_TEXT : TEXT);
+                out.writeString(Strings.valueOf(property.getValue()));
+            }
+        }
+
+        private void date(Date date) throws IOException {
+            final long time = date.getTime();
+            if (date instanceof DateTime) {
+                final DateTime dateTime = (DateTime) date;
+                if (dateTime.isUtc()) {
+                    out.writeByte(UTC_DATE_TIME);
+                    out.writeSignedVarint(Math.floorDiv(time, 1000));
+                } else if (dateTime.getTimeZone() != null) {
+                    // the offset is retained in case the timezone is defined differently when decoded..
+                    out.writeByte(ZONED_DATE_TIME);
+                    out.writeSignedVarint(Math.floorDiv(time, 1000));
+                    out.writeSignedVarint(dateTime.getTimeZone().getOffset(time) / 1000);
+                } else {
+                    out.writeByte(FLOATING_DATE_TIME);
+                    out.writeSignedVarint(Math.floorDiv(time + java.util.TimeZone.getDefault().getOffset(time),
+                            1000));
+                }
+            } else {
+                out.writeByte(DATE);
+                out.writeSignedVarint(Math.floorDiv(time + TimeZones.getDateTimeZone().getOffset(time),
+                        SECONDS_PER_DAY * 1000L));
+            }
+        }
+
+        private void recur(Recur recur) throws IOException {
+            out.writeByte(RECUR);
+            out.writeByte(recur.getFrequency().ordinal());
+            final List<NumberList> numberLists = numberLists(recur);
+            int flags = 0;
+            if (recur.getUntil() != null) {
+                flags |= 1;
+            }
+            if (recur.getCount() >= 0) {
+                flags |= 1 << 1;
+            }
+            if (recur.getInterval() >= 0) {
+                flags |= 1 << 2;
+            }
+            if (recur.getWeekStartDay() != null) {
+                flags |= 1 << 3;
+            }
+            if (!recur.getDayList().isEmpty()) {
+                flags |= 1 << 4;
+            }
+            for (int i = 0; i < numberLists.size(); i++) {
+                if (!numberLists.get(i).isEmpty()) {
+                    flags |= 1 << (5 + i);
+                }
+            }
+            out.writeVarint(flags);
+
+            if (recur.getUntil() != null) {
+                date(recur.getUntil());
+            }
+            if (recur.getCount() >= 0) {
+                out.writeVarint(recur.getCount());
+            }
+            if (recur.getInterval() >= 0) {
+                out.writeVarint(recur.getInterval());
+            }
+            if (recur.getWeekStartDay() != null) {
+                out.writeByte(recur.getWeekStartDay().ordinal());
+            }
+            if (!recur.getDayList().isEmpty()) {
+                out.writeVarint(recur.getDayList().size());
+                for (WeekDay day : recur.getDayList()) {
+                    out.writeByte(day.getDay().ordinal());
+                    out.writeSignedVarint(day.getOffset());
+                }
+            }
+            for (NumberList list : numberLists) {
+                if (!list.isEmpty()) {
+                    out.writeVarint(list.size());
+                    for (Integer number : list) {
+                        out.writeSignedVarint(number);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Writes a reference to a string, adding it to the string table where not previously written.
+         */
+        private void name(String name) throws IOException {
+            final Integer index = strings.get(name);
+            if (index != null) {
+                out.writeVarint(index + 1);
+            } else {
+                out.writeVarint(0);
+                out.writeString(name);
+                strings.put(name, strings.size());
+            }
+        }
+
+        /**
+         * Rules with experimental parts, or an UNTIL date-time not in UTC time, are written as text.
+         */
+        private static boolean isEncodable(Recur recur) {
+            return recur.getExperimentalValues().isEmpty() && (!(recur.getUntil() instanceof DateTime)
+                    || ((DateTime) recur.getUntil()).isUtc());
+        }
+    }
+
+    /**
+     * The number lists of a rule, in the order they are encoded.
+     */
+    private static List<NumberList> numberLists(Recur recur) {
+        return Arrays.asList(recur.getSecondList(), recur.getMinuteList(), recur.getHourList(),
+                recur.getMonthDayList(), recur.getYearDayList(), recur.getWeekNoList(), recur.getMonthList(),
+                recur.getSetPosList());
+    }
+
+    /**
+     * Reads the content common to both forms of decoding.
+     */
+    private abstract static class ContentReader {
+
+        final Input in;
+
+        private final List<String> strings = new ArrayList<>();
+
+        private int lastIndex;
+
+        ContentReader(Input in) {
+            this.in = in;
+        }
+
+        final void header() throws IOException, ParserException {
+            for (byte b : MAGIC) {
+                if (in.readByte() != b) {
+                    throw new ParserException("Not an encoded calendar", 0);
+                }
+            }
+            final int version = in.readByte();
+            if (version != VERSION) {
+                throw new ParserException("Unsupported encoding version [" + version + "]", 0);
+            }
+        }
+
+        /**
+         * Reads a string table reference, adding any new string to the table.
+         */
+        final String name() throws IOException, ParserException {
+            final long reference = in.readVarint();
+            if (reference == 0) {
+                lastIndex = strings.size();
+                final String name = in.readString();
+                strings.add(name);
+                return name;
+            } else if (reference > strings.size()) {
+                throw new ParserException("Invalid string reference [" + reference + "]", 0);
+            }
+            lastIndex = (int) reference - 1;
+            return strings.get(lastIndex);
+        }
+
+        /**
+         * @return the string table index of the last name read
+         */
+        final int lastIndex() {
+            return lastIndex;
+        }
+
+        final Date date(int tag) throws IOException, ParserException {
+            switch (tag) {
+                case UTC_DATE_TIME:
+                    final DateTime utc = new DateTime(in.readSignedVarint() * 1000);
+                    utc.setUtc(true);
+                    return utc;
+                case FLOATING_DATE_TIME:
+                    final DateTime floating = new DateTime(toInstant(in.readSignedVarint() * 1000,
+                            java.util.TimeZone.getDefault()));
+                    // not implied by the default timezone..
+                    floating.setUtc(false);
+                    return floating;
+                case DATE:
+                    return new Date(toInstant(in.readSignedVarint() * SECONDS_PER_DAY * 1000,
+                            TimeZones.getDateTimeZone()));
+                default:
+                    throw new ParserException("Invalid date value [" + tag + "]", 0);
+            }
+        }
+
+        final Recur recur() throws IOException, ParserException {
+            final Recur.Builder builder = new Recur.Builder().frequency(valueOf(Recur.Frequency.values()));
+            final int flags = (int) in.readVarint();
+            if ((flags & 1) != 0) {
+                builder.until(date(in.readByte()));
+            }
+            if ((flags & 1 << 1) != 0) {
+                builder.count((int) in.readVarint());
+            }
+            if ((flags & 1 << 2) != 0) {
+                builder.interval((int) in.readVarint());
+            }
+            if ((flags & 1 << 3) != 0) {
+                builder.weekStartDay(valueOf(WeekDay.Day.values()));
+            }
+            if ((flags & 1 << 4) != 0) {
+                final int size = (int) in.readVarint();
+                final WeekDayList days = new WeekDayList(size);
+                for (int i = 0; i < size; i++) {
+                    final WeekDay day = WeekDay.getWeekDay(valueOf(WeekDay.Day.values()));
+                    final int offset = (int) in.readSignedVarint();
+                    days.add(offset != 0 ? new WeekDay(day, offset) : day);
+                }
+                builder.dayList(days);
+            }
+            if ((flags & 1 << 5) != 0) {
+                builder.secondList(numberList(0, 59, false));
+            }
+            if ((flags & 1 << 6) != 0) {
+                builder.minuteList(numberList(0, 59, false));
+            }
+            if ((flags & 1 << 7) != 0) {
+                builder.hourList(numberList(0, 23, false));
+            }
+            if ((flags & 1 << 8) != 0) {
+                builder.monthDayList(numberList(1, 31, true));
+            }
+            if ((flags & 1 << 9) != 0) {
+                builder.yearDayList(numberList(1, 366, true));
+            }
+            if ((flags & 1 << 10) != 0) {
+                builder.weekNoList(numberList(1, 53, true));
+            }
+            if ((flags & 1 << 11) != 0) {
+                builder.monthList(numberList(1, 12, false));
+            }
+            if ((flags & 1 << 12) != 0) {
+                builder.setPosList(numberList(1, 366, true));
+            }
+            return builder.build();
+        }
+
+        private NumberList numberList(int minValue, int maxValue, boolean allowsNegativeValues)
+                throws IOException, ParserException {
+            final int size = (int) in.readVarint();
+            final NumberList list = new NumberList(minValue, maxValue, allowsNegativeValues);
+            for (int i = 0; i < size; i++) {
+                list.add((int) in.readSignedVarint());
+            }
+            return list;
+        }
+
+        private <E extends Enum<E>> E valueOf(E[] values) throws IOException, ParserException {
+            final int ordinal = in.readByte();
+            if (ordinal >= values.length) {
+                throw new ParserException("Invalid rule part value [" + ordinal + "]", 0);
+            }
+            return values[ordinal];
+        }
+    }
+
+    /**
+     * Decodes a calendar into an object model.
+     */
+    private final class Decoder extends ContentReader {
+
+        private final List<ParameterFactory> parameterFactories = parameterFactorySupplier.get();
+
+        private final List<PropertyFactory> propertyFactories = propertyFactorySupplier.get();
+
+        private final List<ComponentFactory> componentFactories = componentFactorySupplier.get();
+
+        /**
+         * Factories by property name, where empty indicates no factory supports the name.
+         */
+        private final Map<String, Optional<PropertyFactory>> propertyFactoryCache = new HashMap<>();
+
+        private final ParserOptions resolved;
+
+        /**
+         * As parameters are immutable, parameters of the same name and value are shared.
+         */
+        private final Map<Long, Parameter> parameterCache = new HashMap<>();
+
+        /**
+         * Properties with DATE-TIME values in a timezone, resolved once all timezones are decoded.
+         */
+        private final List<ZonedValue> zonedValues = new ArrayList<>();
+
+        private Decoder(Input in, ParserOptions resolved) {
+            super(in);
+            this.resolved = resolved;
+        }
+
+        private Calendar calendar() throws IOException, ParserException, URISyntaxException, ParseException {
+            header();
+            final Calendar calendar = new Calendar();
+            final int propertyCount = (int) in.readVarint();
+            for (int i = 0; i < propertyCount; i++) {
+                calendar.getProperties().add(property());
+            }
+            final int componentCount = (int) in.readVarint();
+            for (int i = 0; i < componentCount; i++) {
+                final CalendarComponent component = component();
+                if (component instanceof VTimeZone) {
+                    // register the timezone for use with iCalendar objects..
+                    tzRegistry.register(new TimeZone((VTimeZone) component));
+                }
+                calendar.getComponents().add(component);
+            }
+            for (ZonedValue value : zonedValues) {
+                value.resolve(resolved);
+            }
+            return calendar;
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T extends Component> T component() throws IOException, ParserException, URISyntaxException,
+                ParseException {
+
+            final ComponentBuilder<T> builder = new ComponentBuilder<>();
+            builder.factories(componentFactories).options(resolved).name(name());
+            final int propertyCount = (int) in.readVarint();
+            for (int i = 0; i < propertyCount; i++) {
+                builder.property(property());
+            }
+            final int subComponentCount = (int) in.readVarint();
+            for (int i = 0; i < subComponentCount; i++) {
+                builder.subComponent(component());
+            }
+            return builder.build();
+        }
+
+        private Property property() throws IOException, ParserException, URISyntaxException, ParseException {
+            final String name = name();
+            final int parameterCount = (int) in.readVarint();
+            final ParameterList parameters = new ParameterList();
+            for (int i = 0; i < parameterCount; i++) {
+                parameters.add(parameter());
+            }
+
+            final PropertyFactory factory = propertyFactoryCache.computeIfAbsent(name,
+                    k -> propertyFactories.stream().filter(f -> f.supports(k)).reduce((a, b) -> b))
+                    .orElse(null);
+
+            final int tag = in.readByte();
+            switch (tag) {
+                case TEXT:
+                case ESCAPED_TEXT:
+                    final String value = in.readString();
+                    if (factory == null) {
+                        return new XProperty(name, parameters, value);
+                    }
+                    // values are unescaped, so unlike PropertyBuilder no further processing is required..
+                    return Constants.forProperty(factory.createProperty(parameters, value, resolved));
+                case ZONED_DATE_TIME:
+                    final long time = in.readSignedVarint() * 1000;
+                    final int offset = (int) in.readSignedVarint() * 1000;
+                    final Property zoned = createProperty(name, factory, parameters);
+                    if (zoned instanceof DateProperty) {
+                        zonedValues.add(new ZonedValue((DateProperty) zoned, parameters, time, offset));
+                        return zoned;
+                    }
+                    return factory.createProperty(parameters, formatDateTime(time + offset), resolved);
+                case UTC_DATE_TIME:
+                case FLOATING_DATE_TIME:
+                case DATE:
+                    final Date date = date(tag);
+                    final Property property = createProperty(name, factory, parameters);
+                    if (property instanceof DateProperty) {
+                        ((DateProperty) property).setDate(date);
+                        restoreParameters(property, parameters);
+                        return property;
+                    }
+                    return factory.createProperty(parameters, Strings.valueOf(date), resolved);
+                case RECUR:
+                    final Recur recur = recur();
+                    final Property rule = createProperty(name, factory, parameters);
+                    if (rule instanceof RRule) {
+                        ((RRule) rule).setRecur(recur);
+                        return rule;
+                    } else if (rule instanceof ExRule) {
+                        ((ExRule) rule).setRecur(recur);
+                        return rule;
+                    }
+                    return factory.createProperty(parameters, recur.toString(), resolved);
+                default:
+                    throw new ParserException("Invalid property value [" + tag + "]", 0);
+            }
+        }
+
+        private Property createProperty(String name, PropertyFactory factory, ParameterList parameters)
+                throws ParserException {
+            if (factory == null) {
+                throw new ParserException("Unsupported property [" + name + "]", 0);
+            }
+            final Property property = factory.createProperty();
+            for (Parameter parameter : parameters) {
+                property.getParameters().add(parameter);
+            }
+            return property;
+        }
+
+        private Parameter parameter() throws IOException, ParserException, URISyntaxException {
+            final String name = name();
+            final long nameIndex = lastIndex();
+            final String value = name();
+            final Long key = nameIndex << 32 | lastIndex();
+            Parameter parameter = parameterCache.get(key);
+            if (parameter == null) {
+                parameter = new ParameterBuilder().factories(parameterFactories).options(resolved)
+                        .name(name).value(value).build();
+                parameterCache.put(key, parameter);
+            }
+            return parameter;
+        }
+    }
+
+    /**
+     * Restores the original order of parameters after setting a date value, which may replace the VALUE and TZID
+     * parameters.
+     */
+    private static void restoreParameters(Property property, ParameterList parameters) {
+        if (parameters.isEmpty()) {
+            return;
+        }
+        final ParameterList current = property.getParameters();
+        for (Parameter parameter : parameters) {
+            current.removeAll(parameter.getName());
+        }
+        for (Parameter parameter : parameters) {
+            current.add(parameter);
+        }
+    }
+
+    /**
+     * A DATE-TIME value in a timezone, applied consistently with timezone resolution of parsed calendars.
+     */
+    private final class ZonedValue {
+
+        private final DateProperty property;
+
+        private final ParameterList parameters;
+
+        private final long time;
+
+        private final int offset;
+
+        private ZonedValue(DateProperty property, ParameterList parameters, long time, int offset) {
+            this.property = property;
+            this.parameters = parameters;
+            this.time = time;
+            this.offset = offset;
+        }
+
+        private void resolve(ParserOptions options) throws ParseException {
+            final Parameter tzId = property.getParameter(Parameter.TZID);
+            final TimeZone timezone = tzId != null ? tzRegistry.getTimeZone(tzId.getValue(), options) : null;
+            if (timezone != null && timezone.getOffset(time) == offset) {
+                final DateTime dateTime = new DateTime(time);
+                dateTime.setTimeZone(timezone);
+                property.setDate(dateTime);
+                restoreParameters(property, parameters);
+            } else {
+                // the local time is retained where the timezone is undefined or differs from that encoded..
+                if (timezone != null) {
+                    property.setTimeZone(timezone);
+                }
+                property.setValue(formatDateTime(time + offset));
+            }
+        }
+    }
+
+    /**
+     * Supplies decoded content to a content handler.
+     */
+    private static final class Replay extends ContentReader {
+
+        private final ContentHandler handler;
+
+        private Replay(Input in, ContentHandler handler) {
+            super(in);
+            this.handler = handler;
+        }
+
+        private void calendar() throws IOException, ParserException, URISyntaxException, ParseException {
+            header();
+            handler.startCalendar();
+            final int propertyCount = (int) in.readVarint();
+            for (int i = 0; i < propertyCount; i++) {
+                property(true);
+            }
+            final int componentCount = (int) in.readVarint();
+            for (int i = 0; i < componentCount; i++) {
+                component(true);
+            }
+            handler.endCalendar();
+        }
+
+        /**
+         * @param included indicates whether the enclosing content is included, otherwise the component is skipped
+         */
+        private void component(boolean included) throws IOException, ParserException, URISyntaxException,
+                ParseException {
+
+            final String name = name();
+            final boolean include = included && handler.includeComponent(name);
+            if (include) {
+                handler.startComponent(name);
+            }
+            final int propertyCount = (int) in.readVarint();
+            for (int i = 0; i < propertyCount; i++) {
+                property(include);
+            }
+            final int subComponentCount = (int) in.readVarint();
+            for (int i = 0; i < subComponentCount; i++) {
+                component(include);
+            }
+            if (include) {
+                handler.endComponent(name);
+            }
+        }
+
+        private void property(boolean included) throws IOException, ParserException, URISyntaxException,
+                ParseException {
+
+            final String name = name();
+            final boolean include = included && handler.includeProperty(name);
+            if (include) {
+                handler.startProperty(name);
+            }
+            final int parameterCount = (int) in.readVarint();
+            for (int i = 0; i < parameterCount; i++) {
+                final String parameterName = name();
+                final String parameterValue = name();
+                if (include) {
+                    handler.parameter(parameterName, parameterValue);
+                }
+            }
+
+            final int tag = in.readByte();
+            if (!include && (tag == TEXT || tag == ESCAPED_TEXT)) {
+                in.skipString();
+                return;
+            }
+            final String value;
+            switch (tag) {
+                case TEXT:
+                    value = in.readString();
+                    break;
+                case ESCAPED_TEXT:
+                    value = Strings.escape(in.readString());
+                    break;
+                case UTC_DATE_TIME:
+                    value = formatDateTime(in.readSignedVarint() * 1000) + 'Z';
+                    break;
+                case ZONED_DATE_TIME:
+                    final long time = in.readSignedVarint() * 1000;
+                    value = formatDateTime(time + in.readSignedVarint() * 1000);
+                    break;
+                case FLOATING_DATE_TIME:
+                    value = formatDateTime(in.readSignedVarint() * 1000);
+                    break;
+                case DATE:
+                    value = formatDate(in.readSignedVarint());
+                    break;
+                case RECUR:
+                    value = recur().toString();
+                    break;
+                default:
+                    throw new ParserException("Invalid property value [" + tag + "]", 0);
+            }
+            if (include) {
+                handler.propertyValue(value);
+                handler.endProperty(name);
+            }
+        }
+    }
+
+    /**
+     * Converts a local time to an instant in the specified timezone.
+     */
+    private static long toInstant(long localTime, java.util.TimeZone timezone) {
+        final int offset = timezone.getOffset(localTime);
+        return localTime - timezone.getOffset(localTime - offset);
+    }
+
+    /**
+     * @param localTime a local time in milliseconds
+     * @return the local time formatted as an iCalendar DATE-TIME value, without a UTC designator
+     */
+    private static String formatDateTime(long localTime) {
+        final long seconds = Math.floorDiv(localTime, 1000);
+        final int secondOfDay = (int) Math.floorMod(seconds, SECONDS_PER_DAY);
+        final StringBuilder b = new StringBuilder(16);
+        appendDate(b, Math.floorDiv(seconds, SECONDS_PER_DAY));
+        b.append('T');
+        appendPadded(b, secondOfDay / 3600, 2);
+        appendPadded(b, secondOfDay / 60 % 60, 2);
+        appendPadded(b, secondOfDay % 60, 2);
+        return b.toString();
+    }
+
+    /**
+     * @param epochDay days since the epoch
+     * @return the day formatted as an iCalendar DATE value
+     */
+    private static String formatDate(long epochDay) {
+        return appendDate(new StringBuilder(8), epochDay).toString();
+    }
+
+    private static StringBuilder appendDate(StringBuilder b, long epochDay) {
+        // civil date from days since the epoch, using a 400 year era starting March 1..
+        final long z = epochDay + 719468;
+        final long era = Math.floorDiv(z, 146097);
+        final long dayOfEra = z - era * 146097;
+        final long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        final long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        final long monthIndex = (5 * dayOfYear + 2) / 153;
+        final long day = dayOfYear - (153 * monthIndex + 2) / 5 + 1;
+        final long month = monthIndex < 10 ? monthIndex + 3 : monthIndex - 9;
+        final long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        appendPadded(b, year, 4);
+        appendPadded(b, month, 2);
+        appendPadded(b, day, 2);
+        return b;
+    }
+
+    private static void appendPadded(StringBuilder b, long value, int width) {
+        final String digits = Long.toString(value);
+        for (int i = digits.length(); i < width; i++) {
+            b.append('0');
+        }
+        b.append(digits);
+    }
+
+    /**
+     * A buffered output supporting variable-length integers.
+     */
+    private static final class Output {
+
+        private final OutputStream out;
+
+        private final byte[] buffer = new byte[8192];
+
+        private int position;
+
+        private Output(OutputStream out) {
+            this.out = out;
+        }
+
+        private void writeByte(int b) throws IOException {
+            if (position == buffer.length) {
+                flush();
+            }
+            buffer[position++] = (byte) b;
+        }
+
+        private void write(byte[] bytes) throws IOException {
+            if (bytes.length > buffer.length - position) {
+                flush();
+                if (bytes.length > buffer.length) {
+                    out.write(bytes);
+                    return;
+                }
+            }
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        private void writeVarint(long value) throws IOException {
+            while ((value & ~0x7FL) != 0) {
+                writeByte((int) (value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            writeByte((int) value);
+        }
+
+        /**
+         * Writes a signed value such that values of small magnitude are written in few bytes.
+         */
+        private void writeSignedVarint(long value) throws IOException {
+            writeVarint(value << 1 ^ value >> 63);
+        }
+
+        private void writeString(String value) throws IOException {
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(bytes.length);
+            write(bytes);
+        }
+
+        private void flush() throws IOException {
+            out.write(buffer, 0, position);
+            position = 0;
+            out.flush();
+        }
+    }
+
+    /**
+     * A buffered input supporting variable-length integers. Where no stream is specified the buffer contains all
+     * available data.
+     */
+    private static final class Input {
+
+        private final InputStream in;
+
+        private byte[] buffer;
+
+        private int position;
+
+        private int limit;
+
+        private Input(InputStream in, byte[] buffer, int limit) {
+            this.in = in;
+            this.buffer = buffer;
+            this.limit = limit;
+        }
+
+        private int readByte() throws IOException {
+            if (position == limit) {
+                fill(1);
+            }
+            return buffer[position++] & 0xFF;
+        }
+
+        private long readVarint() throws IOException, ParserException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                final int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new ParserException("Invalid variable-length integer", 0);
+        }
+
+        private long readSignedVarint() throws IOException, ParserException {
+            final long value = readVarint();
+            return value >>> 1 ^ -(value & 1);
+        }
+
+        private String readString() throws IOException, ParserException {
+            final int length = length();
+            if (limit - position < length) {
+                fill(length);
+            }
+            final String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        private void skipString() throws IOException, ParserException {
+            int remaining = length();
+            while (remaining > limit - position) {
+                remaining -= limit - position;
+                position = limit;
+                fill(1);
+            }
+            position += remaining;
+        }
+
+        private int length() throws IOException, ParserException {
+            final long length = readVarint();
+            if (length > Integer.MAX_VALUE) {
+                throw new ParserException("Invalid string length [" + length + "]", 0);
+            }
+            return (int) length;
+        }
+
+        /**
+         * Ensures at least the specified number of bytes are buffered.
+         */
+        private void fill(int required) throws IOException {
+            if (in == null) {
+                throw new EOFException();
+            }
+            final int remaining = limit - position;
+            if (required > buffer.length) {
+                buffer = Arrays.copyOf(Arrays.copyOfRange(buffer, position, limit), required);
+            } else {
+                System.arraycopy(buffer, position, buffer, 0, remaining);
+            }
+            position = 0;
+            limit = remaining;
+            while (limit < required) {
+                final int read = in.read(buffer, limit, buffer.length - limit);
+                if (read < 0) {
+                    throw new EOFException();
+                }
+                limit += read;
+            }
+        }
+    }
+}
@@ -66,4 +66,18 @@ public interface CalendarParser {
      */
     void parse(Reader in, ContentHandler handler) throws IOException,
             ParserException;
+
+    /**
+     * Parse the iCalendar data from the specified reader, applying the specified options. The default
+     * implementation ignores the options.
+     * @param in a reader from which to read iCalendar data
+     * @param handler the content handler to notify during parsing
+     * @param options the resolved parser options of the parse
+     * @throws IOException thrown when unable to read from the specified reader
+     * @throws ParserException thrown if an error occurs during parsing
+     */
+    default void parse(Reader in, ContentHandler handler, ParserOptions options) throws IOException,
+            ParserException {
+        parse(in, handler);
+    }
 }
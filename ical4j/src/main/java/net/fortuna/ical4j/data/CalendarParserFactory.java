@@ -49,6 +49,8 @@ import java.util.function.Supplier;
  * <pre>
  * net.fortuna.ical4j.parser=&lt;factory_class_name&gt;
  * </pre>
+ *
+ * As the default {@link CalendarParserImpl} is stateless, the default factory supplies a single shared instance.
  * 
  * @author Ben Fortuna
  */
@@ -62,7 +64,8 @@ public abstract class CalendarParserFactory implements Supplier<CalendarParser>
     private static Supplier<CalendarParser> instance;
     static {
         Optional<Supplier<CalendarParser>> property = Configurator.getObjectProperty(KEY_FACTORY_CLASS);
-        instance = property.orElse(() -> new CalendarParserImpl());
+        final CalendarParser defaultParser = new CalendarParserImpl();
+        instance = property.orElse(() -> defaultParser);
     }
 
     /**
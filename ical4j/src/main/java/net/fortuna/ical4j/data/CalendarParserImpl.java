@@ -33,12 +33,14 @@ package net.fortuna.ical4j.data;
 
 import net.fortuna.ical4j.model.Calendar;
 import net.fortuna.ical4j.model.Component;
-import net.fortuna.ical4j.util.CompatibilityHints;
+import net.fortuna.ical4j.util.Metrics;
+import net.fortuna.ical4j.util.MetricsRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.text.ParseException;
 
@@ -51,6 +53,10 @@ import java.text.ParseException;
  * <p/>
  * The default implementation of a calendar parser.
  *
+ * Instances hold no state between or during parses: all per-parse state is held by the tokeniser created for each
+ * parse and by the {@link ContentHandler} supplied by the caller. As such a single instance may be shared by multiple
+ * concurrent threads, provided each parse is given its own content handler.
+ *
  * @author Ben Fortuna
  */
 public class CalendarParserImpl implements CalendarParser {
@@ -66,7 +72,15 @@ public class CalendarParserImpl implements CalendarParser {
 
     private static final String UNEXPECTED_TOKEN_MESSAGE = "Expected [{0}], read [{1}]";
 
-    private Logger log = LoggerFactory.getLogger(CalendarParserImpl.class);
+    private static final Logger LOG = LoggerFactory.getLogger(CalendarParserImpl.class);
+
+    private static final MetricsRegistry.Timer PARSE_TIMER = Metrics.timer(Metrics.PARSER_TIME);
+
+    private static final MetricsRegistry.Counter LINE_COUNTER = Metrics.counter(Metrics.PARSER_LINES);
+
+    private static final MetricsRegistry.Counter UNFOLDED_LINE_COUNTER = Metrics.counter(Metrics.PARSER_LINES_UNFOLDED);
+
+    private static final MetricsRegistry.Counter PROPERTY_COUNTER = Metrics.counter(Metrics.PARSER_PROPERTIES);
 
     private final ComponentListParser componentListParser = new ComponentListParser();
 
@@ -85,7 +99,7 @@ public class CalendarParserImpl implements CalendarParser {
      */
     public final void parse(final InputStream in, final ContentHandler handler)
             throws IOException, ParserException {
-        parse(new InputStreamReader(in), handler);
+        parse(new InputStreamReader(MeteredInputStream.wrap(in), StandardCharsets.UTF_8), handler);
     }
 
     /**
@@ -100,8 +114,8 @@ public class CalendarParserImpl implements CalendarParser {
      * @throws ParserException
      */
     private void parseCalendar(final StreamTokenizer tokeniser, Reader in,
-            final ContentHandler handler) throws IOException, ParseException,
-            URISyntaxException, ParserException {
+            final ContentHandler handler, final ParserOptions options)
+            throws IOException, ParseException, URISyntaxException, ParserException {
 
         assertToken(tokeniser, in, ':');
 
@@ -112,10 +126,10 @@ public class CalendarParserImpl implements CalendarParser {
         handler.startCalendar();
 
         // parse calendar properties..
-        propertyListParser.parse(tokeniser, in, handler);
+        propertyListParser.parse(tokeniser, in, handler, options);
 
         // parse components..
-        componentListParser.parse(tokeniser, in, handler);
+        componentListParser.parse(tokeniser, in, handler, options);
 
         // END:VCALENDAR
         // assertToken(tokeniser,Calendar.END);
@@ -131,7 +145,17 @@ public class CalendarParserImpl implements CalendarParser {
      */
     public final void parse(final Reader in, final ContentHandler handler)
             throws IOException, ParserException {
+        parse(in, handler, ParserOptions.defaults().resolve());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void parse(final Reader in, final ContentHandler handler, final ParserOptions options)
+            throws IOException, ParserException {
 
+        final long start = Metrics.start();
         final StreamTokenizer tokeniser = new StreamTokenizer(in);
         try {
             tokeniser.resetSyntax();
@@ -146,7 +170,7 @@ public class CalendarParserImpl implements CalendarParser {
             tokeniser.whitespaceChars(0, 0);
             tokeniser.quoteChar('"');
 
-            parseCalendarList(tokeniser, in, handler);
+            parseCalendarList(tokeniser, in, handler, options);
         } catch (IOException | ParseException | URISyntaxException | RuntimeException e) {
 
             if (e instanceof IOException) {
@@ -157,6 +181,16 @@ public class CalendarParserImpl implements CalendarParser {
             } else {
                 throw new ParserException(e.getMessage(), getLineNumber(tokeniser, in), e);
             }
+        } finally {
+            if (Metrics.isEnabled()) {
+                Metrics.stop(PARSE_TIMER, start);
+                int unfolded = 0;
+                if (in instanceof UnfoldingReader) {
+                    unfolded = ((UnfoldingReader) in).getLinesUnfolded();
+                    UNFOLDED_LINE_COUNTER.increment(unfolded);
+                }
+                LINE_COUNTER.increment(tokeniser.lineno() + unfolded);
+            }
         }
     }
 
@@ -171,13 +205,13 @@ public class CalendarParserImpl implements CalendarParser {
      * @throws ParserException
      */
     private void parseCalendarList(final StreamTokenizer tokeniser, Reader in, 
-            final ContentHandler handler) throws IOException, ParseException,
-            URISyntaxException, ParserException {
+            final ContentHandler handler, final ParserOptions options)
+            throws IOException, ParseException, URISyntaxException, ParserException {
 
         // BEGIN:VCALENDAR
         int ntok = assertToken(tokeniser, in, Calendar.BEGIN, false, true);
         while (ntok != StreamTokenizer.TT_EOF) {
-            parseCalendar(tokeniser, in, handler);
+            parseCalendar(tokeniser, in, handler, options);
             ntok = absorbWhitespace(tokeniser, in, true);
         }
     }
@@ -196,8 +230,8 @@ public class CalendarParserImpl implements CalendarParser {
          * @throws ParserException
          */
         public void parse(final StreamTokenizer tokeniser, Reader in,
-                          final ContentHandler handler) throws IOException, ParseException,
-                URISyntaxException, ParserException {
+                          final ContentHandler handler, final ParserOptions options)
+                throws IOException, ParseException, URISyntaxException, ParserException {
 
             assertToken(tokeniser, in, StreamTokenizer.TT_WORD);
 
@@ -206,10 +240,10 @@ public class CalendarParserImpl implements CalendarParser {
                      */!Component.END.equals(tokeniser.sval)) {
                 // check for timezones observances or vevent/vtodo alarms..
                 if (Component.BEGIN.equals(tokeniser.sval)) {
-                    componentParser.parse(tokeniser, in, handler);
+                    componentParser.parse(tokeniser, in, handler, options);
                 } else if (tokeniser.sval != null) {
                     propertyParser.parse(tokeniser, in, handler);
-                } else if (!CompatibilityHints.isHintEnabled(CompatibilityHints.KEY_RELAXED_PARSING)) {
+                } else if (!options.isRelaxedParsing()) {
                     throw new ParserException("Invalid property name", getLineNumber(tokeniser, in));
                 }
                 absorbWhitespace(tokeniser, in, false);
@@ -239,9 +273,18 @@ public class CalendarParserImpl implements CalendarParser {
                 URISyntaxException, ParseException {
 
             final String name = tokeniser.sval;
+            PROPERTY_COUNTER.increment(1);
             // debugging..
-            if (log.isDebugEnabled()) {
-                log.debug(MessageFormat.format(PARSE_DEBUG_MESSAGE, name));
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(MessageFormat.format(PARSE_DEBUG_MESSAGE, name));
+            }
+
+            if (!handler.includeProperty(name)) {
+                // skip parameters and value without building the property..
+                tokeniser.ordinaryChar('"');
+                skipLine(tokeniser, in);
+                tokeniser.quoteChar('"');
+                return;
             }
 
             handler.startProperty(name);
@@ -333,8 +376,8 @@ public class CalendarParserImpl implements CalendarParser {
             final String paramName = tokeniser.sval;
 
             // debugging..
-            if (log.isDebugEnabled()) {
-                log.debug("Parameter [" + paramName + "]");
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Parameter [" + paramName + "]");
             }
 
             assertToken(tokeniser, in, '=');
@@ -387,11 +430,11 @@ public class CalendarParserImpl implements CalendarParser {
          * @throws ParserException
          */
         private void parse(final StreamTokenizer tokeniser, Reader in,
-                           final ContentHandler handler) throws IOException, ParseException,
-                URISyntaxException, ParserException {
+                           final ContentHandler handler, final ParserOptions options)
+                throws IOException, ParseException, URISyntaxException, ParserException {
 
             while (Component.BEGIN.equals(tokeniser.sval)) {
-                componentParser.parse(tokeniser, in, handler);
+                componentParser.parse(tokeniser, in, handler, options);
                 absorbWhitespace(tokeniser, in, false);
                 // assertToken(tokeniser, StreamTokenizer.TT_WORD);
             }
@@ -411,8 +454,8 @@ public class CalendarParserImpl implements CalendarParser {
          * @throws ParserException
          */
         private void parse(final StreamTokenizer tokeniser, Reader in,
-                           final ContentHandler handler) throws IOException, ParseException,
-                URISyntaxException, ParserException {
+                           final ContentHandler handler, final ParserOptions options)
+                throws IOException, ParseException, URISyntaxException, ParserException {
 
             assertToken(tokeniser, in, ':');
 
@@ -420,11 +463,23 @@ public class CalendarParserImpl implements CalendarParser {
 
             final String name = tokeniser.sval;
 
+            if (!handler.includeComponent(name)) {
+                assertToken(tokeniser, in, StreamTokenizer.TT_EOL);
+                // DQUOTE is ordinary such that quoted values are not tokenised..
+                tokeniser.ordinaryChar('"');
+                try {
+                    skip(tokeniser, in, name);
+                } finally {
+                    tokeniser.quoteChar('"');
+                }
+                return;
+            }
+
             handler.startComponent(name);
 
             assertToken(tokeniser, in, StreamTokenizer.TT_EOL);
 
-            propertyListParser.parse(tokeniser, in, handler);
+            propertyListParser.parse(tokeniser, in, handler, options);
 
             /*
              * // a special case for VTIMEZONE component which contains
@@ -448,6 +503,55 @@ public class CalendarParserImpl implements CalendarParser {
 
             handler.endComponent(name);
         }
+
+        /**
+         * Skips the content of a component (including any sub-components) up to and including the end of the
+         * component, without triggering any handler events.
+         * @param tokeniser
+         * @param in
+         * @param name the name of the component being skipped
+         * @throws IOException
+         * @throws ParserException
+         */
+        private void skip(final StreamTokenizer tokeniser, Reader in, final String name)
+                throws IOException, ParserException {
+
+            absorbWhitespace(tokeniser, in, false);
+            while (!Component.END.equals(tokeniser.sval)) {
+                if (Component.BEGIN.equals(tokeniser.sval)) {
+                    assertToken(tokeniser, in, ':');
+                    assertToken(tokeniser, in, StreamTokenizer.TT_WORD);
+                    final String subComponentName = tokeniser.sval;
+                    assertToken(tokeniser, in, StreamTokenizer.TT_EOL);
+                    skip(tokeniser, in, subComponentName);
+                } else {
+                    skipLine(tokeniser, in);
+                }
+                absorbWhitespace(tokeniser, in, false);
+            }
+
+            assertToken(tokeniser, in, ':');
+
+            assertToken(tokeniser, in, name);
+
+            assertToken(tokeniser, in, StreamTokenizer.TT_EOL);
+        }
+    }
+
+    /**
+     * Absorbs the remaining tokens of the current content line.
+     *
+     * @param tokeniser
+     * @param in
+     * @throws IOException
+     * @throws ParserException when the end of file is reached
+     */
+    private void skipLine(final StreamTokenizer tokeniser, Reader in) throws IOException, ParserException {
+        while (nextToken(tokeniser, in) != StreamTokenizer.TT_EOL) {
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Skipping [" + tokeniser.ttype + "]");
+            }
+        }
     }
 
     /**
@@ -467,8 +571,8 @@ public class CalendarParserImpl implements CalendarParser {
             throw new ParserException(MessageFormat.format(UNEXPECTED_TOKEN_MESSAGE, token, tokeniser.ttype), getLineNumber(tokeniser, in));
         }
 
-        if (log.isDebugEnabled()) {
-            log.debug("[" + token + "]");
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("[" + token + "]");
         }
         return ntok;
     }
@@ -523,8 +627,8 @@ public class CalendarParserImpl implements CalendarParser {
             throw new ParserException(MessageFormat.format(UNEXPECTED_TOKEN_MESSAGE, token, sval), getLineNumber(tokeniser, in));
         }
 
-        if (log.isDebugEnabled()) {
-            log.debug("[" + token + "]");
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("[" + token + "]");
         }
         return ntok;
     }
@@ -581,12 +685,12 @@ public class CalendarParserImpl implements CalendarParser {
         // HACK: absorb extraneous whitespace between components (KOrganizer)..
         int ntok;
         while ((ntok = nextToken(tokeniser, in, ignoreEOF)) == StreamTokenizer.TT_EOL) {
-            if (log.isTraceEnabled()) {
-                log.trace("Absorbing extra whitespace..");
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Absorbing extra whitespace..");
             }
         }
-        if (log.isTraceEnabled()) {
-            log.trace("Aborting: absorbing extra whitespace complete");
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Aborting: absorbing extra whitespace complete");
         }
         return ntok;
     }
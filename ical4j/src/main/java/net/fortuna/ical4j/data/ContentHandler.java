@@ -98,4 +98,31 @@ public interface ContentHandler {
      * @throws URISyntaxException where the parameter value is not a valid URI for applicable parameters
      */
     void parameter(String name, String value) throws URISyntaxException;
+
+    /**
+     * Indicates whether a component is of interest to this handler. Components that are not of interest are skipped
+     * by the parser (including any sub-components) without triggering any further events.
+     * @param name a component name
+     * @return true if the component should be handled
+     */
+    default boolean includeComponent(String name) {
+        return true;
+    }
+
+    /**
+     * Indicates whether a property of the current component (or calendar) is of interest to this handler.
+     * Properties that are not of interest are skipped by the parser without triggering any further events.
+     * @param name a property name
+     * @return true if the property should be handled
+     */
+    default boolean includeProperty(String name) {
+        return true;
+    }
+
+    /**
+     * Discards any state retained from a previous (possibly incomplete) parse, such that the handler may be reused.
+     * Implementations that retain no state between parses need not override this method.
+     */
+    default void reset() {
+    }
 }
@@ -10,11 +10,27 @@ import net.fortuna.ical4j.util.Constants;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.text.ParseException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
+/**
+ * A content handler that builds a calendar model from parsed content, supplying each completed calendar to a consumer.
+ *
+ * A handler maintains the state of the calendar currently being parsed and as such must not be used by multiple
+ * concurrent parses. A handler may however be reused for subsequent parses, in which case any state remaining from
+ * a previous parse that did not complete (e.g. due to a parser exception) is discarded when the next calendar is
+ * started, or explicitly via {@link #reset()}.
+ *
+ * Where {@link ParserOptions#isLazyProperties() lazy properties} are enabled, component properties are retained in
+ * their unparsed form and built when first accessed. Timezone references are resolved against the registry on
+ * completion of the calendar and retained with the calendar, such that deferred properties are unaffected by
+ * subsequent changes to the registry. Calendar properties are always built immediately.
+ *
+ * Where a {@link ParserOptions#getProjection() projection} is specified, components and properties excluded by the
+ * projection are skipped by the parser and never built.
+ */
 public class DefaultContentHandler implements ContentHandler {
 
     private final Supplier<List<ParameterFactory>> parameterFactorySupplier;
@@ -25,7 +41,20 @@ public class DefaultContentHandler implements ContentHandler {
 
     private final TimeZoneRegistry tzRegistry;
 
-    private List<TzId> propertiesWithTzId;
+    /**
+     * Resolved parser options, or null to resolve the default options for each calendar.
+     */
+    private final ParserOptions options;
+
+    /**
+     * The default options resolved for the current calendar where no options are specified.
+     */
+    private ParserOptions defaultOptions;
+
+    /**
+     * Indicates whether any TZID parameters have been parsed in the current calendar.
+     */
+    private boolean timezoneReferenced;
 
     private final Consumer<Calendar> consumer;
 
@@ -37,6 +66,30 @@ public class DefaultContentHandler implements ContentHandler {
 
     private Calendar calendar;
 
+    /**
+     * Builds deferred properties of the current calendar where properties are built lazily, otherwise null.
+     */
+    private Function<PropertyBuilder, Property> deferredPropertyFactory;
+
+    private DeferredProperties deferredProperties;
+
+    private DeferredProperties subComponentDeferredProperties;
+
+    /**
+     * The timezones referenced by deferred properties of the current calendar, or null if properties are not
+     * deferred or no timezone registry is specified.
+     */
+    private DeferredTimeZones deferredTimeZones;
+
+    /**
+     * The projection applied to the current calendar, or null if all content is retained.
+     */
+    private Projection projection;
+
+    private String componentName;
+
+    private String subComponentName;
+
     public DefaultContentHandler(Consumer<Calendar> consumer, TimeZoneRegistry tzRegistry) {
         this(consumer, tzRegistry, new DefaultParameterFactorySupplier(), new DefaultPropertyFactorySupplier(),
                 new DefaultComponentFactorySupplier());
@@ -46,52 +99,95 @@ public class DefaultContentHandler implements ContentHandler {
                                  Supplier<List<ParameterFactory>> parameterFactorySupplier,
                                  Supplier<List<PropertyFactory>> propertyFactorySupplier,
                                  Supplier<List<ComponentFactory>> componentFactorySupplier) {
+        this(consumer, tzRegistry, parameterFactorySupplier, propertyFactorySupplier, componentFactorySupplier, null);
+    }
+
+    /**
+     * @param consumer a consumer of parsed calendars
+     * @param tzRegistry a timezone registry used to resolve timezone references
+     * @param parameterFactorySupplier supplies parameter factories
+     * @param propertyFactorySupplier supplies property factories
+     * @param componentFactorySupplier supplies component factories
+     * @param options the parser options applied to content, or null to apply the default options
+     */
+    public DefaultContentHandler(Consumer<Calendar> consumer, TimeZoneRegistry tzRegistry,
+                                 Supplier<List<ParameterFactory>> parameterFactorySupplier,
+                                 Supplier<List<PropertyFactory>> propertyFactorySupplier,
+                                 Supplier<List<ComponentFactory>> componentFactorySupplier,
+                                 ParserOptions options) {
 
         this.consumer = consumer;
         this.tzRegistry = tzRegistry;
         this.parameterFactorySupplier = parameterFactorySupplier;
         this.propertyFactorySupplier = propertyFactorySupplier;
         this.componentFactorySupplier = componentFactorySupplier;
+        // resolve once such that subsequent changes to compatibility hints don't apply..
+        this.options = options != null ? options.resolve() : null;
     }
 
     @Override
     public void startCalendar() {
+        reset();
         calendar = new Calendar();
-        propertiesWithTzId = new ArrayList<>();
+
+        final ParserOptions resolved = getOptions();
+        projection = resolved.getProjection();
+        if (resolved.isLazyProperties()) {
+            // factories and options are shared by all deferred properties of the calendar..
+            final List<PropertyFactory> propertyFactories = propertyFactorySupplier.get();
+            final DeferredTimeZones timezones = tzRegistry != null ? newDeferredTimeZones(resolved) : null;
+            deferredTimeZones = timezones;
+            deferredPropertyFactory = builder -> buildDeferred(builder, propertyFactories, resolved, timezones);
+        }
     }
 
     @Override
     public void endCalendar() throws IOException {
-        if (propertiesWithTzId.size() > 0 && tzRegistry != null) {
+        if (deferredTimeZones != null) {
+            // pin the timezones of deferred properties as they would be resolved for properties built now..
+            resolveDeferredTimeZones(deferredTimeZones);
+        } else if (timezoneReferenced && tzRegistry != null) {
             for (CalendarComponent component : calendar.getComponents()) {
-                resolveTimezones(component.getProperties());
-
-                if (component instanceof VAvailability) {
-                    for (Component available : ((VAvailability) component).getAvailable()) {
-                        resolveTimezones(available.getProperties());
-                    }
-                } else if (component instanceof VEvent) {
-                    for (Component alarm : ((VEvent) component).getAlarms()) {
-                        resolveTimezones(alarm.getProperties());
-                    }
-                } else if (component instanceof VToDo) {
-                    for (Component todo : ((VToDo) component).getAlarms()) {
-                        resolveTimezones(todo.getProperties());
-                    }
-                }
+                resolveTimezones(component);
             }
         }
         consumer.accept(calendar);
     }
 
+    @Override
+    public boolean includeComponent(String name) {
+        return projection == null || projection.includesComponent(name, componentName);
+    }
+
+    @Override
+    public boolean includeProperty(String name) {
+        if (projection == null) {
+            return true;
+        }
+        if (subComponentName != null) {
+            return projection.includesProperty(name, subComponentName, componentName);
+        }
+        return projection.includesProperty(name, componentName, null);
+    }
+
     @Override
     public void startComponent(String name) {
         if (componentBuilder != null) {
+            subComponentName = name;
             subComponentBuilder = new ComponentBuilder<>();
-            subComponentBuilder.factories(componentFactorySupplier.get()).name(name);
+            subComponentBuilder.factories(componentFactorySupplier.get()).options(getOptions()).name(name);
+            if (deferredPropertyFactory != null) {
+                subComponentDeferredProperties = new DeferredProperties(deferredPropertyFactory);
+                subComponentBuilder.deferredProperties(subComponentDeferredProperties);
+            }
         } else {
+            componentName = name;
             componentBuilder = new ComponentBuilder<>();
-            componentBuilder.factories(componentFactorySupplier.get()).name(name);
+            componentBuilder.factories(componentFactorySupplier.get()).options(getOptions()).name(name);
+            if (deferredPropertyFactory != null) {
+                deferredProperties = new DeferredProperties(deferredPropertyFactory);
+                componentBuilder.deferredProperties(deferredProperties);
+            }
         }
     }
 
@@ -104,21 +200,49 @@ public class DefaultContentHandler implements ContentHandler {
             componentBuilder.subComponent(subComponent);
 
             subComponentBuilder = null;
+            subComponentDeferredProperties = null;
+            subComponentName = null;
         } else {
             CalendarComponent component = componentBuilder.build();
-            calendar.getComponents().add(component);
             if (component instanceof VTimeZone && tzRegistry != null) {
-                // register the timezone for use with iCalendar objects..
-                tzRegistry.register(new TimeZone((VTimeZone) component));
+                registerTimezone((VTimeZone) component);
             }
 
             componentBuilder = null;
+            deferredProperties = null;
+            componentName = null;
+            addComponent(component);
         }
     }
 
+    /**
+     * Registers a parsed timezone definition with the timezone registry. Subclasses may override this method where
+     * timezones are registered elsewhere.
+     * @param vTimeZone a parsed timezone definition
+     */
+    protected void registerTimezone(VTimeZone vTimeZone) {
+        // register the timezone for use with iCalendar objects..
+        tzRegistry.register(new TimeZone(vTimeZone));
+    }
+
+    /**
+     * Adds a completed top-level component to the calendar. Subclasses may override this method to handle
+     * components as they are parsed rather than on completion of the calendar.
+     * @param component a parsed top-level component
+     */
+    protected void addComponent(CalendarComponent component) {
+        calendar.getComponents().add(component);
+    }
+
     @Override
     public void startProperty(String name) {
-        propertyBuilder = new PropertyBuilder().factories(propertyFactorySupplier.get()).name(name);
+        if (deferredPropertyFactory != null && componentBuilder != null) {
+            // factories are applied when the property is built..
+            propertyBuilder = new PropertyBuilder().name(name);
+        } else {
+            propertyBuilder = new PropertyBuilder().factories(propertyFactorySupplier.get()).options(getOptions())
+                    .name(name);
+        }
     }
 
     @Override
@@ -129,6 +253,16 @@ public class DefaultContentHandler implements ContentHandler {
     @Override
     public void endProperty(String name) throws URISyntaxException, ParseException, IOException {
         assertProperty(propertyBuilder);
+        if (deferredPropertyFactory != null && componentBuilder != null) {
+            if (subComponentBuilder != null) {
+                subComponentDeferredProperties.add(propertyBuilder);
+            } else {
+                deferredProperties.add(propertyBuilder);
+            }
+            propertyBuilder = null;
+            return;
+        }
+
         Property property = propertyBuilder.build();
 
         // replace with a constant instance if applicable..
@@ -150,19 +284,55 @@ public class DefaultContentHandler implements ContentHandler {
     public void parameter(String name, String value) throws URISyntaxException {
         assertProperty(propertyBuilder);
 
-        Parameter parameter = new ParameterBuilder().factories(parameterFactorySupplier.get())
-                .name(name).value(value).build();
+        final Parameter parameter = new ParameterBuilder().factories(parameterFactorySupplier.get())
+                .options(getOptions()).name(name).value(value).build();
 
         if (parameter instanceof TzId && tzRegistry != null) {
             // VTIMEZONE may be defined later, so so keep
             // track of dates until all components have been
             // parsed, and then try again later
-            propertiesWithTzId.add((TzId) parameter);
+            timezoneReferenced = true;
+            if (deferredTimeZones != null) {
+                deferredTimeZones.reference(parameter.getValue());
+            }
         }
 
         propertyBuilder.parameter(parameter);
     }
 
+    @Override
+    public void reset() {
+        calendar = null;
+        componentBuilder = null;
+        subComponentBuilder = null;
+        propertyBuilder = null;
+        timezoneReferenced = false;
+        deferredPropertyFactory = null;
+        deferredProperties = null;
+        subComponentDeferredProperties = null;
+        deferredTimeZones = null;
+        projection = null;
+        componentName = null;
+        subComponentName = null;
+        defaultOptions = null;
+    }
+
+    /**
+     * Returns the options applied to the current calendar. Where no options were specified for this handler the
+     * default options are resolved once per calendar, such that changes to the compatibility hints during a parse
+     * are not applied.
+     * @return the resolved parser options of the current calendar
+     */
+    protected ParserOptions getOptions() {
+        if (options != null) {
+            return options;
+        }
+        if (defaultOptions == null) {
+            defaultOptions = ParserOptions.defaults().resolve();
+        }
+        return defaultOptions;
+    }
+
     private void assertComponent(ComponentBuilder component) {
         if (component == null) {
             throw new CalendarException("Expected component not initialised");
@@ -175,42 +345,111 @@ public class DefaultContentHandler implements ContentHandler {
         }
     }
 
-    private void resolveTimezones(List<Property> properties) throws IOException {
+    /**
+     * Applies timezones from the timezone registry to the date properties of the specified component (and its
+     * sub-components) that reference a timezone identifier. References to timezones not yet registered are ignored.
+     * @param component a top-level component
+     */
+    protected void resolveTimezones(CalendarComponent component) {
+        if (deferredTimeZones != null) {
+            // deferred properties are resolved when built, against the timezones registered now..
+            resolveDeferredTimeZones(deferredTimeZones);
+            return;
+        }
+        final ParserOptions resolved = getOptions();
+        if (tzRegistry == null || resolved.isLazyProperties()) {
+            return;
+        }
+        resolveTimezones(component.getProperties(), resolved);
+
+        if (component instanceof VAvailability) {
+            for (Component available : ((VAvailability) component).getAvailable()) {
+                resolveTimezones(available.getProperties(), resolved);
+            }
+        } else if (component instanceof VEvent) {
+            for (Component alarm : ((VEvent) component).getAlarms()) {
+                resolveTimezones(alarm.getProperties(), resolved);
+            }
+        } else if (component instanceof VToDo) {
+            for (Component todo : ((VToDo) component).getAlarms()) {
+                resolveTimezones(todo.getProperties(), resolved);
+            }
+        }
+    }
+
+    private void resolveTimezones(List<Property> properties, ParserOptions resolved) {
 
         // Go through each property and try to resolve the TZID.
-        for (TzId tzParam : propertiesWithTzId) {
-
-            //lookup timezone
-            final TimeZone timezone = tzRegistry.getTimeZone(tzParam.getValue());
-
-            // If timezone found, then update date property
-            if (timezone != null) {
-                for (Property property : properties) {
-                    if (tzParam.equals(property.getParameter(Parameter.TZID))) {
-
-                        // Get the String representation of date(s) as
-                        // we will need this after changing the timezone
-                        final String strDate = property.getValue();
-
-                        // Change the timezone
-                        if (property instanceof DateProperty) {
-                            ((DateProperty) property).setTimeZone(timezone);
-                        } else if (property instanceof DateListProperty) {
-                            ((DateListProperty) property).setTimeZone(timezone);
-                        } else {
-                            throw new CalendarException("Invalid parameter: " + tzParam.getName());
-                        }
-
-                        // Reset value
-                        try {
-                            property.setValue(strDate);
-                        } catch (ParseException | URISyntaxException e) {
-                            // shouldn't happen as its already been parsed
-                            throw new CalendarException(e);
-                        }
-                    }
+        for (Property property : properties) {
+            resolveTimezone(property, id -> tzRegistry.getTimeZone(id, resolved), resolved);
+        }
+    }
+
+    private static void resolveTimezone(Property property, Function<String, TimeZone> timezones,
+                                        ParserOptions options) {
+        final Parameter tzParam = property.getParameter(Parameter.TZID);
+        if (tzParam == null) {
+            return;
+        }
+
+        //lookup timezone
+        final TimeZone timezone = timezones.apply(tzParam.getValue());
+
+        // If timezone found, then update date property
+        if (timezone != null) {
+
+            // Get the String representation of date(s) as
+            // we will need this after changing the timezone
+            final String strDate = property.getValue();
+
+            // Change the timezone and reset value
+            try {
+                if (property instanceof DateProperty) {
+                    ((DateProperty) property).setTimeZone(timezone);
+                    ((DateProperty) property).setValue(strDate, options);
+                } else if (property instanceof DateListProperty) {
+                    ((DateListProperty) property).setTimeZone(timezone);
+                    ((DateListProperty) property).setValue(strDate, options);
+                } else {
+                    throw new CalendarException("Invalid parameter: " + tzParam.getName());
                 }
+            } catch (ParseException e) {
+                // shouldn't happen as its already been parsed
+                throw new CalendarException(e);
+            }
+        }
+    }
+
+    /**
+     * Creates the timezones referenced by deferred properties of a calendar. Overridden where the deferred
+     * properties of a calendar are parsed by multiple handlers.
+     */
+    DeferredTimeZones newDeferredTimeZones(ParserOptions options) {
+        return new DeferredTimeZones(tzRegistry, options);
+    }
+
+    /**
+     * Resolves the timezones referenced by deferred properties of the current calendar. Overridden where timezones
+     * are resolved once all handlers of a calendar are complete.
+     */
+    void resolveDeferredTimeZones(DeferredTimeZones timezones) {
+        timezones.resolve();
+    }
+
+    /**
+     * Builds a property deferred until first accessed, resolving any timezone reference against the timezones
+     * resolved on completion of the calendar.
+     */
+    private static Property buildDeferred(PropertyBuilder builder, List<PropertyFactory> factories,
+                                          ParserOptions options, DeferredTimeZones timezones) {
+        try {
+            final Property property = Constants.forProperty(builder.factories(factories).options(options).build());
+            if (timezones != null) {
+                resolveTimezone(property, timezones::getTimeZone, options);
             }
+            return property;
+        } catch (ParseException | URISyntaxException | IOException e) {
+            throw new CalendarException(e);
         }
     }
 }
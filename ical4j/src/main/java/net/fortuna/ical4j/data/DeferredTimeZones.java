@@ -0,0 +1,76 @@
+package net.fortuna.ical4j.data;
+
+import net.fortuna.ical4j.model.TimeZone;
+import net.fortuna.ical4j.model.TimeZoneRegistry;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The timezones referenced by the deferred properties of a calendar.
+ *
+ * Where properties are built lazily, timezone references are resolved against the registry when the calendar is
+ * completed (as they would be for properties built immediately) and retained here, such that properties first read
+ * after the registry has changed (e.g. where a builder is reused for another input, or its registry cleared) resolve
+ * the same timezones. Properties read before the calendar is completed are resolved against the registry at the time.
+ *
+ * References may be added by multiple concurrent threads (i.e. the chunks of a calendar parsed concurrently).
+ */
+final class DeferredTimeZones {
+
+    private final TimeZoneRegistry registry;
+
+    private final ParserOptions options;
+
+    private final Set<String> references = ConcurrentHashMap.newKeySet();
+
+    private final Map<String, TimeZone> resolved = new ConcurrentHashMap<>();
+
+    private volatile boolean complete;
+
+    /**
+     * @param registry the registry used to resolve timezone references
+     * @param options the resolved parser options of the calendar
+     */
+    DeferredTimeZones(TimeZoneRegistry registry, ParserOptions options) {
+        this.registry = registry;
+        this.options = options;
+    }
+
+    /**
+     * @param id a timezone identifier referenced by a property of the calendar
+     */
+    void reference(String id) {
+        references.add(id);
+    }
+
+    /**
+     * Resolves the timezones referenced so far against the registry. References already resolved to a timezone are
+     * retained, whereas unresolved references may be resolved by subsequent calls (e.g. where a streamed component
+     * precedes the VTIMEZONE it references).
+     */
+    void resolve() {
+        for (final String id : references) {
+            if (!resolved.containsKey(id)) {
+                final TimeZone timezone = registry.getTimeZone(id, options);
+                if (timezone != null) {
+                    resolved.put(id, timezone);
+                }
+            }
+        }
+        complete = true;
+    }
+
+    /**
+     * @param id a timezone identifier
+     * @return the timezone resolved for the identifier, or null if the identifier is not resolved
+     */
+    TimeZone getTimeZone(String id) {
+        final TimeZone timezone = resolved.get(id);
+        if (timezone != null || complete) {
+            return timezone;
+        }
+        return registry.getTimeZone(id, options);
+    }
+}
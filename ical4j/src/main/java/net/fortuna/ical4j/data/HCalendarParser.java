@@ -37,23 +37,31 @@ import net.fortuna.ical4j.model.property.Version;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.w3c.dom.*;
+import org.xml.sax.Attributes;
 import org.xml.sax.InputSource;
+import org.xml.sax.Locator;
 import org.xml.sax.SAXException;
 import org.xml.sax.SAXParseException;
+import org.xml.sax.helpers.AttributesImpl;
+import org.xml.sax.helpers.DefaultHandler;
 
 import javax.xml.XMLConstants;
-import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.xpath.*;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.net.URISyntaxException;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * A {@link CalendarParser} that parses XHTML documents that include calendar data marked up with the hCalendar
@@ -67,6 +75,11 @@ import java.util.List;
  * calendar. The hCalendar profile is supposed to define the iCalendar version that it represents, but it does not, so
  * version 2.0 is assumed.
  * </p>
+ * <p>
+ * Documents are parsed in a single pass without building a document model. Elements are matched by the tokens of
+ * their <code>class</code> attribute as they are read, and each component is delivered to the content handler as soon
+ * as its element (or the outermost of any nested component elements) is closed.
+ * </p>
  * <h3>Supported Components</h3>
  * <p>
  * This parser recognizes only "vevent" components.
@@ -92,11 +105,13 @@ import java.util.List;
  * <li>"attendee"</li>
  * <li>"contact"</li>
  * <li>"organizer"</li>
+ * <li>"sequence"</li>
+ * <li>"attach"</li>
  * </ul>
  * <p>
  * hCalendar allows for some properties to be represented by nested microformat records, including hCard, adr and geo.
- * This parser does not recognize these records. It simply accumulates the text content of any child elements of the
- * property element and uses the resulting string as the property value.
+ * This parser does not recognize these records. It simply uses the text content of the property element preceding any
+ * child elements as the property value.
  * </p>
  * <h4>Date and Date-Time Properties</h4>
  * <p>
@@ -116,70 +131,46 @@ import java.util.List;
  * Therefore, this parser does not set any property parameters except as implied by property value data (e.g.
  * VALUE=DATE-TIME or VALUE=DATE for date-time properties).
  * </p>
+ * <p>
+ * Instances hold no state between or during parses, and as such a single instance may be shared by multiple
+ * concurrent threads, provided each parse is given its own content handler.
+ * </p>
  */
 public class HCalendarParser implements CalendarParser {
 
     private static final Logger LOG = LoggerFactory.getLogger(HCalendarParser.class);
 
-    private static final DocumentBuilderFactory BUILDER_FACTORY = DocumentBuilderFactory.newInstance();
-    private static final XPath XPATH = XPathFactory.newInstance().newXPath();
-    private static final XPathExpression XPATH_METHOD;
-    private static final XPathExpression XPATH_VEVENTS;
-    private static final XPathExpression XPATH_DTSTART;
-    private static final XPathExpression XPATH_DTEND;
-    private static final XPathExpression XPATH_DURATION;
-    private static final XPathExpression XPATH_SUMMARY;
-    private static final XPathExpression XPATH_UID;
-    private static final XPathExpression XPATH_DTSTAMP;
-    private static final XPathExpression XPATH_CATEGORY;
-    private static final XPathExpression XPATH_LOCATION;
-    private static final XPathExpression XPATH_URL;
-    private static final XPathExpression XPATH_DESCRIPTION;
-    private static final XPathExpression XPATH_LAST_MODIFIED;
-    private static final XPathExpression XPATH_STATUS;
-    private static final XPathExpression XPATH_CLASS;
-    private static final XPathExpression XPATH_ATTENDEE;
-    private static final XPathExpression XPATH_CONTACT;
-    private static final XPathExpression XPATH_ORGANIZER;
-    private static final XPathExpression XPATH_SEQUENCE;
-    private static final XPathExpression XPATH_ATTACH;
+    private static final SAXParserFactory PARSER_FACTORY = SAXParserFactory.newInstance();
+
+    private static final String CLASS_METHOD = "method";
+
+    private static final String CLASS_VEVENT = "vevent";
+
+    /**
+     * Event properties in the order they are added to each event.
+     */
+    private static final String[] EVENT_PROPERTIES = {Property.DTSTART, Property.DTEND, Property.DURATION,
+            Property.SUMMARY, Property.UID, Property.DTSTAMP, Property.CATEGORIES, Property.LOCATION, Property.URL,
+            Property.DESCRIPTION, Property.LAST_MODIFIED, Property.STATUS, Property.CLASS, Property.ATTENDEE,
+            Property.CONTACT, Property.ORGANIZER, Property.SEQUENCE, Property.ATTACH};
+
+    /**
+     * Indices of event properties by hCalendar class name.
+     */
+    private static final Map<String, Integer> EVENT_PROPERTY_CLASSES = new HashMap<>();
+
     private static final String HCAL_DATE_PATTERN = "yyyy-MM-dd";
-    private static final SimpleDateFormat HCAL_DATE_FORMAT = new SimpleDateFormat(HCAL_DATE_PATTERN);
     private static final String HCAL_DATE_TIME_PATTERN = "yyyy-MM-dd'T'HH:mm:ssz";
-    private static final SimpleDateFormat HCAL_DATE_TIME_FORMAT = new SimpleDateFormat(HCAL_DATE_TIME_PATTERN);
 
     static {
-        BUILDER_FACTORY.setNamespaceAware(true);
-        BUILDER_FACTORY.setIgnoringComments(true);
-
-        XPATH_METHOD = compileExpression("//*[contains(@class, 'method')]");
-        XPATH_VEVENTS = compileExpression("//*[contains(@class, 'vevent')]");
-        XPATH_DTSTART = compileExpression(".//*[contains(@class, 'dtstart')]");
-        XPATH_DTEND = compileExpression(".//*[contains(@class, 'dtend')]");
-        XPATH_DURATION = compileExpression(".//*[contains(@class, 'duration')]");
-        XPATH_SUMMARY = compileExpression(".//*[contains(@class, 'summary')]");
-        XPATH_UID = compileExpression(".//*[contains(@class, 'uid')]");
-        XPATH_DTSTAMP = compileExpression(".//*[contains(@class, 'dtstamp')]");
-        XPATH_CATEGORY = compileExpression(".//*[contains(@class, 'category')]");
-        XPATH_LOCATION = compileExpression(".//*[contains(@class, 'location')]");
-        XPATH_URL = compileExpression(".//*[contains(@class, 'url')]");
-        XPATH_DESCRIPTION = compileExpression(".//*[contains(@class, 'description')]");
-        XPATH_LAST_MODIFIED = compileExpression(".//*[contains(@class, 'last-modified')]");
-        XPATH_STATUS = compileExpression(".//*[contains(@class, 'status')]");
-        XPATH_CLASS = compileExpression(".//*[contains(@class, 'class')]");
-        XPATH_ATTENDEE = compileExpression(".//*[contains(@class, 'attendee')]");
-        XPATH_CONTACT = compileExpression(".//*[contains(@class, 'contact')]");
-        XPATH_ORGANIZER = compileExpression(".//*[contains(@class, 'organizer')]");
-        XPATH_SEQUENCE = compileExpression(".//*[contains(@class, 'sequence')]");
-        XPATH_ATTACH = compileExpression(".//*[contains(@class, 'attach')]");
-    }
+        PARSER_FACTORY.setNamespaceAware(true);
 
-    private static XPathExpression compileExpression(String expr) {
-        try {
-            return XPATH.compile(expr);
-        } catch (XPathException e) {
-            throw new CalendarException(e);
+        for (int i = 0; i < EVENT_PROPERTIES.length; i++) {
+            EVENT_PROPERTY_CLASSES.put(className(EVENT_PROPERTIES[i]), i);
         }
+        // the hCalendar class name for categories is singular..
+        EVENT_PROPERTY_CLASSES.remove(className(Property.CATEGORIES));
+        EVENT_PROPERTY_CLASSES.put("category", Arrays.asList(EVENT_PROPERTIES).indexOf(Property.CATEGORIES));
     }
 
     /**
@@ -198,10 +189,19 @@ public class HCalendarParser implements CalendarParser {
 
     private void parse(InputSource in, ContentHandler handler) throws IOException, ParserException {
         try {
-            Document d = BUILDER_FACTORY.newDocumentBuilder().parse(in);
-            buildCalendar(d, handler);
+            final SAXParser parser;
+            // parser factories are not guaranteed to be thread-safe..
+            synchronized (PARSER_FACTORY) {
+                parser = PARSER_FACTORY.newSAXParser();
+            }
+            parser.parse(in, new Extractor(handler));
         } catch (ParserConfigurationException e) {
             throw new CalendarException(e);
+        } catch (HandlerException e) {
+            if (e.getException() instanceof ParserException) {
+                throw (ParserException) e.getException();
+            }
+            throw (IOException) e.getException();
         } catch (SAXException e) {
             if (e instanceof SAXParseException) {
                 SAXParseException pe = (SAXParseException) e;
@@ -211,143 +211,267 @@ public class HCalendarParser implements CalendarParser {
         }
     }
 
-    private static NodeList findNodes(XPathExpression expr, Object context) throws ParserException {
-        try {
-            return (NodeList) expr.evaluate(context, XPathConstants.NODESET);
-        } catch (XPathException e) {
-            throw new ParserException("Unable to find nodes", -1, e);
+    /**
+     * Conveys exceptions raised when building the calendar through the XML parser.
+     */
+    private static class HandlerException extends SAXException {
+
+        private static final long serialVersionUID = 1L;
+
+        private HandlerException(Exception e) {
+            super(e);
         }
     }
 
-    private static Node findNode(XPathExpression expr, Object context) throws ParserException {
-        try {
-            return (Node) expr.evaluate(context, XPathConstants.NODE);
-        } catch (XPathException e) {
-            throw new ParserException("Unable to find node", -1, e);
+    /**
+     * An element of interest, retaining the attributes and text content used to derive a property value.
+     */
+    private static class Capture {
+
+        private final String elementName;
+
+        private final Attributes attributes;
+
+        private final int lineNumber;
+
+        private final StringBuilder text = new StringBuilder();
+
+        private Capture(String elementName, Attributes attributes, int lineNumber) {
+            this.elementName = elementName;
+            this.attributes = attributes;
+            this.lineNumber = lineNumber;
         }
-    }
 
-    private static List<Element> findElements(XPathExpression expr, Object context) throws ParserException {
-        NodeList nodes = findNodes(expr, context);
-        List<Element> elements = new ArrayList<Element>();
-        for (int i = 0; i < nodes.getLength(); i++) {
-            Node n = nodes.item(i);
-            if (n instanceof Element)
-                elements.add((Element) n);
+        private String getAttribute(String name) {
+            return attributes.getValue("", name);
         }
-        return elements;
-    }
 
-    private static Element findElement(XPathExpression expr, Object context) throws ParserException {
-        Node n = findNode(expr, context);
-        if ((!(n instanceof Element)))
+        private String getTextContent() {
+            if (text.length() > 0) {
+                return text.toString().trim().replaceAll("\\s+", " ");
+            }
             return null;
-        return (Element) n;
+        }
     }
 
-    private static String getTextContent(Element element) throws ParserException {
-        try {
-            String content = element.getFirstChild().getNodeValue();
-            if (content != null) {
-                return content.trim().replaceAll("\\s+", " ");
+    /**
+     * The property elements of an event element, in the order of the elements in the document.
+     */
+    private static class Event {
+
+        @SuppressWarnings("unchecked")
+        private final List<Capture>[] properties = (List<Capture>[]) new List<?>[EVENT_PROPERTIES.length];
+
+        private boolean closed;
+
+        private void add(int index, Capture capture) {
+            if (properties[index] == null) {
+                properties[index] = new ArrayList<>(1);
+            } else if (!isMultiple(EVENT_PROPERTIES[index])) {
+                // only the first element applies..
+                return;
             }
-            return null;
-        } catch (DOMException e) {
-            throw new ParserException("Unable to get text content for element " + element.getNodeName(), -1, e);
+            properties[index].add(capture);
         }
     }
 
-    private void buildCalendar(Document d, ContentHandler handler) throws ParserException, IOException {
-        // "The root class name for hCalendar is "vcalendar". An element with a
-        // class name of "vcalendar" is itself called an hCalendar.
-        //
-        // The root class name for events is "vevent". An element with a class
-        // name of "vevent" is itself called an hCalender event.
-        //
-        // For authoring convenience, both "vevent" and "vcalendar" are
-        // treated as root class names for parsing purposes. If a document
-        // contains elements with class name "vevent" but not "vcalendar", the
-        // entire document has an implied "vcalendar" context."
-
-        // XXX: We assume that the entire document has a single vcalendar
-        // context. It is possible that the document contains more than one
-        // vcalendar element. In this case, we should probably only process
-        // that element and log a warning about skipping the others.
+    /**
+     * An open element.
+     */
+    private static class Frame {
 
-        if (LOG.isDebugEnabled())
-            LOG.debug("Building calendar");
+        private final Capture capture;
 
-        handler.startCalendar();
+        private final Event event;
 
-        // no PRODID, as the using application should set that itself
+        private boolean childElement;
 
-        handler.startProperty(Property.VERSION);
-        try {
-            handler.propertyValue(Version.VERSION_2_0.getValue());
-            handler.endProperty(Property.VERSION);
-        } catch (IOException | ParseException | URISyntaxException e) {
-            LOG.warn("Caught exception", e);
+        private Frame(Capture capture, Event event) {
+            this.capture = capture;
+            this.event = event;
+        }
+    }
+
+    /**
+     * Extracts hCalendar content from the events of a single parse.
+     */
+    private class Extractor extends DefaultHandler {
+
+        private final ContentHandler handler;
+
+        private final Deque<Frame> elements = new ArrayDeque<>();
+
+        /**
+         * Events in the order of their elements in the document, retained until the outermost event is closed.
+         */
+        private final List<Event> events = new ArrayList<>();
+
+        private int openEvents;
+
+        private Capture method;
+
+        private Locator locator;
+
+        private Extractor(ContentHandler handler) {
+            this.handler = handler;
         }
 
-        Element method = findElement(XPATH_METHOD, d);
-        if (method != null) {
-            buildProperty(method, Property.METHOD, handler);
+        @Override
+        public void setDocumentLocator(Locator locator) {
+            this.locator = locator;
         }
 
-        List<Element> vevents = findElements(XPATH_VEVENTS, d);
-        for (Element vevent : vevents) {
-            buildEvent(vevent, handler);
+        @Override
+        public void startDocument() {
+            // "The root class name for hCalendar is "vcalendar". An element with a
+            // class name of "vcalendar" is itself called an hCalendar.
+            //
+            // The root class name for events is "vevent". An element with a class
+            // name of "vevent" is itself called an hCalender event.
+            //
+            // For authoring convenience, both "vevent" and "vcalendar" are
+            // treated as root class names for parsing purposes. If a document
+            // contains elements with class name "vevent" but not "vcalendar", the
+            // entire document has an implied "vcalendar" context."
+
+            // XXX: We assume that the entire document has a single vcalendar
+            // context. It is possible that the document contains more than one
+            // vcalendar element. In this case, we should probably only process
+            // that element and log a warning about skipping the others.
+
+            if (LOG.isDebugEnabled())
+                LOG.debug("Building calendar");
+
+            handler.startCalendar();
+
+            // no PRODID, as the using application should set that itself
+
+            handler.startProperty(Property.VERSION);
+            try {
+                handler.propertyValue(Version.VERSION_2_0.getValue());
+                handler.endProperty(Property.VERSION);
+            } catch (IOException | ParseException | URISyntaxException e) {
+                LOG.warn("Caught exception", e);
+            }
         }
 
-        // XXX: support other "first class components": vjournal, vtodo,
-        // vfreebusy, vavailability, vvenue
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            final Frame parent = elements.peek();
+            if (parent != null) {
+                parent.childElement = true;
+            }
+
+            final String classNames = attributes.getValue("", "class");
+            if (StringUtils.isBlank(classNames)) {
+                elements.push(new Frame(null, null));
+                return;
+            }
+
+            Capture capture = null;
+            Event event = null;
+            for (String className : StringUtils.split(classNames)) {
+                if (CLASS_VEVENT.equals(className)) {
+                    event = new Event();
+                    continue;
+                }
+                final Integer index = EVENT_PROPERTY_CLASSES.get(className);
+                if (index != null && openEvents > 0) {
+                    capture = capture(capture, localName, attributes);
+                    // properties apply to all enclosing events..
+                    for (Event open : events) {
+                        if (!open.closed) {
+                            open.add(index, capture);
+                        }
+                    }
+                } else if (CLASS_METHOD.equals(className) && method == null) {
+                    capture = capture(capture, localName, attributes);
+                    method = capture;
+                }
+            }
+            if (event != null) {
+                events.add(event);
+                openEvents++;
+            }
+            elements.push(new Frame(capture, event));
+        }
 
-        handler.endCalendar();
+        private Capture capture(Capture capture, String localName, Attributes attributes) {
+            if (capture != null) {
+                return capture;
+            }
+            final int lineNumber = locator != null ? locator.getLineNumber() : -1;
+            // attributes are reused by the XML parser..
+            return new Capture(localName, new AttributesImpl(attributes), lineNumber);
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            final Frame frame = elements.peek();
+            // only text preceding any child elements contributes to a property value..
+            if (frame != null && frame.capture != null && !frame.childElement) {
+                frame.capture.text.append(ch, start, length);
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) throws SAXException {
+            final Frame frame = elements.pop();
+            if (frame.event != null) {
+                frame.event.closed = true;
+                if (--openEvents == 0) {
+                    try {
+                        for (Event event : events) {
+                            buildEvent(event, handler);
+                        }
+                    } catch (ParserException e) {
+                        throw new HandlerException(e);
+                    }
+                    events.clear();
+                }
+            }
+        }
+
+        @Override
+        public void endDocument() throws SAXException {
+            try {
+                if (method != null) {
+                    buildProperty(method, Property.METHOD, handler);
+                }
+
+                // XXX: support other "first class components": vjournal, vtodo,
+                // vfreebusy, vavailability, vvenue
+
+                handler.endCalendar();
+            } catch (ParserException | IOException e) {
+                throw new HandlerException(e);
+            }
+        }
     }
 
-    private void buildEvent(Element element, ContentHandler handler) throws ParserException {
+    private void buildEvent(Event event, ContentHandler handler) throws ParserException {
         if (LOG.isDebugEnabled())
             LOG.debug("Building event");
 
         handler.startComponent(Component.VEVENT);
 
-        buildProperty(findElement(XPATH_DTSTART, element), Property.DTSTART, handler);
-        buildProperty(findElement(XPATH_DTEND, element), Property.DTEND, handler);
-        buildProperty(findElement(XPATH_DURATION, element), Property.DURATION, handler);
-        buildProperty(findElement(XPATH_SUMMARY, element), Property.SUMMARY, handler);
-        buildProperty(findElement(XPATH_UID, element), Property.UID, handler);
-        buildProperty(findElement(XPATH_DTSTAMP, element), Property.DTSTAMP, handler);
-        List<Element> categories = findElements(XPATH_CATEGORY, element);
-        for (Element category : categories) {
-            buildProperty(category, Property.CATEGORIES, handler);
-        }
-        buildProperty(findElement(XPATH_LOCATION, element), Property.LOCATION, handler);
-        buildProperty(findElement(XPATH_URL, element), Property.URL, handler);
-        buildProperty(findElement(XPATH_DESCRIPTION, element), Property.DESCRIPTION, handler);
-        buildProperty(findElement(XPATH_LAST_MODIFIED, element), Property.LAST_MODIFIED, handler);
-        buildProperty(findElement(XPATH_STATUS, element), Property.STATUS, handler);
-        buildProperty(findElement(XPATH_CLASS, element), Property.CLASS, handler);
-        List<Element> attendees = findElements(XPATH_ATTENDEE, element);
-        for (Element attendee : attendees) {
-            buildProperty(attendee, Property.ATTENDEE, handler);
+        for (int i = 0; i < EVENT_PROPERTIES.length; i++) {
+            if (event.properties[i] != null) {
+                for (Capture capture : event.properties[i]) {
+                    buildProperty(capture, EVENT_PROPERTIES[i], handler);
+                }
+            }
         }
-        buildProperty(findElement(XPATH_CONTACT, element), Property.CONTACT, handler);
-        buildProperty(findElement(XPATH_ORGANIZER, element), Property.ORGANIZER, handler);
-        buildProperty(findElement(XPATH_SEQUENCE, element), Property.SEQUENCE, handler);
-        buildProperty(findElement(XPATH_ATTACH, element), Property.ATTACH, handler);
 
         handler.endComponent(Component.VEVENT);
     }
 
-    private void buildProperty(Element element, String propName, ContentHandler handler) throws ParserException {
-        if (element == null)
-            return;
-
+    private void buildProperty(Capture element, String propName, ContentHandler handler) throws ParserException {
         if (LOG.isDebugEnabled())
             LOG.debug("Building property " + propName);
 
         String className = className(propName);
-        String elementName = element.getLocalName().toLowerCase();
+        String elementName = element.elementName.toLowerCase();
 
         String value;
         if (elementName.equals("abbr")) {
@@ -357,7 +481,8 @@ public class HCalendarParser implements CalendarParser {
             // human presentable version of the value."
             value = element.getAttribute("title");
             if (StringUtils.isBlank(value))
-                throw new ParserException("Abbr element '" + className + "' requires a non-empty title", -1);
+                throw new ParserException("Abbr element '" + className + "' requires a non-empty title",
+                        element.lineNumber);
             if (LOG.isDebugEnabled())
                 LOG.debug("Setting value '" + value + "' from title attribute");
         } else if (isHeaderElement(elementName)) {
@@ -367,32 +492,35 @@ public class HCalendarParser implements CalendarParser {
                 if (LOG.isDebugEnabled())
                     LOG.debug("Setting value '" + value + "' from title attribute");
             } else {
-                value = getTextContent(element);
+                value = element.getTextContent();
                 if (LOG.isDebugEnabled())
                     LOG.debug("Setting value '" + value + "' from text content");
             }
         } else if (elementName.equals("a") && isUrlProperty(propName)) {
             value = element.getAttribute("href");
             if (StringUtils.isBlank(value))
-                throw new ParserException("A element '" + className + "' requires a non-empty href", -1);
+                throw new ParserException("A element '" + className + "' requires a non-empty href",
+                        element.lineNumber);
             if (LOG.isDebugEnabled())
                 LOG.debug("Setting value '" + value + "' from href attribute");
         } else if (elementName.equals("img")) {
             if (isUrlProperty(propName)) {
                 value = element.getAttribute("src");
                 if (StringUtils.isBlank(value))
-                    throw new ParserException("Img element '" + className + "' requires a non-empty src", -1);
+                    throw new ParserException("Img element '" + className + "' requires a non-empty src",
+                            element.lineNumber);
                 if (LOG.isDebugEnabled())
                     LOG.debug("Setting value '" + value + "' from src attribute");
             } else {
                 value = element.getAttribute("alt");
                 if (StringUtils.isBlank(value))
-                    throw new ParserException("Img element '" + className + "' requires a non-empty alt", -1);
+                    throw new ParserException("Img element '" + className + "' requires a non-empty alt",
+                            element.lineNumber);
                 if (LOG.isDebugEnabled())
                     LOG.debug("Setting value '" + value + "' from alt attribute");
             }
         } else {
-            value = getTextContent(element);
+            value = element.getTextContent();
             if (!StringUtils.isBlank(value)) {
                 if (LOG.isDebugEnabled())
                     LOG.debug("Setting value '" + value + "' from text content");
@@ -421,12 +549,13 @@ public class HCalendarParser implements CalendarParser {
                         LOG.warn("Caught exception", e);
                     }
             } catch (ParseException e) {
-                throw new ParserException("Malformed date value for element '" + className + "'", -1, e);
+                throw new ParserException("Malformed date value for element '" + className + "'",
+                        element.lineNumber, e);
             }
         }
 
         if (isTextProperty(propName)) {
-            String lang = element.getAttributeNS(XMLConstants.XML_NS_URI, "lang");
+            String lang = element.attributes.getValue(XMLConstants.XML_NS_URI, "lang");
             if (!StringUtils.isBlank(lang))
                 try {
                     handler.parameter(Parameter.LANGUAGE, lang);
@@ -442,9 +571,9 @@ public class HCalendarParser implements CalendarParser {
 
             handler.endProperty(propName);
         } catch (URISyntaxException e) {
-            throw new ParserException("Malformed URI value for element '" + className + "'", -1, e);
+            throw new ParserException("Malformed URI value for element '" + className + "'", element.lineNumber, e);
         } catch (ParseException e) {
-            throw new ParserException("Malformed value for element '" + className + "'", -1, e);
+            throw new ParserException("Malformed value for element '" + className + "'", element.lineNumber, e);
         } catch (IOException e) {
             throw new CalendarException(e);
         }
@@ -471,6 +600,10 @@ public class HCalendarParser implements CalendarParser {
                 .equals(Property.LAST_MODIFIED));
     }
 
+    private static boolean isMultiple(String name) {
+        return (name.equals(Property.CATEGORIES) || name.equals(Property.ATTENDEE));
+    }
+
     private static boolean isUrlProperty(String name) {
         return (name.equals(Property.URL));
     }
@@ -497,7 +630,7 @@ public class HCalendarParser implements CalendarParser {
             } catch (ParseException e) {
                 LOG.warn("Caught exception", e);
             }
-            return new Date(HCAL_DATE_FORMAT.parse(original));
+            return new Date(new SimpleDateFormat(HCAL_DATE_PATTERN).parse(original));
         }
 
         try {
@@ -528,7 +661,7 @@ public class HCalendarParser implements CalendarParser {
             normalized = original;
         }
 
-        DateTime dt = new DateTime(HCAL_DATE_TIME_FORMAT.parse(normalized));
+        DateTime dt = new DateTime(new SimpleDateFormat(HCAL_DATE_TIME_PATTERN).parse(normalized));
 
         // hCalendar does not specify a representation for timezone ids
         // or any other sort of timezone information. the best it does is
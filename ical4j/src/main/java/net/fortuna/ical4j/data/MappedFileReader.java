@@ -0,0 +1,179 @@
+package net.fortuna.ical4j.data;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A reader that decodes UTF-8 encoded content directly from a memory-mapped file.
+ *
+ * Files are mapped in fixed-size windows such that files larger than the maximum size of a single mapping may be
+ * read. Runs of ASCII characters (the majority of iCalendar content) are copied without further decoding, and
+ * malformed or truncated sequences are replaced with the Unicode replacement character (one per maximal invalid
+ * subsequence).
+ *
+ * Instances of this class are not thread-safe.
+ */
+final class MappedFileReader extends Reader {
+
+    private static final long WINDOW_SIZE = 64L * 1024 * 1024;
+
+    /**
+     * The maximum length of a UTF-8 encoded character, such that a window is remapped before reading a
+     * character that may span windows.
+     */
+    private static final int MAX_SEQUENCE_LENGTH = 4;
+
+    private static final char REPLACEMENT = '\uFFFD';
+
+    private final FileChannel channel;
+
+    private final long size;
+
+    private MappedByteBuffer window;
+
+    /**
+     * The position of the current window within the file.
+     */
+    private long windowStart;
+
+    /**
+     * The low surrogate of a supplementary character that did not fit in the previous read.
+     */
+    private int pendingLowSurrogate = -1;
+
+    /**
+     * @param path the path of a UTF-8 encoded file
+     * @throws IOException where the file cannot be opened or mapped
+     */
+    MappedFileReader(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            this.size = channel.size();
+            map(0);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        int n = 0;
+        if (pendingLowSurrogate >= 0) {
+            cbuf[off + n++] = (char) pendingLowSurrogate;
+            pendingLowSurrogate = -1;
+        }
+        while (n < len) {
+            if (window.remaining() < MAX_SEQUENCE_LENGTH && windowStart + window.limit() < size) {
+                map(windowStart + window.position());
+            }
+            if (!window.hasRemaining()) {
+                break;
+            }
+
+            // ASCII fast path..
+            int pos = window.position();
+            final int limit = Math.min(window.limit(), pos + len - n);
+            while (pos < limit) {
+                final byte b = window.get(pos);
+                if (b < 0) {
+                    break;
+                }
+                cbuf[off + n++] = (char) b;
+                pos++;
+            }
+            window.position(pos);
+
+            if (n < len && window.hasRemaining()) {
+                if (window.remaining() < MAX_SEQUENCE_LENGTH && windowStart + window.limit() < size) {
+                    // remap before decoding a sequence that may span windows..
+                    continue;
+                }
+                final int codePoint = decode();
+                if (codePoint > Character.MAX_VALUE) {
+                    cbuf[off + n++] = Character.highSurrogate(codePoint);
+                    if (n < len) {
+                        cbuf[off + n++] = Character.lowSurrogate(codePoint);
+                    } else {
+                        pendingLowSurrogate = Character.lowSurrogate(codePoint);
+                    }
+                } else {
+                    cbuf[off + n++] = (char) codePoint;
+                }
+            }
+        }
+        return n > 0 ? n : -1;
+    }
+
+    /**
+     * Decodes a multi-byte sequence from the current position of the window.
+     * @return the decoded code point, or the replacement character if the sequence is malformed
+     */
+    private int decode() {
+        final int b0 = window.get() & 0xFF;
+        final int length;
+        int codePoint;
+        if ((b0 & 0xE0) == 0xC0 && b0 >= 0xC2) {
+            length = 2;
+            codePoint = b0 & 0x1F;
+        } else if ((b0 & 0xF0) == 0xE0) {
+            length = 3;
+            codePoint = b0 & 0x0F;
+        } else if ((b0 & 0xF8) == 0xF0 && b0 <= 0xF4) {
+            length = 4;
+            codePoint = b0 & 0x07;
+        } else {
+            return REPLACEMENT;
+        }
+
+        for (int i = 1; i < length; i++) {
+            if (!window.hasRemaining()) {
+                return REPLACEMENT;
+            }
+            final int b = window.get(window.position()) & 0xFF;
+            if ((b & 0xC0) != 0x80 || (i == 1 && !isValidSecondByte(b0, b))) {
+                // leave the unexpected byte to be decoded as the next character..
+                return REPLACEMENT;
+            }
+            window.get();
+            codePoint = (codePoint << 6) | (b & 0x3F);
+        }
+        return codePoint;
+    }
+
+    /**
+     * Restricts the second byte of a sequence to reject overlong encodings, surrogates and values beyond the
+     * Unicode range as early as possible.
+     */
+    private static boolean isValidSecondByte(int b0, int b1) {
+        switch (b0) {
+            case 0xE0:
+                return b1 >= 0xA0;
+            case 0xED:
+                return b1 <= 0x9F;
+            case 0xF0:
+                return b1 >= 0x90;
+            case 0xF4:
+                return b1 <= 0x8F;
+            default:
+                return true;
+        }
+    }
+
+    private void map(long position) throws IOException {
+        windowStart = position;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(WINDOW_SIZE, size - position));
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,59 @@
+package net.fortuna.ical4j.data;
+
+import net.fortuna.ical4j.util.Metrics;
+import net.fortuna.ical4j.util.MetricsRegistry;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Records the number of bytes read from a stream of calendar data.
+ */
+final class MeteredInputStream extends FilterInputStream {
+
+    private static final MetricsRegistry.Counter BYTE_COUNTER = Metrics.counter(Metrics.PARSER_BYTES);
+
+    private MeteredInputStream(InputStream in) {
+        super(in);
+    }
+
+    /**
+     * @param in a stream of calendar data
+     * @return a stream recording the bytes read from the specified stream, or the specified stream where metrics
+     * are disabled
+     */
+    static InputStream wrap(InputStream in) {
+        return Metrics.isEnabled() ? new MeteredInputStream(in) : in;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int b = super.read();
+        if (b >= 0) {
+            BYTE_COUNTER.increment(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        final int read = super.read(b, off, len);
+        if (read > 0) {
+            BYTE_COUNTER.increment(read);
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        final long skipped = super.skip(n);
+        BYTE_COUNTER.increment(skipped);
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+}
@@ -0,0 +1,389 @@
+package net.fortuna.ical4j.data;
+
+import net.fortuna.ical4j.model.*;
+import net.fortuna.ical4j.model.component.CalendarComponent;
+import net.fortuna.ical4j.model.component.VTimeZone;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Parses and builds iCalendar models from large inputs using multiple threads.
+ *
+ * The input is scanned sequentially for the boundaries of top-level components (i.e. <code>BEGIN:</code> and
+ * <code>END:</code> lines nested directly within a VCALENDAR). As folded lines always begin with whitespace these
+ * boundaries are safe to split on without unfolding. Consecutive components are grouped into chunks that are parsed
+ * concurrently, and the resulting components are added to the calendar in the order they appear in the input.
+ * Inputs containing multiple (concatenated) VCALENDAR objects are supported, with each calendar returned in order.
+ *
+ * As with {@link CalendarBuilder}, timezone references (TZID parameters) are resolved once all components of a
+ * calendar are parsed. The VTIMEZONE components of each calendar are registered with the timezone registry in order
+ * before references are resolved, such that references are resolved consistently regardless of the order in which
+ * chunks are parsed.
+ *
+ * Example - Parse a large feed using the common pool:
+ *
+ * <pre>
+ *     List&lt;Calendar&gt; calendars = new ParallelCalendarBuilder().build(Paths.get("export.ics"));
+ * </pre>
+ *
+ * The number of chunks awaiting parsing is limited, such that the raw content held in memory is bounded regardless
+ * of the size of the input. Instances may be shared by multiple threads, however as with {@link CalendarBuilder}
+ * timezones discovered in parsed calendars are registered with the (shared) timezone registry.
+ */
+public class ParallelCalendarBuilder {
+
+    private static final int DEFAULT_CHUNK_SIZE = 256;
+
+    private static final String BEGIN = Component.BEGIN + ':';
+
+    private static final String END = Component.END + ':';
+
+    private static final String CRLF = "\r\n";
+
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    private final Executor executor;
+
+    private final int chunkSize;
+
+    private final int maxPendingChunks;
+
+    private final ParserOptions options;
+
+    private final TimeZoneRegistry tzRegistry;
+
+    private final Supplier<List<ParameterFactory>> parameterFactorySupplier;
+
+    private final Supplier<List<PropertyFactory>> propertyFactorySupplier;
+
+    private final Supplier<List<ComponentFactory>> componentFactorySupplier;
+
+    /**
+     * Creates a new instance using the common pool.
+     */
+    public ParallelCalendarBuilder() {
+        this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE, ParserOptions.defaults());
+    }
+
+    /**
+     * @param executor the executor used to parse chunks
+     * @param chunkSize the number of top-level components parsed by each task
+     * @param options parser options applied to all calendars built
+     */
+    public ParallelCalendarBuilder(Executor executor, int chunkSize, ParserOptions options) {
+        this(executor, chunkSize, options, TimeZoneRegistryFactory.getInstance().createRegistry(),
+                new DefaultParameterFactorySupplier(), new DefaultPropertyFactorySupplier(),
+                new DefaultComponentFactorySupplier());
+    }
+
+    /**
+     * @param executor the executor used to parse chunks
+     * @param chunkSize the number of top-level components parsed by each task
+     * @param options parser options applied to all calendars built
+     * @param tzRegistry a timezone registry used to resolve timezone references
+     * @param parameterFactorySupplier supplies parameter factories
+     * @param propertyFactorySupplier supplies property factories
+     * @param componentFactorySupplier supplies component factories
+     */
+    public ParallelCalendarBuilder(Executor executor, int chunkSize, ParserOptions options,
+                                   TimeZoneRegistry tzRegistry,
+                                   Supplier<List<ParameterFactory>> parameterFactorySupplier,
+                                   Supplier<List<PropertyFactory>> propertyFactorySupplier,
+                                   Supplier<List<ComponentFactory>> componentFactorySupplier) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+        this.maxPendingChunks = Math.max(2, Runtime.getRuntime().availableProcessors() * 4);
+        this.options = options;
+        this.tzRegistry = tzRegistry;
+        this.parameterFactorySupplier = parameterFactorySupplier;
+        this.propertyFactorySupplier = propertyFactorySupplier;
+        this.componentFactorySupplier = componentFactorySupplier;
+    }
+
+    /**
+     * Builds iCalendar models from the specified UTF-8 encoded file.
+     *
+     * @param path the path of a file to read calendar data from
+     * @return the calendars parsed from the specified file, in order
+     * @throws IOException     where an error occurs reading data from the specified file
+     * @throws ParserException where an error occurs parsing data from the file
+     */
+    public List<Calendar> build(final Path path) throws IOException, ParserException {
+        try (Reader in = new MappedFileReader(path)) {
+            return build(in);
+        }
+    }
+
+    /**
+     * Builds iCalendar models from the specified reader.
+     *
+     * @param in a reader to read calendar data from
+     * @return the calendars parsed from the specified reader, in order
+     * @throws IOException     where an error occurs reading data from the specified reader
+     * @throws ParserException where an error occurs parsing data from the reader
+     */
+    public List<Calendar> build(final Reader in) throws IOException, ParserException {
+        // options are resolved once such that all chunks are parsed consistently..
+        final ParserOptions resolved = options.resolve();
+        final Semaphore pending = new Semaphore(maxPendingChunks);
+        final List<Calendar> calendars = new ArrayList<>();
+        // chunks submitted but not yet known to have parsed successfully..
+        final List<CompletableFuture<Calendar>> inFlight = new ArrayList<>();
+
+        final BufferedReader reader = new BufferedReader(in);
+        CalendarSplit calendar = null;
+        StringBuilder chunk = new StringBuilder();
+        int chunkStart = 0;
+        int componentCount = 0;
+        int depth = 0;
+        int lineNo = 0;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNo++;
+            if (lineNo == 1 && line.startsWith(BYTE_ORDER_MARK)) {
+                line = line.substring(BYTE_ORDER_MARK.length());
+            }
+            if (depth == 0) {
+                if (isBoundary(line, BEGIN, Calendar.VCALENDAR)) {
+                    calendar = new CalendarSplit(lineNo, resolved.isLazyProperties() && tzRegistry != null
+                            ? new DeferredTimeZones(tzRegistry, resolved) : null);
+                    depth = 1;
+                } else if (!line.trim().isEmpty() && calendar == null) {
+                    throw new ParserException("Expected [" + BEGIN + Calendar.VCALENDAR + "], read [" + line + "]",
+                            lineNo);
+                }
+            } else if (depth == 1) {
+                if (line.regionMatches(true, 0, BEGIN, 0, BEGIN.length())) {
+                    if (chunk.length() == 0) {
+                        chunkStart = lineNo;
+                    }
+                    chunk.append(line).append(CRLF);
+                    depth = 2;
+                } else if (isBoundary(line, END, Calendar.VCALENDAR)) {
+                    if (chunk.length() > 0) {
+                        submit(calendar, chunk.toString(), chunkStart, resolved, pending, inFlight);
+                        chunk = new StringBuilder();
+                        componentCount = 0;
+                    }
+                    calendars.add(complete(calendar, lineNo, resolved));
+                    depth = 0;
+                } else {
+                    // calendar properties..
+                    calendar.header.append(line).append(CRLF);
+                    calendar.headerLines.add(lineNo);
+                }
+            } else {
+                chunk.append(line).append(CRLF);
+                if (line.regionMatches(true, 0, BEGIN, 0, BEGIN.length())) {
+                    depth++;
+                } else if (line.regionMatches(true, 0, END, 0, END.length())) {
+                    depth--;
+                    if (depth == 1 && ++componentCount >= chunkSize) {
+                        submit(calendar, chunk.toString(), chunkStart, resolved, pending, inFlight);
+                        chunk = new StringBuilder();
+                        componentCount = 0;
+                    }
+                }
+            }
+        }
+        if (depth > 0) {
+            throw new ParserException("Unexpected end of file", lineNo);
+        }
+        return calendars;
+    }
+
+    /**
+     * Submits a chunk of top-level components to be parsed, blocking while the maximum number of chunks are
+     * awaiting parsing. Chunks that have already failed to parse are reported immediately, such that a parse error
+     * doesn't wait on the scan of the remaining input.
+     */
+    private void submit(final CalendarSplit split, final String content, final int startLine,
+                        final ParserOptions resolved, final Semaphore pending,
+                        final List<CompletableFuture<Calendar>> inFlight) throws IOException, ParserException {
+        try {
+            pending.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ParserException("Interrupted", startLine, e);
+        }
+        final CompletableFuture<Calendar> chunk = CompletableFuture.supplyAsync(() -> {
+            try {
+                return parse(content, n -> startLine + n - 1, split.timezones, resolved);
+            } catch (IOException | ParserException e) {
+                throw new CompletionException(e);
+            } finally {
+                pending.release();
+            }
+        }, executor);
+        split.chunks.add(chunk);
+        inFlight.add(chunk);
+
+        // the chunks in flight are bounded by the number awaiting parsing..
+        for (final Iterator<CompletableFuture<Calendar>> i = inFlight.iterator(); i.hasNext();) {
+            final CompletableFuture<Calendar> future = i.next();
+            if (future.isCompletedExceptionally()) {
+                join(future);
+            } else if (future.isDone()) {
+                i.remove();
+            }
+        }
+    }
+
+    /**
+     * Assembles a calendar from its parsed chunks, registering timezones and resolving timezone references once
+     * all chunks are parsed.
+     */
+    private Calendar complete(final CalendarSplit split, final int endLine, final ParserOptions resolved)
+            throws IOException, ParserException {
+
+        // calendar properties may be interleaved with components, and so each line is mapped individually..
+        final Calendar calendar = parse(split.header.toString(), n -> n < 1 ? split.startLine
+                : n <= split.headerLines.size() ? split.headerLines.get(n - 1) : endLine, null, resolved);
+        final List<List<CalendarComponent>> chunkComponents = new ArrayList<>();
+        for (CompletableFuture<Calendar> chunk : split.chunks) {
+            final List<CalendarComponent> components = join(chunk).getComponents();
+            chunkComponents.add(components);
+            for (CalendarComponent component : components) {
+                if (component instanceof VTimeZone && tzRegistry != null) {
+                    // register the timezone for use with iCalendar objects..
+                    tzRegistry.register(new TimeZone((VTimeZone) component));
+                }
+            }
+        }
+
+        if (split.timezones != null) {
+            // resolved now such that timezones registered by subsequent calendars don't apply..
+            split.timezones.resolve();
+        } else if (tzRegistry != null) {
+            final DefaultContentHandler resolver = createHandler(c -> { }, tzRegistry, resolved);
+            final List<CompletableFuture<Void>> resolutions = new ArrayList<>();
+            for (final List<CalendarComponent> components : chunkComponents) {
+                resolutions.add(CompletableFuture.runAsync(() -> components.forEach(resolver::resolveTimezones),
+                        executor));
+            }
+            for (CompletableFuture<Void> resolution : resolutions) {
+                join(resolution);
+            }
+        }
+
+        for (List<CalendarComponent> components : chunkComponents) {
+            calendar.getComponents().addAll(components);
+        }
+        return calendar;
+    }
+
+    /**
+     * Parses a chunk of content as a calendar. Timezone references are not resolved as other chunks may be parsed
+     * concurrently.
+     * @param lineNumbers maps the line numbers of the content (from 1) to the line numbers of the input
+     * @param timezones the timezones referenced by deferred properties of the calendar, or null if properties are
+     *                  not deferred
+     */
+    private Calendar parse(final String content, final IntUnaryOperator lineNumbers,
+                           final DeferredTimeZones timezones, final ParserOptions resolved)
+            throws IOException, ParserException {
+
+        final Calendar[] calendar = new Calendar[1];
+        final ContentHandler handler = new DefaultContentHandler(c -> calendar[0] = c,
+                timezones != null ? tzRegistry : null, parameterFactorySupplier, propertyFactorySupplier,
+                componentFactorySupplier, resolved) {
+            @Override
+            protected void registerTimezone(VTimeZone vTimeZone) {
+                // timezones are registered in order on completion of the calendar..
+            }
+
+            @Override
+            DeferredTimeZones newDeferredTimeZones(ParserOptions options) {
+                // references from all chunks of the calendar are resolved together..
+                return timezones;
+            }
+
+            @Override
+            void resolveDeferredTimeZones(DeferredTimeZones deferredTimeZones) {
+                // resolved on completion of the calendar, once all timezones are registered..
+            }
+        };
+        final String wrapped = BEGIN + Calendar.VCALENDAR + CRLF + content + END + Calendar.VCALENDAR + CRLF;
+        try {
+            CalendarParserFactory.getInstance().get().parse(
+                    new UnfoldingReader(new StringReader(wrapped), resolved), handler, resolved);
+        } catch (ParserException e) {
+            // translate the line number of the chunk (following the wrapping BEGIN line) to the line number of the
+            // input..
+            throw new ParserException(e, lineNumbers.applyAsInt(e.getLineNo() - 1));
+        }
+        return calendar[0];
+    }
+
+    private DefaultContentHandler createHandler(Consumer<Calendar> consumer,
+                                                TimeZoneRegistry registry, ParserOptions resolved) {
+        return new DefaultContentHandler(consumer, registry, parameterFactorySupplier, propertyFactorySupplier,
+                componentFactorySupplier, resolved);
+    }
+
+    private static <T> T join(CompletableFuture<T> future) throws IOException, ParserException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof ParserException) {
+                throw (ParserException) e.getCause();
+            } else if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isBoundary(String line, String prefix, String name) {
+        return line.regionMatches(true, 0, prefix, 0, prefix.length())
+                && line.substring(prefix.length()).trim().equalsIgnoreCase(name);
+    }
+
+    /**
+     * The content of a calendar identified by the scan of the input.
+     */
+    private static class CalendarSplit {
+
+        private final int startLine;
+
+        private final StringBuilder header = new StringBuilder();
+
+        /**
+         * The input line number of each line of the header.
+         */
+        private final List<Integer> headerLines = new ArrayList<>();
+
+        private final List<CompletableFuture<Calendar>> chunks = new ArrayList<>();
+
+        /**
+         * The timezones referenced by deferred properties of the calendar, or null if properties are not deferred.
+         */
+        private final DeferredTimeZones timezones;
+
+        private CalendarSplit(int startLine, DeferredTimeZones timezones) {
+            this.startLine = startLine;
+            this.timezones = timezones;
+        }
+    }
+}
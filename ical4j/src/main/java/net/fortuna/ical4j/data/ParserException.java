@@ -49,11 +49,14 @@ public class ParserException extends Exception {
 
     private int lineNo;
 
+    private final String detail;
+
     /**
      * @param lineNo line number where parsing error ocurred
      */
     public ParserException(final int lineNo) {
         this.lineNo = lineNo;
+        this.detail = null;
     }
 
     /**
@@ -64,6 +67,7 @@ public class ParserException extends Exception {
     public ParserException(final String message, final int lineNo) {
         super(MessageFormat.format(ERROR_MESSAGE_PATTERN, lineNo) + message);
         this.lineNo = lineNo;
+        this.detail = message;
     }
 
     /**
@@ -77,6 +81,21 @@ public class ParserException extends Exception {
 
         super(MessageFormat.format(ERROR_MESSAGE_PATTERN, lineNo) + message, cause);
         this.lineNo = lineNo;
+        this.detail = message;
+    }
+
+    /**
+     * Creates a copy of an exception reporting a different line number. For example, where the line numbers of
+     * the parsed data are relative to the start of a larger input.
+     * @param e an exception to copy
+     * @param lineNo line number where parsing error ocurred
+     */
+    public ParserException(final ParserException e, final int lineNo) {
+        super(e.detail != null ? MessageFormat.format(ERROR_MESSAGE_PATTERN, lineNo) + e.detail : null,
+                e.getCause());
+        this.lineNo = lineNo;
+        this.detail = e.detail;
+        setStackTrace(e.getStackTrace());
     }
 
     /**
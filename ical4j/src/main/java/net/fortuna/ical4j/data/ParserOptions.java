@@ -0,0 +1,211 @@
+package net.fortuna.ical4j.data;
+
+import net.fortuna.ical4j.util.CompatibilityHints;
+
+import java.io.Serializable;
+
+/**
+ * An immutable set of options applied when parsing calendar data, as an alternative to the JVM-global
+ * {@link CompatibilityHints}.
+ *
+ * Options that are not explicitly specified default to the corresponding compatibility hint. Options are
+ * resolved once at the start of a parse via {@link #resolve()}, and passed explicitly to the parser, content handler
+ * and factories, which in turn pass them to the parsing of property values (e.g. date and recurrence values). As
+ * options are not bound to a thread, calendars may be parsed with different options concurrently, and a parse may
+ * be continued on other threads.
+ *
+ * Example - Parse a feed with relaxed parsing regardless of the global hints:
+ *
+ * <pre>
+ *     ParserOptions options = new ParserOptions.Builder().relaxedParsing(true).relaxedUnfolding(true).build();
+ *     Calendar calendar = new CalendarBuilder(options).build(in);
+ * </pre>
+ */
+public final class ParserOptions implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ParserOptions DEFAULTS = new Builder().build();
+
+    private final Boolean relaxedUnfolding;
+
+    private final Boolean relaxedParsing;
+
+    private final Boolean outlookCompatibility;
+
+    private final Boolean notesCompatibility;
+
+    private final Boolean vcardCompatibility;
+
+    private final boolean lazyProperties;
+
+    private final Projection projection;
+
+    private ParserOptions(Builder builder) {
+        this.relaxedUnfolding = builder.relaxedUnfolding;
+        this.relaxedParsing = builder.relaxedParsing;
+        this.outlookCompatibility = builder.outlookCompatibility;
+        this.notesCompatibility = builder.notesCompatibility;
+        this.vcardCompatibility = builder.vcardCompatibility;
+        this.lazyProperties = builder.lazyProperties;
+        this.projection = builder.projection;
+    }
+
+    /**
+     * @return options that defer to the current state of the compatibility hints
+     */
+    public static ParserOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Returns a copy of these options with any unspecified options fixed to the current value of the corresponding
+     * compatibility hint.
+     * @return resolved options
+     */
+    public ParserOptions resolve() {
+        return new Builder()
+                .relaxedUnfolding(isRelaxedUnfolding())
+                .relaxedParsing(isRelaxedParsing())
+                .outlookCompatibility(isOutlookCompatibility())
+                .notesCompatibility(isNotesCompatibility())
+                .vcardCompatibility(isVcardCompatibility())
+                .lazyProperties(lazyProperties)
+                .projection(projection)
+                .build();
+    }
+
+    /**
+     * @return true if relaxed unfolding is enabled
+     * @see CompatibilityHints#KEY_RELAXED_UNFOLDING
+     */
+    public boolean isRelaxedUnfolding() {
+        return isEnabled(relaxedUnfolding, CompatibilityHints.KEY_RELAXED_UNFOLDING);
+    }
+
+    /**
+     * @return true if relaxed parsing is enabled
+     * @see CompatibilityHints#KEY_RELAXED_PARSING
+     */
+    public boolean isRelaxedParsing() {
+        return isEnabled(relaxedParsing, CompatibilityHints.KEY_RELAXED_PARSING);
+    }
+
+    /**
+     * @return true if compatibility with Outlook/Exchange-generated data is enabled
+     * @see CompatibilityHints#KEY_OUTLOOK_COMPATIBILITY
+     */
+    public boolean isOutlookCompatibility() {
+        return isEnabled(outlookCompatibility, CompatibilityHints.KEY_OUTLOOK_COMPATIBILITY);
+    }
+
+    /**
+     * @return true if compatibility with Lotus Notes-generated data is enabled
+     * @see CompatibilityHints#KEY_NOTES_COMPATIBILITY
+     */
+    public boolean isNotesCompatibility() {
+        return isEnabled(notesCompatibility, CompatibilityHints.KEY_NOTES_COMPATIBILITY);
+    }
+
+    /**
+     * @return true if support for vCard features is enabled
+     * @see CompatibilityHints#KEY_VCARD_COMPATIBILITY
+     */
+    public boolean isVcardCompatibility() {
+        return isEnabled(vcardCompatibility, CompatibilityHints.KEY_VCARD_COMPATIBILITY);
+    }
+
+    /**
+     * Indicates whether the properties of components are parsed when first accessed rather than when the
+     * component is parsed. Unlike other options this option has no corresponding compatibility hint, and is disabled
+     * by default.
+     * @return true if the parsing of component properties is deferred
+     */
+    public boolean isLazyProperties() {
+        return lazyProperties;
+    }
+
+    /**
+     * Returns the subset of content retained when parsing, where content excluded by the projection is skipped
+     * without being built. Unlike other options this option has no corresponding compatibility hint.
+     * @return the projection applied when parsing, or null if all content is retained
+     */
+    public Projection getProjection() {
+        return projection;
+    }
+
+    private static boolean isEnabled(Boolean option, String hint) {
+        if (option != null) {
+            return option;
+        }
+        return CompatibilityHints.isHintEnabled(hint);
+    }
+
+    @Override
+    public String toString() {
+        return "ParserOptions{relaxedUnfolding=" + relaxedUnfolding + ", relaxedParsing=" + relaxedParsing
+                + ", outlookCompatibility=" + outlookCompatibility + ", notesCompatibility=" + notesCompatibility
+                + ", vcardCompatibility=" + vcardCompatibility + ", lazyProperties=" + lazyProperties
+                + ", projection=" + projection + '}';
+    }
+
+    /**
+     * Support for building parser options. Options that are not specified default to the corresponding
+     * compatibility hint.
+     */
+    public static class Builder {
+
+        private Boolean relaxedUnfolding;
+
+        private Boolean relaxedParsing;
+
+        private Boolean outlookCompatibility;
+
+        private Boolean notesCompatibility;
+
+        private Boolean vcardCompatibility;
+
+        private boolean lazyProperties;
+
+        private Projection projection;
+
+        public Builder relaxedUnfolding(boolean relaxedUnfolding) {
+            this.relaxedUnfolding = relaxedUnfolding;
+            return this;
+        }
+
+        public Builder relaxedParsing(boolean relaxedParsing) {
+            this.relaxedParsing = relaxedParsing;
+            return this;
+        }
+
+        public Builder outlookCompatibility(boolean outlookCompatibility) {
+            this.outlookCompatibility = outlookCompatibility;
+            return this;
+        }
+
+        public Builder notesCompatibility(boolean notesCompatibility) {
+            this.notesCompatibility = notesCompatibility;
+            return this;
+        }
+
+        public Builder vcardCompatibility(boolean vcardCompatibility) {
+            this.vcardCompatibility = vcardCompatibility;
+            return this;
+        }
+
+        public Builder lazyProperties(boolean lazyProperties) {
+            this.lazyProperties = lazyProperties;
+            return this;
+        }
+
+        public Builder projection(Projection projection) {
+            this.projection = projection;
+            return this;
+        }
+
+        public ParserOptions build() {
+            return new ParserOptions(this);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package net.fortuna.ical4j.data;
+
+import net.fortuna.ical4j.model.Component;
+
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * Declares the subset of calendar content retained when parsing. Components and properties excluded by a projection
+ * are skipped by the parser without being built, such that the cost of parsing is proportional to the content
+ * retained rather than the size of the input.
+ *
+ * Only the declared component types are retained, including sub-components (e.g. VALARM) which must be declared
+ * explicitly. For each component type the retained properties may be restricted to a set of property names,
+ * otherwise all properties are retained. By default VTIMEZONE components (and their observances) are always
+ * retained, such that timezone references in retained properties are resolved consistently.
+ *
+ * Example - Retain only the recurrence details of events:
+ *
+ * <pre>
+ *     Projection projection = new Projection.Builder()
+ *             .component(Component.VEVENT, Property.UID, Property.DTSTART, Property.RRULE, Property.EXDATE)
+ *             .build();
+ *     ParserOptions options = new ParserOptions.Builder().projection(projection).build();
+ *     Calendar calendar = new CalendarBuilder(options).build(in);
+ * </pre>
+ *
+ * Instances of this class are immutable.
+ */
+public final class Projection implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Retained property names (upper case) by component name, where an empty set retains all properties.
+     */
+    private final Map<String, Set<String>> components;
+
+    private final Set<String> calendarProperties;
+
+    private final boolean timezones;
+
+    private Projection(Builder builder) {
+        this.components = Collections.unmodifiableMap(new HashMap<>(builder.components));
+        this.calendarProperties = builder.calendarProperties != null
+                ? Collections.unmodifiableSet(new HashSet<>(builder.calendarProperties)) : null;
+        this.timezones = builder.timezones;
+    }
+
+    /**
+     * @param name a component name
+     * @param parentName the name of the enclosing component, or null for a top-level component
+     * @return true if the named component is retained
+     */
+    public boolean includesComponent(String name, String parentName) {
+        if (timezones && (Component.VTIMEZONE.equalsIgnoreCase(name)
+                || Component.VTIMEZONE.equalsIgnoreCase(parentName))) {
+            return true;
+        }
+        return components.containsKey(name.toUpperCase());
+    }
+
+    /**
+     * @param name a property name
+     * @param componentName the name of the enclosing component, or null for a calendar property
+     * @param parentName the name of the component enclosing a sub-component, otherwise null
+     * @return true if the named property is retained
+     */
+    public boolean includesProperty(String name, String componentName, String parentName) {
+        if (componentName == null) {
+            return calendarProperties == null || calendarProperties.contains(name.toUpperCase());
+        }
+        if (timezones && (Component.VTIMEZONE.equalsIgnoreCase(componentName)
+                || Component.VTIMEZONE.equalsIgnoreCase(parentName))) {
+            return true;
+        }
+        final Set<String> properties = components.get(componentName.toUpperCase());
+        return properties != null && (properties.isEmpty() || properties.contains(name.toUpperCase()));
+    }
+
+    @Override
+    public String toString() {
+        return "Projection{components=" + components + ", calendarProperties=" + calendarProperties
+                + ", timezones=" + timezones + '}';
+    }
+
+    /**
+     * Support for building projections.
+     */
+    public static class Builder {
+
+        private final Map<String, Set<String>> components = new HashMap<>();
+
+        private Set<String> calendarProperties;
+
+        private boolean timezones = true;
+
+        /**
+         * Retains components of the specified type.
+         * @param name a component name
+         * @param properties the names of properties to retain, or none to retain all properties
+         * @return this builder
+         */
+        public Builder component(String name, String... properties) {
+            final Set<String> names = components.computeIfAbsent(name.toUpperCase(), k -> new HashSet<>());
+            for (String property : properties) {
+                names.add(property.toUpperCase());
+            }
+            return this;
+        }
+
+        /**
+         * Restricts the calendar properties retained. By default all calendar properties are retained.
+         * @param properties the names of calendar properties to retain
+         * @return this builder
+         */
+        public Builder calendarProperties(String... properties) {
+            calendarProperties = new HashSet<>();
+            for (String property : properties) {
+                calendarProperties.add(property.toUpperCase());
+            }
+            return this;
+        }
+
+        /**
+         * @param timezones indicates whether VTIMEZONE components are retained regardless of the declared components
+         * @return this builder
+         */
+        public Builder timezones(boolean timezones) {
+            this.timezones = timezones;
+            return this;
+        }
+
+        public Projection build() {
+            return new Projection(this);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package net.fortuna.ical4j.data;
+
+import net.fortuna.ical4j.model.*;
+import net.fortuna.ical4j.model.component.CalendarComponent;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A content handler that supplies each top-level component to a consumer as soon as it is parsed, rather than
+ * building a complete calendar. Components are not retained by the handler, such that calendars of arbitrary size
+ * may be processed in constant memory (relative to the size of the largest component).
+ *
+ * As components are supplied before the remainder of the calendar is parsed, timezone references (TZID parameters)
+ * are resolved against the timezone registry at the time each component is completed. That is, references may be
+ * resolved from the timezones defined by the registry and any VTIMEZONE components parsed so far, but not by
+ * VTIMEZONE components that follow the referencing component. Unresolved references retain their TZID parameter.
+ *
+ * Calendar properties (e.g. PRODID, METHOD) are supplied to an optional calendar consumer on completion of each
+ * calendar, as a calendar containing no components.
+ *
+ * Example - Count the events in a large export:
+ *
+ * <pre>
+ *     AtomicLong count = new AtomicLong();
+ *     new CalendarBuilder().stream(in, component -&gt; {
+ *         if (component instanceof VEvent) {
+ *             count.incrementAndGet();
+ *         }
+ *     });
+ * </pre>
+ *
+ * As with {@link DefaultContentHandler}, instances must not be used by multiple concurrent parses.
+ */
+public class StreamingContentHandler extends DefaultContentHandler {
+
+    private final Consumer<CalendarComponent> componentConsumer;
+
+    /**
+     * @param componentConsumer a consumer of parsed top-level components
+     * @param tzRegistry a timezone registry used to resolve timezone references
+     */
+    public StreamingContentHandler(Consumer<CalendarComponent> componentConsumer, TimeZoneRegistry tzRegistry) {
+        this(componentConsumer, calendar -> { }, tzRegistry, new DefaultParameterFactorySupplier(),
+                new DefaultPropertyFactorySupplier(), new DefaultComponentFactorySupplier(), null);
+    }
+
+    /**
+     * @param componentConsumer a consumer of parsed top-level components
+     * @param calendarConsumer a consumer of the calendar properties of each parsed calendar
+     * @param tzRegistry a timezone registry used to resolve timezone references
+     * @param parameterFactorySupplier supplies parameter factories
+     * @param propertyFactorySupplier supplies property factories
+     * @param componentFactorySupplier supplies component factories
+     * @param options the parser options applied to content, or null to apply the default options
+     */
+    public StreamingContentHandler(Consumer<CalendarComponent> componentConsumer,
+                                   Consumer<Calendar> calendarConsumer, TimeZoneRegistry tzRegistry,
+                                   Supplier<List<ParameterFactory>> parameterFactorySupplier,
+                                   Supplier<List<PropertyFactory>> propertyFactorySupplier,
+                                   Supplier<List<ComponentFactory>> componentFactorySupplier,
+                                   ParserOptions options) {
+
+        super(calendarConsumer, tzRegistry, parameterFactorySupplier, propertyFactorySupplier,
+                componentFactorySupplier, options);
+        this.componentConsumer = componentConsumer;
+    }
+
+    @Override
+    protected void addComponent(CalendarComponent component) {
+        resolveTimezones(component);
+        componentConsumer.accept(component);
+    }
+}
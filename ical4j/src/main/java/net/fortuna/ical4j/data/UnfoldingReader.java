@@ -31,7 +31,6 @@
  */
 package net.fortuna.ical4j.data;
 
-import net.fortuna.ical4j.util.CompatibilityHints;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -92,8 +91,7 @@ public class UnfoldingReader extends PushbackReader {
      * @param in the reader to unfold from
      */
     public UnfoldingReader(final Reader in) {
-        this(in, DEFAULT_FOLD_PATTERN_1.length, CompatibilityHints
-                .isHintEnabled(CompatibilityHints.KEY_RELAXED_UNFOLDING));
+        this(in, DEFAULT_FOLD_PATTERN_1.length, ParserOptions.defaults().isRelaxedUnfolding());
     }
 
     /**
@@ -101,7 +99,7 @@ public class UnfoldingReader extends PushbackReader {
      * @param size the buffer size
      */
     public UnfoldingReader(final Reader in, int size) {
-        this(in, size, CompatibilityHints.isHintEnabled(CompatibilityHints.KEY_RELAXED_UNFOLDING));
+        this(in, size, ParserOptions.defaults().isRelaxedUnfolding());
     }
 
     /**
@@ -112,6 +110,14 @@ public class UnfoldingReader extends PushbackReader {
         this(in, DEFAULT_FOLD_PATTERN_1.length, relaxed);
     }
 
+    /**
+     * @param in      reader source for data
+     * @param options resolved parser options, specifying whether unfolding is relaxed
+     */
+    public UnfoldingReader(final Reader in, final ParserOptions options) {
+        this(in, DEFAULT_FOLD_PATTERN_1.length, options.isRelaxedUnfolding());
+    }
+
     /**
      * Creates a new unfolding reader instance.
      *
@@ -38,8 +38,16 @@ import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * $Id$
@@ -49,6 +57,14 @@ import java.util.function.Predicate;
  * Performs collection filtering based on a set of rules. A filter may dictate whether at least one rule or all rules
  * are matched.
  * <p/>
+ * Rules are evaluated in a single pass over each object, stopping at the first rule that decides the outcome. The
+ * cost and selectivity of each rule is sampled during evaluation, and rules are periodically reordered such that
+ * cheap rules that are likely to decide the outcome are evaluated first. As such rules should be free of side
+ * effects, as the order (and number) of rule evaluations is not guaranteed.
+ * <p/>
+ * In addition to filtering into a new collection, a filter may be applied lazily via {@link #filter(Stream)} or
+ * {@link #iterator(Collection)}, or in parallel via {@link #filter(Collection, ForkJoinPool)}.
+ * <p/>
  * NOTE: Implementation of filter rules has changed in recent releases to fix behaviour. Please ensure you update
  * your code to use explicit constructors.
  *
@@ -66,10 +82,26 @@ public class Filter<T> {
      */
     public static final int MATCH_ALL = 2;
 
+    /**
+     * The approximate rate at which rule evaluations are measured.
+     */
+    private static final int SAMPLE_RATE = 64;
+
+    /**
+     * The approximate number of evaluations between reordering of rules.
+     */
+    private static final long REORDER_INTERVAL = 4096;
+
     private List<Predicate<T>> rules;
 
     private int type;
 
+    private volatile MeasuredRule<T>[] orderedRules;
+
+    // a count of evaluations since rules were last reordered. Updates are unsynchronized as lost increments
+    // only delay reordering..
+    private int evaluations;
+
     /**
      * @param rules one or more rules that are applied by this filter
      */
@@ -87,64 +119,121 @@ public class Filter<T> {
      * @see Filter#MATCH_ANY
      */
     public Filter(Predicate<T>[] rules, final int type) {
-        this.rules = Arrays.asList(rules);
         this.type = type;
+        setRules(rules);
     }
 
     /**
-     * Filter the given collection into a new collection.
+     * Filter the given collection into a new list.
      *
      * @param c a collection to filter
-     * @return a filtered collection
+     * @return a filtered collection, or the given collection if this filter has no rules
      */
-    @SuppressWarnings("unchecked")
     public final Collection<T> filter(final Collection<T> c) {
-        if (getRules() != null && getRules().length > 0) {
-            // attempt to use the same concrete collection type
-            // as is passed in..
-            Collection<T> filtered;
-            try {
-                filtered = c.getClass().newInstance();
-            } catch (InstantiationException | IllegalAccessException e) {
-                filtered = new ArrayList<T>();
-            }
+        if (!rules.isEmpty()) {
+            return filter(c, ArrayList::new);
+        }
+        return c;
+    }
 
-            if (type == MATCH_ALL) {
-                filtered.addAll(matchAll(c));
-            } else {
-                filtered.addAll(matchAny(c));
+    /**
+     * Filter the given collection into a new collection created by the specified factory.
+     *
+     * @param c       a collection to filter
+     * @param factory a factory for the filtered collection
+     * @param <C>     the type of the filtered collection
+     * @return a filtered collection
+     */
+    public final <C extends Collection<T>> C filter(final Collection<T> c, final Supplier<C> factory) {
+        final C filtered = factory.get();
+        for (final T o : c) {
+            if (test(o)) {
+                filtered.add(o);
             }
-            return filtered;
         }
-        return c;
+        return filtered;
     }
 
-    private List<T> matchAll(Collection<T> c) {
-        List<T> list = new ArrayList<T>(c);
-        List<T> temp = new ArrayList<T>();
-        for (int n = 0; n < getRules().length; n++) {
-            for (final T o : list) {
-                if (getRules()[n].test(o)) {
-                    temp.add(o);
+    /**
+     * Filter the given collection into a new collection, evaluating rules in parallel using the specified pool.
+     * The order of the filtered collection is consistent with the order of the given collection.
+     *
+     * @param c    a collection to filter
+     * @param pool the pool used to evaluate rules
+     * @return a filtered list, or the given collection if this filter has no rules
+     */
+    public final Collection<T> filter(final Collection<T> c, final ForkJoinPool pool) {
+        if (!rules.isEmpty()) {
+            try {
+                return pool.submit(() -> c.parallelStream().filter(this::test)
+                        .collect(Collectors.toCollection(ArrayList::new))).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while filtering", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
                 }
+                throw new IllegalStateException(e.getCause());
             }
-            list = temp;
-            temp = new ArrayList<T>();
         }
-        return list;
+        return c;
     }
 
-    private List<T> matchAny(Collection<T> c) {
-        final List<T> matches = new ArrayList<T>();
-        for (T o : c) {
-            for (int n = 0; n < getRules().length; n++) {
-                if (getRules()[n].test(o)) {
-                    matches.add(o);
-                    break;
-                }
+    /**
+     * Returns a lazily filtered view of the given stream. Rules are evaluated as elements are consumed, and so
+     * this method may be used to paginate results or to filter in parallel (via a parallel stream).
+     *
+     * @param stream a stream to filter
+     * @return a filtered stream
+     */
+    public final Stream<T> filter(final Stream<T> stream) {
+        if (!rules.isEmpty()) {
+            return stream.filter(this::test);
+        }
+        return stream;
+    }
+
+    /**
+     * Returns an iterator over the elements of the given collection that match this filter. Rules are evaluated
+     * as the iterator is advanced.
+     *
+     * @param c a collection to filter
+     * @return an iterator of matching elements
+     */
+    public final Iterator<T> iterator(final Collection<T> c) {
+        return filter(c.stream()).iterator();
+    }
+
+    /**
+     * Indicates whether the specified object matches this filter.
+     *
+     * @param o an object to test
+     * @return true if the object is matched by the filter rules, otherwise false
+     */
+    public final boolean test(final T o) {
+        final MeasuredRule<T>[] ordered = orderedRules;
+        boolean result = type == MATCH_ALL;
+        for (MeasuredRule<T> rule : ordered) {
+            if (rule.test(o) != result) {
+                result = !result;
+                break;
             }
         }
-        return matches;
+
+        if (ordered.length > 1 && evaluations++ % REORDER_INTERVAL == 0) {
+            reorder(ordered);
+        }
+        return result;
+    }
+
+    /**
+     * Sort rules such that those most likely to decide the outcome per unit of cost are evaluated first.
+     */
+    private void reorder(final MeasuredRule<T>[] ordered) {
+        final MeasuredRule<T>[] reordered = Arrays.copyOf(ordered, ordered.length);
+        Arrays.sort(reordered, Comparator.comparingDouble(rule -> rule.getRank(type)));
+        orderedRules = reordered;
     }
 
     /**
@@ -177,7 +266,64 @@ public class Filter<T> {
     /**
      * @param rules The rules to set.
      */
+    @SuppressWarnings("unchecked")
     public final void setRules(final Predicate<T>[] rules) {
         this.rules = Arrays.asList(rules);
+        final MeasuredRule<T>[] measured = (MeasuredRule<T>[]) new MeasuredRule<?>[rules.length];
+        for (int i = 0; i < rules.length; i++) {
+            measured[i] = new MeasuredRule<>(rules[i]);
+        }
+        this.orderedRules = measured;
+    }
+
+    /**
+     * A rule that samples the cost and selectivity of its evaluation.
+     */
+    private static class MeasuredRule<T> implements Predicate<T> {
+
+        private final Predicate<T> rule;
+
+        private final LongAdder samples = new LongAdder();
+
+        private final LongAdder matches = new LongAdder();
+
+        private final LongAdder nanos = new LongAdder();
+
+        // unsynchronized as lost increments only skew which evaluations are sampled..
+        private int count;
+
+        private MeasuredRule(Predicate<T> rule) {
+            this.rule = rule;
+        }
+
+        @Override
+        public boolean test(T o) {
+            if (count++ % SAMPLE_RATE != 0) {
+                return rule.test(o);
+            }
+            final long start = System.nanoTime();
+            final boolean result = rule.test(o);
+            nanos.add(System.nanoTime() - start);
+            samples.increment();
+            if (result) {
+                matches.increment();
+            }
+            return result;
+        }
+
+        /**
+         * @return the expected cost of evaluation per decided outcome, where lower values are evaluated first
+         */
+        private double getRank(int type) {
+            final long sampleCount = samples.sum();
+            if (sampleCount == 0) {
+                return 0;
+            }
+            final double cost = (double) nanos.sum() / sampleCount;
+            final double matchRate = (double) matches.sum() / sampleCount;
+            // a rule decides the outcome when it fails (MATCH_ALL) or succeeds (MATCH_ANY)..
+            final double decisionRate = type == MATCH_ALL ? 1 - matchRate : matchRate;
+            return cost / Math.max(decisionRate, 0.001);
+        }
     }
 }
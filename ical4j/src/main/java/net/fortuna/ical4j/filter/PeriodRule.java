@@ -33,7 +33,6 @@ package net.fortuna.ical4j.filter;
 
 import net.fortuna.ical4j.model.Component;
 import net.fortuna.ical4j.model.Period;
-import net.fortuna.ical4j.model.PeriodList;
 
 import java.util.function.Predicate;
 
@@ -80,8 +79,7 @@ public class PeriodRule<T extends Component> implements Predicate<T> {
         */
         
 //        try {
-        final PeriodList recurrenceSet = component.calculateRecurrenceSet(period);
-        return (!recurrenceSet.isEmpty());
+        return component.hasOccurrence(period);
 //        }
 //        catch (ValidationException ve) {
 //            log.error("Invalid component data", ve);
@@ -1,9 +1,25 @@
 package net.fortuna.ical4j.model;
 
-import net.fortuna.ical4j.util.CompatibilityHints;
+import net.fortuna.ical4j.data.ParserOptions;
 
 public abstract class AbstractContentBuilder {
 
+    private ParserOptions options;
+
+    /**
+     * @param options the parser options to apply, or null to apply the default options
+     */
+    protected void setOptions(ParserOptions options) {
+        this.options = options;
+    }
+
+    /**
+     * @return the parser options to apply
+     */
+    protected ParserOptions getOptions() {
+        return options != null ? options : ParserOptions.defaults();
+    }
+
     /**
      * @param name
      * @return
@@ -17,6 +33,6 @@ public abstract class AbstractContentBuilder {
      * @return true if non-standard names are allowed, otherwise false
      */
     protected boolean allowIllegalNames() {
-        return CompatibilityHints.isHintEnabled(CompatibilityHints.KEY_RELAXED_PARSING);
+        return getOptions().isRelaxedParsing();
     }
 }
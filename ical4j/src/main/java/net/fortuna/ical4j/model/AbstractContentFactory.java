@@ -31,7 +31,7 @@
  */
 package net.fortuna.ical4j.model;
 
-import net.fortuna.ical4j.util.CompatibilityHints;
+import net.fortuna.ical4j.data.ParserOptions;
 import org.apache.commons.lang3.Validate;
 
 import java.io.Serializable;
@@ -98,7 +98,7 @@ public abstract class AbstractContentFactory<T> implements Serializable, Supplie
      * @return true if non-standard names are allowed, otherwise false
      */
     protected boolean allowIllegalNames() {
-        return CompatibilityHints.isHintEnabled(CompatibilityHints.KEY_RELAXED_PARSING);
+        return ParserOptions.defaults().isRelaxedParsing();
     }
 
     @Override
@@ -31,7 +31,7 @@
  */
 package net.fortuna.ical4j.model;
 
-import net.fortuna.ical4j.util.CompatibilityHints;
+import net.fortuna.ical4j.data.ParserOptions;
 import net.fortuna.ical4j.util.Strings;
 import net.fortuna.ical4j.util.Uris;
 
@@ -69,18 +69,27 @@ public class AddressList implements Serializable, Iterable<URI> {
      * @throws URISyntaxException where the specified string is not a valid representation
      */
     public AddressList(final String aValue) throws URISyntaxException {
+        this(aValue, ParserOptions.defaults());
+    }
+
+    /**
+     * Parses the specified string representation to create a list of addresses.
+     * @param aValue a string representation of a list of addresses
+     * @param options the parser options applied to the value
+     * @throws URISyntaxException where the specified string is not a valid representation
+     */
+    public AddressList(final String aValue, final ParserOptions options) throws URISyntaxException {
         addresses = new CopyOnWriteArrayList<>();
         final StringTokenizer t = new StringTokenizer(aValue, ",");
         while (t.hasMoreTokens()) {
 
             try {
                 addresses.add(new URI(Uris.encode(Strings
-                        .unquote(t.nextToken()))));
+                        .unquote(t.nextToken()), options)));
             }
             catch (URISyntaxException use) {
                 // ignore invalid addresses if relaxed parsing is enabled..
-                if (!CompatibilityHints.isHintEnabled(
-                        CompatibilityHints.KEY_RELAXED_PARSING)) {
+                if (!options.isRelaxedParsing()) {
 
                     throw use;
                 }
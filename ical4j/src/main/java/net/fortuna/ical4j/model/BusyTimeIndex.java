@@ -0,0 +1,283 @@
+package net.fortuna.ical4j.model;
+
+import net.fortuna.ical4j.model.component.CalendarComponent;
+import net.fortuna.ical4j.model.component.VEvent;
+import net.fortuna.ical4j.model.component.VFreeBusy;
+import net.fortuna.ical4j.model.property.RecurrenceId;
+import net.fortuna.ical4j.model.property.Status;
+import net.fortuna.ical4j.model.property.Uid;
+
+import java.time.temporal.TemporalAmount;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * An incrementally maintained index of the busy time consumed by the events of a calendar.
+ *
+ * Consumed time is expanded lazily into fixed-width buckets (the time horizon) and each
+ * bucket is retained as a normalised list of busy periods. Adding, replacing or cancelling
+ * an event only invalidates the buckets that the event may occupy, so free/busy queries
+ * against a calendar that changes rarely do not re-expand unchanged events.
+ *
+ * Revisions are tracked by UID and RECURRENCE-ID, whereby a component only replaces an
+ * existing revision when it is the same or a later revision according to
+ * {@link ComponentSequenceComparator} (as per {@link ComponentGroup#getLatestRevision()}).
+ * A revision with a status of CANCELLED consumes no time.
+ *
+ * As such the consumed time may differ from that of {@link VFreeBusy#VFreeBusy(VFreeBusy, ComponentList)} for the
+ * same events, which considers every event in the list:
+ * <ul>
+ *     <li>only the latest revision (by SEQUENCE) of each UID and RECURRENCE-ID is included, so superseded
+ *     revisions of an event consume no time;</li>
+ *     <li>events with a status of CANCELLED are treated as free;</li>
+ *     <li>an event is only expanded for buckets within its approximate bounds, widened by one day either side to
+ *     allow for floating and date values. Events without a start date consume no time.</li>
+ * </ul>
+ *
+ * Expanded buckets are cached up to a maximum number (by default about ten years with the default horizon), beyond
+ * which the buckets furthest from the most recent query are evicted and re-expanded on demand.
+ *
+ * Example - Answering a free/busy request:
+ *
+ * <pre>
+ *     BusyTimeIndex index = new BusyTimeIndex(calendar);
+ *     ...
+ *     index.add(updatedEvent);
+ *     ...
+ *     VFreeBusy reply = new VFreeBusy(request, index);
+ * </pre>
+ *
+ * This class is safe for use by multiple concurrent threads.
+ */
+public class BusyTimeIndex {
+
+    private static final TemporalAmount DEFAULT_HORIZON = java.time.Duration.ofDays(7);
+
+    private static final int DEFAULT_MAX_BUCKETS = 520;
+
+    // allow for the difference between floating/date values and UTC..
+    private static final long BOUNDS_TOLERANCE = 24 * 60 * 60 * 1000L;
+
+    private final long horizon;
+
+    private final int maxBuckets;
+
+    // approximate number of buckets expanded since the cache size was last checked..
+    private final AtomicInteger expanded = new AtomicInteger();
+
+    private final Map<Object, Entry> entries = new ConcurrentHashMap<>();
+
+    private final NavigableMap<Long, PeriodList> buckets = new ConcurrentSkipListMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Creates an empty index with the default time horizon of one week.
+     */
+    public BusyTimeIndex() {
+        this(DEFAULT_HORIZON);
+    }
+
+    /**
+     * Creates an empty index.
+     * @param horizon the width of the time buckets used to retain consumed time
+     */
+    public BusyTimeIndex(TemporalAmount horizon) {
+        this(horizon, DEFAULT_MAX_BUCKETS);
+    }
+
+    /**
+     * Creates an empty index.
+     * @param horizon the width of the time buckets used to retain consumed time
+     * @param maxBuckets the maximum number of expanded buckets to retain
+     */
+    public BusyTimeIndex(TemporalAmount horizon, int maxBuckets) {
+        this.horizon = java.time.Duration.from(horizon).toMillis();
+        if (this.horizon <= 0) {
+            throw new IllegalArgumentException("Horizon must be a positive duration");
+        }
+        if (maxBuckets <= 0) {
+            throw new IllegalArgumentException("Maximum buckets must be positive");
+        }
+        this.maxBuckets = maxBuckets;
+    }
+
+    /**
+     * Creates an index of the events in the specified calendar.
+     * @param calendar a calendar to index
+     */
+    public BusyTimeIndex(Calendar calendar) {
+        this();
+        for (CalendarComponent component : calendar.getComponents()) {
+            add(component);
+        }
+    }
+
+    /**
+     * Adds a component revision to the index. Only events consume time, and so any other
+     * component type is ignored.
+     * @param component a component to index
+     * @return true if the index was updated, otherwise false (for example where a later revision is already indexed)
+     */
+    public boolean add(Component component) {
+        if (!(component instanceof VEvent)) {
+            return false;
+        }
+        final Object key = getKey(component);
+        final Entry entry = new Entry((VEvent) component);
+
+        lock.writeLock().lock();
+        try {
+            final Entry existing = entries.get(key);
+            if (existing != null && new ComponentSequenceComparator().compare(existing.event, component) > 0) {
+                return false;
+            }
+            entries.put(key, entry);
+            if (existing != null) {
+                invalidate(existing);
+            }
+            invalidate(entry);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the revision with the same UID and RECURRENCE-ID as the specified component.
+     * @param component a component to remove
+     * @return true if the index was updated, otherwise false
+     */
+    public boolean remove(Component component) {
+        lock.writeLock().lock();
+        try {
+            final Entry existing = entries.remove(getKey(component));
+            if (existing != null) {
+                invalidate(existing);
+                return true;
+            }
+            return false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns a normalised list of periods representing the time consumed by the indexed
+     * events within the specified range.
+     * @param rangeStart the start of the range
+     * @param rangeEnd the end of the range
+     * @return a list of busy periods in UTC time
+     */
+    public PeriodList getConsumedTime(final DateTime rangeStart, final DateTime rangeEnd) {
+        final Period range = new Period(rangeStart, rangeEnd);
+        final PeriodList periods = new PeriodList(true);
+
+        lock.readLock().lock();
+        try {
+            for (long bucket = getBucket(rangeStart.getTime()); bucket < rangeEnd.getTime(); bucket += horizon) {
+                for (Period period : buckets.computeIfAbsent(bucket, this::expand)) {
+                    if (range.intersects(period)) {
+                        periods.add(period);
+                    }
+                }
+            }
+            if (expanded.get() > maxBuckets) {
+                evict(rangeStart.getTime() / 2 + rangeEnd.getTime() / 2);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return periods.normalise();
+    }
+
+    private PeriodList expand(long bucket) {
+        final DateTime bucketStart = new DateTime(bucket);
+        final DateTime bucketEnd = new DateTime(bucket + horizon);
+        bucketStart.setUtc(true);
+        bucketEnd.setUtc(true);
+
+        expanded.incrementAndGet();
+        final PeriodList periods = new PeriodList(true);
+        for (Entry entry : entries.values()) {
+            if (entry.busy && entry.from < bucketEnd.getTime() && entry.to > bucket) {
+                periods.addAll(entry.event.getConsumedTime(bucketStart, bucketEnd, false));
+            }
+        }
+        return periods.normalise();
+    }
+
+    /**
+     * Removes the cached buckets furthest from the specified time until no more than the maximum remain.
+     */
+    private void evict(long time) {
+        expanded.set(0);
+        while (buckets.size() > maxBuckets) {
+            final Map.Entry<Long, PeriodList> first = buckets.firstEntry();
+            final Map.Entry<Long, PeriodList> last = buckets.lastEntry();
+            if (first == null || last == null) {
+                break;
+            }
+            if (time - first.getKey() > last.getKey() - time) {
+                buckets.remove(first.getKey(), first.getValue());
+            } else {
+                buckets.remove(last.getKey(), last.getValue());
+            }
+        }
+    }
+
+    private void invalidate(Entry entry) {
+        final long to = entry.to == Long.MAX_VALUE ? Long.MAX_VALUE : entry.to + 1;
+        buckets.subMap(getBucket(entry.from), true, to, false).clear();
+    }
+
+    private long getBucket(long time) {
+        return Math.floorDiv(time, horizon) * horizon;
+    }
+
+    private static Object getKey(Component component) {
+        final Uid uid = component.getProperty(Property.UID);
+        if (uid == null) {
+            // components without a UID are tracked by identity..
+            return component;
+        }
+        final RecurrenceId recurrenceId = component.getProperty(Property.RECURRENCE_ID);
+        if (recurrenceId != null) {
+            return uid.getValue() + '/' + recurrenceId.getValue();
+        }
+        return uid.getValue();
+    }
+
+    /**
+     * An indexed event revision and the (approximate) bounds of the time it may consume.
+     */
+    private static class Entry {
+
+        private final VEvent event;
+
+        private final boolean busy;
+
+        private final long from;
+
+        private final long to;
+
+        private Entry(VEvent event) {
+            this.event = event;
+            this.busy = !Status.VEVENT_CANCELLED.equals(event.getProperty(Property.STATUS));
+
+            final OccurrenceBounds bounds = OccurrenceBounds.of(event);
+            if (bounds == null) {
+                from = 0;
+                to = 0;
+            } else {
+                from = bounds.getStart() - BOUNDS_TOLERANCE;
+                to = bounds.isUnbounded() ? Long.MAX_VALUE : bounds.getEnd() + BOUNDS_TOLERANCE;
+            }
+        }
+    }
+}
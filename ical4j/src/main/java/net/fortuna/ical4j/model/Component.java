@@ -35,15 +35,19 @@ import net.fortuna.ical4j.model.parameter.Value;
 import net.fortuna.ical4j.model.property.*;
 import net.fortuna.ical4j.util.Strings;
 import net.fortuna.ical4j.validate.ValidationException;
+import net.fortuna.ical4j.validate.ValidationOptions;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.net.URISyntaxException;
 import java.text.ParseException;
 import java.time.temporal.TemporalAmount;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -122,6 +126,11 @@ public abstract class Component implements Serializable {
 
     private PropertyList<Property> properties;
 
+    /**
+     * Properties not yet built, where the component was parsed with lazy properties.
+     */
+    private transient volatile DeferredProperties deferredProperties;
+
     /**
      * Constructs a new component containing no properties.
      *
@@ -168,6 +177,16 @@ public abstract class Component implements Serializable {
      * @return Returns the properties.
      */
     public final PropertyList<Property> getProperties() {
+        final DeferredProperties deferred = deferredProperties;
+        if (deferred != null) {
+            synchronized (deferred) {
+                // build remaining properties unless already built by a concurrent thread..
+                if (deferredProperties != null) {
+                    deferred.buildAll(properties);
+                    deferredProperties = null;
+                }
+            }
+        }
         return properties;
     }
 
@@ -178,6 +197,10 @@ public abstract class Component implements Serializable {
      * @return a property list containing only properties with the specified name
      */
     public final <C extends Property> PropertyList<C> getProperties(final String name) {
+        final DeferredProperties deferred = deferredProperties;
+        if (deferred != null) {
+            return deferred.getProperties(name);
+        }
         return getProperties().getProperties(name);
     }
 
@@ -188,9 +211,27 @@ public abstract class Component implements Serializable {
      * @return the first matching property in the property list with the specified name
      */
     public final <T extends Property> T getProperty(final String name) {
+        final DeferredProperties deferred = deferredProperties;
+        if (deferred != null) {
+            return deferred.getProperty(name);
+        }
         return (T) getProperties().getProperty(name);
     }
 
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        // build any deferred properties prior to serialization..
+        getProperties();
+        out.defaultWriteObject();
+    }
+
+    /**
+     * Defers the building of properties until accessed. Only applicable to a component with no properties.
+     * @param deferred the unparsed properties of this component
+     */
+    final void setDeferredProperties(final DeferredProperties deferred) {
+        this.deferredProperties = deferred;
+    }
+
     /**
      * Convenience method for retrieving a required named property.
      *
@@ -199,13 +240,21 @@ public abstract class Component implements Serializable {
      * @throws ConstraintViolationException when a property is not found
      */
     protected final Property getRequiredProperty(String name) throws ConstraintViolationException {
-        Property p = getProperties().getProperty(name);
+        Property p = getProperty(name);
         if (p == null) {
             throw new ConstraintViolationException(String.format("Missing %s property", name));
         }
         return p;
     }
 
+    /**
+     * Applies the specified visitor to each sub-component of this component (e.g. the alarms of an event or the
+     * observances of a timezone), in order. Components that do not contain sub-components visit nothing.
+     * @param visitor a visitor of sub-components
+     */
+    public void forEachSubComponent(final Consumer<? super Component> visitor) {
+    }
+
     /**
      * Perform validation on a component and its properties.
      *
@@ -224,6 +273,22 @@ public abstract class Component implements Serializable {
     public abstract void validate(final boolean recurse)
             throws ValidationException;
 
+    /**
+     * Perform validation on a component, applying the specified validation options. Components whose validation is
+     * affected by the options override this method, otherwise the component is validated as per
+     * {@link #validate(boolean)} and the options are applied to the validation of its properties.
+     *
+     * @param recurse indicates whether to validate the component's properties
+     * @param options the resolved validation options
+     * @throws ValidationException where the component is not in a valid state
+     */
+    public void validate(final boolean recurse, final ValidationOptions options) throws ValidationException {
+        validate(false);
+        if (recurse) {
+            validateProperties(options);
+        }
+    }
+
     /**
      * Invoke validation on the component properties in its current state.
      *
@@ -235,6 +300,18 @@ public abstract class Component implements Serializable {
         }
     }
 
+    /**
+     * Invoke validation on the component properties in its current state, applying the specified options.
+     *
+     * @param options the resolved validation options
+     * @throws ValidationException where any of the component properties is not in a valid state
+     */
+    protected final void validateProperties(final ValidationOptions options) throws ValidationException {
+        for (final Property property : getProperties()) {
+            property.validate(options);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -288,9 +365,25 @@ public abstract class Component implements Serializable {
      * @return a list of periods
      */
     public final PeriodList calculateRecurrenceSet(final Period period) {
+        return calculateRecurrenceSet(period, RecurrenceOptions.defaults());
+    }
+
+    /**
+     * Calculates the recurrence set for this component using the specified period, applying the specified limits
+     * to the expansion of each recurrence and exception rule. A time budget applies to the calculation as a whole.
+     *
+     * @param period a range to calculate recurrences for
+     * @param options limits applied to the expansion of recurrence rules
+     * @return a list of periods
+     * @throws RecurrenceLimitException where the expansion of a rule exceeds a limit
+     * @see #calculateRecurrenceSet(Period)
+     */
+    public final PeriodList calculateRecurrenceSet(final Period period, final RecurrenceOptions options) {
 
 //        validate();
 
+        final RecurrenceOptions resolved = options.resolve();
+
         final PeriodList recurrenceSet = new PeriodList();
 
         final DtStart start = getProperty(Property.DTSTART);
@@ -317,15 +410,7 @@ public abstract class Component implements Serializable {
 
         // if an explicit event duration is not specified, derive a value for recurring
         // periods from the end date..
-        TemporalAmount rDuration;
-        // if no end or duration specified, end date equals start date..
-        if (end == null && duration == null) {
-            rDuration = java.time.Duration.ZERO;
-        } else if (duration == null) {
-            rDuration = TemporalAmountAdapter.fromDateRange(start.getDate(), end.getDate()).getDuration();
-        } else {
-            rDuration = duration.getDuration();
-        }
+        final TemporalAmount rDuration = getRecurrenceDuration(start, end, duration);
 
         // add recurrence dates..
         List<RDate> rDates = getProperties(Property.RDATE);
@@ -350,7 +435,7 @@ public abstract class Component implements Serializable {
         List<RRule> rRules = getProperties(Property.RRULE);
         if (!rRules.isEmpty()) {
             recurrenceSet.addAll(rRules.stream().map(r -> r.getRecur().getDates(start.getDate(),
-                    new Period(startMinusDuration, period.getEnd()), startValue)).flatMap(DateList::stream)
+                    startMinusDuration, period.getEnd(), startValue, -1, resolved)).flatMap(DateList::stream)
                     .map(rruleDate -> new Period(new DateTime(rruleDate), rDuration)).collect(Collectors.toList()));
         } else {
             // add initial instance if intersection with the specified period..
@@ -380,22 +465,138 @@ public abstract class Component implements Serializable {
         List<Date> exDates = exDateProps.stream().map(e -> e.getDates()).flatMap(DateList::stream)
                 .collect(Collectors.toList());
 
-        recurrenceSet.removeIf(recurrence -> {
-            // for DATE-TIME instances check for DATE-based exclusions also..
-            return exDates.contains(recurrence.getStart()) || exDates.contains(new Date(recurrence.getStart()));
-        });
+        recurrenceSet.removeIf(recurrence -> isExcluded(recurrence, exDates));
 
         // subtract exception rules..
         List<ExRule> exRules = getProperties(Property.EXRULE);
         List<Date> exRuleDates = exRules.stream().map(e -> e.getRecur().getDates(start.getDate(),
-                period, startValue)).flatMap(DateList::stream).collect(Collectors.toList());
+                period.getStart(), period.getEnd(), startValue, -1, resolved)).flatMap(DateList::stream)
+                .collect(Collectors.toList());
 
-        recurrenceSet.removeIf(recurrence -> {
-            // for DATE-TIME instances check for DATE-based exclusions also..
-            return exRuleDates.contains(recurrence.getStart())
-                    || exRuleDates.contains(new Date(recurrence.getStart()));
-        });
+        recurrenceSet.removeIf(recurrence -> isExcluded(recurrence, exRuleDates));
 
         return recurrenceSet;
     }
+
+    /**
+     * Indicates whether any instance of the recurrence set of this component intersects the specified period. The
+     * result is equivalent to <code>!calculateRecurrenceSet(period).isEmpty()</code>, however components that are
+     * bounded outside the period (by DTSTART, UNTIL or COUNT) are rejected without expanding recurrence rules, and
+     * evaluation stops at the first instance that is not excluded.
+     *
+     * @param period a range to check for recurrences
+     * @return true if at least one recurrence intersects the period, otherwise false
+     * @see Component#calculateRecurrenceSet(Period)
+     */
+    public final boolean hasOccurrence(final Period period) {
+        final DtStart start = getProperty(Property.DTSTART);
+        DateProperty end = getProperty(Property.DTEND);
+        if (end == null) {
+            end = getProperty(Property.DUE);
+        }
+        Duration duration = getProperty(Property.DURATION);
+
+        // if no start date specified there are no recurrences..
+        if (start == null) {
+            return false;
+        }
+
+        final Value startValue = start.getParameter(Parameter.VALUE);
+        final TemporalAmount rDuration = getRecurrenceDuration(start, end, duration);
+
+        final List<RDate> rDates = getProperties(Property.RDATE);
+        final List<RRule> rRules = getProperties(Property.RRULE);
+
+        // reject components bounded outside the period..
+        if (!new OccurrenceBounds(start, end, rDuration, rDates, rRules).mayIntersect(period)) {
+            return false;
+        }
+
+        final List<Date> exDates = this.<ExDate>getProperties(Property.EXDATE).stream().map(e -> e.getDates())
+                .flatMap(DateList::stream).collect(Collectors.toList());
+        final List<Date> exRuleDates = this.<ExRule>getProperties(Property.EXRULE).stream()
+                .map(e -> e.getRecur().getDates(start.getDate(), period, startValue)).flatMap(DateList::stream)
+                .collect(Collectors.toList());
+        final Predicate<Period> included = recurrence -> !isExcluded(recurrence, exDates)
+                && !isExcluded(recurrence, exRuleDates);
+
+        // check recurrence dates..
+        for (RDate rDate : rDates) {
+            if (rDate.getParameter(Parameter.VALUE) == Value.PERIOD) {
+                if (rDate.getPeriods().stream().anyMatch(rdatePeriod -> period.intersects(rdatePeriod)
+                        && included.test(rdatePeriod))) {
+                    return true;
+                }
+            } else if (rDate.getParameter(Parameter.VALUE) == Value.DATE_TIME) {
+                if (rDate.getDates().stream().anyMatch(date -> period.includes(date)
+                        && included.test(new Period((DateTime) date, rDuration)))) {
+                    return true;
+                }
+            } else if (rDate.getParameter(Parameter.VALUE) == Value.DATE) {
+                if (rDate.getDates().stream().anyMatch(date -> period.includes(date)
+                        && included.test(new Period(new DateTime(date), rDuration)))) {
+                    return true;
+                }
+            }
+        }
+
+        if (!rRules.isEmpty()) {
+            // allow for recurrence rules that start prior to the specified period
+            // but still intersect with it..
+            final DateTime startMinusDuration = new DateTime(period.getStart());
+            startMinusDuration.setTime(Date.from(period.getStart().toInstant().minus(rDuration)).getTime());
+
+            for (RRule rRule : rRules) {
+                // expand only as many instances as may be excluded, increasing the limit
+                // until an included instance is found or the period is exhausted..
+                int maxCount = exDates.size() + exRuleDates.size() + 1;
+                while (true) {
+                    final DateList dates = rRule.getRecur().getDates(start.getDate(), startMinusDuration,
+                            period.getEnd(), startValue, maxCount);
+                    if (dates.stream().anyMatch(rruleDate -> included.test(
+                            new Period(new DateTime(rruleDate), rDuration)))) {
+                        return true;
+                    }
+                    if (dates.size() < maxCount) {
+                        break;
+                    }
+                    maxCount *= 2;
+                }
+            }
+            return false;
+        }
+
+        // check initial instance..
+        final Period startPeriod;
+        if (end != null) {
+            startPeriod = new Period(new DateTime(start.getDate()), new DateTime(end.getDate()));
+        } else {
+            if (duration == null) {
+                duration = new Duration(rDuration);
+            }
+            startPeriod = new Period(new DateTime(start.getDate()), duration.getDuration());
+        }
+        return period.intersects(startPeriod) && included.test(startPeriod);
+    }
+
+    /**
+     * Returns the effective duration of each recurrence, derived from an explicit DURATION
+     * or otherwise the DTSTART and DTEND (or DUE) properties.
+     */
+    static TemporalAmount getRecurrenceDuration(final DtStart start, final DateProperty end,
+                                                        final Duration duration) {
+        // if no end or duration specified, end date equals start date..
+        if (end == null && duration == null) {
+            return java.time.Duration.ZERO;
+        } else if (duration == null) {
+            return TemporalAmountAdapter.fromDateRange(start.getDate(), end.getDate()).getDuration();
+        } else {
+            return duration.getDuration();
+        }
+    }
+
+    private static boolean isExcluded(final Period recurrence, final List<Date> exclusions) {
+        // for DATE-TIME instances check for DATE-based exclusions also..
+        return exclusions.contains(recurrence.getStart()) || exclusions.contains(new Date(recurrence.getStart()));
+    }
 }
@@ -1,5 +1,6 @@
 package net.fortuna.ical4j.model;
 
+import net.fortuna.ical4j.data.ParserOptions;
 import net.fortuna.ical4j.model.component.XComponent;
 
 import java.util.ArrayList;
@@ -15,11 +16,18 @@ public class ComponentBuilder<T extends Component> extends AbstractContentBuilde
 
     private ComponentList subComponents = new ComponentList();
 
+    private DeferredProperties deferredProperties;
+
     public ComponentBuilder factories(List<ComponentFactory> factories) {
         this.factories.addAll(factories);
         return this;
     }
 
+    public ComponentBuilder options(ParserOptions options) {
+        setOptions(options);
+        return this;
+    }
+
     public ComponentBuilder name(String name) {
         // component names are case-insensitive, but convert to upper case to simplify further processing
         this.name = name.toUpperCase();
@@ -31,6 +39,16 @@ public class ComponentBuilder<T extends Component> extends AbstractContentBuilde
         return this;
     }
 
+    /**
+     * Specifies properties to be built when first accessed, rather than when the component is built.
+     * @param deferredProperties unparsed properties of the component
+     * @return this builder
+     */
+    public ComponentBuilder deferredProperties(DeferredProperties deferredProperties) {
+        this.deferredProperties = deferredProperties;
+        return this;
+    }
+
     public ComponentBuilder subComponent(Component subComponent) {
         subComponents.add(subComponent);
         return this;
@@ -58,6 +76,9 @@ public class ComponentBuilder<T extends Component> extends AbstractContentBuilde
                 throw new IllegalArgumentException("Unsupported component [" + name + "]");
             }
         }
+        if (deferredProperties != null) {
+            component.setDeferredProperties(deferredProperties);
+        }
         return (T) component;
     }
 }
@@ -7,6 +7,8 @@ import net.fortuna.ical4j.model.property.Uid;
 
 import java.util.Collections;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * Support for operations applicable to a group of components. Typically this class is used to manage
@@ -26,28 +28,56 @@ import java.util.function.Predicate;
  *     return group.getLatestRevision();
  * </pre>
  *
+ * Where revisions are retrieved repeatedly from a large calendar, a {@link ComponentIndex} avoids filtering
+ * every component for each group:
+ *
+ * <pre>
+ *     ComponentIndex<VEvent> index = new ComponentIndex(calendar.getComponents(Component.VEVENT));
+ *
+ *     ComponentGroup<VEvent> group = new ComponentGroup(index, new Uid(uidString));
+ * </pre>
+ *
  * Created by fortuna on 20/07/2017.
  */
 public class ComponentGroup<T extends Component> {
 
-    private final ComponentList<T> components;
-
-    private final Filter<T> componentFilter;
+    private final Supplier<ComponentList<T>> revisions;
 
     public ComponentGroup(ComponentList<T> components, Uid uid) {
         this(components, uid, null);
     }
 
     public ComponentGroup(ComponentList<T> components, Uid uid, RecurrenceId recurrenceId) {
-        this.components = components;
-
         Predicate<T> componentPredicate;
         if (recurrenceId != null) {
             componentPredicate = new HasPropertyRule<T>(uid).and(new HasPropertyRule<T>(recurrenceId));
         } else {
             componentPredicate = new HasPropertyRule<T>(uid);
         }
-        componentFilter = new Filter<>(componentPredicate);
+        Filter<T> componentFilter = new Filter<>(componentPredicate);
+        revisions = () -> componentFilter.filter(components, ComponentList::new);
+    }
+
+    /**
+     * Create a group from the components indexed on the specified UID, such that revisions are
+     * identified without filtering all components.
+     *
+     * @param index an index of components that includes the UID property
+     * @param uid the UID of the group
+     */
+    public ComponentGroup(ComponentIndex<T> index, Uid uid) {
+        this(index, uid, null);
+    }
+
+    public ComponentGroup(ComponentIndex<T> index, Uid uid, RecurrenceId recurrenceId) {
+        Predicate<T> componentPredicate;
+        if (recurrenceId != null) {
+            componentPredicate = new HasPropertyRule<T>(recurrenceId);
+        } else {
+            componentPredicate = component -> true;
+        }
+        revisions = () -> index.getComponents(Property.UID, uid.getValue()).stream().filter(componentPredicate)
+                .collect(Collectors.toCollection(ComponentList::new));
     }
 
     /**
@@ -57,7 +87,7 @@ public class ComponentGroup<T extends Component> {
      * @return
      */
     public ComponentList<T> getRevisions() {
-        return (ComponentList<T>) componentFilter.filter(components);
+        return revisions.get();
     }
 
     /**
@@ -82,10 +112,26 @@ public class ComponentGroup<T extends Component> {
      * @see Component#calculateRecurrenceSet(Period)
      */
     public PeriodList calculateRecurrenceSet(final Period period) {
+        return calculateRecurrenceSet(period, RecurrenceOptions.defaults());
+    }
+
+    /**
+     * Calculate all recurring periods for the specified date range, applying the specified limits to the
+     * expansion of recurrence rules. A time budget applies to all revisions as a whole.
+     *
+     * @param period a range to calculate recurrences for
+     * @param options limits applied to the expansion of recurrence rules
+     * @return a list of periods
+     * @throws RecurrenceLimitException where the expansion of a rule exceeds a limit
+     *
+     * @see Component#calculateRecurrenceSet(Period, RecurrenceOptions)
+     */
+    public PeriodList calculateRecurrenceSet(final Period period, final RecurrenceOptions options) {
+        final RecurrenceOptions resolved = options.resolve();
         PeriodList periods = new PeriodList();
 
         for (Component component : getRevisions()) {
-            periods = periods.add(component.calculateRecurrenceSet(period));
+            periods = periods.add(component.calculateRecurrenceSet(period, resolved));
         }
 
         return periods;
@@ -0,0 +1,230 @@
+package net.fortuna.ical4j.model;
+
+import net.fortuna.ical4j.model.property.Categories;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Provides indexing of components on the values of multiple properties and parameters.
+ *
+ * Unlike {@link IndexedComponentList} and {@link IndexedPropertyList} the index is maintained incrementally as
+ * components are added and removed, rather than rebuilt as a new list per key. Lookups return a copy of the
+ * matching components, so a result is not affected by subsequent changes to the index. Where the indexed properties of a component are modified the component should be
+ * re-indexed via {@link #update(Component)}.
+ *
+ * By default components are indexed on the UID, RECURRENCE-ID, ORGANIZER, ATTENDEE, CATEGORIES and TZID
+ * properties, and on TZID parameters (i.e. the components referencing a timezone definition). Multi-valued
+ * CATEGORIES properties are indexed on each individual category.
+ *
+ * Example - Find all revisions of an event:
+ *
+ * <pre>
+ *     ComponentIndex&lt;CalendarComponent&gt; index = new ComponentIndex&lt;&gt;(calendar.getComponents());
+ *
+ *     List&lt;CalendarComponent&gt; revisions = index.getComponents(Property.UID, uidString);
+ * </pre>
+ *
+ * Note that this implementation is not synchronized.
+ */
+public class ComponentIndex<T extends Component> {
+
+    /**
+     * The names of properties indexed by default.
+     */
+    public static final List<String> DEFAULT_PROPERTY_NAMES = Collections.unmodifiableList(Arrays.asList(
+            Property.UID, Property.RECURRENCE_ID, Property.ORGANIZER, Property.ATTENDEE, Property.CATEGORIES,
+            Property.TZID));
+
+    /**
+     * The names of parameters indexed by default.
+     */
+    public static final List<String> DEFAULT_PARAMETER_NAMES = Collections.singletonList(Parameter.TZID);
+
+    private final Set<String> propertyNames;
+
+    private final Set<String> parameterNames;
+
+    private final Map<String, Map<String, List<T>>> propertyIndex = new HashMap<>();
+
+    private final Map<String, Map<String, List<T>>> parameterIndex = new HashMap<>();
+
+    private final Map<T, List<Entry<T>>> indexed = new IdentityHashMap<>();
+
+    /**
+     * Creates an empty index on the default properties and parameters.
+     */
+    public ComponentIndex() {
+        this(DEFAULT_PROPERTY_NAMES, DEFAULT_PARAMETER_NAMES);
+    }
+
+    /**
+     * Creates an empty index on the specified properties and parameters.
+     * @param propertyNames the names of properties to index on
+     * @param parameterNames the names of parameters to index on
+     */
+    public ComponentIndex(final List<String> propertyNames, final List<String> parameterNames) {
+        this.propertyNames = new HashSet<>(propertyNames);
+        this.parameterNames = new HashSet<>(parameterNames);
+    }
+
+    /**
+     * Creates a new instance indexing the specified components on the default properties and parameters.
+     * @param list a list of components
+     */
+    public ComponentIndex(final ComponentList<T> list) {
+        this();
+        list.forEach(this::add);
+    }
+
+    /**
+     * Adds a component to the index.
+     * @param component a component to index
+     * @return true if the component was added, or false if the component is already indexed
+     */
+    public boolean add(final T component) {
+        if (indexed.containsKey(component)) {
+            return false;
+        }
+        final List<Entry<T>> entries = new ArrayList<>();
+        for (final Property property : component.getProperties()) {
+            if (propertyNames.contains(property.getName())) {
+                final Map<String, List<T>> values = propertyIndex.computeIfAbsent(property.getName(),
+                        k -> new HashMap<>());
+                if (property instanceof Categories) {
+                    for (final String category : ((Categories) property).getCategories()) {
+                        addEntry(values, category, component, entries);
+                    }
+                } else {
+                    addEntry(values, property.getValue(), component, entries);
+                }
+            }
+            for (final Parameter parameter : property.getParameters()) {
+                if (parameterNames.contains(parameter.getName())) {
+                    addEntry(parameterIndex.computeIfAbsent(parameter.getName(), k -> new HashMap<>()),
+                            parameter.getValue(), component, entries);
+                }
+            }
+        }
+        indexed.put(component, entries);
+        return true;
+    }
+
+    /**
+     * Removes a component instance from the index.
+     * @param component a component previously added to the index
+     * @return true if the component was removed, otherwise false
+     */
+    public boolean remove(final T component) {
+        final List<Entry<T>> entries = indexed.remove(component);
+        if (entries == null) {
+            return false;
+        }
+        for (final Entry<T> entry : entries) {
+            entry.components.removeIf(c -> c == component);
+            // drop empty entries so removed values don't accumulate..
+            if (entry.components.isEmpty()) {
+                entry.values.remove(entry.value);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Re-indexes a component following modification of its properties.
+     * @param component a component to re-index
+     */
+    public void update(final T component) {
+        remove(component);
+        add(component);
+    }
+
+    /**
+     * Returns the components containing a property with the specified value.
+     * @param propertyName the name of an indexed property
+     * @param propertyValue the value of the property
+     * @return a list of components, or an empty list if no components match
+     */
+    public List<T> getComponents(final String propertyName, final String propertyValue) {
+        return getEntry(propertyIndex, propertyName, propertyValue);
+    }
+
+    /**
+     * Returns the first component containing a property with the specified value.
+     * @param propertyName the name of an indexed property
+     * @param propertyValue the value of the property
+     * @return a component or null if no component matches
+     */
+    public T getComponent(final String propertyName, final String propertyValue) {
+        final List<T> components = getComponents(propertyName, propertyValue);
+        if (!components.isEmpty()) {
+            return components.get(0);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the components containing a property with a parameter of the specified value.
+     * @param parameterName the name of an indexed parameter
+     * @param parameterValue the value of the parameter
+     * @return a list of components, or an empty list if no components match
+     */
+    public List<T> getComponentsByParameter(final String parameterName, final String parameterValue) {
+        return getEntry(parameterIndex, parameterName, parameterValue);
+    }
+
+    /**
+     * @return the number of indexed components
+     */
+    public int size() {
+        return indexed.size();
+    }
+
+    private void addEntry(final Map<String, List<T>> values, final String value, final T component,
+                          final List<Entry<T>> entries) {
+        final List<T> components = values.computeIfAbsent(value, k -> new ArrayList<>());
+        // a component is listed once per value..
+        if (components.isEmpty() || components.get(components.size() - 1) != component) {
+            components.add(component);
+            entries.add(new Entry<>(values, value, components));
+        }
+    }
+
+    private List<T> getEntry(final Map<String, Map<String, List<T>>> index, final String name,
+                             final String value) {
+        final Map<String, List<T>> values = index.get(name);
+        if (values != null) {
+            final List<T> entry = values.get(value);
+            if (entry != null) {
+                return new ArrayList<>(entry);
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * A reference to the list of components indexed on a value, retained so the list may be updated (and removed
+     * when empty) without re-reading the component properties.
+     */
+    private static class Entry<T> {
+
+        private final Map<String, List<T>> values;
+
+        private final String value;
+
+        private final List<T> components;
+
+        Entry(final Map<String, List<T>> values, final String value, final List<T> components) {
+            this.values = values;
+            this.value = value;
+            this.components = components;
+        }
+    }
+}
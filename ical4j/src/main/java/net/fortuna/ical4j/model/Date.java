@@ -31,7 +31,7 @@
  */
 package net.fortuna.ical4j.model;
 
-import net.fortuna.ical4j.util.CompatibilityHints;
+import net.fortuna.ical4j.data.ParserOptions;
 import net.fortuna.ical4j.util.Dates;
 import net.fortuna.ical4j.util.TimeZones;
 
@@ -149,6 +149,20 @@ public class Date extends Iso8601 {
     protected Date(final long time, final int precision, TimeZone tz) {
         super(time, DEFAULT_PATTERN, precision, tz);
     }
+
+    /**
+     * Creates a new date instance with the specified precision. This
+     * constructor is only intended for use by sub-classes.
+     * @param time a date value in milliseconds
+     * @param precision the date precision
+     * @param tz the timezone
+     * @param options the parser options applied to the format
+     * @see Dates#PRECISION_DAY
+     * @see Dates#PRECISION_SECOND
+     */
+    protected Date(final long time, final int precision, TimeZone tz, final ParserOptions options) {
+        super(time, DEFAULT_PATTERN, precision, tz, options);
+    }
     
     /**
      * @param calendar a calendar value
@@ -171,11 +185,21 @@ public class Date extends Iso8601 {
      * @throws ParseException where the specified string is not a valid date
      */
     public Date(final String value) throws ParseException {
-        this();
+        this(value, ParserOptions.defaults());
+    }
+
+    /**
+     * @param value a string representation of a date
+     * @param options the parser options applied to the value
+     * @throws ParseException where the specified string is not a valid date
+     */
+    public Date(final String value, final ParserOptions options) throws ParseException {
+        // setting the time to 0 since we are going to reset it anyway
+        this(0, Dates.PRECISION_DAY, TimeZones.getDateTimeZone(), options);
         try {
         	setTime(getFormat().parse(value).getTime());
         } catch (ParseException pe) {
-        	if (CompatibilityHints.isHintEnabled(CompatibilityHints.KEY_VCARD_COMPATIBILITY)) {
+        	if (options.isVcardCompatibility()) {
                 final DateFormat parseFormat = new SimpleDateFormat(VCARD_PATTERN);
                 parseFormat.setTimeZone(TimeZones.getDateTimeZone());
                 setTime(parseFormat.parse(value).getTime());
@@ -31,6 +31,7 @@
  */
 package net.fortuna.ical4j.model;
 
+import net.fortuna.ical4j.data.ParserOptions;
 import net.fortuna.ical4j.model.parameter.Value;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
@@ -124,15 +125,33 @@ public class DateList implements List<Date>, Serializable, Iterable<Date> {
      */
     public DateList(final String aValue, final Value aType, final TimeZone timezone)
             throws ParseException {
+        this(aValue, aType, timezone, ParserOptions.defaults());
+    }
+
+    /**
+     * Parses the specified string representation to create a list of dates.
+     *
+     * @param aValue
+     *            a string representation of a list of dates
+     * @param aType
+     *            specifies the type of dates (either date or date-time)
+     * @param timezone the timezone to apply to contained dates
+     * @param options the parser options applied to the value
+     * @throws ParseException
+     *             if an invalid date representation exists in the date list
+     *             string
+     */
+    public DateList(final String aValue, final Value aType, final TimeZone timezone, final ParserOptions options)
+            throws ParseException {
     	
         this(aType, timezone);
         final StringTokenizer t = new StringTokenizer(aValue, ",");
         while (t.hasMoreTokens()) {
             if (Value.DATE.equals(type)) {
-                add(new Date(t.nextToken()));
+                add(new Date(t.nextToken(), options));
             }
             else {
-                add(new DateTime(t.nextToken(), timezone));
+                add(new DateTime(t.nextToken(), timezone, options));
             }
         }
     }
@@ -31,7 +31,7 @@
  */
 package net.fortuna.ical4j.model;
 
-import net.fortuna.ical4j.util.CompatibilityHints;
+import net.fortuna.ical4j.data.ParserOptions;
 import net.fortuna.ical4j.util.Dates;
 import net.fortuna.ical4j.util.TimeZones;
 import org.apache.commons.lang3.builder.EqualsBuilder;
@@ -39,9 +39,7 @@ import org.apache.commons.lang3.builder.EqualsBuilder;
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
-import java.util.Collections;
-import java.util.Map;
-import java.util.WeakHashMap;
+import java.util.GregorianCalendar;
 
 /**
  * A representation of the DATE-TIME object defined in RFC5445.
@@ -186,43 +184,23 @@ public class DateTime extends Date {
 	/**
 	 * Used for parsing times in a UTC date-time representation.
 	 */
-	private static final DateFormatCache UTC_FORMAT;
-	static {
-		final DateFormat format = new SimpleDateFormat(UTC_PATTERN);
-		format.setTimeZone(TimeZones.getUtcTimeZone());
-		format.setLenient(false);
-
-		UTC_FORMAT = new DateFormatCache(format);
-	}
+	private static final DateTimeParser UTC_FORMAT = new DateTimeParser(UTC_PATTERN,
+			"########T######Z", new int[] {0, 4, 6, 9, 11, 13}, false);
 
 	/**
 	 * Used for parsing times in a local date-time representation.
 	 */
-	private static final DateFormatCache DEFAULT_FORMAT;
-	static {
-		final DateFormat format = new SimpleDateFormat(DEFAULT_PATTERN);
-		format.setLenient(false);
-		DEFAULT_FORMAT = new DateFormatCache(format);
-	}
+	private static final DateTimeParser DEFAULT_FORMAT = new DateTimeParser(DEFAULT_PATTERN,
+			"########T######", new int[] {0, 4, 6, 9, 11, 13}, false);
 
-	private static final DateFormatCache LENIENT_DEFAULT_FORMAT;
-	static {
-		final DateFormat format = new SimpleDateFormat(DEFAULT_PATTERN);
-		LENIENT_DEFAULT_FORMAT = new DateFormatCache(format);
-	}
+	private static final DateTimeParser LENIENT_DEFAULT_FORMAT = new DateTimeParser(DEFAULT_PATTERN,
+			"########T######", new int[] {0, 4, 6, 9, 11, 13}, true);
 
-	private static final DateFormatCache RELAXED_FORMAT;
-	static {
-		final DateFormat format = new SimpleDateFormat(RELAXED_PATTERN);
-        format.setLenient(true);
-		RELAXED_FORMAT = new DateFormatCache(format);
-	}
+	private static final DateTimeParser RELAXED_FORMAT = new DateTimeParser(RELAXED_PATTERN,
+			"########", new int[] {0, 4, 6, -1, -1, -1}, true);
 
-	private static final DateFormatCache VCARD_FORMAT;
-	static {
-		final DateFormat format = new SimpleDateFormat(VCARD_PATTERN);
-        VCARD_FORMAT = new DateFormatCache(format);
-	}
+	private static final DateTimeParser VCARD_FORMAT = new DateTimeParser(VCARD_PATTERN,
+			"####-##-##T##:##:##Z", new int[] {0, 5, 8, 11, 14, 17}, true);
 
 	private Time time;
 
@@ -307,42 +285,56 @@ public class DateTime extends Date {
 	 */
 	public DateTime(final String value, final TimeZone timezone)
 			throws ParseException {
+		this(value, timezone, ParserOptions.defaults());
+	}
+
+	/**
+	 * @param value
+	 *            a string representation of a date-time
+	 * @param timezone
+	 *            the timezone for the date-time instance
+	 * @param options
+	 *            the parser options applied to the value
+	 * @throws ParseException
+	 *             where the specified string is not a valid date-time
+	 */
+	public DateTime(final String value, final TimeZone timezone, final ParserOptions options)
+			throws ParseException {
 		// setting the time to 0 since we are going to reset it anyway
 		super(0, Dates.PRECISION_SECOND, timezone != null ? timezone
-				: java.util.TimeZone.getDefault());
+				: java.util.TimeZone.getDefault(), options);
 		this.time = new Time(getTime(), getFormat().getTimeZone());
 
         try {
             if (value.endsWith("Z")) {
-                setTime(value, UTC_FORMAT.get(), null);
+                setTime(UTC_FORMAT.parse(value, TimeZones.getUtcTimeZone()));
                 setUtc(true);
             } else {
                 if (timezone != null) {
-                    setTime(value, DEFAULT_FORMAT.get(), timezone);
+                    setTime(DEFAULT_FORMAT.parse(value, timezone));
                 } else {
                     // Use lenient parsing for floating times. This is to
                     // overcome
                     // the problem of parsing VTimeZone dates that specify dates
                     // that the strict parser does not accept.
-                    setTime(value, LENIENT_DEFAULT_FORMAT.get(),
-                            getFormat().getTimeZone());
+                    setTime(LENIENT_DEFAULT_FORMAT.parse(value, getFormat().getTimeZone()));
                 }
                 setTimeZone(timezone);
             }
         } catch (ParseException pe) {
-            if (CompatibilityHints.isHintEnabled(CompatibilityHints.KEY_VCARD_COMPATIBILITY)) {
+            if (options.isVcardCompatibility()) {
 
             	try {
-	                setTime(value, VCARD_FORMAT.get(), timezone);
+	                setTime(VCARD_FORMAT.parse(value, timezone));
 	                setTimeZone(timezone);
             	} catch (ParseException pe2) {
-                    if (CompatibilityHints.isHintEnabled(CompatibilityHints.KEY_RELAXED_PARSING)) {
-    	                setTime(value, RELAXED_FORMAT.get(), timezone);
+                    if (options.isRelaxedParsing()) {
+    	                setTime(RELAXED_FORMAT.parse(value, timezone));
     	                setTimeZone(timezone);
                     }            		
             	}
-            } else if (CompatibilityHints.isHintEnabled(CompatibilityHints.KEY_RELAXED_PARSING)) {
-                setTime(value, RELAXED_FORMAT.get(), timezone);
+            } else if (options.isRelaxedParsing()) {
+                setTime(RELAXED_FORMAT.parse(value, timezone));
                 setTimeZone(timezone);
             } else {
                 throw pe;
@@ -389,8 +381,7 @@ public class DateTime extends Date {
 		final DateFormat format = CalendarDateFormatFactory
 				.getInstance(pattern);
 		if (utc) {
-			setTime(value, format,
-					UTC_FORMAT.get().getTimeZone());
+			setTime(value, format, TimeZones.getUtcTimeZone());
 		} else {
 			setTime(value, format, null);
 		}
@@ -402,7 +393,7 @@ public class DateTime extends Date {
 	 * 
 	 * @param value
 	 * @param format
-	 *            a {@code DateFormat}, protected by the use of a ThreadLocal.
+	 *            a {@code DateFormat} that is not shared between threads
 	 * @param tz
 	 * @throws ParseException
 	 */
@@ -520,33 +511,122 @@ public class DateTime extends Date {
 	}
 
 	/**
-	 * This cache class is a workaround for DateFormat not being threadsafe.
-	 * We maintain map from Thread to DateFormat instance so that the instances
-	 * are not shared between threads (effectively a ThreadLocal).
-	 * TODO: once the project targets Java 8+, the new date utilities are
-	 * thread-safe and we should remove this code.
+	 * A stateless and thread-safe parser for fixed-width date-time representations. Values that
+	 * conform to the expected layout are decoded directly, with UTC values computed arithmetically
+	 * and other values resolved via a (non-shared) Gregorian calendar in the applicable timezone.
+	 * Any other values are parsed with a new instance of the equivalent {@link SimpleDateFormat}.
 	 */
-	private static class DateFormatCache {
+	private static final class DateTimeParser {
+
+		private static final int[] DAYS_IN_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+		private final String pattern;
+
+		/**
+		 * The expected layout, where '#' indicates a digit and any other character is a literal.
+		 */
+		private final String layout;
 
 		/**
-		 * This map needs to keep weak references (to avoid memory leaks - see r1.37)
-		 * and be thread-safe (since it may be concurrently modified in get() below).
+		 * Offsets of the year, month, day, hour, minute and second fields (-1 where not present).
 		 */
-		private final Map<Thread, DateFormat> threadMap = Collections.synchronizedMap(new WeakHashMap<Thread, DateFormat>());
+		private final int[] offsets;
+
+		private final boolean lenient;
+
+		private DateTimeParser(String pattern, String layout, int[] offsets, boolean lenient) {
+			this.pattern = pattern;
+			this.layout = layout;
+			this.offsets = offsets;
+			this.lenient = lenient;
+		}
+
+		/**
+		 * @param value a string representation of a date-time
+		 * @param timeZone the timezone of the date-time, or null for the default timezone
+		 * @return the date-time value in milliseconds
+		 * @throws ParseException where the specified string is not a valid date-time
+		 */
+		public long parse(final String value, final java.util.TimeZone timeZone) throws ParseException {
+			final java.util.TimeZone tz = timeZone != null ? timeZone : java.util.TimeZone.getDefault();
+			if (!matchesLayout(value)) {
+				final DateFormat format = new SimpleDateFormat(pattern);
+				format.setLenient(lenient);
+				format.setTimeZone(tz);
+				return format.parse(value).getTime();
+			}
+
+			final int year = getField(value, 0, 4);
+			final int month = getField(value, 1, 2);
+			final int day = getField(value, 2, 2);
+			final int hour = getField(value, 3, 2);
+			final int minute = getField(value, 4, 2);
+			final int second = getField(value, 5, 2);
+
+			// avoid the Julian calendar cut-over for UTC values..
+			if (!lenient && year >= 1600 && tz == TimeZones.getUtcTimeZone()) {
+				if (month < 1 || month > 12 || day < 1 || day > getDaysInMonth(year, month)
+						|| hour > 23 || minute > 59 || second > 59) {
+					throw new ParseException("Unparseable date: \"" + value + "\"", 0);
+				}
+				final long days = getEpochDay(year, month, day);
+				return ((days * 24 + hour) * 60 + minute) * 60000L + second * 1000L;
+			}
+
+			final java.util.Calendar calendar = new GregorianCalendar(tz);
+			calendar.setLenient(lenient);
+			calendar.clear();
+			calendar.set(year, month - 1, day, hour, minute, second);
+			try {
+				return calendar.getTimeInMillis();
+			} catch (IllegalArgumentException iae) {
+				throw new ParseException("Unparseable date: \"" + value + "\"", 0);
+			}
+		}
 
-		private final DateFormat templateFormat;
+		private boolean matchesLayout(final String value) {
+			if (value.length() < layout.length()) {
+				return false;
+			}
+			for (int i = 0; i < layout.length(); i++) {
+				final char expected = layout.charAt(i);
+				final char c = value.charAt(i);
+				if (expected == '#' ? (c < '0' || c > '9') : c != expected) {
+					return false;
+				}
+			}
+			return true;
+		}
 
-		private DateFormatCache(DateFormat dateFormat) {
-			this.templateFormat = dateFormat;
+		private int getField(final String value, final int field, final int length) {
+			final int offset = offsets[field];
+			if (offset < 0) {
+				return 0;
+			}
+			int result = 0;
+			for (int i = offset; i < offset + length; i++) {
+				result = result * 10 + (value.charAt(i) - '0');
+			}
+			return result;
 		}
 
-		public DateFormat get() {
-			DateFormat dateFormat = threadMap.get(Thread.currentThread());
-			if (dateFormat == null) {
-				dateFormat = (DateFormat) templateFormat.clone();
-				threadMap.put(Thread.currentThread(), dateFormat);
+		private static int getDaysInMonth(final int year, final int month) {
+			if (month == 2 && (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0))) {
+				return 29;
 			}
-			return dateFormat;
+			return DAYS_IN_MONTH[month - 1];
+		}
+
+		/**
+		 * @return the number of days since 1970-01-01 in the proleptic Gregorian calendar
+		 */
+		private static long getEpochDay(final int year, final int month, final int day) {
+			final int y = month <= 2 ? year - 1 : year;
+			final int era = Math.floorDiv(y, 400);
+			final int yearOfEra = y - era * 400;
+			final int dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+			final int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+			return era * 146097L + dayOfEra - 719468;
 		}
 	}
 }
@@ -0,0 +1,110 @@
+package net.fortuna.ical4j.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * The properties of a parsed component that have not yet been built. Each property is retained in its unparsed
+ * form (i.e. as a {@link PropertyBuilder} holding the property name, parameters and raw value) and built on first
+ * access, such that properties that are never accessed are never parsed.
+ *
+ * Properties may be built individually when accessed by name (e.g. {@link Component#getProperty(String)}), or all
+ * at once when the component's property list is accessed, after which the component no longer refers to this
+ * instance. Properties retain their original order regardless of the order in which they are built.
+ *
+ * Instances of this class are thread-safe, such that components parsed lazily may be shared by multiple threads.
+ *
+ * @see net.fortuna.ical4j.data.ParserOptions#isLazyProperties()
+ */
+public final class DeferredProperties {
+
+    private final Function<PropertyBuilder, Property> propertyFactory;
+
+    private final List<PropertyBuilder> builders = new ArrayList<>();
+
+    private final List<String> names = new ArrayList<>();
+
+    private Property[] properties;
+
+    /**
+     * @param propertyFactory builds a property from its unparsed form, throwing an unchecked exception where the
+     *                        property cannot be parsed
+     */
+    public DeferredProperties(Function<PropertyBuilder, Property> propertyFactory) {
+        this.propertyFactory = propertyFactory;
+    }
+
+    /**
+     * Adds an unparsed property. Properties must be added prior to the component being built.
+     * @param builder a builder for the property
+     */
+    public void add(PropertyBuilder builder) {
+        builders.add(builder);
+        names.add(builder.getName());
+    }
+
+    /**
+     * @return the number of properties, whether built or unparsed
+     */
+    public int size() {
+        return names.size();
+    }
+
+    /**
+     * Returns the first property of the specified name, building it if required.
+     * @param name a property name
+     * @param <T> the property type
+     * @return the first property of the specified name, or null if no such property exists
+     */
+    @SuppressWarnings("unchecked")
+    synchronized <T extends Property> T getProperty(final String name) {
+        for (int i = 0; i < names.size(); i++) {
+            if (names.get(i).equalsIgnoreCase(name)) {
+                return (T) get(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the properties of the specified name, building them if required.
+     * @param name a property name
+     * @param <C> the property type
+     * @return a list of properties of the specified name
+     */
+    @SuppressWarnings("unchecked")
+    synchronized <C extends Property> PropertyList<C> getProperties(final String name) {
+        final PropertyList<C> list = new PropertyList<>();
+        for (int i = 0; i < names.size(); i++) {
+            if (names.get(i).equalsIgnoreCase(name)) {
+                list.add((C) get(i));
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Builds all remaining properties, adding all properties in their original order to the specified list.
+     * @param list the list to populate
+     */
+    synchronized void buildAll(final PropertyList<Property> list) {
+        for (int i = 0; i < names.size(); i++) {
+            list.add(get(i));
+        }
+    }
+
+    private Property get(int index) {
+        if (properties == null) {
+            properties = new Property[names.size()];
+        }
+        Property property = properties[index];
+        if (property == null) {
+            property = propertyFactory.apply(builders.get(index));
+            properties[index] = property;
+            // no longer required once built..
+            builders.set(index, null);
+        }
+        return property;
+    }
+}
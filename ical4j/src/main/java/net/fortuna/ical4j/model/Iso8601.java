@@ -34,7 +34,7 @@ package net.fortuna.ical4j.model;
 import java.text.DateFormat;
 import java.util.Date;
 
-import net.fortuna.ical4j.util.CompatibilityHints;
+import net.fortuna.ical4j.data.ParserOptions;
 import net.fortuna.ical4j.util.Dates;
 import net.fortuna.ical4j.util.TimeZones;
 
@@ -71,11 +71,25 @@ public abstract class Iso8601 extends Date {
      * @see Dates#PRECISION_SECOND
      */
     public Iso8601(final long time, final String pattern, final int precision, java.util.TimeZone tz) {
+        this(time, pattern, precision, tz, ParserOptions.defaults());
+    }
+
+    /**
+     * @param time a time value in milliseconds
+     * @param pattern the formatting pattern to apply
+     * @param precision the precision to apply
+     * @param tz the timezone for the instance
+     * @param options the parser options applied to the format
+     * @see Dates#PRECISION_DAY
+     * @see Dates#PRECISION_SECOND
+     */
+    protected Iso8601(final long time, final String pattern, final int precision, java.util.TimeZone tz,
+                      final ParserOptions options) {
         super(Dates.round(time, precision, tz)); //, TimeZone.getTimeZone(TimeZones.GMT_ID)));
 //        format = new SimpleDateFormat(pattern);
         format = CalendarDateFormatFactory.getInstance(pattern);
         format.setTimeZone(tz);
-        format.setLenient(CompatibilityHints.isHintEnabled(CompatibilityHints.KEY_RELAXED_PARSING));
+        format.setLenient(options.isRelaxedParsing());
         // use GMT timezone to avoid daylight savings rules affecting floating
         // time values..
 //        gmtFormat = new SimpleDateFormat(pattern);
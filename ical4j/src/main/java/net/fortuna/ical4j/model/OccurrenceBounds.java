@@ -0,0 +1,109 @@
+package net.fortuna.ical4j.model;
+
+import net.fortuna.ical4j.model.property.DateProperty;
+import net.fortuna.ical4j.model.property.DtStart;
+import net.fortuna.ical4j.model.property.Duration;
+import net.fortuna.ical4j.model.property.RDate;
+import net.fortuna.ical4j.model.property.RRule;
+
+import java.time.temporal.TemporalAmount;
+import java.util.List;
+
+/**
+ * The earliest start and latest possible end of the recurrence set of a component, as derived from
+ * DTSTART, DTEND/DUE, RDATE and the UNTIL or COUNT of any RRULE, without expanding recurrence rules.
+ */
+final class OccurrenceBounds {
+
+    /**
+     * Indicates an upper bound for recurrence rules that have no UNTIL or (boundable) COUNT.
+     */
+    static final long UNBOUNDED = Long.MAX_VALUE;
+
+    private final long start;
+
+    private final long end;
+
+    OccurrenceBounds(final DtStart dtStart, final DateProperty dtEnd, final TemporalAmount rDuration,
+                     final List<RDate> rDates, final List<RRule> rRules) {
+
+        java.util.Date earliest = dtStart.getDate();
+        java.util.Date latest = dtStart.getDate();
+        boolean unbounded = false;
+        for (RRule rRule : rRules) {
+            final Date upperBound = rRule.getRecur().getUpperBound(dtStart.getDate());
+            if (upperBound == null) {
+                unbounded = true;
+            } else if (upperBound.after(latest)) {
+                latest = upperBound;
+            }
+        }
+        for (RDate rDate : rDates) {
+            if (rDate.getDates() != null) {
+                for (Date date : rDate.getDates()) {
+                    earliest = date.before(earliest) ? date : earliest;
+                    latest = date.after(latest) ? date : latest;
+                }
+            }
+            if (rDate.getPeriods() != null) {
+                for (Period rDatePeriod : rDate.getPeriods()) {
+                    earliest = rDatePeriod.getStart().before(earliest) ? rDatePeriod.getStart() : earliest;
+                    latest = rDatePeriod.getEnd().after(latest) ? rDatePeriod.getEnd() : latest;
+                }
+            }
+        }
+        if (dtEnd != null && dtEnd.getDate().after(latest)) {
+            latest = dtEnd.getDate();
+        }
+
+        this.start = earliest.getTime();
+        this.end = unbounded ? UNBOUNDED : java.util.Date.from(latest.toInstant().plus(rDuration)).getTime();
+    }
+
+    /**
+     * @param component a component
+     * @return the bounds of the component recurrence set, or null if the component has no start date
+     */
+    static OccurrenceBounds of(final Component component) {
+        final DtStart start = component.getProperty(Property.DTSTART);
+        if (start == null || start.getDate() == null) {
+            return null;
+        }
+        DateProperty end = component.getProperty(Property.DTEND);
+        if (end == null) {
+            end = component.getProperty(Property.DUE);
+        }
+        final Duration duration = component.getProperty(Property.DURATION);
+        return new OccurrenceBounds(start, end, Component.getRecurrenceDuration(start, end, duration),
+                component.getProperties(Property.RDATE), component.getProperties(Property.RRULE));
+    }
+
+    /**
+     * @return the earliest start of any recurrence
+     */
+    long getStart() {
+        return start;
+    }
+
+    /**
+     * @return the latest possible end of any recurrence, or {@link #UNBOUNDED}
+     */
+    long getEnd() {
+        return end;
+    }
+
+    /**
+     * @return true if the recurrence set has no upper bound
+     */
+    boolean isUnbounded() {
+        return end == UNBOUNDED;
+    }
+
+    /**
+     * @param period a period
+     * @return false if no recurrence may intersect the specified period, otherwise true
+     */
+    boolean mayIntersect(final Period period) {
+        return period.getEnd().getTime() >= start && period.getStart().getTime() <= end;
+    }
+}
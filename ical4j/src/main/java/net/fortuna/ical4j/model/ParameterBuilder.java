@@ -1,5 +1,6 @@
 package net.fortuna.ical4j.model;
 
+import net.fortuna.ical4j.data.ParserOptions;
 import net.fortuna.ical4j.model.parameter.XParameter;
 import net.fortuna.ical4j.util.Strings;
 
@@ -23,6 +24,11 @@ public class ParameterBuilder extends AbstractContentBuilder {
         return this;
     }
 
+    public ParameterBuilder options(ParserOptions options) {
+        setOptions(options);
+        return this;
+    }
+
     public ParameterBuilder name(String name) {
         // parameter names are case-insensitive, but convert to upper case to simplify further processing
         this.name = name.toUpperCase();
@@ -41,7 +47,7 @@ public class ParameterBuilder extends AbstractContentBuilder {
         Parameter parameter = null;
         for (ParameterFactory factory : factories) {
             if (factory.supports(name)) {
-                parameter = factory.createParameter(value);
+                parameter = factory.createParameter(value, getOptions());
                 break;
             }
         }
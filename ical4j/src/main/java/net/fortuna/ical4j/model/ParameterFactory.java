@@ -35,6 +35,8 @@
  */
 package net.fortuna.ical4j.model;
 
+import net.fortuna.ical4j.data.ParserOptions;
+
 import java.io.Serializable;
 import java.net.URISyntaxException;
 
@@ -63,5 +65,20 @@ public interface ParameterFactory<T extends Parameter> extends Serializable {
      */
     T createParameter(String value) throws URISyntaxException;
 
+    /**
+     * Returns a parameter instance of the appropriate type with the specified value, parsed with the specified
+     * options. Factories of parameters whose parsing is not affected by parser options need not override the
+     * default implementation, which ignores the options.
+     *
+     * @param value a value to assign to the returned parameter
+     * @param options the parser options applied to the value
+     * @return a parameter instance, or null if this factory is unable to create an
+     * appropriate parameter
+     * @throws URISyntaxException where an invalid URI is encountered
+     */
+    default T createParameter(String value, ParserOptions options) throws URISyntaxException {
+        return createParameter(value);
+    }
+
     boolean supports(String name);
 }
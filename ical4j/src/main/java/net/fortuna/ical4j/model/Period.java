@@ -31,6 +31,7 @@
  */
 package net.fortuna.ical4j.model;
 
+import net.fortuna.ical4j.data.ParserOptions;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
@@ -64,11 +65,25 @@ public class Period extends DateRange implements Comparable<Period> {
      *             where the specified string is not a valid representation
      */
     public Period(final String aValue) throws ParseException {
-        super(parseStartDate(aValue), parseEndDate(aValue, true));
+        this(aValue, ParserOptions.defaults());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param aValue
+     *            a string representation of a period
+     * @param options
+     *            the parser options applied to the value
+     * @throws ParseException
+     *             where the specified string is not a valid representation
+     */
+    public Period(final String aValue, final ParserOptions options) throws ParseException {
+        super(parseStartDate(aValue, options), parseEndDate(aValue, true, options));
 
         // period may end in either a date-time or a duration..
         try {
-            parseEndDate(aValue, false);
+            parseEndDate(aValue, false, options);
         }
         catch (ParseException pe) {
             // duration = DurationFormat.getInstance().parse(aValue);
@@ -117,19 +132,20 @@ public class Period extends DateRange implements Comparable<Period> {
         normalise();
     }
 
-    private static DateTime parseStartDate(String value) throws ParseException {
-        return new DateTime(value.substring(0, value.indexOf('/')));
+    private static DateTime parseStartDate(String value, ParserOptions options) throws ParseException {
+        return new DateTime(value.substring(0, value.indexOf('/')), null, options);
     }
     
-    private static DateTime parseEndDate(String value, boolean resolve) throws ParseException {
+    private static DateTime parseEndDate(String value, boolean resolve, ParserOptions options)
+            throws ParseException {
         DateTime end;
         try {
-            end = new DateTime(value.substring(value.indexOf('/') + 1));
+            end = new DateTime(value.substring(value.indexOf('/') + 1), null, options);
         }
         catch (ParseException e) {
             if (resolve) {
                 final TemporalAmount duration = parseDuration(value).getDuration();
-                end = new DateTime(Date.from(parseStartDate(value).toInstant().plus(duration)));
+                end = new DateTime(Date.from(parseStartDate(value, options).toInstant().plus(duration)));
             }
             else {
                 throw e;
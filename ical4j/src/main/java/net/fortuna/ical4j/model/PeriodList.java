@@ -31,6 +31,7 @@
  */
 package net.fortuna.ical4j.model;
 
+import net.fortuna.ical4j.data.ParserOptions;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
@@ -98,10 +99,25 @@ public class PeriodList implements Set<Period>, Serializable {
      *             is specified
      */
     public PeriodList(final String aValue) throws ParseException {
+        this(aValue, ParserOptions.defaults());
+    }
+
+    /**
+     * Parses the specified string representation to create a list of periods.
+     *
+     * @param aValue
+     *            a string representation of a list of periods
+     * @param options
+     *            the parser options applied to the value
+     * @throws ParseException
+     *             thrown when an invalid string representation of a period list
+     *             is specified
+     */
+    public PeriodList(final String aValue, final ParserOptions options) throws ParseException {
         this();
         final StringTokenizer t = new StringTokenizer(aValue, ",");
         while (t.hasMoreTokens()) {
-            add(new Period(t.nextToken()));
+            add(new Period(t.nextToken(), options));
         }
     }
 
@@ -35,6 +35,7 @@ import net.fortuna.ical4j.model.parameter.Value;
 import net.fortuna.ical4j.model.property.XProperty;
 import net.fortuna.ical4j.util.Strings;
 import net.fortuna.ical4j.validate.ValidationException;
+import net.fortuna.ical4j.validate.ValidationOptions;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
@@ -431,7 +432,7 @@ public abstract class Property extends Content {
             needsEscape = true;
         }
         if (needsEscape) {
-            buffer.append(Strings.escape(Strings.valueOf(getValue())));
+            Strings.escape(Strings.valueOf(getValue()), buffer);
         } else {
             buffer.append(Strings.valueOf(getValue()));
         }
@@ -492,6 +493,17 @@ public abstract class Property extends Content {
      */
     public abstract void validate() throws ValidationException;
 
+    /**
+     * Perform validation on a property, applying the specified validation options. The default implementation
+     * ignores the options, and is overridden by properties whose validation is affected by the options.
+     *
+     * @param options the resolved validation options
+     * @throws ValidationException where the property is not in a valid state
+     */
+    public void validate(final ValidationOptions options) throws ValidationException {
+        validate();
+    }
+
     /**
      * {@inheritDoc}
      */
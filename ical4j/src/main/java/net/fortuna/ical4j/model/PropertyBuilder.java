@@ -1,5 +1,6 @@
 package net.fortuna.ical4j.model;
 
+import net.fortuna.ical4j.data.ParserOptions;
 import net.fortuna.ical4j.model.property.XProperty;
 import net.fortuna.ical4j.util.Strings;
 
@@ -24,6 +25,11 @@ public class PropertyBuilder extends AbstractContentBuilder {
         return this;
     }
 
+    public PropertyBuilder options(ParserOptions options) {
+        setOptions(options);
+        return this;
+    }
+
     public PropertyBuilder name(String name) {
         // property names are case-insensitive, but convert to upper case to simplify further processing
         this.name = name.toUpperCase();
@@ -41,13 +47,21 @@ public class PropertyBuilder extends AbstractContentBuilder {
         return this;
     }
 
+    String getName() {
+        return name;
+    }
+
     public Property build() throws ParseException, IOException, URISyntaxException {
         Property property = null;
         for (PropertyFactory factory : factories) {
             if (factory.supports(name)) {
-                property = factory.createProperty(parameters, value);
+                property = factory.createProperty(parameters, value, getOptions());
                 if (property instanceof Escapable) {
-                    property.setValue(Strings.unescape(value));
+                    final String unescaped = Strings.unescape(value);
+                    // the same instance is returned where there is nothing to unescape..
+                    if (unescaped != value) {
+                        property.setValue(unescaped);
+                    }
                 }
             }
         }
@@ -31,6 +31,8 @@
  */
 package net.fortuna.ical4j.model;
 
+import net.fortuna.ical4j.data.ParserOptions;
+
 import java.io.IOException;
 import java.io.Serializable;
 import java.net.URISyntaxException;
@@ -65,5 +67,22 @@ public interface PropertyFactory<T extends Property> extends Serializable {
      */
     T createProperty(ParameterList parameters, String value) throws IOException, URISyntaxException, ParseException;
 
+    /**
+     * Factories of properties whose value parsing is affected by parser options (e.g. date, recurrence and URI
+     * values) override this method to apply the options. The default implementation ignores the options.
+     *
+     * @param parameters a list of property parameters
+     * @param value      a property value
+     * @param options    the parser options applied to the value
+     * @return a new instance of the specified property
+     * @throws IOException        where an unexpected error occurs reading data
+     * @throws URISyntaxException where data contains an invalid URI
+     * @throws ParseException     where data is unable to be parsed correctly
+     */
+    default T createProperty(ParameterList parameters, String value, ParserOptions options)
+            throws IOException, URISyntaxException, ParseException {
+        return createProperty(parameters, value);
+    }
+
     boolean supports(String name);
 }
@@ -31,12 +31,15 @@
  */
 package net.fortuna.ical4j.model;
 
+import net.fortuna.ical4j.model.RecurrenceLimitException.Limit;
 import net.fortuna.ical4j.model.parameter.Value;
 import net.fortuna.ical4j.transform.Transformer;
 import net.fortuna.ical4j.transform.recurrence.*;
-import net.fortuna.ical4j.util.CompatibilityHints;
+import net.fortuna.ical4j.data.ParserOptions;
 import net.fortuna.ical4j.util.Configurator;
 import net.fortuna.ical4j.util.Dates;
+import net.fortuna.ical4j.util.Metrics;
+import net.fortuna.ical4j.util.MetricsRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -153,6 +156,25 @@ public class Recur implements Serializable {
         maxIncrementCount = Configurator.getIntProperty(KEY_MAX_INCREMENT_COUNT).orElse(1000);
     }
 
+    private static final MetricsRegistry.Timer DATES_TIMER = Metrics.timer(Metrics.RECUR_TIME);
+
+    private static final MetricsRegistry.Counter INCREMENT_COUNTER = Metrics.counter(Metrics.RECUR_INCREMENTS);
+
+    private static final MetricsRegistry.Counter CANDIDATE_COUNTER = Metrics.counter(Metrics.RECUR_CANDIDATES);
+
+    private static final MetricsRegistry.Counter DISCARDED_CANDIDATE_COUNTER =
+            Metrics.counter(Metrics.RECUR_CANDIDATES_DISCARDED);
+
+    private static final MetricsRegistry.Counter INCREMENT_LIMIT_COUNTER =
+            Metrics.counter(Metrics.RECUR_INCREMENT_LIMIT);
+
+    private static final MetricsRegistry.Counter LIMIT_EXCEEDED_COUNTER = Metrics.counter(Metrics.RECUR_LIMIT_EXCEEDED);
+
+    /**
+     * The maximum number of days in each month (including leap years).
+     */
+    private static final int[] MAX_DAYS_OF_MONTH = {31, 29, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
     private transient Logger log = LoggerFactory.getLogger(Recur.class);
 
     private Frequency frequency;
@@ -208,6 +230,17 @@ public class Recur implements Serializable {
      * @throws ParseException thrown when the specified string contains an invalid representation of an UNTIL date value
      */
     public Recur(final String aValue) throws ParseException {
+        this(aValue, ParserOptions.defaults());
+    }
+
+    /**
+     * Constructs a new instance from the specified string value.
+     *
+     * @param aValue a string representation of a recurrence.
+     * @param options the parser options applied to the value
+     * @throws ParseException thrown when the specified string contains an invalid representation of an UNTIL date value
+     */
+    public Recur(final String aValue, final ParserOptions options) throws ParseException {
         // default week start is Monday per RFC5545
         calendarWeekStartDay = Calendar.MONDAY;
 
@@ -219,11 +252,11 @@ public class Recur implements Serializable {
             } else if (UNTIL.equals(token)) {
                 final String untilString = nextToken(tokens, token);
                 if (untilString != null && untilString.contains("T")) {
-                    until = new DateTime(untilString);
+                    until = new DateTime(untilString, null, options);
                     // UNTIL must be specified in UTC time..
                     ((DateTime) until).setUtc(true);
                 } else {
-                    until = new Date(untilString);
+                    until = new Date(untilString, options);
                 }
             } else if (COUNT.equals(token)) {
                 count = Integer.parseInt(nextToken(tokens, token));
@@ -236,7 +269,7 @@ public class Recur implements Serializable {
             } else if (BYHOUR.equals(token)) {
                 hourList = new NumberList(nextToken(tokens, token), 0, 23, false);
             } else if (BYDAY.equals(token)) {
-                dayList = new WeekDayList(nextToken(tokens, token));
+                dayList = new WeekDayList(nextToken(tokens, token), options);
             } else if (BYMONTHDAY.equals(token)) {
                 monthDayList = new NumberList(nextToken(tokens, token), 1, 31, true);
             } else if (BYYEARDAY.equals(token)) {
@@ -251,7 +284,7 @@ public class Recur implements Serializable {
                 weekStartDay = WeekDay.Day.valueOf(nextToken(tokens, token));
                 calendarWeekStartDay = WeekDay.getCalendarDay(WeekDay.getWeekDay(weekStartDay));
             } else {
-                if (CompatibilityHints.isHintEnabled(CompatibilityHints.KEY_RELAXED_PARSING)) {
+                if (options.isRelaxedParsing()) {
                     // assume experimental value..
                     experimentalValues.put(token, nextToken(tokens, token));
                 } else {
@@ -678,100 +711,263 @@ public class Recur implements Serializable {
     public final DateList getDates(final Date seed, final Date periodStart,
                                    final Date periodEnd, final Value value,
                                    final int maxCount) {
+        return getDates(seed, periodStart, periodEnd, value, maxCount, RecurrenceOptions.defaults());
+    }
+
+    /**
+     * Returns a list of start dates in the specified period represented by this recur, stopping where the expansion
+     * exceeds a limit specified by the options.
+     *
+     * @param seed        the start date of this Recurrence's first instance
+     * @param periodStart the start of the period
+     * @param periodEnd   the end of the period
+     * @param value       the type of dates to generate (i.e. date/date-time)
+     * @param maxCount    limits the number of instances returned. Up to one years
+     *                    worth extra may be returned. Less than 0 means no limit
+     * @param options     limits applied to the expansion
+     * @return a list of dates represented by this recur instance
+     * @throws RecurrenceLimitException where the expansion exceeds a limit
+     * @see #getDates(Date, Date, Date, Value, int)
+     */
+    public final DateList getDates(final Date seed, final Date periodStart,
+                                   final Date periodEnd, final Value value,
+                                   final int maxCount, final RecurrenceOptions options) {
 
+        final long start = Metrics.start();
         final DateList dates = new DateList(value);
-        if (seed instanceof DateTime) {
-            if (((DateTime) seed).isUtc()) {
-                dates.setUtc(true);
-            } else {
-                dates.setTimeZone(((DateTime) seed).getTimeZone());
-            }
-        }
-        Calendar cal = getCalendarInstance(seed, true);
-        final Calendar rootSeed = (Calendar)cal.clone();
-        
-        // optimize the start time for selecting candidates
-        // (only applicable where a COUNT is not specified)
-        if (count == null) {
-            Calendar seededCal = (Calendar) cal.clone();
-            while (seededCal.getTime().before(periodStart)) {
-                cal.setTime(seededCal.getTime());
-                seededCal = smartIncrement(seededCal);
-                if (seededCal == null) {
-                    return dates;
+        // metrics are accumulated locally and recorded once..
+        int incrementCount = 0;
+        long candidateCount = 0;
+        try {
+            if (seed instanceof DateTime) {
+                if (((DateTime) seed).isUtc()) {
+                    dates.setUtc(true);
+                } else {
+                    dates.setTimeZone(((DateTime) seed).getTimeZone());
                 }
             }
-        }
-
-        HashSet<Date> invalidCandidates = new HashSet<Date>();
-        int noCandidateIncrementCount = 0;
-        Date candidate = null;
-        while ((maxCount < 0) || (dates.size() < maxCount)) {
-            final Date candidateSeed = Dates.getInstance(cal.getTime(), value);
-
-            if (getUntil() != null && candidate != null
-                    && candidate.after(getUntil())) {
-                break;
-            }
-            if (periodEnd != null && candidate != null
-                    && candidate.after(periodEnd)) {
-                break;
+            // a rule that cannot match any date generates no candidates in any period..
+            if (!isSatisfiable()) {
+                return dates;
             }
-            if (getCount() >= 1
-                    && (dates.size() + invalidCandidates.size()) >= getCount()) {
-                break;
+
+            final RecurrenceOptions resolved = options.resolve();
+            final long maxCandidates = resolved.getMaxCandidates();
+            final int maxResults = resolved.getMaxResults();
+            final long deadline = resolved.getDeadline() != null ? resolved.getDeadline().toEpochMilli()
+                    : Long.MAX_VALUE;
+            final long maxCandidatesPerIncrement = getMaxCandidatesPerIncrement();
+            if (maxCandidates >= 0 && maxCandidatesPerIncrement > maxCandidates) {
+                throw limitExceeded(Limit.CANDIDATES, "Rule may generate more than " + maxCandidates
+                        + " candidates per " + frequency, dates);
             }
+            // BYSETPOS selects no more than one candidate per position in each increment..
+            final long maxCandidatesPerSetPos = Math.min(maxCandidatesPerIncrement, setPosList.size());
 
-//            if (Value.DATE_TIME.equals(value)) {
-            if (candidateSeed instanceof DateTime) {
-                if (dates.isUtc()) {
-                    ((DateTime) candidateSeed).setUtc(true);
-                } else {
-                    ((DateTime) candidateSeed).setTimeZone(dates.getTimeZone());
+            Calendar cal = getCalendarInstance(seed, true);
+            final Calendar rootSeed = (Calendar)cal.clone();
+        
+            // optimize the start time for selecting candidates
+            // (only applicable where a COUNT is not specified)
+            if (count == null) {
+                skipToPeriod(cal, periodStart);
+                Calendar seededCal = (Calendar) cal.clone();
+                while (seededCal.getTime().before(periodStart)) {
+                    if (deadline != Long.MAX_VALUE && System.currentTimeMillis() > deadline) {
+                        throw limitExceeded(Limit.TIME, "Time limit exceeded", dates);
+                    }
+                    cal.setTime(seededCal.getTime());
+                    seededCal = smartIncrement(seededCal);
+                    if (seededCal == null) {
+                        return dates;
+                    }
                 }
             }
 
-            // rootSeed = date used for the seed for the RRule at the
-            //            start of the first period.
-            // candidateSeed = date used for the start of 
-            //                 the current period.
-            final DateList candidates = getCandidates(rootSeed, candidateSeed, value);
-            if (!candidates.isEmpty()) {
-                noCandidateIncrementCount = 0;
-                // sort candidates for identifying when UNTIL date is exceeded..
-                Collections.sort(candidates);
-                for (Date candidate1 : candidates) {
-                    candidate = candidate1;
-                    // don't count candidates that occur before the seed date..
-                    if (!candidate.before(seed)) {
-                        // candidates exclusive of periodEnd..
-                        if (candidate.before(periodStart)
-                                || candidate.after(periodEnd)) {
-                            invalidCandidates.add(candidate);
-                        } else if (getCount() >= 1
-                                && (dates.size() + invalidCandidates.size()) >= getCount()) {
-                            break;
-                        } else if (!candidate.before(periodStart) && !candidate.after(periodEnd)
-                            && (getUntil() == null || !candidate.after(getUntil()))) {
+            HashSet<Date> invalidCandidates = new HashSet<Date>();
+            int noCandidateIncrementCount = 0;
+            Date candidate = null;
+            while ((maxCount < 0) || (dates.size() < maxCount)) {
+                incrementCount++;
+                if (deadline != Long.MAX_VALUE && System.currentTimeMillis() > deadline) {
+                    throw limitExceeded(Limit.TIME, "Time limit exceeded", dates);
+                }
+                final Date candidateSeed = Dates.getInstance(cal.getTime(), value);
 
-                            dates.add(candidate);
+                if (getUntil() != null && candidate != null
+                        && candidate.after(getUntil())) {
+                    break;
+                }
+                if (periodEnd != null && candidate != null
+                        && candidate.after(periodEnd)) {
+                    break;
+                }
+                if (getCount() >= 1
+                        && (dates.size() + invalidCandidates.size()) >= getCount()) {
+                    break;
+                }
+
+    //            if (Value.DATE_TIME.equals(value)) {
+                if (candidateSeed instanceof DateTime) {
+                    if (dates.isUtc()) {
+                        ((DateTime) candidateSeed).setUtc(true);
+                    } else {
+                        ((DateTime) candidateSeed).setTimeZone(dates.getTimeZone());
+                    }
+                }
+
+                // rootSeed = date used for the seed for the RRule at the
+                //            start of the first period.
+                // candidateSeed = date used for the start of 
+                //                 the current period.
+                final DateList candidates = getCandidates(rootSeed, candidateSeed, value);
+                candidateCount += candidates.size();
+                // candidates discarded by BYSETPOS are not returned, and so are accounted for by the most that
+                // may be selected per increment..
+                if (maxCandidates >= 0 && (setPosList.isEmpty() ? candidateCount
+                        : incrementCount * maxCandidatesPerSetPos) > maxCandidates) {
+                    throw limitExceeded(Limit.CANDIDATES, "More than " + maxCandidates + " candidates generated",
+                            dates);
+                }
+                if (!candidates.isEmpty()) {
+                    noCandidateIncrementCount = 0;
+                    // sort candidates for identifying when UNTIL date is exceeded..
+                    Collections.sort(candidates);
+                    for (Date candidate1 : candidates) {
+                        candidate = candidate1;
+                        // don't count candidates that occur before the seed date..
+                        if (!candidate.before(seed)) {
+                            // candidates exclusive of periodEnd..
+                            if (candidate.before(periodStart)
+                                    || candidate.after(periodEnd)) {
+                                invalidCandidates.add(candidate);
+                            } else if (getCount() >= 1
+                                    && (dates.size() + invalidCandidates.size()) >= getCount()) {
+                                break;
+                            } else if (!candidate.before(periodStart) && !candidate.after(periodEnd)
+                                && (getUntil() == null || !candidate.after(getUntil()))) {
+
+                                if (maxResults >= 0 && dates.size() >= maxResults) {
+                                    throw limitExceeded(Limit.RESULTS, "More than " + maxResults + " dates generated",
+                                            dates);
+                                }
+                                dates.add(candidate);
+                            }
                         }
                     }
+                } else {
+                    noCandidateIncrementCount++;
+                    if ((maxIncrementCount > 0) && (noCandidateIncrementCount > maxIncrementCount)) {
+                        INCREMENT_LIMIT_COUNTER.increment(1);
+                        break;
+                    }
                 }
-            } else {
-                noCandidateIncrementCount++;
-                if ((maxIncrementCount > 0) && (noCandidateIncrementCount > maxIncrementCount)) {
+                cal = smartIncrement(cal);
+                if (cal == null) {
                     break;
                 }
             }
-            cal = smartIncrement(cal);
-            if (cal == null) {
-                break;
+            // sort final list..
+            Collections.sort(dates);
+            return dates;
+        } finally {
+            if (Metrics.isEnabled()) {
+                INCREMENT_COUNTER.increment(incrementCount);
+                CANDIDATE_COUNTER.increment(candidateCount);
+                DISCARDED_CANDIDATE_COUNTER.increment(candidateCount - dates.size());
             }
+            Metrics.stop(DATES_TIMER, start);
         }
-        // sort final list..
+    }
+
+    private static RecurrenceLimitException limitExceeded(Limit limit, String message, DateList dates) {
+        LIMIT_EXCEEDED_COUNTER.increment(1);
         Collections.sort(dates);
-        return dates;
+        return new RecurrenceLimitException(message, limit, dates);
+    }
+
+    /**
+     * Indicates whether this rule may match any date. A rule is not satisfiable where the BYMONTHDAY rule part
+     * specifies only days that do not occur in any month of the BYMONTH rule part (e.g. BYMONTH=2;BYMONTHDAY=30,31),
+     * in which case the rule generates no instances.
+     *
+     * @return false if this rule cannot match any date, otherwise true
+     */
+    public final boolean isSatisfiable() {
+        if (monthList.isEmpty() || monthDayList.isEmpty()) {
+            return true;
+        }
+        for (final int month : monthList) {
+            if (month < 1 || month > MAX_DAYS_OF_MONTH.length) {
+                // not a Gregorian month..
+                return true;
+            }
+            for (final int monthDay : monthDayList) {
+                if (Math.abs(monthDay) <= MAX_DAYS_OF_MONTH[month - 1]) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns an upper bound on the number of candidates generated for each increment of the frequency, as determined
+     * by the BY* rule parts that expand each period (e.g. BYHOUR and BYMINUTE for a DAILY rule).
+     */
+    private long getMaxCandidatesPerIncrement() {
+        long days = 1;
+        switch (frequency) {
+            case YEARLY:
+                if (!yearDayList.isEmpty() || !weekNoList.isEmpty() || !monthDayList.isEmpty() || !dayList.isEmpty()) {
+                    days = 366;
+                } else if (!monthList.isEmpty()) {
+                    days = monthList.size();
+                }
+                break;
+            case MONTHLY:
+                if (!monthDayList.isEmpty() || !dayList.isEmpty()) {
+                    days = 31;
+                }
+                break;
+            case WEEKLY:
+                if (!dayList.isEmpty()) {
+                    days = 7;
+                }
+                break;
+            default:
+                break;
+        }
+        final boolean expandHours = !hourList.isEmpty() && frequency.compareTo(Frequency.HOURLY) > 0;
+        final boolean expandMinutes = !minuteList.isEmpty() && frequency.compareTo(Frequency.MINUTELY) > 0;
+        final boolean expandSeconds = !secondList.isEmpty() && frequency.compareTo(Frequency.SECONDLY) > 0;
+        return days * (expandHours ? hourList.size() : 1) * (expandMinutes ? minuteList.size() : 1)
+                * (expandSeconds ? secondList.size() : 1);
+    }
+
+    /**
+     * Advances the specified calendar by whole intervals to shortly before the specified date, where the frequency
+     * is of a fixed duration. This avoids incrementing a rule with a fine frequency (e.g. SECONDLY) one interval at
+     * a time from a seed long before the period.
+     */
+    private void skipToPeriod(final Calendar cal, final Date periodStart) {
+        final long unit;
+        if (frequency == Frequency.SECONDLY) {
+            unit = 1000L;
+        } else if (frequency == Frequency.MINUTELY) {
+            unit = 60 * 1000L;
+        } else if (frequency == Frequency.HOURLY) {
+            unit = 60 * 60 * 1000L;
+        } else {
+            // daily and coarser increments vary in duration..
+            return;
+        }
+        final long step = unit * ((getInterval() >= 1) ? getInterval() : 1);
+        // stop one interval short such that the last increments are evaluated as usual..
+        final long steps = (periodStart.getTime() - cal.getTimeInMillis()) / step - 1;
+        if (steps > 0) {
+            cal.setTimeInMillis(cal.getTimeInMillis() + steps * step);
+        }
     }
 
     /**
@@ -858,6 +1054,36 @@ public class Recur implements Serializable {
         return null;
     }
 
+    /**
+     * Returns the latest date that may be generated by this recurrence for the specified seed, without
+     * expanding the recurrence set. A bound is available where an UNTIL is specified, or where a COUNT is
+     * specified for a rule that contains no BY* rule parts (i.e. every increment produces exactly one instance).
+     *
+     * @param seed the start date of this Recurrence's first instance
+     * @return the latest possible date in the recurrence series, or null if the series is not bounded
+     */
+    public final Date getUpperBound(final Date seed) {
+        if (getUntil() != null) {
+            return getUntil();
+        }
+        if (getCount() < 1 || !secondList.isEmpty() || !minuteList.isEmpty() || !hourList.isEmpty()
+                || !dayList.isEmpty() || !monthDayList.isEmpty() || !yearDayList.isEmpty() || !weekNoList.isEmpty()
+                || !monthList.isEmpty() || !setPosList.isEmpty()) {
+            return null;
+        }
+
+        final Calendar cal = getCalendarInstance(seed, true);
+        // an implicit BYMONTHDAY may not match every month (or year) of the series..
+        if ((calIncField == Calendar.MONTH && cal.get(Calendar.DAY_OF_MONTH) > 28)
+                || (calIncField == Calendar.YEAR && cal.get(Calendar.MONTH) == Calendar.FEBRUARY
+                && cal.get(Calendar.DAY_OF_MONTH) == 29)) {
+            return null;
+        }
+        final int calInterval = (getInterval() >= 1) ? getInterval() : 1;
+        cal.add(calIncField, calInterval * (getCount() - 1));
+        return Dates.getInstance(cal.getTime(), seed instanceof DateTime ? Value.DATE_TIME : Value.DATE);
+    }
+
     /**
      * Increments the specified calendar according to the frequency and interval specified in this recurrence rule.
      *
@@ -1211,6 +1437,9 @@ public class Recur implements Serializable {
             recur.monthList = monthList;
             recur.setPosList = setPosList;
             recur.weekStartDay = weekStartDay;
+            if (weekStartDay != null) {
+                recur.calendarWeekStartDay = WeekDay.getCalendarDay(WeekDay.getWeekDay(weekStartDay));
+            }
             recur.validateFrequency();
             recur.initTransformers();
             return recur;
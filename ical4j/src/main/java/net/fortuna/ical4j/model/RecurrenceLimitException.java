@@ -0,0 +1,47 @@
+package net.fortuna.ical4j.model;
+
+/**
+ * Indicates the expansion of a recurrence rule was stopped as it exceeded a limit specified by
+ * {@link RecurrenceOptions}. The dates generated before the limit was reached are retained, such that callers may
+ * choose to use a truncated recurrence set rather than reject the rule.
+ */
+public class RecurrenceLimitException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The limits applied to recurrence expansion.
+     */
+    public enum Limit {
+        CANDIDATES, RESULTS, TIME
+    }
+
+    private final Limit limit;
+
+    private final DateList dates;
+
+    /**
+     * @param message a description of the limit exceeded
+     * @param limit the limit exceeded
+     * @param dates the dates generated before the limit was reached
+     */
+    public RecurrenceLimitException(String message, Limit limit, DateList dates) {
+        super(message);
+        this.limit = limit;
+        this.dates = dates;
+    }
+
+    /**
+     * @return the limit exceeded
+     */
+    public Limit getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return the dates generated before the limit was reached, in ascending order
+     */
+    public DateList getDates() {
+        return dates;
+    }
+}
@@ -0,0 +1,153 @@
+package net.fortuna.ical4j.model;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * An immutable set of limits applied when expanding recurrence rules, such that rules received from untrusted sources
+ * (e.g. a rule with a FREQ of SECONDLY and no COUNT or UNTIL, or a large cross product of BY* rule parts) cannot
+ * consume unbounded time or memory.
+ *
+ * Where a limit is exceeded expansion stops and a {@link RecurrenceLimitException} is thrown, from which the dates
+ * generated before the limit was reached may be obtained. By default no limits are applied.
+ *
+ * Example - Expand an event from an untrusted invitation:
+ *
+ * <pre>
+ *     RecurrenceOptions options = new RecurrenceOptions.Builder().maxCandidates(100000).maxResults(5000)
+ *             .timeBudget(Duration.ofMillis(50)).build();
+ *     try {
+ *         PeriodList instances = event.calculateRecurrenceSet(period, options);
+ *     } catch (RecurrenceLimitException e) {
+ *         log.warn("Rejected recurrence rule: {}", e.getMessage());
+ *     }
+ * </pre>
+ *
+ * @see Recur#getDates(Date, Date, Date, net.fortuna.ical4j.model.parameter.Value, int, RecurrenceOptions)
+ * @see Component#calculateRecurrenceSet(Period, RecurrenceOptions)
+ */
+public final class RecurrenceOptions implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final RecurrenceOptions DEFAULTS = new Builder().build();
+
+    private final long maxCandidates;
+
+    private final int maxResults;
+
+    private final Duration timeBudget;
+
+    private final Instant deadline;
+
+    private RecurrenceOptions(Builder builder) {
+        this.maxCandidates = builder.maxCandidates;
+        this.maxResults = builder.maxResults;
+        this.timeBudget = builder.timeBudget;
+        this.deadline = builder.deadline;
+    }
+
+    /**
+     * @return options that apply no limits
+     */
+    public static RecurrenceOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Returns a copy of these options with the time budget fixed as a deadline relative to the current time, such
+     * that a single budget applies to all expansions using the resolved options.
+     * @return resolved options
+     */
+    public RecurrenceOptions resolve() {
+        if (timeBudget == null) {
+            return this;
+        }
+        final Instant budgetDeadline = Instant.now().plus(timeBudget);
+        return new Builder().maxCandidates(maxCandidates).maxResults(maxResults)
+                .deadline(deadline != null && deadline.isBefore(budgetDeadline) ? deadline : budgetDeadline).build();
+    }
+
+    /**
+     * Returns the maximum number of candidate dates generated by an expansion. Candidates are the dates matching the
+     * BY* rule parts of each interval, including those outside the requested period. For rules with a BYSETPOS rule
+     * part the number of candidates is estimated by the most that may be selected in each interval.
+     * @return the maximum number of candidates, or a negative value for no limit
+     */
+    public long getMaxCandidates() {
+        return maxCandidates;
+    }
+
+    /**
+     * @return the maximum number of dates resulting from an expansion, or a negative value for no limit
+     */
+    public int getMaxResults() {
+        return maxResults;
+    }
+
+    /**
+     * @return the maximum duration of an expansion, or null for no limit
+     */
+    public Duration getTimeBudget() {
+        return timeBudget;
+    }
+
+    /**
+     * @return the time by which an expansion must complete, or null for no limit
+     */
+    public Instant getDeadline() {
+        return deadline;
+    }
+
+    /**
+     * @return true if any limit is specified, otherwise false
+     */
+    public boolean isLimited() {
+        return maxCandidates >= 0 || maxResults >= 0 || timeBudget != null || deadline != null;
+    }
+
+    @Override
+    public String toString() {
+        return "RecurrenceOptions{maxCandidates=" + maxCandidates + ", maxResults=" + maxResults
+                + ", timeBudget=" + timeBudget + ", deadline=" + deadline + '}';
+    }
+
+    /**
+     * Support for building recurrence options. Limits that are not specified are not applied.
+     */
+    public static class Builder {
+
+        private long maxCandidates = -1;
+
+        private int maxResults = -1;
+
+        private Duration timeBudget;
+
+        private Instant deadline;
+
+        public Builder maxCandidates(long maxCandidates) {
+            this.maxCandidates = maxCandidates;
+            return this;
+        }
+
+        public Builder maxResults(int maxResults) {
+            this.maxResults = maxResults;
+            return this;
+        }
+
+        public Builder timeBudget(Duration timeBudget) {
+            this.timeBudget = timeBudget;
+            return this;
+        }
+
+        public Builder deadline(Instant deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
+        public RecurrenceOptions build() {
+            return new RecurrenceOptions(this);
+        }
+    }
+}
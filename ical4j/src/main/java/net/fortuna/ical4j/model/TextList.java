@@ -40,7 +40,6 @@ import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 /**
  * $Id$ [23-Apr-2004]
@@ -88,7 +87,14 @@ public class TextList implements Serializable, Iterable<String> {
      * {@inheritDoc}
      */
     public final String toString() {
-        return texts.stream().map(t -> Strings.escape(t)).collect(Collectors.joining(","));
+        final StringBuilder buffer = new StringBuilder();
+        for (final Iterator<String> i = texts.iterator(); i.hasNext();) {
+            Strings.escape(i.next(), buffer);
+            if (i.hasNext()) {
+                buffer.append(',');
+            }
+        }
+        return buffer.toString();
     }
 
     /**
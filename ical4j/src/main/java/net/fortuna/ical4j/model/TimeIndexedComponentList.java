@@ -0,0 +1,157 @@
+package net.fortuna.ical4j.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Provides indexing of components on the time range of their recurrence sets, such that the components occurring
+ * within a period may be identified without expanding the recurrences of every component.
+ *
+ * Components with a bounded recurrence set (i.e. non-recurring components, and recurrence rules with an UNTIL or
+ * COUNT) are indexed on their earliest start, partitioned by the (power of two) class of their span. This bounds
+ * the candidates examined for a query to those components that start within one span class of the period. Components
+ * with unbounded recurrence rules are indexed on their first occurrence only. Candidates are then confirmed via
+ * {@link Component#hasOccurrence(Period)}, which rejects early on the remaining bounds.
+ *
+ * Example - Find events occurring in the next week:
+ *
+ * <pre>
+ *     TimeIndexedComponentList&lt;CalendarComponent&gt; index = new TimeIndexedComponentList&lt;&gt;(
+ *          calendar.getComponents(Component.VEVENT));
+ *
+ *     ComponentList&lt;CalendarComponent&gt; events = index.getComponents(new Period(start, java.time.Duration.ofDays(7)));
+ * </pre>
+ *
+ * Unlike {@link IndexedComponentList} the index may be updated as components are added or removed. Note that this
+ * implementation is not synchronized.
+ *
+ * @see IndexedComponentList
+ */
+public class TimeIndexedComponentList<T extends Component> {
+
+    /**
+     * Bounded components, partitioned by span class, and ordered by earliest start.
+     */
+    private final List<NavigableMap<Long, List<T>>> bounded = new ArrayList<>();
+
+    /**
+     * Unbounded components, ordered by earliest start.
+     */
+    private final NavigableMap<Long, List<T>> unbounded = new TreeMap<>();
+
+    private final Map<T, OccurrenceBounds> bounds = new IdentityHashMap<>();
+
+    /**
+     * Creates an empty index.
+     */
+    public TimeIndexedComponentList() {
+        for (int i = 0; i < Long.SIZE; i++) {
+            bounded.add(new TreeMap<>());
+        }
+    }
+
+    /**
+     * Creates a new instance indexing the specified components.
+     * @param list a list of components
+     */
+    public TimeIndexedComponentList(final ComponentList<T> list) {
+        this();
+        for (final T component : list) {
+            add(component);
+        }
+    }
+
+    /**
+     * Adds a component to the index. Components without a start date (and as such no recurrence set) are ignored.
+     * @param component a component to index
+     * @return true if the component was added to the index, otherwise false
+     */
+    public boolean add(final T component) {
+        final OccurrenceBounds componentBounds = OccurrenceBounds.of(component);
+        if (componentBounds == null || bounds.containsKey(component)) {
+            return false;
+        }
+        bounds.put(component, componentBounds);
+        getIndex(componentBounds).computeIfAbsent(componentBounds.getStart(), k -> new ArrayList<>()).add(component);
+        return true;
+    }
+
+    /**
+     * Removes a component instance from the index.
+     * @param component a component previously added to the index
+     * @return true if the component was removed from the index, otherwise false
+     */
+    public boolean remove(final T component) {
+        final OccurrenceBounds componentBounds = bounds.remove(component);
+        if (componentBounds == null) {
+            return false;
+        }
+        final NavigableMap<Long, List<T>> index = getIndex(componentBounds);
+        final List<T> components = index.get(componentBounds.getStart());
+        components.removeIf(c -> c == component);
+        if (components.isEmpty()) {
+            index.remove(componentBounds.getStart());
+        }
+        return true;
+    }
+
+    /**
+     * Returns a list of components with at least one recurrence that intersects the specified period, ordered by
+     * earliest start. Components with the same earliest start are returned in no particular order.
+     * @param period a period to match on
+     * @return a component list
+     * @see Component#hasOccurrence(Period)
+     */
+    public ComponentList<T> getComponents(final Period period) {
+        final ComponentList<T> components = new ComponentList<>();
+        final long periodStart = period.getStart().getTime();
+        final long periodEnd = period.getEnd().getTime();
+
+        for (int spanClass = 0; spanClass < bounded.size(); spanClass++) {
+            final NavigableMap<Long, List<T>> index = bounded.get(spanClass);
+            if (index.isEmpty()) {
+                continue;
+            }
+            // components in this class span no more than 2^spanClass..
+            final long maxSpan = spanClass < Long.SIZE - 1 ? 1L << spanClass : Long.MAX_VALUE;
+            final long fromStart = periodStart < Long.MIN_VALUE + maxSpan ? Long.MIN_VALUE : periodStart - maxSpan;
+            addOccurring(index.subMap(fromStart, true, periodEnd, true), period, components);
+        }
+        addOccurring(unbounded.headMap(periodEnd, true), period, components);
+        // each index is ordered by start, but not across span classes..
+        components.sort(Comparator.comparingLong(component -> bounds.get(component).getStart()));
+        return components;
+    }
+
+    /**
+     * @return the number of indexed components
+     */
+    public int size() {
+        return bounds.size();
+    }
+
+    private void addOccurring(final NavigableMap<Long, List<T>> candidates, final Period period,
+                              final ComponentList<T> components) {
+        for (final List<T> list : candidates.values()) {
+            for (final T component : list) {
+                if (bounds.get(component).mayIntersect(period) && component.hasOccurrence(period)) {
+                    components.add(component);
+                }
+            }
+        }
+    }
+
+    private NavigableMap<Long, List<T>> getIndex(final OccurrenceBounds componentBounds) {
+        if (componentBounds.isUnbounded()) {
+            return unbounded;
+        }
+        final long span = Math.max(1, componentBounds.getEnd() - componentBounds.getStart());
+        // the smallest class such that span <= 2^class..
+        return bounded.get(Long.SIZE - Long.numberOfLeadingZeros(span - 1));
+    }
+}
@@ -8,6 +8,8 @@ import net.fortuna.ical4j.model.component.Standard;
 import net.fortuna.ical4j.model.component.VTimeZone;
 import net.fortuna.ical4j.model.property.*;
 import net.fortuna.ical4j.util.Configurator;
+import net.fortuna.ical4j.util.Metrics;
+import net.fortuna.ical4j.util.MetricsRegistry;
 import net.fortuna.ical4j.util.ResourceLoader;
 import net.fortuna.ical4j.util.TimeZoneCache;
 import org.apache.commons.lang3.Validate;
@@ -49,6 +51,11 @@ public class TimeZoneLoader {
     private static final Set<String> TIMEZONE_DEFINITIONS = new HashSet<String>();
     private static final String DATE_TIME_TPL = "yyyyMMdd'T'HHmmss";
     private static final String RRULE_TPL = "FREQ=YEARLY;BYMONTH=%d;BYDAY=%d%s";
+
+    private static final MetricsRegistry.Counter CACHE_HIT_COUNTER = Metrics.counter(Metrics.TIMEZONE_CACHE_HITS);
+
+    private static final MetricsRegistry.Counter CACHE_MISS_COUNTER = Metrics.counter(Metrics.TIMEZONE_CACHE_MISSES);
+
     private static final Standard NO_TRANSITIONS;
 
     static {
@@ -98,6 +105,7 @@ public class TimeZoneLoader {
     public VTimeZone loadVTimeZone(String id) throws IOException, ParserException, ParseException {
         Validate.notBlank(id, "Invalid TimeZone ID: [%s]", id);
         if (!cache.containsId(id)) {
+            CACHE_MISS_COUNTER.increment(1);
             final URL resource = ResourceLoader.getResource(resourcePrefix + id + ".ics");
             if (resource != null) {
                 try (InputStream in = resource.openStream()) {
@@ -115,6 +123,8 @@ public class TimeZoneLoader {
             } else {
                 return generateTimezoneForId(id);
             }
+        } else {
+            CACHE_HIT_COUNTER.increment(1);
         }
         return cache.getTimezone(id);
     }
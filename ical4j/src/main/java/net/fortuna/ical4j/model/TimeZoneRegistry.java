@@ -31,6 +31,8 @@
  */
 package net.fortuna.ical4j.model;
 
+import net.fortuna.ical4j.data.ParserOptions;
+
 /**
  * $Id$
  *
@@ -74,4 +76,16 @@ public interface TimeZoneRegistry {
      * is registered with the specified identifier null is returned.
      */
     TimeZone getTimeZone(final String id);
+
+    /**
+     * Returns a timezone with the specified identifier, applying the specified parser options when resolving
+     * identifiers that are not registered. The default implementation ignores the options.
+     * @param id a timezone identifier
+     * @param options the options of the parse referencing the identifier
+     * @return a timezone matching the specified identifier. If no timezone
+     * is registered with the specified identifier null is returned.
+     */
+    default TimeZone getTimeZone(final String id, final ParserOptions options) {
+        return getTimeZone(id);
+    }
 }
@@ -33,7 +33,9 @@ package net.fortuna.ical4j.model;
 
 import net.fortuna.ical4j.data.ParserException;
 import net.fortuna.ical4j.model.component.VTimeZone;
-import net.fortuna.ical4j.util.CompatibilityHints;
+import net.fortuna.ical4j.data.ParserOptions;
+import net.fortuna.ical4j.util.Metrics;
+import net.fortuna.ical4j.util.MetricsRegistry;
 import net.fortuna.ical4j.util.ResourceLoader;
 import org.apache.commons.lang3.Validate;
 import org.slf4j.Logger;
@@ -68,6 +70,12 @@ public class TimeZoneRegistryImpl implements TimeZoneRegistry {
 
     private static final Properties ALIASES = new Properties();
 
+    private static final MetricsRegistry.Counter HIT_COUNTER = Metrics.counter(Metrics.TIMEZONE_REGISTRY_HITS);
+
+    private static final MetricsRegistry.Counter MISS_COUNTER = Metrics.counter(Metrics.TIMEZONE_REGISTRY_MISSES);
+
+    private static final MetricsRegistry.Timer LOAD_TIMER = Metrics.timer(Metrics.TIMEZONE_REGISTRY_LOADS);
+
     static {
         InputStream aliasInputStream = null;
         try {
@@ -162,6 +170,14 @@ public class TimeZoneRegistryImpl implements TimeZoneRegistry {
      * {@inheritDoc}
      */
     public final TimeZone getTimeZone(final String id) {
+        return getTimeZone(id, ParserOptions.defaults());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final TimeZone getTimeZone(final String id, final ParserOptions options) {
         Validate.notBlank(id, "Invalid TimeZone ID: [%s]", id);
 
         TimeZone timezone = timezones.get(id);
@@ -171,12 +187,14 @@ public class TimeZoneRegistryImpl implements TimeZoneRegistry {
                 // if timezone not found with identifier, try loading an alias..
                 final String alias = ALIASES.getProperty(id);
                 if (alias != null) {
-                    return getTimeZone(alias);
+                    return getTimeZone(alias, options);
                 } else {
                     synchronized (DEFAULT_TIMEZONES) {
                         // check again as it may be loaded now..
                         timezone = DEFAULT_TIMEZONES.get(id);
                         if (timezone == null) {
+                            MISS_COUNTER.increment(1);
+                            final long start = Metrics.start();
                             try {
                                 final VTimeZone vTimeZone = timeZoneLoader.loadVTimeZone(id);
                                 if (vTimeZone != null) {
@@ -184,21 +202,28 @@ public class TimeZoneRegistryImpl implements TimeZoneRegistry {
                                     // ((TzId) vTimeZone.getProperties().getProperty(Property.TZID)).setValue(id);
                                     timezone = new TimeZone(vTimeZone);
                                     DEFAULT_TIMEZONES.put(timezone.getID(), timezone);
-                                } else if (CompatibilityHints.isHintEnabled(CompatibilityHints.KEY_RELAXED_PARSING)) {
+                                    Metrics.stop(LOAD_TIMER, start);
+                                } else if (options.isRelaxedParsing()) {
                                     // strip global part of id and match on default tz..
                                     Matcher matcher = TZ_ID_SUFFIX.matcher(id);
                                     if (matcher.find()) {
-                                        return getTimeZone(matcher.group());
+                                        return getTimeZone(matcher.group(), options);
                                     }
                                 }
                             } catch (IOException | ParserException | ParseException e) {
                                 Logger log = LoggerFactory.getLogger(TimeZoneRegistryImpl.class);
                                 log.warn("Error occurred loading VTimeZone", e);
                             }
+                        } else {
+                            HIT_COUNTER.increment(1);
                         }
                     }
                 }
+            } else {
+                HIT_COUNTER.increment(1);
             }
+        } else {
+            HIT_COUNTER.increment(1);
         }
         return timezone;
     }
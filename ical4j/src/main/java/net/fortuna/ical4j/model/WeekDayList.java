@@ -31,7 +31,7 @@
  */
 package net.fortuna.ical4j.model;
 
-import net.fortuna.ical4j.util.CompatibilityHints;
+import net.fortuna.ical4j.data.ParserOptions;
 
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -73,8 +73,16 @@ public class WeekDayList extends ArrayList<WeekDay> implements Serializable {
      * @param aString a string representation of a day list
      */
     public WeekDayList(final String aString) {
-        final boolean outlookCompatibility =
-            CompatibilityHints.isHintEnabled(CompatibilityHints.KEY_OUTLOOK_COMPATIBILITY);
+        this(aString, ParserOptions.defaults());
+    }
+
+    /**
+     * Constructor.
+     * @param aString a string representation of a day list
+     * @param options the parser options applied to the value
+     */
+    public WeekDayList(final String aString, final ParserOptions options) {
+        final boolean outlookCompatibility = options.isOutlookCompatibility();
         
         final StringTokenizer t = new StringTokenizer(aString, ",");
         while (t.hasMoreTokens()) {
@@ -36,6 +36,7 @@ import net.fortuna.ical4j.model.PropertyList;
 import net.fortuna.ical4j.model.property.Method;
 import net.fortuna.ical4j.validate.EmptyValidator;
 import net.fortuna.ical4j.validate.ValidationException;
+import net.fortuna.ical4j.validate.ValidationOptions;
 import net.fortuna.ical4j.validate.Validator;
 
 /**
@@ -79,9 +80,19 @@ public abstract class CalendarComponent extends Component {
      * @throws ValidationException where the component does not comply with RFC2446
      */
     public final void validate(Method method) throws ValidationException {
+        validate(method, ValidationOptions.defaults());
+    }
+
+    /**
+     * Performs method-specific ITIP validation, applying the specified validation options.
+     * @param method the applicable method
+     * @param options the resolved validation options
+     * @throws ValidationException where the component does not comply with RFC2446
+     */
+    public final void validate(Method method, ValidationOptions options) throws ValidationException {
         final Validator<CalendarComponent> validator = getValidator(method);
         if (validator != null) {
-            validator.validate(this);
+            validator.validate(this, options);
         }
         else {
             throw new ValidationException("Unsupported method: " + method);
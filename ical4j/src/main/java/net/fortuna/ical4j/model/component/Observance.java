@@ -41,6 +41,7 @@ import net.fortuna.ical4j.validate.ValidationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.Serializable;
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
@@ -75,8 +76,11 @@ public abstract class Observance extends Component {
     public static final String DAYLIGHT = "DAYLIGHT";
 
     // TODO: clear cache when observance definition changes (??)
-    private long[] onsetsMillisec;
-    private DateTime[] onsetsDates;
+    /**
+     * Cached onsets are published as a single immutable instance, as timezones (and their observances) may be
+     * shared by multiple threads.
+     */
+    private volatile OnsetCache onsetCache;
     //    private Map onsets = new TreeMap();
     private Date initialOnset = null;
 
@@ -92,9 +96,6 @@ public abstract class Observance extends Component {
         UTC_FORMAT.setLenient(false);
     }
 
-    /* If this is set we have rrules. If we get a date after this rebuild onsets */
-    private Date onsetLimit;
-
     /**
      * Constructs a timezone observance with the specified name and no properties.
      *
@@ -172,8 +173,9 @@ public abstract class Observance extends Component {
             return null;
         }
 
-        if ((onsetsMillisec != null) && (onsetLimit == null || date.before(onsetLimit))) {
-            return getCachedOnset(date);
+        final OnsetCache cache = onsetCache;
+        if (cache != null && (cache.limit == null || date.before(cache.limit))) {
+            return cache.getOnset(date);
         }
 
         Date onset = initialOnset;
@@ -216,6 +218,7 @@ public abstract class Observance extends Component {
         }
 
         // check recurrence rules for latest applicable onset..
+        Date onsetLimit = null;
         final List<RRule> rrules = getProperties(Property.RRULE);
         for (RRule rrule : rrules) {            
             // include future onsets to determine onset period..
@@ -241,31 +244,53 @@ public abstract class Observance extends Component {
         // cache onsets..
         Collections.sort(cacheableOnsets);
         DateTime cacheableOnset;
-        this.onsetsMillisec = new long[cacheableOnsets.size()];
-        this.onsetsDates = new DateTime[onsetsMillisec.length];
+        final long[] onsetsMillisec = new long[cacheableOnsets.size()];
+        final DateTime[] onsetsDates = new DateTime[onsetsMillisec.length];
 
         for (int i = 0; i < onsetsMillisec.length; i++) {
             cacheableOnset = (DateTime) cacheableOnsets.get(i);
             onsetsMillisec[i] = cacheableOnset.getTime();
             onsetsDates[i] = cacheableOnset;
         }
+        onsetCache = new OnsetCache(onsetsMillisec, onsetsDates, onsetLimit);
 
         return onset;
     }
 
     /**
-     * Returns a cached onset for the specified date.
-     *
-     * @param date
-     * @return a cached onset date or null if no cached onset is applicable for the specified date
+     * Cached onsets of an observance.
      */
-    private DateTime getCachedOnset(final Date date) {
-        int index = Arrays.binarySearch(onsetsMillisec, date.getTime());
-        if (index >= 0) {
-            return onsetsDates[index];
-        } else {
-            int insertionIndex = -index - 1;
-            return onsetsDates[insertionIndex - 1];
+    private static final class OnsetCache implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long[] onsetsMillisec;
+
+        private final DateTime[] onsetsDates;
+
+        /* If this is set we have rrules. If we get a date after this rebuild onsets */
+        private final Date limit;
+
+        private OnsetCache(long[] onsetsMillisec, DateTime[] onsetsDates, Date limit) {
+            this.onsetsMillisec = onsetsMillisec;
+            this.onsetsDates = onsetsDates;
+            this.limit = limit;
+        }
+
+        /**
+         * Returns a cached onset for the specified date.
+         *
+         * @param date
+         * @return a cached onset date or null if no cached onset is applicable for the specified date
+         */
+        private DateTime getOnset(final Date date) {
+            int index = Arrays.binarySearch(onsetsMillisec, date.getTime());
+            if (index >= 0) {
+                return onsetsDates[index];
+            } else {
+                int insertionIndex = -index - 1;
+                return onsetsDates[insertionIndex - 1];
+            }
         }
     }
 
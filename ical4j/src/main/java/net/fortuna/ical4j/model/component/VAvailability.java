@@ -43,6 +43,7 @@ import net.fortuna.ical4j.validate.ValidationException;
 import net.fortuna.ical4j.validate.Validator;
 
 import java.util.Arrays;
+import java.util.function.Consumer;
 
 /**
  * $Id$ [Apr 5, 2004]
@@ -143,6 +144,14 @@ public class VAvailability extends CalendarComponent {
         return available;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachSubComponent(final Consumer<? super Component> visitor) {
+        available.forEach(visitor);
+    }
+
     /**
      * {@inheritDoc}
      */
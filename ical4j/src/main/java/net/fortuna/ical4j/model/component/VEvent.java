@@ -34,11 +34,13 @@ package net.fortuna.ical4j.model.component;
 import net.fortuna.ical4j.model.*;
 import net.fortuna.ical4j.model.parameter.Value;
 import net.fortuna.ical4j.model.property.*;
-import net.fortuna.ical4j.util.CompatibilityHints;
 import net.fortuna.ical4j.util.Dates;
 import net.fortuna.ical4j.util.Strings;
+import net.fortuna.ical4j.validate.PropertyRuleSet;
+import net.fortuna.ical4j.validate.PropertyRuleSet.Cardinality;
 import net.fortuna.ical4j.validate.PropertyValidator;
 import net.fortuna.ical4j.validate.ValidationException;
+import net.fortuna.ical4j.validate.ValidationOptions;
 import net.fortuna.ical4j.validate.Validator;
 import net.fortuna.ical4j.validate.component.*;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
@@ -47,10 +49,10 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.text.ParseException;
 import java.time.temporal.TemporalAmount;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * $Id$ [Apr 5, 2004]
@@ -195,6 +197,26 @@ public class VEvent extends CalendarComponent {
 
     private static final long serialVersionUID = 2547948989200697335L;
 
+    private static final PropertyRuleSet RULES = new PropertyRuleSet.Builder()
+            // From "4.8.4.7 Unique Identifier":
+            // Conformance: The property MUST be specified in the "VEVENT", "VTODO",
+            // "VJOURNAL" or "VFREEBUSY" calendar components.
+            .strict(Cardinality.One, Property.UID)
+            // From "4.8.7.2 Date/Time Stamp":
+            // Conformance: This property MUST be included in the "VEVENT", "VTODO",
+            // "VJOURNAL" or "VFREEBUSY" calendar components.
+            .strict(Cardinality.One, Property.DTSTAMP)
+            /*
+             * ; the following are optional, ; but MUST NOT occur more than once class / created / description / dtstart /
+             * geo / last-mod / location / organizer / priority / dtstamp / seq / status / summary / transp / uid / url /
+             * recurid /
+             */
+            .assertOneOrLess(Property.CLASS, Property.CREATED, Property.DESCRIPTION, Property.DTSTART,
+                    Property.GEO, Property.LAST_MODIFIED, Property.LOCATION, Property.ORGANIZER, Property.PRIORITY,
+                    Property.DTSTAMP, Property.SEQUENCE, Property.STATUS, Property.SUMMARY, Property.TRANSP,
+                    Property.UID, Property.URL, Property.RECURRENCE_ID)
+            .build();
+
     private final Map<Method, Validator> methodValidators = new HashMap<Method, Validator>();
     {
         methodValidators.put(Method.ADD, new VEventAddValidator());
@@ -289,6 +311,14 @@ public class VEvent extends CalendarComponent {
         return alarms;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachSubComponent(final Consumer<? super Component> visitor) {
+        alarms.forEach(visitor);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -309,6 +339,14 @@ public class VEvent extends CalendarComponent {
      * {@inheritDoc}
      */
     public final void validate(final boolean recurse) throws ValidationException {
+        validate(recurse, ValidationOptions.defaults());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void validate(final boolean recurse, final ValidationOptions options) throws ValidationException {
 
         // validate that getAlarms() only contains VAlarm components
 //        final Iterator iterator = getAlarms().iterator();
@@ -323,31 +361,7 @@ public class VEvent extends CalendarComponent {
 //            ((VAlarm) component).validate(recurse);
 //        }
 
-        if (!CompatibilityHints
-                .isHintEnabled(CompatibilityHints.KEY_RELAXED_VALIDATION)) {
-
-            // From "4.8.4.7 Unique Identifier":
-            // Conformance: The property MUST be specified in the "VEVENT", "VTODO",
-            // "VJOURNAL" or "VFREEBUSY" calendar components.
-            PropertyValidator.getInstance().assertOne(Property.UID,
-                    getProperties());
-
-            // From "4.8.7.2 Date/Time Stamp":
-            // Conformance: This property MUST be included in the "VEVENT", "VTODO",
-            // "VJOURNAL" or "VFREEBUSY" calendar components.
-            PropertyValidator.getInstance().assertOne(Property.DTSTAMP,
-                    getProperties());
-        }
-
-        /*
-         * ; the following are optional, ; but MUST NOT occur more than once class / created / description / dtstart /
-         * geo / last-mod / location / organizer / priority / dtstamp / seq / status / summary / transp / uid / url /
-         * recurid /
-         */
-        Arrays.asList(Property.CLASS, Property.CREATED, Property.DESCRIPTION,
-                Property.DTSTART, Property.GEO, Property.LAST_MODIFIED, Property.LOCATION, Property.ORGANIZER,
-                Property.PRIORITY, Property.DTSTAMP, Property.SEQUENCE, Property.STATUS, Property.SUMMARY,
-                Property.TRANSP, Property.UID, Property.URL, Property.RECURRENCE_ID).forEach(property -> PropertyValidator.getInstance().assertOneOrLess(property, getProperties()));
+        RULES.validate(getProperties(), options);
 
         final Status status = getProperty(Property.STATUS);
         if (status != null && !Status.VEVENT_TENTATIVE.getValue().equals(status.getValue())
@@ -415,7 +429,7 @@ public class VEvent extends CalendarComponent {
          */
         
         if (recurse) {
-            validateProperties();
+            validateProperties(options);
         }
     }
     
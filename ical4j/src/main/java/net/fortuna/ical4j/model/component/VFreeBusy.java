@@ -34,7 +34,7 @@ package net.fortuna.ical4j.model.component;
 import net.fortuna.ical4j.model.*;
 import net.fortuna.ical4j.model.parameter.FbType;
 import net.fortuna.ical4j.model.property.*;
-import net.fortuna.ical4j.util.CompatibilityHints;
+import net.fortuna.ical4j.validate.ValidationOptions;
 import net.fortuna.ical4j.validate.PropertyValidator;
 import net.fortuna.ical4j.validate.ValidationException;
 import net.fortuna.ical4j.validate.Validator;
@@ -46,6 +46,7 @@ import java.time.temporal.TemporalAmount;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.BiFunction;
 
 /**
  * $Id$ [Apr 5, 2004]
@@ -302,6 +303,24 @@ public class VFreeBusy extends CalendarComponent {
      * @throws ValidationException
      */
     public VFreeBusy(final VFreeBusy request, final ComponentList<CalendarComponent> components) {
+        this(request, (rangeStart, rangeEnd) -> getConsumedTime(components, rangeStart, rangeEnd));
+    }
+
+    /**
+     * Constructs a new VFreeBusy instance representing a reply to the specified VFREEBUSY request according to the
+     * busy time maintained by the specified index. Unchanged events are not re-expanded for each request, however
+     * the result may differ from that of {@link #VFreeBusy(VFreeBusy, ComponentList)} for the same components:
+     * the index retains only the latest revision of each UID and RECURRENCE-ID (by SEQUENCE), treats CANCELLED
+     * events as free, and expands events only within their bounds widened by a tolerance of one day. See
+     * {@link BusyTimeIndex} for details.
+     * @param request a VFREEBUSY request
+     * @param index an index of busy time used to initialise the reply
+     */
+    public VFreeBusy(final VFreeBusy request, final BusyTimeIndex index) {
+        this(request, index::getConsumedTime);
+    }
+
+    private VFreeBusy(final VFreeBusy request, final BiFunction<DateTime, DateTime, PeriodList> consumedTime) {
         this();
         
         final DtStart start = request.getProperty(Property.DTSTART);
@@ -333,7 +352,7 @@ public class VFreeBusy extends CalendarComponent {
             final FreeBusy fb = new FreeTimeBuilder().start(freeStart)
                 .end(freeEnd)
                 .duration(duration.getDuration())
-                .components(components)
+                .consumedTime(consumedTime)
                 .build();
             if (fb != null && !fb.getPeriods().isEmpty()) {
                 getProperties().add(fb);
@@ -345,7 +364,7 @@ public class VFreeBusy extends CalendarComponent {
             final DateTime busyEnd = new DateTime(end.getDate());
             final FreeBusy fb = new BusyTimeBuilder().start(busyStart)
                 .end(busyEnd)
-                .components(components)
+                .consumedTime(consumedTime)
                 .build();
             if (fb != null && !fb.getPeriods().isEmpty()) {
                 getProperties().add(fb);
@@ -365,7 +384,7 @@ public class VFreeBusy extends CalendarComponent {
         
         private DateTime end;
         
-        private ComponentList<CalendarComponent> components;
+        private BiFunction<DateTime, DateTime, PeriodList> consumedTime;
         
         public BusyTimeBuilder start(DateTime start) {
             this.start = start;
@@ -377,13 +396,13 @@ public class VFreeBusy extends CalendarComponent {
             return this;
         }
         
-        public BusyTimeBuilder components(ComponentList<CalendarComponent> components) {
-            this.components = components;
+        public BusyTimeBuilder consumedTime(BiFunction<DateTime, DateTime, PeriodList> consumedTime) {
+            this.consumedTime = consumedTime;
             return this;
         }
         
         public FreeBusy build() {
-            final PeriodList periods = getConsumedTime(components, start, end);
+            final PeriodList periods = consumedTime.apply(start, end);
             final DateRange range = new DateRange(start, end);
             // periods must be in UTC time for freebusy..
             periods.setUtc(true);
@@ -409,7 +428,7 @@ public class VFreeBusy extends CalendarComponent {
         
         private TemporalAmount duration;
         
-        private ComponentList<CalendarComponent> components;
+        private BiFunction<DateTime, DateTime, PeriodList> consumedTime;
         
         public FreeTimeBuilder start(DateTime start) {
             this.start = start;
@@ -426,15 +445,15 @@ public class VFreeBusy extends CalendarComponent {
             return this;
         }
         
-        public FreeTimeBuilder components(ComponentList<CalendarComponent> components) {
-            this.components = components;
+        public FreeTimeBuilder consumedTime(BiFunction<DateTime, DateTime, PeriodList> consumedTime) {
+            this.consumedTime = consumedTime;
             return this;
         }
         
         public FreeBusy build() {
             final FreeBusy fb = new FreeBusy();
             fb.getParameters().add(FbType.FREE);
-            final PeriodList periods = getConsumedTime(components, start, end);
+            final PeriodList periods = consumedTime.apply(start, end);
             final DateRange range = new DateRange(start, end);
             // Add final consumed time to avoid special-case end-of-list processing
             periods.add(new Period(end, end));
@@ -465,7 +484,7 @@ public class VFreeBusy extends CalendarComponent {
      * @param components
      * @return
      */
-    private PeriodList getConsumedTime(final ComponentList<CalendarComponent> components, final DateTime rangeStart,
+    private static PeriodList getConsumedTime(final ComponentList<CalendarComponent> components, final DateTime rangeStart,
             final DateTime rangeEnd) {
         
         final PeriodList periods = new PeriodList();
@@ -480,8 +499,16 @@ public class VFreeBusy extends CalendarComponent {
      * {@inheritDoc}
      */
     public final void validate(final boolean recurse) throws ValidationException {
+        validate(recurse, ValidationOptions.defaults());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void validate(final boolean recurse, final ValidationOptions options) throws ValidationException {
 
-        if (!CompatibilityHints.isHintEnabled(CompatibilityHints.KEY_RELAXED_VALIDATION)) {
+        if (!options.isRelaxedValidation()) {
 
             // From "4.8.4.7 Unique Identifier":
             // Conformance: The property MUST be specified in the "VEVENT", "VTODO",
@@ -545,7 +572,7 @@ public class VFreeBusy extends CalendarComponent {
         }
 
         if (recurse) {
-            validateProperties();
+            validateProperties(options);
         }
     }
 
@@ -33,7 +33,7 @@ package net.fortuna.ical4j.model.component;
 
 import net.fortuna.ical4j.model.*;
 import net.fortuna.ical4j.model.property.*;
-import net.fortuna.ical4j.util.CompatibilityHints;
+import net.fortuna.ical4j.validate.ValidationOptions;
 import net.fortuna.ical4j.validate.PropertyValidator;
 import net.fortuna.ical4j.validate.ValidationException;
 import net.fortuna.ical4j.validate.Validator;
@@ -153,9 +153,16 @@ public class VJournal extends CalendarComponent {
      */
     public final void validate(final boolean recurse)
             throws ValidationException {
+        validate(recurse, ValidationOptions.defaults());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void validate(final boolean recurse, final ValidationOptions options) throws ValidationException {
 
-        if (!CompatibilityHints
-                .isHintEnabled(CompatibilityHints.KEY_RELAXED_VALIDATION)) {
+        if (!options.isRelaxedValidation()) {
 
             // From "4.8.4.7 Unique Identifier":
             // Conformance: The property MUST be specified in the "VEVENT", "VTODO",
@@ -192,7 +199,7 @@ public class VJournal extends CalendarComponent {
          */
 
         if (recurse) {
-            validateProperties();
+            validateProperties(options);
         }
     }
 
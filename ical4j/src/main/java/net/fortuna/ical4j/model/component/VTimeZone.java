@@ -39,6 +39,7 @@ import net.fortuna.ical4j.model.property.TzUrl;
 import net.fortuna.ical4j.util.Strings;
 import net.fortuna.ical4j.validate.PropertyValidator;
 import net.fortuna.ical4j.validate.ValidationException;
+import net.fortuna.ical4j.validate.ValidationOptions;
 import net.fortuna.ical4j.validate.Validator;
 import net.fortuna.ical4j.validate.component.VTimeZoneITIPValidator;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
@@ -47,6 +48,7 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.text.ParseException;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * $Id$ [Apr 5, 2004]
@@ -186,6 +188,14 @@ public class VTimeZone extends CalendarComponent {
      */
     public final void validate(final boolean recurse)
             throws ValidationException {
+        validate(recurse, ValidationOptions.defaults());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void validate(final boolean recurse, final ValidationOptions options) throws ValidationException {
 
         /*
          * ; 'tzid' is required, but MUST NOT occur more ; than once tzid /
@@ -212,7 +222,7 @@ public class VTimeZone extends CalendarComponent {
         }
 
         for (final Observance observance : getObservances()) {
-            observance.validate(recurse);
+            observance.validate(recurse, options);
         }
         
         /*
@@ -220,7 +230,7 @@ public class VTimeZone extends CalendarComponent {
          */
 
         if (recurse) {
-            validateProperties();
+            validateProperties(options);
         }
     }
 
@@ -238,6 +248,14 @@ public class VTimeZone extends CalendarComponent {
         return observances;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachSubComponent(final Consumer<? super Component> visitor) {
+        observances.forEach(visitor);
+    }
+
     /**
      * Returns the latest applicable timezone observance for the specified date.
      * @param date the latest possible date for a timezone observance onset
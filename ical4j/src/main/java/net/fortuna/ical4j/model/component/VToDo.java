@@ -33,10 +33,12 @@ package net.fortuna.ical4j.model.component;
 
 import net.fortuna.ical4j.model.*;
 import net.fortuna.ical4j.model.property.*;
-import net.fortuna.ical4j.util.CompatibilityHints;
 import net.fortuna.ical4j.util.Strings;
+import net.fortuna.ical4j.validate.PropertyRuleSet;
+import net.fortuna.ical4j.validate.PropertyRuleSet.Cardinality;
 import net.fortuna.ical4j.validate.PropertyValidator;
 import net.fortuna.ical4j.validate.ValidationException;
+import net.fortuna.ical4j.validate.ValidationOptions;
 import net.fortuna.ical4j.validate.Validator;
 import net.fortuna.ical4j.validate.component.*;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
@@ -45,10 +47,10 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.text.ParseException;
 import java.time.temporal.TemporalAmount;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * $Id$ [Apr 5, 2004]
@@ -121,6 +123,26 @@ public class VToDo extends CalendarComponent {
 
     private static final long serialVersionUID = -269658210065896668L;
 
+    private static final PropertyRuleSet RULES = new PropertyRuleSet.Builder()
+            // From "4.8.4.7 Unique Identifier":
+            // Conformance: The property MUST be specified in the "VEVENT", "VTODO",
+            // "VJOURNAL" or "VFREEBUSY" calendar components.
+            .strict(Cardinality.One, Property.UID)
+            // From "4.8.7.2 Date/Time Stamp":
+            // Conformance: This property MUST be included in the "VEVENT", "VTODO",
+            // "VJOURNAL" or "VFREEBUSY" calendar components.
+            .strict(Cardinality.One, Property.DTSTAMP)
+            /*
+             * ; the following are optional, ; but MUST NOT occur more than once class / completed / created / description /
+             * dtstamp / dtstart / geo / last-mod / location / organizer / percent / priority / recurid / seq / status /
+             * summary / uid / url /
+             */
+            .assertOneOrLess(Property.CLASS, Property.COMPLETED, Property.CREATED, Property.DESCRIPTION,
+                    Property.DTSTAMP, Property.DTSTART, Property.GEO, Property.LAST_MODIFIED, Property.LOCATION,
+                    Property.ORGANIZER, Property.PERCENT_COMPLETE, Property.PRIORITY, Property.RECURRENCE_ID,
+                    Property.SEQUENCE, Property.STATUS, Property.SUMMARY, Property.UID, Property.URL)
+            .build();
+
     private final Map<Method, Validator> methodValidators = new HashMap<Method, Validator>();
     {
         methodValidators.put(Method.ADD, new VToDoAddValidator());
@@ -208,6 +230,14 @@ public class VToDo extends CalendarComponent {
         return alarms;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachSubComponent(final Consumer<? super Component> visitor) {
+        alarms.forEach(visitor);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -229,37 +259,21 @@ public class VToDo extends CalendarComponent {
      */
     public final void validate(final boolean recurse)
             throws ValidationException {
+        validate(recurse, ValidationOptions.defaults());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void validate(final boolean recurse, final ValidationOptions options) throws ValidationException {
 
         // validate that getAlarms() only contains VAlarm components
         for (VAlarm component : getAlarms()) {
-            component.validate(recurse);
+            component.validate(recurse, options);
         }
 
-        if (!CompatibilityHints
-                .isHintEnabled(CompatibilityHints.KEY_RELAXED_VALIDATION)) {
-
-            // From "4.8.4.7 Unique Identifier":
-            // Conformance: The property MUST be specified in the "VEVENT", "VTODO",
-            // "VJOURNAL" or "VFREEBUSY" calendar components.
-            PropertyValidator.getInstance().assertOne(Property.UID,
-                    getProperties());
-
-            // From "4.8.7.2 Date/Time Stamp":
-            // Conformance: This property MUST be included in the "VEVENT", "VTODO",
-            // "VJOURNAL" or "VFREEBUSY" calendar components.
-            PropertyValidator.getInstance().assertOne(Property.DTSTAMP,
-                    getProperties());
-        }
-
-        /*
-         * ; the following are optional, ; but MUST NOT occur more than once class / completed / created / description /
-         * dtstamp / dtstart / geo / last-mod / location / organizer / percent / priority / recurid / seq / status /
-         * summary / uid / url /
-         */
-        Arrays.asList(Property.CLASS, Property.COMPLETED, Property.CREATED, Property.DESCRIPTION,
-                Property.DTSTAMP, Property.DTSTART, Property.GEO, Property.LAST_MODIFIED, Property.LOCATION, Property.ORGANIZER,
-                Property.PERCENT_COMPLETE, Property.PRIORITY, Property.RECURRENCE_ID, Property.SEQUENCE, Property.STATUS,
-                Property.SUMMARY, Property.UID, Property.URL).forEach(property -> PropertyValidator.getInstance().assertOneOrLess(property, getProperties()));
+        RULES.validate(getProperties(), options);
 
         final Status status = getProperty(Property.STATUS);
         if (status != null && !Status.VTODO_NEEDS_ACTION.getValue().equals(status.getValue())
@@ -289,7 +303,7 @@ public class VToDo extends CalendarComponent {
          */
 
         if (recurse) {
-            validateProperties();
+            validateProperties(options);
         }
     }
 
@@ -33,7 +33,7 @@ package net.fortuna.ical4j.model.component;
 
 import net.fortuna.ical4j.model.PropertyList;
 import net.fortuna.ical4j.model.property.Method;
-import net.fortuna.ical4j.util.CompatibilityHints;
+import net.fortuna.ical4j.validate.ValidationOptions;
 import net.fortuna.ical4j.validate.ValidationException;
 import net.fortuna.ical4j.validate.Validator;
 
@@ -71,8 +71,16 @@ public class XComponent extends CalendarComponent {
      */
     public final void validate(final boolean recurse)
             throws ValidationException {
+        validate(recurse, ValidationOptions.defaults());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void validate(final boolean recurse, final ValidationOptions options) throws ValidationException {
         
-        if (!CompatibilityHints.isHintEnabled(CompatibilityHints.KEY_RELAXED_VALIDATION)
+        if (!options.isRelaxedValidation()
                 && !getName().startsWith(EXPERIMENTAL_PREFIX)) {
             
             throw new ValidationException(
@@ -81,7 +89,7 @@ public class XComponent extends CalendarComponent {
         }
         
         if (recurse) {
-            validateProperties();
+            validateProperties(options);
         }
     }
     
@@ -31,6 +31,7 @@
  */
 package net.fortuna.ical4j.model.parameter;
 
+import net.fortuna.ical4j.data.ParserOptions;
 import net.fortuna.ical4j.model.*;
 import net.fortuna.ical4j.util.Strings;
 
@@ -54,7 +55,16 @@ public class Member extends Parameter {
      * @throws URISyntaxException when the specified string is not a valid list of (quoted) cal-addresses
      */
     public Member(final String aValue) throws URISyntaxException {
-        this(new AddressList(Strings.unquote(aValue)));
+        this(aValue, ParserOptions.defaults());
+    }
+
+    /**
+     * @param aValue a string representation of a group or list membership
+     * @param options the parser options applied to the value
+     * @throws URISyntaxException when the specified string is not a valid list of (quoted) cal-addresses
+     */
+    public Member(final String aValue, final ParserOptions options) throws URISyntaxException {
+        this(new AddressList(Strings.unquote(aValue), options));
     }
 
     /**
@@ -97,6 +107,12 @@ public class Member extends Parameter {
         public Parameter createParameter(final String value) throws URISyntaxException {
             return new Member(value);
         }
+
+        @Override
+        public Parameter createParameter(final String value, final ParserOptions options)
+                throws URISyntaxException {
+            return new Member(value, options);
+        }
     }
 
 }
@@ -31,10 +31,10 @@
  */
 package net.fortuna.ical4j.model.parameter;
 
+import net.fortuna.ical4j.data.ParserOptions;
 import net.fortuna.ical4j.model.Content;
 import net.fortuna.ical4j.model.Parameter;
 import net.fortuna.ical4j.model.ParameterFactory;
-import net.fortuna.ical4j.util.CompatibilityHints;
 import net.fortuna.ical4j.util.Strings;
 
 import java.net.URISyntaxException;
@@ -70,13 +70,21 @@ public class Range extends Parameter {
      * @param aValue a string representation of a recurrence identifier range
      */
     public Range(final String aValue) {
+        this(aValue, ParserOptions.defaults());
+    }
+
+    /**
+     * @param aValue a string representation of a recurrence identifier range
+     * @param options the parser options applied to the value
+     */
+    public Range(final String aValue, final ParserOptions options) {
         super(RANGE, new Factory());
         this.value = Strings.unquote(aValue);
 
         // allow arbitrary ranges for Lotus Notes..
         // eg. X-LOTUS-RECURID;RANGE=ALL:20101006T203000Z
 
-        if (!CompatibilityHints.isHintEnabled(CompatibilityHints.KEY_NOTES_COMPATIBILITY)) {
+        if (!options.isNotesCompatibility()) {
             // value must be one of finite list..
             if (!VALUE_THISANDPRIOR.equals(value)
                     && !VALUE_THISANDFUTURE.equals(value)) {
@@ -100,7 +108,13 @@ public class Range extends Parameter {
         }
 
         public Parameter createParameter(final String value) throws URISyntaxException {
-            Range parameter = new Range(value);
+            return createParameter(value, ParserOptions.defaults());
+        }
+
+        @Override
+        public Parameter createParameter(final String value, final ParserOptions options)
+                throws URISyntaxException {
+            Range parameter = new Range(value, options);
             if (Range.THISANDFUTURE.equals(parameter)) {
                 parameter = Range.THISANDFUTURE;
             } else if (Range.THISANDPRIOR.equals(parameter)) {
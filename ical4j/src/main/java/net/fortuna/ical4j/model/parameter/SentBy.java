@@ -31,6 +31,7 @@
  */
 package net.fortuna.ical4j.model.parameter;
 
+import net.fortuna.ical4j.data.ParserOptions;
 import net.fortuna.ical4j.model.Content;
 import net.fortuna.ical4j.model.Parameter;
 import net.fortuna.ical4j.model.ParameterFactory;
@@ -58,7 +59,16 @@ public class SentBy extends Parameter {
      * @throws URISyntaxException when the specified string is not a valid (quoted) uri
      */
     public SentBy(final String aValue) throws URISyntaxException {
-        this(Uris.create(Strings.unquote(aValue)));
+        this(aValue, ParserOptions.defaults());
+    }
+
+    /**
+     * @param aValue a string representation of a sent by
+     * @param options the parser options applied to the value
+     * @throws URISyntaxException when the specified string is not a valid (quoted) uri
+     */
+    public SentBy(final String aValue, final ParserOptions options) throws URISyntaxException {
+        this(Uris.create(Strings.unquote(aValue), options));
     }
 
     /**
@@ -93,6 +103,12 @@ public class SentBy extends Parameter {
         public Parameter createParameter(final String value) throws URISyntaxException {
             return new SentBy(value);
         }
+
+        @Override
+        public Parameter createParameter(final String value, final ParserOptions options)
+                throws URISyntaxException {
+            return new SentBy(value, options);
+        }
     }
 
 }
@@ -7,6 +7,7 @@
  */
 package net.fortuna.ical4j.model.property;
 
+import net.fortuna.ical4j.data.ParserOptions;
 import net.fortuna.ical4j.model.*;
 
 import java.io.IOException;
@@ -124,6 +125,18 @@ public class Acknowledged extends UtcProperty{
         setValue(aValue);
     }
 
+    /**
+     * @param aList a list of parameters for this component
+     * @param aValue a value string for this component
+     * @param options the parser options applied to the value
+     * @throws ParseException where the specified value string is not a valid date-time/date representation
+     */
+    public Acknowledged(final ParameterList aList, final String aValue, final ParserOptions options)
+            throws ParseException {
+        super(ACKNOWLEDGED, aList, new Factory());
+        setValue(aValue, options);
+    }
+
     /**
      * @param aDate a date representing a date-time 
      */
@@ -157,6 +170,13 @@ public class Acknowledged extends UtcProperty{
             return new Acknowledged(parameters, value);
         }
 
+        @Override
+        public Property createProperty(final ParameterList parameters, final String value,
+                                       final ParserOptions options)
+                throws IOException, URISyntaxException, ParseException {
+            return new Acknowledged(parameters, value, options);
+        }
+
         public Property createProperty() {
             return new Acknowledged();
         }
@@ -31,6 +31,7 @@
  */
 package net.fortuna.ical4j.model.property;
 
+import net.fortuna.ical4j.data.ParserOptions;
 import net.fortuna.ical4j.model.*;
 import net.fortuna.ical4j.model.parameter.Encoding;
 import net.fortuna.ical4j.model.parameter.Value;
@@ -133,6 +134,18 @@ public class Attach extends Property {
         setValue(aValue);
     }
 
+    /**
+     * @param aList  a list of parameters for this component
+     * @param aValue a value string for this component
+     * @param options the parser options applied to the value
+     * @throws URISyntaxException where the specified string is not a valid uri
+     */
+    public Attach(final ParameterList aList, final String aValue, final ParserOptions options)
+            throws URISyntaxException {
+        super(ATTACH, aList, new Factory());
+        setValue(aValue, options);
+    }
+
     /**
      * @param data binary data
      */
@@ -226,6 +239,16 @@ public class Attach extends Property {
      */
     public final void setValue(final String aValue) throws
             URISyntaxException {
+        setValue(aValue, ParserOptions.defaults());
+    }
+
+    /**
+     * @param aValue a string representation of a URI or an encoded binary value
+     * @param options the parser options applied to the value
+     * @throws URISyntaxException where the specified string is not a valid uri
+     */
+    public final void setValue(final String aValue, final ParserOptions options) throws
+            URISyntaxException {
 
         // determine if ATTACH is a URI or an embedded
         // binary..
@@ -246,7 +269,7 @@ public class Attach extends Property {
         }
         // assume URI..
         else {
-            uri = Uris.create(aValue);
+            uri = Uris.create(aValue, options);
         }
     }
 
@@ -301,6 +324,13 @@ public class Attach extends Property {
             return new Attach(parameters, value);
         }
 
+        @Override
+        public Property createProperty(final ParameterList parameters, final String value,
+                                       final ParserOptions options)
+                throws IOException, URISyntaxException, ParseException {
+            return new Attach(parameters, value, options);
+        }
+
         public Property createProperty() {
             return new Attach();
         }
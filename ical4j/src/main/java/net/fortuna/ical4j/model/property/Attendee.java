@@ -31,6 +31,7 @@
  */
 package net.fortuna.ical4j.model.property;
 
+import net.fortuna.ical4j.data.ParserOptions;
 import net.fortuna.ical4j.model.*;
 import net.fortuna.ical4j.util.Strings;
 import net.fortuna.ical4j.util.Uris;
@@ -85,6 +86,18 @@ public class Attendee extends Property {
         setValue(aValue);
     }
 
+    /**
+     * @param aList  a list of parameters for this component
+     * @param aValue a value string for this component
+     * @param options the parser options applied to the value
+     * @throws URISyntaxException where the specified value string is not a valid uri
+     */
+    public Attendee(final ParameterList aList, final String aValue, final ParserOptions options)
+            throws URISyntaxException {
+        super(ATTENDEE, aList, new Factory());
+        setValue(aValue, options);
+    }
+
     /**
      * @param aUri a URI
      */
@@ -106,7 +119,16 @@ public class Attendee extends Property {
      * {@inheritDoc}
      */
     public final void setValue(final String aValue) throws URISyntaxException {
-        calAddress = Uris.create(aValue);
+        setValue(aValue, ParserOptions.defaults());
+    }
+
+    /**
+     * @param aValue a string representation of a cal-address
+     * @param options the parser options applied to the value
+     * @throws URISyntaxException where the specified string is not a valid cal-address
+     */
+    public final void setValue(final String aValue, final ParserOptions options) throws URISyntaxException {
+        calAddress = Uris.create(aValue, options);
     }
 
     /**
@@ -175,6 +197,13 @@ public class Attendee extends Property {
             return new Attendee(parameters, value);
         }
 
+        @Override
+        public Property createProperty(final ParameterList parameters, final String value,
+                                       final ParserOptions options)
+                throws IOException, URISyntaxException, ParseException {
+            return new Attendee(parameters, value, options);
+        }
+
         public Property createProperty() {
             return new Attendee();
         }
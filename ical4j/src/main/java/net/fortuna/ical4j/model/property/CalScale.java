@@ -35,7 +35,7 @@ import net.fortuna.ical4j.model.Content;
 import net.fortuna.ical4j.model.ParameterList;
 import net.fortuna.ical4j.model.Property;
 import net.fortuna.ical4j.model.PropertyFactory;
-import net.fortuna.ical4j.util.CompatibilityHints;
+import net.fortuna.ical4j.validate.ValidationOptions;
 import net.fortuna.ical4j.validate.ValidationException;
 
 import java.io.IOException;
@@ -127,7 +127,15 @@ public class CalScale extends Property {
      * {@inheritDoc}
      */
     public final void validate() throws ValidationException {
-        if (CompatibilityHints.isHintEnabled(CompatibilityHints.KEY_RELAXED_VALIDATION)) {
+        validate(ValidationOptions.defaults());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void validate(final ValidationOptions options) throws ValidationException {
+        if (options.isRelaxedValidation()) {
             if (!GREGORIAN.getValue().equalsIgnoreCase(value)) {
                 throw new ValidationException("Invalid value [" + value + "]");
             }
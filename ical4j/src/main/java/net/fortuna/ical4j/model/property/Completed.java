@@ -31,6 +31,7 @@
  */
 package net.fortuna.ical4j.model.property;
 
+import net.fortuna.ical4j.data.ParserOptions;
 import net.fortuna.ical4j.model.*;
 
 import java.io.IOException;
@@ -102,6 +103,18 @@ public class Completed extends UtcProperty {
         setValue(aValue);
     }
 
+    /**
+     * @param aList  a list of parameters for this component
+     * @param aValue a value string for this component
+     * @param options the parser options applied to the value
+     * @throws ParseException when the specified string is not a valid date-time represenation
+     */
+    public Completed(final ParameterList aList, final String aValue, final ParserOptions options)
+            throws ParseException {
+        super(COMPLETED, aList, new Factory());
+        setValue(aValue, options);
+    }
+
     /**
      * @param aDate a date
      */
@@ -135,6 +148,13 @@ public class Completed extends UtcProperty {
             return new Completed(parameters, value);
         }
 
+        @Override
+        public Property createProperty(final ParameterList parameters, final String value,
+                                       final ParserOptions options)
+                throws IOException, URISyntaxException, ParseException {
+            return new Completed(parameters, value, options);
+        }
+
         public Property createProperty() {
             return new Completed();
         }
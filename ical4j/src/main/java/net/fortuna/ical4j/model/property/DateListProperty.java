@@ -31,6 +31,7 @@
  */
 package net.fortuna.ical4j.model.property;
 
+import net.fortuna.ical4j.data.ParserOptions;
 import net.fortuna.ical4j.model.*;
 import net.fortuna.ical4j.model.parameter.TzId;
 import net.fortuna.ical4j.model.parameter.Value;
@@ -108,8 +109,21 @@ public abstract class DateListProperty extends Property {
      * {@inheritDoc}
      */
     public void setValue(final String aValue) throws ParseException {
+        parseValue(aValue, ParserOptions.defaults());
+    }
+
+    /**
+     * @param aValue a string representation of a list of dates
+     * @param options the parser options applied to the value
+     * @throws ParseException where the specified string is not a valid date list
+     */
+    public void setValue(final String aValue, final ParserOptions options) throws ParseException {
+        parseValue(aValue, options);
+    }
+
+    private void parseValue(final String aValue, final ParserOptions options) throws ParseException {
         dates = new DateList(aValue, getParameter(Parameter.VALUE),
-                timeZone);
+                timeZone, options);
     }
 
     /**
@@ -31,6 +31,7 @@
  */
 package net.fortuna.ical4j.model.property;
 
+import net.fortuna.ical4j.data.ParserOptions;
 import net.fortuna.ical4j.model.*;
 import net.fortuna.ical4j.model.parameter.TzId;
 import net.fortuna.ical4j.model.parameter.Value;
@@ -128,13 +129,29 @@ public abstract class DateProperty extends Property {
      *                        representation
      */
     public void setValue(final String value) throws ParseException {
+        parseValue(value, ParserOptions.defaults());
+    }
+
+    /**
+     * Sets the value, applying the specified parser options. Allows for either DATE or DATE-TIME values.
+     *
+     * @param value a string representation of a DATE or DATE-TIME value
+     * @param options the parser options applied to the value
+     * @throws ParseException where the specified value is not a valid DATE or DATE-TIME
+     *                        representation
+     */
+    public void setValue(final String value, final ParserOptions options) throws ParseException {
+        parseValue(value, options);
+    }
+
+    private void parseValue(final String value, final ParserOptions options) throws ParseException {
         // value can be either a date-time or a date..
         if (Value.DATE.equals(getParameter(Parameter.VALUE))) {
             // ensure timezone is null for VALUE=DATE properties..
             updateTimeZone(null);
-            this.date = new Date(value);
+            this.date = new Date(value, options);
         } else if (value != null && !value.isEmpty()){
-            this.date = new DateTime(value, timeZone);
+            this.date = new DateTime(value, timeZone, options);
         }
     }
 
@@ -31,6 +31,7 @@
  */
 package net.fortuna.ical4j.model.property;
 
+import net.fortuna.ical4j.data.ParserOptions;
 import net.fortuna.ical4j.model.*;
 
 import java.io.IOException;
@@ -113,6 +114,18 @@ public class DtStamp extends UtcProperty implements Comparable<DtStamp> {
         setValue(aValue);
     }
 
+    /**
+     * @param aList  a list of parameters for this component
+     * @param aValue a value string for this component
+     * @param options the parser options applied to the value
+     * @throws ParseException where the specified value string is not a valid date-time/date representation
+     */
+    public DtStamp(final ParameterList aList, final String aValue, final ParserOptions options)
+            throws ParseException {
+        super(DTSTAMP, aList, new Factory());
+        setValue(aValue, options);
+    }
+
     /**
      * @param aDate a date representing a date-time
      */
@@ -151,6 +164,13 @@ public class DtStamp extends UtcProperty implements Comparable<DtStamp> {
             return new DtStamp(parameters, value);
         }
 
+        @Override
+        public Property createProperty(final ParameterList parameters, final String value,
+                                       final ParserOptions options)
+                throws IOException, URISyntaxException, ParseException {
+            return new DtStamp(parameters, value, options);
+        }
+
         public Property createProperty() {
             return new DtStamp();
         }
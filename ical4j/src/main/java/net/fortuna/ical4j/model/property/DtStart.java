@@ -31,6 +31,7 @@
  */
 package net.fortuna.ical4j.model.property;
 
+import net.fortuna.ical4j.data.ParserOptions;
 import net.fortuna.ical4j.model.*;
 
 import java.io.IOException;
@@ -157,6 +158,18 @@ public class DtStart extends DateProperty {
         setValue(aValue);
     }
 
+    /**
+     * @param aList  a list of parameters for this component
+     * @param aValue a value string for this component
+     * @param options the parser options applied to the value
+     * @throws ParseException where the specified value string is not a valid date-time/date representation
+     */
+    public DtStart(final ParameterList aList, final String aValue, final ParserOptions options)
+            throws ParseException {
+        super(DTSTART, aList, new Factory());
+        setValue(aValue, options);
+    }
+
     /**
      * Constructor. Date or Date-Time format is determined based on the presence of a VALUE parameter.
      *
@@ -202,6 +215,13 @@ public class DtStart extends DateProperty {
             return new DtStart(parameters, value);
         }
 
+        @Override
+        public Property createProperty(final ParameterList parameters, final String value,
+                                       final ParserOptions options)
+                throws IOException, URISyntaxException, ParseException {
+            return new DtStart(parameters, value, options);
+        }
+
         public Property createProperty() {
             return new DtStart();
         }
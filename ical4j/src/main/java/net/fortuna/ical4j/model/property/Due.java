@@ -31,6 +31,7 @@
  */
 package net.fortuna.ical4j.model.property;
 
+import net.fortuna.ical4j.data.ParserOptions;
 import net.fortuna.ical4j.model.*;
 
 import java.io.IOException;
@@ -147,6 +148,18 @@ public class Due extends DateProperty {
         setValue(aValue);
     }
 
+    /**
+     * @param aList  a list of parameters for this component
+     * @param aValue a value string for this component
+     * @param options the parser options applied to the value
+     * @throws ParseException when the specified string is not a valid date/date-time representation
+     */
+    public Due(final ParameterList aList, final String aValue, final ParserOptions options)
+            throws ParseException {
+        super(DUE, aList, new Factory());
+        setValue(aValue, options);
+    }
+
     /**
      * Constructor. Date or Date-Time format is determined based on the presence of a VALUE parameter.
      *
@@ -180,6 +193,13 @@ public class Due extends DateProperty {
             return new Due(parameters, value);
         }
 
+        @Override
+        public Property createProperty(final ParameterList parameters, final String value,
+                                       final ParserOptions options)
+                throws IOException, URISyntaxException, ParseException {
+            return new Due(parameters, value, options);
+        }
+
         public Property createProperty() {
             return new Due();
         }
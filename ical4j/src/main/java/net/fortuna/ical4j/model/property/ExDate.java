@@ -31,6 +31,7 @@
  */
 package net.fortuna.ical4j.model.property;
 
+import net.fortuna.ical4j.data.ParserOptions;
 import net.fortuna.ical4j.model.*;
 import net.fortuna.ical4j.model.parameter.Value;
 import net.fortuna.ical4j.validate.ParameterValidator;
@@ -71,6 +72,18 @@ public class ExDate extends DateListProperty {
         setValue(aValue);
     }
 
+    /**
+     * @param aList  a list of parameters for this component
+     * @param aValue a value string for this component
+     * @param options the parser options applied to the value
+     * @throws ParseException where the specified value string is not a valid date-time/date representation
+     */
+    public ExDate(final ParameterList aList, final String aValue, final ParserOptions options)
+            throws ParseException {
+        super(EXDATE, aList, new Factory());
+        setValue(aValue, options);
+    }
+
     /**
      * @param dList a list of dates
      */
@@ -126,6 +139,13 @@ public class ExDate extends DateListProperty {
             return new ExDate(parameters, value);
         }
 
+        @Override
+        public Property createProperty(final ParameterList parameters, final String value,
+                                       final ParserOptions options)
+                throws IOException, URISyntaxException, ParseException {
+            return new ExDate(parameters, value, options);
+        }
+
         public Property createProperty() {
             return new ExDate();
         }
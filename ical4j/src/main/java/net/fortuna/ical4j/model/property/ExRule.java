@@ -31,6 +31,7 @@
  */
 package net.fortuna.ical4j.model.property;
 
+import net.fortuna.ical4j.data.ParserOptions;
 import net.fortuna.ical4j.model.*;
 import net.fortuna.ical4j.model.Recur.Frequency;
 import net.fortuna.ical4j.validate.ValidationException;
@@ -74,6 +75,19 @@ public class ExRule extends Property {
         setValue(aValue);
     }
 
+    /**
+     * @param aList  a list of parameters for this component
+     * @param aValue a value string for this component
+     * @param options the parser options applied to the value
+     * @throws ParseException thrown when the specified string is not a valid representaton of a recurrence
+     * @see Recur#Recur(String)
+     */
+    public ExRule(final ParameterList aList, final String aValue, final ParserOptions options)
+            throws ParseException {
+        super(EXRULE, aList, new Factory());
+        setValue(aValue, options);
+    }
+
     /**
      * @param aRecur a recurrence
      */
@@ -102,7 +116,16 @@ public class ExRule extends Property {
      * {@inheritDoc}
      */
     public final void setValue(final String aValue) throws ParseException {
-        recur = new Recur(aValue);
+        setValue(aValue, ParserOptions.defaults());
+    }
+
+    /**
+     * @param aValue a string representation of a recurrence rule
+     * @param options the parser options applied to the value
+     * @throws ParseException where the specified string is not a valid recurrence rule
+     */
+    public final void setValue(final String aValue, final ParserOptions options) throws ParseException {
+        recur = new Recur(aValue, options);
     }
 
     /**
@@ -136,6 +159,13 @@ public class ExRule extends Property {
             return new ExRule(parameters, value);
         }
 
+        @Override
+        public Property createProperty(final ParameterList parameters, final String value,
+                                       final ParserOptions options)
+                throws IOException, URISyntaxException, ParseException {
+            return new ExRule(parameters, value, options);
+        }
+
         public Property createProperty() {
             return new ExRule();
         }
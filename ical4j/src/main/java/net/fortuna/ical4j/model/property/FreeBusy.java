@@ -31,6 +31,7 @@
  */
 package net.fortuna.ical4j.model.property;
 
+import net.fortuna.ical4j.data.ParserOptions;
 import net.fortuna.ical4j.model.*;
 import net.fortuna.ical4j.validate.ParameterValidator;
 import net.fortuna.ical4j.validate.ValidationException;
@@ -138,6 +139,18 @@ public class FreeBusy extends Property {
         setValue(aValue);
     }
 
+    /**
+     * @param aList  a list of parameters for this component
+     * @param aValue a value string for this component
+     * @param options the parser options applied to the value
+     * @throws ParseException when the specified string is not a valid list of periods
+     */
+    public FreeBusy(final ParameterList aList, final String aValue, final ParserOptions options)
+            throws ParseException {
+        super(FREEBUSY, aList, new Factory());
+        setValue(aValue, options);
+    }
+
     /**
      * @param pList a list of periods
      */
@@ -192,7 +205,16 @@ public class FreeBusy extends Property {
      * {@inheritDoc}
      */
     public final void setValue(final String aValue) throws ParseException {
-        periods = new PeriodList(aValue);
+        setValue(aValue, ParserOptions.defaults());
+    }
+
+    /**
+     * @param aValue a string representation of a list of periods
+     * @param options the parser options applied to the value
+     * @throws ParseException where the specified string is not a valid list of periods
+     */
+    public final void setValue(final String aValue, final ParserOptions options) throws ParseException {
+        periods = new PeriodList(aValue, options);
     }
 
     /**
@@ -214,6 +236,13 @@ public class FreeBusy extends Property {
             return new FreeBusy(parameters, value);
         }
 
+        @Override
+        public Property createProperty(final ParameterList parameters, final String value,
+                                       final ParserOptions options)
+                throws IOException, URISyntaxException, ParseException {
+            return new FreeBusy(parameters, value, options);
+        }
+
         public Property createProperty() {
             return new FreeBusy();
         }
@@ -31,6 +31,7 @@
  */
 package net.fortuna.ical4j.model.property;
 
+import net.fortuna.ical4j.data.ParserOptions;
 import net.fortuna.ical4j.model.*;
 
 import java.io.IOException;
@@ -106,6 +107,18 @@ public class LastModified extends UtcProperty {
         setValue(aValue);
     }
 
+    /**
+     * @param aList  a list of parameters for this component
+     * @param aValue a value string for this component
+     * @param options the parser options applied to the value
+     * @throws ParseException where the specified value string is not a valid date-time/date representation
+     */
+    public LastModified(final ParameterList aList, final String aValue, final ParserOptions options)
+            throws ParseException {
+        super(LAST_MODIFIED, aList, new Factory());
+        setValue(aValue, options);
+    }
+
     /**
      * @param aDate a date representation of a date-time value
      */
@@ -139,6 +152,13 @@ public class LastModified extends UtcProperty {
             return new LastModified(parameters, value);
         }
 
+        @Override
+        public Property createProperty(final ParameterList parameters, final String value,
+                                       final ParserOptions options)
+                throws IOException, URISyntaxException, ParseException {
+            return new LastModified(parameters, value, options);
+        }
+
         public Property createProperty() {
             return new LastModified();
         }
@@ -31,6 +31,7 @@
  */
 package net.fortuna.ical4j.model.property;
 
+import net.fortuna.ical4j.data.ParserOptions;
 import net.fortuna.ical4j.model.*;
 import net.fortuna.ical4j.util.Strings;
 import net.fortuna.ical4j.util.Uris;
@@ -164,6 +165,18 @@ public class Organizer extends Property {
         setValue(aValue);
     }
 
+    /**
+     * @param aList  a list of parameters for this component
+     * @param aValue a value string for this component
+     * @param options the parser options applied to the value
+     * @throws URISyntaxException where the specified value string is not a valid uri
+     */
+    public Organizer(final ParameterList aList, final String aValue, final ParserOptions options)
+            throws URISyntaxException {
+        super(ORGANIZER, aList, new Factory());
+        setValue(aValue, options);
+    }
+
     /**
      * @param aUri a URI representation of a calendar address
      */
@@ -214,7 +227,16 @@ public class Organizer extends Property {
      * {@inheritDoc}
      */
     public final void setValue(final String aValue) throws URISyntaxException {
-        calAddress = Uris.create(aValue);
+        setValue(aValue, ParserOptions.defaults());
+    }
+
+    /**
+     * @param aValue a string representation of a cal-address
+     * @param options the parser options applied to the value
+     * @throws URISyntaxException where the specified string is not a valid cal-address
+     */
+    public final void setValue(final String aValue, final ParserOptions options) throws URISyntaxException {
+        calAddress = Uris.create(aValue, options);
     }
 
     /**
@@ -243,6 +265,13 @@ public class Organizer extends Property {
             return new Organizer(parameters, value);
         }
 
+        @Override
+        public Property createProperty(final ParameterList parameters, final String value,
+                                       final ParserOptions options)
+                throws IOException, URISyntaxException, ParseException {
+            return new Organizer(parameters, value, options);
+        }
+
         public Property createProperty() {
             return new Organizer();
         }
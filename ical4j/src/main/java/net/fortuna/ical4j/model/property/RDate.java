@@ -31,6 +31,7 @@
  */
 package net.fortuna.ical4j.model.property;
 
+import net.fortuna.ical4j.data.ParserOptions;
 import net.fortuna.ical4j.model.*;
 import net.fortuna.ical4j.model.parameter.Value;
 import net.fortuna.ical4j.util.Strings;
@@ -153,6 +154,19 @@ public class RDate extends DateListProperty {
         setValue(aValue);
     }
 
+    /**
+     * @param aList  a list of parameters for this component
+     * @param aValue a value string for this component
+     * @param options the parser options applied to the value
+     * @throws ParseException where the specified value string is not a valid date-time/date representation
+     */
+    public RDate(final ParameterList aList, final String aValue, final ParserOptions options)
+            throws ParseException {
+        super(RDATE, aList, new Factory());
+        periods = new PeriodList(false, true);
+        setValue(aValue, options);
+    }
+
     /**
      * Constructor. Date or Date-Time format is determined based on the presence of a VALUE parameter.
      *
@@ -235,10 +249,17 @@ public class RDate extends DateListProperty {
      * {@inheritDoc}
      */
     public final void setValue(final String aValue) throws ParseException {
+        setValue(aValue, ParserOptions.defaults());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public final void setValue(final String aValue, final ParserOptions options) throws ParseException {
         if (Value.PERIOD.equals(getParameter(Parameter.VALUE))) {
-            periods = new PeriodList(aValue);
+            periods = new PeriodList(aValue, options);
         } else {
-            super.setValue(aValue);
+            super.setValue(aValue, options);
         }
     }
 
@@ -275,6 +296,13 @@ public class RDate extends DateListProperty {
             return new RDate(parameters, value);
         }
 
+        @Override
+        public Property createProperty(final ParameterList parameters, final String value,
+                                       final ParserOptions options)
+                throws IOException, URISyntaxException, ParseException {
+            return new RDate(parameters, value, options);
+        }
+
         public Property createProperty() {
             return new RDate();
         }
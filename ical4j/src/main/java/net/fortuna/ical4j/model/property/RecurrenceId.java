@@ -31,6 +31,7 @@
  */
 package net.fortuna.ical4j.model.property;
 
+import net.fortuna.ical4j.data.ParserOptions;
 import net.fortuna.ical4j.model.*;
 import net.fortuna.ical4j.validate.ParameterValidator;
 import net.fortuna.ical4j.validate.ValidationException;
@@ -181,6 +182,18 @@ public class RecurrenceId extends DateProperty {
         setValue(aValue);
     }
 
+    /**
+     * @param aList  a list of parameters for this component
+     * @param aValue a value string for this component
+     * @param options the parser options applied to the value
+     * @throws ParseException where the specified value string is not a valid date-time/date representation
+     */
+    public RecurrenceId(final ParameterList aList, final String aValue, final ParserOptions options)
+            throws ParseException {
+        super(RECURRENCE_ID, aList, new Factory());
+        setValue(aValue, options);
+    }
+
     /**
      * Constructor. Date or Date-Time format is determined based on the presence of a VALUE parameter.
      *
@@ -233,6 +246,13 @@ public class RecurrenceId extends DateProperty {
             return new RecurrenceId(parameters, value);
         }
 
+        @Override
+        public Property createProperty(final ParameterList parameters, final String value,
+                                       final ParserOptions options)
+                throws IOException, URISyntaxException, ParseException {
+            return new RecurrenceId(parameters, value, options);
+        }
+
         public Property createProperty() {
             return new RecurrenceId();
         }
@@ -31,6 +31,7 @@
  */
 package net.fortuna.ical4j.model.property;
 
+import net.fortuna.ical4j.data.ParserOptions;
 import net.fortuna.ical4j.model.*;
 import net.fortuna.ical4j.model.parameter.Value;
 import net.fortuna.ical4j.validate.ParameterValidator;
@@ -165,6 +166,16 @@ public class Trigger extends UtcProperty {
         setValue(aValue);
     }
 
+    /**
+     * @param aList  a list of parameters for this component
+     * @param aValue a value string for this component
+     * @param options the parser options applied to the value
+     */
+    public Trigger(final ParameterList aList, final String aValue, final ParserOptions options) {
+        super(TRIGGER, aList, new Factory());
+        setValue(aValue, options);
+    }
+
     /**
      * @param duration a duration in milliseconds
      */
@@ -263,8 +274,15 @@ public class Trigger extends UtcProperty {
      * {@inheritDoc}
      */
     public final void setValue(final String aValue) {
+        setValue(aValue, ParserOptions.defaults());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public final void setValue(final String aValue, final ParserOptions options) {
         try {
-            super.setValue(aValue);
+            super.setValue(aValue, options);
             duration = null;
         } catch (ParseException pe) {
             duration = TemporalAmountAdapter.parse(aValue);
@@ -315,6 +333,13 @@ public class Trigger extends UtcProperty {
             return new Trigger(parameters, value);
         }
 
+        @Override
+        public Property createProperty(final ParameterList parameters, final String value,
+                                       final ParserOptions options)
+                throws IOException, URISyntaxException, ParseException {
+            return new Trigger(parameters, value, options);
+        }
+
         public Property createProperty() {
             return new Trigger();
         }
@@ -31,6 +31,7 @@
  */
 package net.fortuna.ical4j.model.property;
 
+import net.fortuna.ical4j.data.ParserOptions;
 import net.fortuna.ical4j.model.*;
 import net.fortuna.ical4j.util.Strings;
 import net.fortuna.ical4j.util.Uris;
@@ -109,6 +110,18 @@ public class Url extends Property {
         setValue(aValue);
     }
 
+    /**
+     * @param aList  a list of parameters for this component
+     * @param aValue a value string for this component
+     * @param options the parser options applied to the value
+     * @throws URISyntaxException where the specified value string is not a valid uri
+     */
+    public Url(final ParameterList aList, final String aValue, final ParserOptions options)
+            throws URISyntaxException {
+        super(URL, aList, new Factory());
+        setValue(aValue, options);
+    }
+
     /**
      * @param aUri a URI
      */
@@ -137,7 +150,16 @@ public class Url extends Property {
      * {@inheritDoc}
      */
     public final void setValue(final String aValue) throws URISyntaxException {
-        uri = Uris.create(aValue);
+        setValue(aValue, ParserOptions.defaults());
+    }
+
+    /**
+     * @param aValue a string representation of a uri
+     * @param options the parser options applied to the value
+     * @throws URISyntaxException where the specified string is not a valid uri
+     */
+    public final void setValue(final String aValue, final ParserOptions options) throws URISyntaxException {
+        uri = Uris.create(aValue, options);
     }
 
     /**
@@ -171,6 +193,13 @@ public class Url extends Property {
             return new Url(parameters, value);
         }
 
+        @Override
+        public Property createProperty(final ParameterList parameters, final String value,
+                                       final ParserOptions options)
+                throws IOException, URISyntaxException, ParseException {
+            return new Url(parameters, value, options);
+        }
+
         public Property createProperty() {
             return new Url();
         }
@@ -32,7 +32,7 @@
 package net.fortuna.ical4j.model.property;
 
 import net.fortuna.ical4j.model.*;
-import net.fortuna.ical4j.util.CompatibilityHints;
+import net.fortuna.ical4j.validate.ValidationOptions;
 import net.fortuna.ical4j.validate.ValidationException;
 
 import java.io.IOException;
@@ -99,8 +99,16 @@ public class XProperty extends Property implements Escapable {
      * {@inheritDoc}
      */
     public final void validate() throws ValidationException {
+        validate(ValidationOptions.defaults());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void validate(final ValidationOptions options) throws ValidationException {
         
-        if (!CompatibilityHints.isHintEnabled(CompatibilityHints.KEY_RELAXED_VALIDATION)
+        if (!options.isRelaxedValidation()
                 && !getName().startsWith(EXPERIMENTAL_PREFIX)) {
             
             throw new ValidationException(
@@ -3,7 +3,6 @@ package net.fortuna.ical4j.transform;
 import net.fortuna.ical4j.model.*;
 import net.fortuna.ical4j.transform.rfc5545.RuleManager;
 
-import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 
 public class Rfc5545Transformer implements Transformer<Calendar> {
@@ -22,24 +21,13 @@ public class Rfc5545Transformer implements Transformer<Calendar> {
             //each component property
             conformPropertiesToRfc5545(component.getProperties());
 
-            for(java.lang.reflect.Method m : component.getClass().getDeclaredMethods()){
-                if(ComponentList.class.isAssignableFrom(m.getReturnType()) &&
-                        m.getName().startsWith("get")){
-
-                    try {
-                        List<Component> components = (List<Component>) m.invoke(component);
-                        for(Component c : components){
-                            //each inner component
-                            conformComponentToRfc5545(c);
-
-                            //each inner component properties
-                            conformPropertiesToRfc5545(c.getProperties());
-                        }
-                    } catch (IllegalArgumentException | IllegalAccessException | InvocationTargetException e) {
-                        throw new RuntimeException(e);
-                    }
-                }
-            }
+            component.forEachSubComponent(c -> {
+                //each inner component
+                conformComponentToRfc5545(c);
+
+                //each inner component properties
+                conformPropertiesToRfc5545(c.getProperties());
+            });
         }
         return object;
     }
@@ -10,9 +10,14 @@ package net.fortuna.ical4j.transform.rfc5545;
 import net.fortuna.ical4j.model.Component;
 import net.fortuna.ical4j.model.Property;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Manages the rules that can be applied to ICS elements. New rules can be simply added by creating new implementations
@@ -44,6 +49,13 @@ public class RuleManager {
         }
     }
 
+    /**
+     * Supported rules by concrete type, computed on first use of each type. As rules are registered once on class
+     * initialisation the supported rules for a type never change.
+     */
+    private static final Map<Class<?>, List<Rfc5545PropertyRule<Property>>> PROPERTY_DISPATCH = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, List<Rfc5545ComponentRule<Component>>> COMPONENT_DISPATCH = new ConcurrentHashMap<>();
+
     public static void applyTo(Property element) {
         for (Rfc5545PropertyRule<Property> rule : getSupportedRulesFor(element)) {
             rule.applyTo(element);
@@ -56,31 +68,31 @@ public class RuleManager {
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private static Set<Rfc5545PropertyRule<Property>> getSupportedRulesFor(Property element) {
+    private static List<Rfc5545PropertyRule<Property>> getSupportedRulesFor(Property element) {
         if (element == null) {
             throw new NullPointerException();
         }
-        Set<Rfc5545PropertyRule<Property>> rules = new LinkedHashSet<Rfc5545PropertyRule<Property>>(1);
-        for (Rfc5545Rule<? extends Property> rule : PROPERTY_RULES) {
-            if (rule.getSupportedType().isInstance(element)) {
-                rules.add((Rfc5545PropertyRule<Property>) rule);
-            }
-        }
-        return rules;
+        return PROPERTY_DISPATCH.computeIfAbsent(element.getClass(), type -> getSupportedRules(type, PROPERTY_RULES));
     }
 
-    @SuppressWarnings("unchecked")
-    private static Set<Rfc5545ComponentRule<Component>> getSupportedRulesFor(Component element) {
+    private static List<Rfc5545ComponentRule<Component>> getSupportedRulesFor(Component element) {
         if (element == null) {
             throw new NullPointerException();
         }
-        Set<Rfc5545ComponentRule<Component>> rules = new LinkedHashSet<Rfc5545ComponentRule<Component>>(1);
-        for (Rfc5545Rule<?> rule : COMPONENT_RULES) {
-            if (rule.getSupportedType().isInstance(element)) {
-                rules.add((Rfc5545ComponentRule<Component>) rule);
+        return COMPONENT_DISPATCH.computeIfAbsent(element.getClass(), type -> getSupportedRules(type, COMPONENT_RULES));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> List<R> getSupportedRules(Class<?> type, Set<? extends Rfc5545Rule<?>> registered) {
+        List<R> rules = new ArrayList<R>(1);
+        for (Rfc5545Rule<?> rule : registered) {
+            if (rule.getSupportedType().isAssignableFrom(type)) {
+                rules.add((R) rule);
             }
         }
-        return rules;
+        if (rules.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(rules);
     }
-}
\ No newline at end of file
+}
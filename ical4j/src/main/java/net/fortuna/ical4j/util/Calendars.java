@@ -138,8 +138,7 @@ public final class Calendars {
         }
         
         final ComponentList<VTimeZone> timezoneList = calendar.getComponents(Component.VTIMEZONE);
-		final IndexedComponentList<VTimeZone> timezones = new IndexedComponentList<VTimeZone>(
-        		timezoneList, Property.TZID);
+        final ComponentIndex<VTimeZone> timezones = new ComponentIndex<VTimeZone>(timezoneList);
         
         final Map<Uid, Calendar> calendars = new HashMap<Uid, Calendar>();
         for (final CalendarComponent c : calendar.getComponents()) {
@@ -162,7 +161,7 @@ public final class Calendars {
             for (final Property p : c.getProperties()) {
                 final TzId tzid = p.getParameter(Parameter.TZID);
                 if (tzid != null) {
-                    final VTimeZone timezone = timezones.getComponent(tzid.getValue());
+                    final VTimeZone timezone = timezones.getComponent(Property.TZID, tzid.getValue());
                     if (!uidCal.getComponents().contains(timezone)) {
                         uidCal.getComponents().add(timezone);
                     }
@@ -0,0 +1,143 @@
+package net.fortuna.ical4j.util;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A metrics registry that retains metrics in memory, suitable for periodic export to a monitoring system or for
+ * diagnostics during development.
+ *
+ * <pre>
+ *     // -Dnet.fortuna.ical4j.metrics.registry=net.fortuna.ical4j.util.MapMetricsRegistry
+ *     MapMetricsRegistry registry = (MapMetricsRegistry) Metrics.getRegistry();
+ *     registry.getTimers().forEach((name, timer) -&gt;
+ *             log.info("{}: {} in {}ms", name, timer.getCount(), timer.getTotalTime(TimeUnit.MILLISECONDS)));
+ * </pre>
+ *
+ * Instances of this class are thread-safe.
+ */
+public class MapMetricsRegistry implements MetricsRegistry {
+
+    private final Map<String, MapCounter> counters = new ConcurrentHashMap<>();
+
+    private final Map<String, MapTimer> timers = new ConcurrentHashMap<>();
+
+    @Override
+    public MapCounter counter(String name) {
+        return counters.computeIfAbsent(name, k -> new MapCounter());
+    }
+
+    @Override
+    public MapTimer timer(String name) {
+        return timers.computeIfAbsent(name, k -> new MapTimer());
+    }
+
+    /**
+     * @return a view of all counters by metric name
+     */
+    public Map<String, MapCounter> getCounters() {
+        return Collections.unmodifiableMap(counters);
+    }
+
+    /**
+     * @return a view of all timers by metric name
+     */
+    public Map<String, MapTimer> getTimers() {
+        return Collections.unmodifiableMap(timers);
+    }
+
+    /**
+     * Resets all metrics to zero. Note that metrics recorded concurrently with a reset may or may not be retained.
+     */
+    public void reset() {
+        counters.values().forEach(MapCounter::reset);
+        timers.values().forEach(MapTimer::reset);
+    }
+
+    /**
+     * A counter retained in memory.
+     */
+    public static class MapCounter implements Counter {
+
+        private final LongAdder count = new LongAdder();
+
+        @Override
+        public void increment(long amount) {
+            count.add(amount);
+        }
+
+        /**
+         * @return the number of occurrences recorded
+         */
+        public long getCount() {
+            return count.sum();
+        }
+
+        private void reset() {
+            count.reset();
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(getCount());
+        }
+    }
+
+    /**
+     * A timer retained in memory.
+     */
+    public static class MapTimer implements Timer {
+
+        private final LongAdder count = new LongAdder();
+
+        private final LongAdder total = new LongAdder();
+
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        @Override
+        public void record(long nanos) {
+            count.increment();
+            total.add(nanos);
+            max.accumulate(nanos);
+        }
+
+        /**
+         * @return the number of operations recorded
+         */
+        public long getCount() {
+            return count.sum();
+        }
+
+        /**
+         * @param unit the unit of the result
+         * @return the total duration of all operations recorded
+         */
+        public long getTotalTime(TimeUnit unit) {
+            return unit.convert(total.sum(), TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * @param unit the unit of the result
+         * @return the longest duration of an operation recorded
+         */
+        public long getMaxTime(TimeUnit unit) {
+            return unit.convert(max.get(), TimeUnit.NANOSECONDS);
+        }
+
+        private void reset() {
+            count.reset();
+            total.reset();
+            max.reset();
+        }
+
+        @Override
+        public String toString() {
+            return getCount() + " in " + getTotalTime(TimeUnit.MICROSECONDS) + "us (max "
+                    + getMaxTime(TimeUnit.MICROSECONDS) + "us)";
+        }
+    }
+}
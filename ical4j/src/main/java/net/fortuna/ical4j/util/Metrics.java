@@ -0,0 +1,148 @@
+package net.fortuna.ical4j.util;
+
+/**
+ * Provides access to the {@link MetricsRegistry} used by the library to record metrics, and defines the names of the
+ * metrics recorded.
+ *
+ * The registry is specified with the configuration property {@link #KEY_REGISTRY_CLASS} (either as a system property
+ * or in ical4j.properties). Where no registry is specified metrics are disabled, and instrumented operations incur no
+ * measurement cost.
+ *
+ * <pre>
+ *     -Dnet.fortuna.ical4j.metrics.registry=com.example.MicrometerMetricsRegistry
+ * </pre>
+ *
+ * The following metrics are recorded:
+ *
+ * <ul>
+ *     <li>{@link #PARSER_TIME} - the time spent parsing each stream by {@code CalendarParserImpl}</li>
+ *     <li>{@link #PARSER_BYTES} - the number of bytes parsed from input streams</li>
+ *     <li>{@link #PARSER_LINES} - the number of lines parsed (including folded lines)</li>
+ *     <li>{@link #PARSER_LINES_UNFOLDED} - the number of folded lines unfolded by an {@code UnfoldingReader}</li>
+ *     <li>{@link #PARSER_PROPERTIES} - the number of properties parsed</li>
+ *     <li>{@link #RECUR_TIME} - the time spent in {@code Recur.getDates}</li>
+ *     <li>{@link #RECUR_INCREMENTS} - the number of recurrence periods evaluated</li>
+ *     <li>{@link #RECUR_CANDIDATES} - the number of candidate dates generated</li>
+ *     <li>{@link #RECUR_CANDIDATES_DISCARDED} - the number of candidate dates not included in the results</li>
+ *     <li>{@link #RECUR_INCREMENT_LIMIT} - the number of expansions ended by the maximum increment count</li>
+ *     <li>{@link #RECUR_LIMIT_EXCEEDED} - the number of expansions exceeding a limit of the recurrence options</li>
+ *     <li>{@link #TIMEZONE_REGISTRY_HITS} - timezones resolved from registered or previously loaded definitions</li>
+ *     <li>{@link #TIMEZONE_REGISTRY_MISSES} - timezones requiring a definition to be loaded</li>
+ *     <li>{@link #TIMEZONE_REGISTRY_LOADS} - the time spent loading each timezone definition found</li>
+ *     <li>{@link #TIMEZONE_CACHE_HITS} - timezone definitions found in the {@code TimeZoneCache}</li>
+ *     <li>{@link #TIMEZONE_CACHE_MISSES} - timezone definitions not found in the {@code TimeZoneCache}</li>
+ *     <li>{@link #VALIDATION_TIME} - the time spent validating each calendar by {@code CalendarValidatorImpl}</li>
+ *     <li>{@link #VALIDATION_FAILURES} - the number of calendars failing validation</li>
+ *     <li>{@link #VALIDATION_BATCH_TIME} - the time spent validating each calendar or component list by
+ *     {@code BatchValidator}</li>
+ *     <li>{@link #VALIDATION_BATCH_VIOLATIONS} - the number of violations reported by {@code BatchValidator}</li>
+ * </ul>
+ */
+public final class Metrics {
+
+    /**
+     * The configuration property specifying the class name of the metrics registry implementation.
+     */
+    public static final String KEY_REGISTRY_CLASS = "net.fortuna.ical4j.metrics.registry";
+
+    public static final String PARSER_TIME = "ical4j.parser.time";
+
+    public static final String PARSER_BYTES = "ical4j.parser.bytes";
+
+    public static final String PARSER_LINES = "ical4j.parser.lines";
+
+    public static final String PARSER_LINES_UNFOLDED = "ical4j.parser.lines.unfolded";
+
+    public static final String PARSER_PROPERTIES = "ical4j.parser.properties";
+
+    public static final String RECUR_TIME = "ical4j.recur.time";
+
+    public static final String RECUR_INCREMENTS = "ical4j.recur.increments";
+
+    public static final String RECUR_CANDIDATES = "ical4j.recur.candidates";
+
+    public static final String RECUR_CANDIDATES_DISCARDED = "ical4j.recur.candidates.discarded";
+
+    public static final String RECUR_INCREMENT_LIMIT = "ical4j.recur.increment.limit";
+
+    public static final String RECUR_LIMIT_EXCEEDED = "ical4j.recur.limit.exceeded";
+
+    public static final String TIMEZONE_REGISTRY_HITS = "ical4j.timezone.registry.hits";
+
+    public static final String TIMEZONE_REGISTRY_MISSES = "ical4j.timezone.registry.misses";
+
+    public static final String TIMEZONE_REGISTRY_LOADS = "ical4j.timezone.registry.loads";
+
+    public static final String TIMEZONE_CACHE_HITS = "ical4j.timezone.cache.hits";
+
+    public static final String TIMEZONE_CACHE_MISSES = "ical4j.timezone.cache.misses";
+
+    public static final String VALIDATION_TIME = "ical4j.validation.time";
+
+    public static final String VALIDATION_FAILURES = "ical4j.validation.failures";
+
+    public static final String VALIDATION_BATCH_TIME = "ical4j.validation.batch.time";
+
+    public static final String VALIDATION_BATCH_VIOLATIONS = "ical4j.validation.batch.violations";
+
+    private static final MetricsRegistry REGISTRY = Configurator.<MetricsRegistry>getObjectProperty(KEY_REGISTRY_CLASS)
+            .orElseGet(NoOpMetricsRegistry::new);
+
+    // a constant such that disabled measurements are eliminated by the compiler..
+    private static final boolean ENABLED = !(REGISTRY instanceof NoOpMetricsRegistry);
+
+    /**
+     * Constructor made private to enforce static nature.
+     */
+    private Metrics() {
+    }
+
+    /**
+     * @return the registry used to record metrics
+     */
+    public static MetricsRegistry getRegistry() {
+        return REGISTRY;
+    }
+
+    /**
+     * @return true if metrics are recorded, otherwise false
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * @param name the name of a metric
+     * @return a counter for the named metric
+     */
+    public static MetricsRegistry.Counter counter(String name) {
+        return REGISTRY.counter(name);
+    }
+
+    /**
+     * @param name the name of a metric
+     * @return a timer for the named metric
+     */
+    public static MetricsRegistry.Timer timer(String name) {
+        return REGISTRY.timer(name);
+    }
+
+    /**
+     * Starts the measurement of an operation.
+     * @return a value to pass to {@link #stop(MetricsRegistry.Timer, long)} when the operation is complete
+     */
+    public static long start() {
+        return ENABLED ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records the duration of an operation.
+     * @param timer the timer recording the operation
+     * @param start the value returned by {@link #start()} when the operation started
+     */
+    public static void stop(MetricsRegistry.Timer timer, long start) {
+        if (ENABLED) {
+            timer.record(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package net.fortuna.ical4j.util;
+
+/**
+ * A service provider interface for recording metrics of library operations, such as the time spent parsing calendars
+ * or the number of candidate dates generated when expanding recurrence rules.
+ *
+ * The registry used by the library is specified by the class name of an implementation with the configuration
+ * property {@link Metrics#KEY_REGISTRY_CLASS}, and is instantiated once when first required. Implementations should
+ * adapt metrics to the monitoring system of the application, and must be thread-safe. Instruments are requested once
+ * per metric and retained by the library, such that implementations should return an instrument that remains valid for
+ * the lifetime of the registry.
+ *
+ * The names of metrics recorded by the library are defined by {@link Metrics}.
+ *
+ * @see NoOpMetricsRegistry
+ * @see MapMetricsRegistry
+ */
+public interface MetricsRegistry {
+
+    /**
+     * @param name the name of a metric
+     * @return a counter for the named metric
+     */
+    Counter counter(String name);
+
+    /**
+     * @param name the name of a metric
+     * @return a timer for the named metric
+     */
+    Timer timer(String name);
+
+    /**
+     * Records a count of occurrences.
+     */
+    interface Counter {
+
+        /**
+         * @param amount the number of occurrences to add to the count
+         */
+        void increment(long amount);
+    }
+
+    /**
+     * Records the durations of an operation.
+     */
+    interface Timer {
+
+        /**
+         * @param nanos the duration of an operation in nanoseconds
+         */
+        void record(long nanos);
+    }
+}
@@ -0,0 +1,22 @@
+package net.fortuna.ical4j.util;
+
+/**
+ * The default metrics registry, which discards all metrics. Where this registry is used the library avoids any
+ * measurement of operations (e.g. reading the system clock), such that metrics incur no cost.
+ */
+public class NoOpMetricsRegistry implements MetricsRegistry {
+
+    private static final Counter COUNTER = amount -> { };
+
+    private static final Timer TIMER = nanos -> { };
+
+    @Override
+    public Counter counter(String name) {
+        return COUNTER;
+    }
+
+    @Override
+    public Timer timer(String name) {
+        return TIMER;
+    }
+}
@@ -110,17 +110,6 @@ public final class Strings {
      */
     public static final Pattern PARAM_QUOTE_PATTERN = Pattern.compile("[:;,]|[^\\p{ASCII}]");
     
-    private static final Pattern ESCAPE_PUNCTUATION_PATTERN = Pattern.compile("([,;])");
-    private static final Pattern UNESCAPE_PUNCTUATION_PATTERN = Pattern.compile("\\\\([,;\"])");
-    
-    private static final Pattern ESCAPE_NEWLINE_PATTERN = Pattern.compile("\r?\n");
-    private static final Pattern UNESCAPE_NEWLINE_PATTERN = Pattern.compile("(?<!\\\\)\\\\n");
-    
-    private static final Pattern ESCAPE_BACKSLASH_PATTERN = Pattern.compile("\\\\");
-    private static final Pattern UNESCAPE_BACKSLASH_PATTERN = Pattern.compile("\\\\\\\\");
-    
-    
-    
     /**
      * A string used to denote the start (and end) of iCalendar content lines.
      */
@@ -163,64 +152,175 @@ public final class Strings {
      * Convenience method for escaping special characters.
      * @param aValue a string value to escape
      * @return an escaped representation of the specified
-     * string
+     * string, or the specified string if it contains no special characters
      */
     public static String escape(final String aValue) {
-        return escapePunctuation(escapeNewline(escapeBackslash(aValue)));
+        if (aValue == null) {
+            return null;
+        }
+        final int index = indexOfEscapable(aValue);
+        if (index < 0) {
+            return aValue;
+        }
+        final StringBuilder buffer = new StringBuilder(aValue.length() + 16);
+        buffer.append(aValue, 0, index);
+        return escape(aValue, index, buffer).toString();
     }
-    
+
+    /**
+     * Appends an escaped representation of a string value to the specified buffer, avoiding the creation of an
+     * intermediate string.
+     * @param aValue a string value to escape
+     * @param buffer the buffer to append to
+     * @return the specified buffer
+     */
+    public static StringBuilder escape(final String aValue, final StringBuilder buffer) {
+        if (aValue != null) {
+            final int index = indexOfEscapable(aValue);
+            if (index < 0) {
+                buffer.append(aValue);
+            } else {
+                buffer.append(aValue, 0, index);
+                escape(aValue, index, buffer);
+            }
+        }
+        return buffer;
+    }
+
     /**
      * Convenience method for replacing escaped special characters
      * with their original form.
      * @param aValue a string value to unescape
      * @return a string representation of the specified
      * string with escaped characters replaced with their
-     * original form
+     * original form, or the specified string if it contains no escaped characters
      */
     public static String unescape(final String aValue) {
-        return unescapeBackslash(unescapeNewline(unescapePunctuation(aValue)));
-    }
-
-    private static String escapePunctuation(String value) {
-        if (value != null) {
-            return ESCAPE_PUNCTUATION_PATTERN.matcher(value).replaceAll("\\\\$1");
+        if (aValue == null) {
+            return null;
         }
-        return null;
-    }
-
-    private static String unescapePunctuation(String value) {
-        if (value != null) {
-            return UNESCAPE_PUNCTUATION_PATTERN.matcher(value).replaceAll("$1");
+        int i = aValue.indexOf('\\');
+        if (i < 0) {
+            return aValue;
         }
-        return null;
+        final int length = aValue.length();
+        final StringBuilder buffer = new StringBuilder(length);
+        buffer.append(aValue, 0, i);
+        for (; i < length; i++) {
+            final char c = aValue.charAt(i);
+            if (c == '\\' && i + 1 < length) {
+                final char next = aValue.charAt(i + 1);
+                switch (next) {
+                    case '\\':
+                    case ',':
+                    case ';':
+                    case '"':
+                        buffer.append(next);
+                        i++;
+                        break;
+                    case 'n':
+                        buffer.append('\n');
+                        i++;
+                        break;
+                    default:
+                        // not a recognised escape sequence..
+                        buffer.append(c);
+                }
+            } else {
+                buffer.append(c);
+            }
+        }
+        return buffer.toString();
     }
 
+    /**
+     * Replaces line breaks (CRLF or LF) with an escaped newline.
+     * @param value a string value
+     * @return the specified string with line breaks escaped
+     */
     public static String escapeNewline(String value) {
-        if (value != null) {
-            return ESCAPE_NEWLINE_PATTERN.matcher(value).replaceAll("\\\\n");
+        if (value == null) {
+            return null;
         }
-        return null;
-    }
-
-    private static String unescapeNewline(String value) {
-        if (value != null) {
-            return UNESCAPE_NEWLINE_PATTERN.matcher(value).replaceAll("\n");
+        int i = value.indexOf('\n');
+        if (i < 0) {
+            return value;
+        }
+        if (i > 0 && value.charAt(i - 1) == '\r') {
+            i--;
         }
-        return null;
+        final int length = value.length();
+        final StringBuilder buffer = new StringBuilder(length + 16);
+        buffer.append(value, 0, i);
+        for (; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c == '\n') {
+                buffer.append("\\n");
+            } else if (c == '\r' && i + 1 < length && value.charAt(i + 1) == '\n') {
+                buffer.append("\\n");
+                i++;
+            } else {
+                buffer.append(c);
+            }
+        }
+        return buffer.toString();
     }
 
-    private static String escapeBackslash(String value) {
-        if (value != null) {
-            return ESCAPE_BACKSLASH_PATTERN.matcher(value).replaceAll("\\\\\\\\");
+    /**
+     * @return the index of the first character requiring escape, or -1 if no characters require escape
+     */
+    private static int indexOfEscapable(final String value) {
+        final int length = value.length();
+        for (int i = 0; i < length; i++) {
+            switch (value.charAt(i)) {
+                case '\\':
+                case '\n':
+                case ',':
+                case ';':
+                    return i;
+                case '\r':
+                    if (i + 1 < length && value.charAt(i + 1) == '\n') {
+                        return i;
+                    }
+                    break;
+                default:
+            }
         }
-        return null;
+        return -1;
     }
 
-    private static String unescapeBackslash(String value) {
-        if (value != null) {
-            return UNESCAPE_BACKSLASH_PATTERN.matcher(value).replaceAll("\\\\");
+    /**
+     * Escapes a string value in a single pass from the specified index.
+     */
+    private static StringBuilder escape(final String value, final int from, final StringBuilder buffer) {
+        final int length = value.length();
+        for (int i = from; i < length; i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '\\':
+                    buffer.append("\\\\");
+                    break;
+                case ',':
+                case ';':
+                    buffer.append('\\').append(c);
+                    break;
+                case '\n':
+                    buffer.append("\\n");
+                    break;
+                case '\r':
+                    if (i + 1 < length && value.charAt(i + 1) == '\n') {
+                        // CRLF is escaped as a single newline..
+                        buffer.append("\\n");
+                        i++;
+                    } else {
+                        buffer.append(c);
+                    }
+                    break;
+                default:
+                    buffer.append(c);
+            }
         }
-        return null;
+        return buffer;
     }
     
     /**
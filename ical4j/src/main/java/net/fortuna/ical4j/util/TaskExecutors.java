@@ -0,0 +1,48 @@
+package net.fortuna.ical4j.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Provides executors suited to running many short-lived, independent tasks such as the generation of iTIP messages
+ * in bulk.
+ *
+ * Where the library is packaged as a multi-release jar and run on a Java version supporting virtual threads, each task
+ * is run in a new virtual thread. Otherwise tasks are run by a cached pool of daemon threads.
+ *
+ * <pre>
+ *     ExecutorService executor = TaskExecutors.newTaskExecutor();
+ *     BatchScheduler&lt;VEvent&gt; scheduler = new BatchScheduler&lt;&gt;(userAgent, executor);
+ * </pre>
+ */
+public final class TaskExecutors {
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    /**
+     * Constructor made private to enforce static nature.
+     */
+    private TaskExecutors() {
+    }
+
+    /**
+     * @return a new executor that should be shut down when no longer required
+     */
+    public static ExecutorService newTaskExecutor() {
+        final ThreadFactory threadFactory = runnable -> {
+            final Thread thread = new Thread(runnable, "ical4j-task-" + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return Executors.newCachedThreadPool(threadFactory);
+    }
+
+    /**
+     * @return true if executors provided by this class run tasks in virtual threads
+     */
+    public static boolean isVirtual() {
+        return false;
+    }
+}
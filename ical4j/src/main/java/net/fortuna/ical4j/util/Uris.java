@@ -31,6 +31,8 @@
  */
 package net.fortuna.ical4j.util;
 
+import net.fortuna.ical4j.data.ParserOptions;
+
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.regex.Pattern;
@@ -66,6 +68,17 @@ public final class Uris {
      * @return an encoded URI string
      */
     public static String encode(final String s) {
+        return encode(s, ParserOptions.defaults());
+    }
+
+    /**
+     * Encodes the specified URI string using the UTF-8 charset. In the event that an exception is thrown, the specifed
+     * URI string is returned unmodified.
+     * @param s a URI string
+     * @param options the parser options applied to the URI string
+     * @return an encoded URI string
+     */
+    public static String encode(final String s, final ParserOptions options) {
         /*
          * try { return URLEncoder.encode(s, ENCODING_CHARSET); } catch (UnsupportedEncodingException use) {
          * log.error("Error ocurred encoding URI [" + s + "]", use); }
@@ -79,7 +92,7 @@ public final class Uris {
          * Reversing the process and converting URL special characters to their % encodings produces the original cid. A
          * "mid" URL is converted to a Message-ID or Message-ID/Content-ID pair in a similar fashion.
          */
-        if (CompatibilityHints.isHintEnabled(CompatibilityHints.KEY_NOTES_COMPATIBILITY)
+        if (options.isNotesCompatibility()
         		&& CID_PATTERN.matcher(s).matches()) {
         	
             return NOTES_CID_REPLACEMENT_PATTERN.matcher(s).replaceAll("");
@@ -117,13 +130,27 @@ public final class Uris {
      * @throws URISyntaxException if a valid URI string is not specified and relaxed parsing is disabled
      */
     public static URI create(final String s) throws URISyntaxException {
+        return create(s, ParserOptions.defaults());
+    }
+
+    /**
+     * Attempts to create a URI instance and will optionally swallow any resulting URISyntaxException depending on
+     * the specified parser options.
+     *
+     * @param s a string representation of a URI.
+     * @param options the parser options applied to the URI string
+     * @return a URI instance, which may not correspond to the URI string if a valid
+     *  URI string is not specified and relaxed parsing is enabled.
+     * @throws URISyntaxException if a valid URI string is not specified and relaxed parsing is disabled
+     * @see #create(String)
+     */
+    public static URI create(final String s, final ParserOptions options) throws URISyntaxException {
         try {
-            return new URI(encode(s));
+            return new URI(encode(s, options));
         }
         catch (URISyntaxException use) {
-            if (CompatibilityHints
-                    .isHintEnabled(CompatibilityHints.KEY_RELAXED_PARSING)) {
-                String encoded = encode(s);
+            if (options.isRelaxedParsing()) {
+                String encoded = encode(s, options);
                 int index = encoded.indexOf(':');
                 if (index != -1 && index < encoded.length() -1) {
                     try {
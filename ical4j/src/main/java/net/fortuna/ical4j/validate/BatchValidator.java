@@ -0,0 +1,271 @@
+package net.fortuna.ical4j.validate;
+
+import net.fortuna.ical4j.model.Calendar;
+import net.fortuna.ical4j.model.Component;
+import net.fortuna.ical4j.model.ComponentList;
+import net.fortuna.ical4j.model.Property;
+import net.fortuna.ical4j.model.component.CalendarComponent;
+import net.fortuna.ical4j.model.property.Method;
+import net.fortuna.ical4j.model.property.Uid;
+import net.fortuna.ical4j.util.Metrics;
+import net.fortuna.ical4j.util.MetricsRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Validates the components of a calendar independently, collecting all violations into a {@link ValidationResult}
+ * rather than failing on the first violation.
+ *
+ * Components are validated in batches submitted to an executor, such that large calendars may be validated across
+ * multiple threads. Each component is validated against its own rules, the validity of each of its properties, and
+ * (where the calendar specifies a METHOD) the iTIP rules for the method. Violations are reported in the order of the
+ * components in the calendar.
+ *
+ * As validation of a bad feed may identify a large number of violations, the number of violations collected may be
+ * limited. Once the limit is reached the remaining components are not validated and the result is marked as
+ * truncated.
+ *
+ * Example - Validate a large import using the common pool:
+ *
+ * <pre>
+ *     ValidationResult result = new BatchValidator(ForkJoinPool.commonPool(), 1000).validate(calendar);
+ *     if (!result.isValid()) {
+ *         result.getEntries().forEach(entry -&gt; log.warn(entry.toString()));
+ *     }
+ * </pre>
+ *
+ * Validation options are resolved once per run and applied to all components, regardless of the thread
+ * on which each component is validated.
+ *
+ * Instances may be shared by multiple concurrent threads. Note that as components are validated concurrently the
+ * calendar must not be modified during validation.
+ */
+public class BatchValidator {
+
+    private static final int DEFAULT_BATCH_SIZE = 256;
+
+    private static final MetricsRegistry.Timer VALIDATION_TIMER = Metrics.timer(Metrics.VALIDATION_BATCH_TIME);
+
+    private static final MetricsRegistry.Counter VIOLATION_COUNTER =
+            Metrics.counter(Metrics.VALIDATION_BATCH_VIOLATIONS);
+
+    private final Executor executor;
+
+    private final int maxViolations;
+
+    private final int batchSize;
+
+    private final ValidationOptions options;
+
+    private final CalendarValidatorImpl calendarValidator = new CalendarValidatorImpl();
+
+    /**
+     * Creates a new instance using the common pool with no limit on the number of violations.
+     */
+    public BatchValidator() {
+        this(ForkJoinPool.commonPool(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param executor the executor used to validate components
+     * @param maxViolations the maximum number of violations to collect
+     */
+    public BatchValidator(Executor executor, int maxViolations) {
+        this(executor, maxViolations, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * @param executor the executor used to validate components
+     * @param maxViolations the maximum number of violations to collect
+     * @param batchSize the number of components validated by each task
+     */
+    public BatchValidator(Executor executor, int maxViolations, int batchSize) {
+        this(executor, maxViolations, batchSize, ValidationOptions.defaults());
+    }
+
+    /**
+     * @param executor the executor used to validate components
+     * @param maxViolations the maximum number of violations to collect
+     * @param options validation options applied to all components
+     */
+    public BatchValidator(Executor executor, int maxViolations, ValidationOptions options) {
+        this(executor, maxViolations, DEFAULT_BATCH_SIZE, options);
+    }
+
+    /**
+     * @param executor the executor used to validate components
+     * @param maxViolations the maximum number of violations to collect
+     * @param batchSize the number of components validated by each task
+     * @param options validation options applied to all components
+     */
+    public BatchValidator(Executor executor, int maxViolations, int batchSize, ValidationOptions options) {
+        if (maxViolations < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("Violation limit and batch size must be positive");
+        }
+        this.executor = executor;
+        this.maxViolations = maxViolations;
+        this.batchSize = batchSize;
+        this.options = options;
+    }
+
+    /**
+     * Validates a calendar and its components.
+     * @param calendar a calendar to validate
+     * @return the result of validation
+     */
+    public ValidationResult validate(final Calendar calendar) {
+        final long start = Metrics.start();
+        // options are resolved once such that all components are validated consistently..
+        final ValidationOptions resolved = options.resolve();
+        final Collector calendarEntries = new Collector(new AtomicInteger());
+        try {
+            calendarValidator.validateCalendar(calendar, resolved);
+        } catch (ValidationException e) {
+            calendarEntries.add(null, null, e);
+        }
+        for (final Property property : calendar.getProperties()) {
+            try {
+                property.validate(resolved);
+            } catch (ValidationException e) {
+                calendarEntries.add(null, null, property.getName(), e);
+            }
+        }
+        final Method method = calendar.getProperty(Property.METHOD);
+        return validate(calendar.getComponents(), method, resolved, calendarEntries, start);
+    }
+
+    /**
+     * Validates a list of components.
+     * @param components a list of components to validate
+     * @param method the iTIP method to validate the components against, or null to validate only the components
+     * @return the result of validation
+     */
+    public ValidationResult validate(final ComponentList<CalendarComponent> components, final Method method) {
+        return validate(components, method, options.resolve(), new Collector(new AtomicInteger()), Metrics.start());
+    }
+
+    private ValidationResult validate(final ComponentList<CalendarComponent> components, final Method method,
+                                      final ValidationOptions resolved, final Collector collected,
+                                      final long start) {
+        final List<CompletableFuture<Collector>> batches = new ArrayList<>();
+        // the result is truncated only where components are not validated due to the limit..
+        final AtomicBoolean skipped = new AtomicBoolean();
+        int i = 0;
+        for (; i < components.size() && !collected.isFull(); i += batchSize) {
+            final List<CalendarComponent> batch = components.subList(i, Math.min(i + batchSize, components.size()));
+            batches.add(CompletableFuture.supplyAsync(() -> {
+                final Collector entries = new Collector(collected.count);
+                for (final CalendarComponent component : batch) {
+                    if (entries.isFull()) {
+                        skipped.set(true);
+                        break;
+                    }
+                    validate(component, method, resolved, entries);
+                }
+                return entries;
+            }, executor));
+        }
+        if (i < components.size()) {
+            skipped.set(true);
+        }
+
+        final List<ValidationEntry> entries = new ArrayList<>(collected.entries);
+        for (final CompletableFuture<Collector> batch : batches) {
+            try {
+                entries.addAll(batch.join().entries);
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+
+        // batches may collectively exceed the limit as they complete concurrently..
+        final ValidationResult result;
+        if (entries.size() > maxViolations) {
+            result = new ValidationResult(new ArrayList<>(entries.subList(0, maxViolations)), true);
+        } else {
+            result = new ValidationResult(entries, skipped.get());
+        }
+        if (Metrics.isEnabled()) {
+            VIOLATION_COUNTER.increment(result.getEntries().size());
+            Metrics.stop(VALIDATION_TIMER, start);
+        }
+        return result;
+    }
+
+    private void validate(final CalendarComponent component, final Method method, final ValidationOptions resolved,
+                          final Collector entries) {
+        final Uid uid = component.getProperty(Property.UID);
+        final String uidValue = uid != null ? uid.getValue() : null;
+        try {
+            component.validate(false, resolved);
+        } catch (ValidationException e) {
+            entries.add(component, uidValue, e);
+        }
+        for (final Property property : component.getProperties()) {
+            try {
+                property.validate(resolved);
+            } catch (ValidationException e) {
+                entries.add(component, uidValue, property.getName(), e);
+            }
+        }
+        if (method != null) {
+            try {
+                component.validate(method, resolved);
+            } catch (ValidationException e) {
+                entries.add(component, uidValue, e);
+            }
+        }
+    }
+
+    /**
+     * Collects the violations identified by a single task, maintaining a count shared by all tasks.
+     */
+    private class Collector {
+
+        private final List<ValidationEntry> entries = new ArrayList<>();
+
+        private final AtomicInteger count;
+
+        private Collector(AtomicInteger count) {
+            this.count = count;
+        }
+
+        private boolean isFull() {
+            return count.get() >= maxViolations;
+        }
+
+        private void add(Component component, String uid, ValidationException e) {
+            add(component, uid, null, e);
+        }
+
+        private void add(Component component, String uid, String propertyName, ValidationException e) {
+            add(component, uid, propertyName, (Throwable) e);
+            // multiple rule violations are reported as suppressed exceptions..
+            for (final Throwable suppressed : e.getSuppressed()) {
+                add(component, uid, propertyName, suppressed);
+            }
+        }
+
+        private void add(Component component, String uid, String propertyName, Throwable e) {
+            final String componentName = component != null ? component.getName() : null;
+            if (e instanceof PropertyRuleSet.Violation) {
+                final PropertyRuleSet.Violation violation = (PropertyRuleSet.Violation) e;
+                entries.add(new ValidationEntry(componentName, uid, violation.getPropertyName(),
+                        violation.getCardinality().name(), e.getMessage()));
+            } else {
+                entries.add(new ValidationEntry(componentName, uid, propertyName, null, e.getMessage()));
+            }
+            count.incrementAndGet();
+        }
+    }
+}
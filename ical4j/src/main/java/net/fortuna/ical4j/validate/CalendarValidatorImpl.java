@@ -5,17 +5,48 @@ import net.fortuna.ical4j.model.Component;
 import net.fortuna.ical4j.model.Property;
 import net.fortuna.ical4j.model.component.CalendarComponent;
 import net.fortuna.ical4j.model.property.*;
-import net.fortuna.ical4j.util.CompatibilityHints;
+import net.fortuna.ical4j.util.Metrics;
+import net.fortuna.ical4j.util.MetricsRegistry;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Created by fortuna on 13/09/15.
  */
 public class CalendarValidatorImpl implements Validator<Calendar> {
 
+    private static final MetricsRegistry.Timer VALIDATION_TIMER = Metrics.timer(Metrics.VALIDATION_TIME);
+
+    private static final MetricsRegistry.Counter FAILURE_COUNTER = Metrics.counter(Metrics.VALIDATION_FAILURES);
+
+    private static final PropertyRuleSet REQUIRED_RULES = new PropertyRuleSet.Builder()
+            // 'prodid' and 'version' are both REQUIRED,
+            // but MUST NOT occur more than once
+            .assertOne(Property.PRODID, Property.VERSION)
+            .build();
+
+    private static final PropertyRuleSet OPTIONAL_RULES = new PropertyRuleSet.Builder()
+            // 'calscale' and 'method' are optional,
+            // but MUST NOT occur more than once
+            .assertOneOrLess(Property.CALSCALE, Property.METHOD)
+            .build();
+
+    private static final Map<Method, Validator<Calendar>> METHOD_VALIDATORS = new HashMap<>();
+    static {
+        METHOD_VALIDATORS.put(Method.PUBLISH, new PublishValidator());
+        METHOD_VALIDATORS.put(Method.REQUEST, new RequestValidator());
+        METHOD_VALIDATORS.put(Method.REPLY, new ReplyValidator());
+        METHOD_VALIDATORS.put(Method.ADD, new AddValidator());
+        METHOD_VALIDATORS.put(Method.CANCEL, new CancelValidator());
+        METHOD_VALIDATORS.put(Method.REFRESH, new RefreshValidator());
+        METHOD_VALIDATORS.put(Method.COUNTER, new CounterValidator());
+        METHOD_VALIDATORS.put(Method.DECLINE_COUNTER, new DeclineCounterValidator());
+    }
+
     protected final List<Class<? extends Property>> calendarProperties = new ArrayList<>();
 
     public CalendarValidatorImpl() {
@@ -26,24 +57,58 @@ public class CalendarValidatorImpl implements Validator<Calendar> {
 
     @Override
     public void validate(Calendar target) throws ValidationException {
-        // 'prodid' and 'version' are both REQUIRED,
-        // but MUST NOT occur more than once
-        PropertyValidator.getInstance().assertOne(Property.PRODID, target.getProperties());
-        PropertyValidator.getInstance().assertOne(Property.VERSION, target.getProperties());
+        validate(target, ValidationOptions.defaults().resolve());
+    }
 
-        if (!CompatibilityHints.isHintEnabled(CompatibilityHints.KEY_RELAXED_VALIDATION)) {
+    @Override
+    public void validate(Calendar target, ValidationOptions options) throws ValidationException {
+        final long start = Metrics.start();
+        try {
+            validateCalendar(target, options);
+
+            // perform ITIP validation on components..
+            final Method method = target.getProperty(Property.METHOD);
+            if (method != null) {
+                for (CalendarComponent component : target.getComponents()) {
+                    component.validate(method, options);
+                }
+            }
+        } catch (ValidationException e) {
+            FAILURE_COUNTER.increment(1);
+            throw e;
+        } finally {
+            Metrics.stop(VALIDATION_TIMER, start);
+        }
+    }
+
+    /**
+     * Validates the calendar properties, and the combination of components permitted by the calendar method.
+     * Unlike {@link #validate(Calendar)} the individual components are not validated.
+     * @param target a calendar to validate
+     * @throws ValidationException where the calendar is not valid
+     */
+    protected void validateCalendar(Calendar target) throws ValidationException {
+        validateCalendar(target, ValidationOptions.defaults().resolve());
+    }
+
+    /**
+     * Validates the calendar properties, and the combination of components permitted by the calendar method,
+     * applying the specified validation options.
+     * @param target a calendar to validate
+     * @param options the resolved validation options
+     * @throws ValidationException where the calendar is not valid
+     */
+    protected void validateCalendar(Calendar target, ValidationOptions options) throws ValidationException {
+        REQUIRED_RULES.validate(target.getProperties(), options);
+
+        if (!options.isRelaxedValidation()) {
             // require VERSION:2.0 for RFC2445..
             if (!Version.VERSION_2_0.equals(target.getProperty(Property.VERSION))) {
                 throw new ValidationException("Unsupported Version: " + target.getProperty(Property.VERSION).getValue());
             }
         }
 
-        // 'calscale' and 'method' are optional,
-        // but MUST NOT occur more than once
-        PropertyValidator.getInstance().assertOneOrLess(Property.CALSCALE,
-                target.getProperties());
-        PropertyValidator.getInstance().assertOneOrLess(Property.METHOD,
-                target.getProperties());
+        OPTIONAL_RULES.validate(target.getProperties(), options);
 
         // must contain at least one component
         if (target.getComponents().isEmpty()) {
@@ -63,49 +128,29 @@ public class CalendarValidatorImpl implements Validator<Calendar> {
 //        if (!CompatibilityHints.isHintEnabled(CompatibilityHints.KEY_RELAXED_VALIDATION)) {
         // validate method..
         final Method method = target.getProperty(Property.METHOD);
-        if (Method.PUBLISH.equals(method)) {
-            new PublishValidator().validate(target);
-        }
-        else if (Method.REQUEST.equals(target.getProperty(Property.METHOD))) {
-            new RequestValidator().validate(target);
-        }
-        else if (Method.REPLY.equals(target.getProperty(Property.METHOD))) {
-            new ReplyValidator().validate(target);
-        }
-        else if (Method.ADD.equals(target.getProperty(Property.METHOD))) {
-            new AddValidator().validate(target);
-        }
-        else if (Method.CANCEL.equals(target.getProperty(Property.METHOD))) {
-            new CancelValidator().validate(target);
-        }
-        else if (Method.REFRESH.equals(target.getProperty(Property.METHOD))) {
-            new RefreshValidator().validate(target);
-        }
-        else if (Method.COUNTER.equals(target.getProperty(Property.METHOD))) {
-            new CounterValidator().validate(target);
-        }
-        else if (Method.DECLINE_COUNTER.equals(target.getProperty(Property.METHOD))) {
-            new DeclineCounterValidator().validate(target);
-        }
-//        }
-
-        // perform ITIP validation on components..
         if (method != null) {
-            for (CalendarComponent component : target.getComponents()) {
-                component.validate(method);
+            final Validator<Calendar> methodValidator = METHOD_VALIDATORS.get(method);
+            if (methodValidator != null) {
+                methodValidator.validate(target, options);
             }
         }
+//        }
     }
 
     public static class PublishValidator implements Validator<Calendar> {
 
         @Override
         public void validate(Calendar target) throws ValidationException {
+            validate(target, ValidationOptions.defaults());
+        }
+
+        @Override
+        public void validate(Calendar target, ValidationOptions options) throws ValidationException {
             if (target.getComponent(Component.VEVENT) != null) {
                 ComponentValidator.assertNone(Component.VFREEBUSY, target.getComponents());
                 ComponentValidator.assertNone(Component.VJOURNAL, target.getComponents());
 
-                if (!CompatibilityHints.isHintEnabled(CompatibilityHints.KEY_RELAXED_VALIDATION)) {
+                if (!options.isRelaxedValidation()) {
                     ComponentValidator.assertNone(Component.VTODO, target.getComponents());
                 }
             }
@@ -0,0 +1,248 @@
+package net.fortuna.ical4j.validate;
+
+import net.fortuna.ical4j.model.Property;
+import net.fortuna.ical4j.model.PropertyList;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A set of property cardinality rules, compiled once into a table of rules indexed by property name.
+ *
+ * Applying the rules to a property list requires a single pass over the list to count the occurrences of each
+ * property referenced by the rules, after which each rule is a comparison against the corresponding count. In
+ * contrast to {@link PropertyValidator} (which scans the list for every assertion) the cost of validation is
+ * therefore independent of the number of rules. All violations are identified, in the order the rules were defined.
+ *
+ * Example - VALARM rules for iTIP methods:
+ *
+ * <pre>
+ *     private static final PropertyRuleSet RULES = new PropertyRuleSet.Builder()
+ *             .assertOne(ACTION, TRIGGER)
+ *             .assertOneOrLess(DESCRIPTION, DURATION, REPEAT, SUMMARY)
+ *             .build();
+ *     ...
+ *     RULES.validate(alarm.getProperties());
+ * </pre>
+ *
+ * Instances are immutable and may be shared by multiple concurrent threads.
+ */
+public final class PropertyRuleSet implements Validator<PropertyList<?>> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The permitted number of occurrences of a property.
+     */
+    public enum Cardinality {
+        None("Property [{0}] is not applicable"),
+        OneOrLess("Property [{0}] must only be specified once"),
+        One("Property [{0}] must be specified once"),
+        OneOrMore("Property [{0}] must be specified at least once");
+
+        private final String message;
+
+        Cardinality(String message) {
+            this.message = message;
+        }
+
+        /**
+         * @param count the number of occurrences of a property
+         * @return true if the number of occurrences is permitted, otherwise false
+         */
+        public boolean test(int count) {
+            switch (this) {
+                case None:
+                    return count == 0;
+                case OneOrLess:
+                    return count <= 1;
+                case One:
+                    return count == 1;
+                default:
+                    return count >= 1;
+            }
+        }
+    }
+
+    private final Map<String, Integer> slots;
+
+    private final String[] names;
+
+    private final Cardinality[] cardinalities;
+
+    private final int[] ruleSlots;
+
+    private final boolean[] strict;
+
+    private PropertyRuleSet(Builder builder) {
+        final int ruleCount = builder.names.size();
+        this.slots = new HashMap<>();
+        this.names = builder.names.toArray(new String[ruleCount]);
+        this.cardinalities = builder.cardinalities.toArray(new Cardinality[ruleCount]);
+        this.ruleSlots = new int[ruleCount];
+        this.strict = new boolean[ruleCount];
+        for (int i = 0; i < ruleCount; i++) {
+            ruleSlots[i] = slots.computeIfAbsent(names[i], k -> slots.size());
+            strict[i] = builder.strict.get(i);
+        }
+    }
+
+    /**
+     * Applies the rules to a list of properties.
+     * @param properties a list of properties
+     * @return a list of violations, or an empty list if the properties are valid
+     */
+    public List<Violation> apply(final PropertyList<?> properties) {
+        return apply(properties, ValidationOptions.defaults());
+    }
+
+    /**
+     * Applies the rules to a list of properties.
+     * @param properties a list of properties
+     * @param options the resolved validation options
+     * @return a list of violations, or an empty list if the properties are valid
+     */
+    public List<Violation> apply(final PropertyList<?> properties, final ValidationOptions options) {
+        final int[] counts = new int[slots.size()];
+        for (final Property property : properties) {
+            Integer slot = slots.get(property.getName());
+            if (slot == null) {
+                // property names are matched case-insensitively..
+                slot = slots.get(property.getName().toUpperCase());
+            }
+            if (slot != null) {
+                counts[slot]++;
+            }
+        }
+
+        final boolean relaxed = options.isRelaxedValidation();
+        List<Violation> violations = Collections.emptyList();
+        for (int i = 0; i < names.length; i++) {
+            if (!(relaxed && strict[i]) && !cardinalities[i].test(counts[ruleSlots[i]])) {
+                if (violations.isEmpty()) {
+                    violations = new ArrayList<>();
+                }
+                violations.add(new Violation(names[i], cardinalities[i]));
+            }
+        }
+        return violations;
+    }
+
+    /**
+     * Applies the rules to a list of properties. Where more than one rule is violated the first violation is thrown,
+     * with subsequent violations available via {@link ValidationException#getSuppressed()}.
+     * @param properties a list of properties
+     * @throws ValidationException where the properties violate one or more rules
+     */
+    @Override
+    public void validate(final PropertyList<?> properties) throws ValidationException {
+        validate(properties, ValidationOptions.defaults());
+    }
+
+    /**
+     * Applies the rules to a list of properties. Where more than one rule is violated the first violation is thrown,
+     * with subsequent violations available via {@link ValidationException#getSuppressed()}.
+     * @param properties a list of properties
+     * @param options the resolved validation options
+     * @throws ValidationException where the properties violate one or more rules
+     */
+    @Override
+    public void validate(final PropertyList<?> properties, final ValidationOptions options)
+            throws ValidationException {
+        final List<Violation> violations = apply(properties, options);
+        if (!violations.isEmpty()) {
+            final ValidationException first = violations.get(0);
+            for (int i = 1; i < violations.size(); i++) {
+                first.addSuppressed(violations.get(i));
+            }
+            throw first;
+        }
+    }
+
+    /**
+     * A violation of a cardinality rule.
+     */
+    public static class Violation extends ValidationException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String propertyName;
+
+        private final Cardinality cardinality;
+
+        public Violation(String propertyName, Cardinality cardinality) {
+            super(cardinality.message, new Object[] {propertyName});
+            this.propertyName = propertyName;
+            this.cardinality = cardinality;
+        }
+
+        /**
+         * @return the name of the property that violates the rule
+         */
+        public String getPropertyName() {
+            return propertyName;
+        }
+
+        /**
+         * @return the permitted number of occurrences of the property
+         */
+        public Cardinality getCardinality() {
+            return cardinality;
+        }
+    }
+
+    /**
+     * Support for building rule sets. Rules are applied in the order they are added.
+     */
+    public static class Builder {
+
+        private final List<String> names = new ArrayList<>();
+
+        private final List<Cardinality> cardinalities = new ArrayList<>();
+
+        private final List<Boolean> strict = new ArrayList<>();
+
+        public Builder assertNone(String... propertyNames) {
+            return add(Cardinality.None, false, propertyNames);
+        }
+
+        public Builder assertOneOrLess(String... propertyNames) {
+            return add(Cardinality.OneOrLess, false, propertyNames);
+        }
+
+        public Builder assertOne(String... propertyNames) {
+            return add(Cardinality.One, false, propertyNames);
+        }
+
+        public Builder assertOneOrMore(String... propertyNames) {
+            return add(Cardinality.OneOrMore, false, propertyNames);
+        }
+
+        /**
+         * Adds rules that are not applied when relaxed validation is enabled.
+         * @param cardinality the permitted number of occurrences
+         * @param propertyNames the names of properties the rule applies to
+         * @return this builder
+         * @see ValidationOptions#isRelaxedValidation()
+         */
+        public Builder strict(Cardinality cardinality, String... propertyNames) {
+            return add(cardinality, true, propertyNames);
+        }
+
+        private Builder add(Cardinality cardinality, boolean strictOnly, String... propertyNames) {
+            for (String name : propertyNames) {
+                names.add(name.toUpperCase());
+                cardinalities.add(cardinality);
+                strict.add(strictOnly);
+            }
+            return this;
+        }
+
+        public PropertyRuleSet build() {
+            return new PropertyRuleSet(this);
+        }
+    }
+}
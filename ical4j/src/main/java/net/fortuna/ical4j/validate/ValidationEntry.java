@@ -0,0 +1,90 @@
+package net.fortuna.ical4j.validate;
+
+import java.io.Serializable;
+
+/**
+ * A single violation identified during validation, along with the context in which it occurred.
+ *
+ * @see BatchValidator
+ */
+public class ValidationEntry implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String componentName;
+
+    private final String uid;
+
+    private final String propertyName;
+
+    private final String rule;
+
+    private final String message;
+
+    /**
+     * @param componentName the name of the component in violation, or null for the calendar
+     * @param uid the UID of the component in violation, if any
+     * @param propertyName the name of the property in violation, if known
+     * @param rule the rule violated, if known
+     * @param message a description of the violation
+     */
+    public ValidationEntry(String componentName, String uid, String propertyName, String rule, String message) {
+        this.componentName = componentName;
+        this.uid = uid;
+        this.propertyName = propertyName;
+        this.rule = rule;
+        this.message = message;
+    }
+
+    /**
+     * @return the name of the component in violation, or null where the violation applies to the calendar
+     */
+    public String getComponentName() {
+        return componentName;
+    }
+
+    /**
+     * @return the UID of the component in violation, or null if the component has no UID
+     */
+    public String getUid() {
+        return uid;
+    }
+
+    /**
+     * @return the name of the property in violation, or null if the violation does not apply to a single property
+     */
+    public String getPropertyName() {
+        return propertyName;
+    }
+
+    /**
+     * @return the rule violated (for example a {@link PropertyRuleSet.Cardinality}), or null if the violation was not
+     * identified by a named rule
+     */
+    public String getRule() {
+        return rule;
+    }
+
+    /**
+     * @return a description of the violation
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder b = new StringBuilder();
+        b.append(componentName != null ? componentName : "VCALENDAR");
+        if (uid != null) {
+            b.append(" [").append(uid).append(']');
+        }
+        if (propertyName != null) {
+            b.append(' ').append(propertyName);
+        }
+        if (rule != null) {
+            b.append(" (").append(rule).append(')');
+        }
+        return b.append(": ").append(message).toString();
+    }
+}
@@ -0,0 +1,85 @@
+package net.fortuna.ical4j.validate;
+
+import net.fortuna.ical4j.util.CompatibilityHints;
+
+import java.io.Serializable;
+
+/**
+ * An immutable set of options applied when validating calendar data, as an alternative to the JVM-global
+ * {@link CompatibilityHints}.
+ *
+ * Options that are not explicitly specified default to the corresponding compatibility hint. Options are resolved
+ * once per validation via {@link #resolve()} and passed explicitly to validators, such that calendars may be
+ * validated with different options concurrently and on any thread.
+ *
+ * Example - Validate with strict conformance regardless of the global hints:
+ *
+ * <pre>
+ *     ValidationOptions options = new ValidationOptions.Builder().relaxedValidation(false).build();
+ *     ValidationResult result = new BatchValidator(executor, 1000, options).validate(calendar);
+ * </pre>
+ *
+ * @see net.fortuna.ical4j.data.ParserOptions
+ */
+public final class ValidationOptions implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ValidationOptions DEFAULTS = new Builder().build();
+
+    private final Boolean relaxedValidation;
+
+    private ValidationOptions(Builder builder) {
+        this.relaxedValidation = builder.relaxedValidation;
+    }
+
+    /**
+     * @return options that defer to the current state of the compatibility hints
+     */
+    public static ValidationOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Returns a copy of these options with any unspecified options fixed to the current value of the corresponding
+     * compatibility hint.
+     * @return resolved options
+     */
+    public ValidationOptions resolve() {
+        return new Builder().relaxedValidation(isRelaxedValidation()).build();
+    }
+
+    /**
+     * @return true if relaxed validation is enabled
+     * @see CompatibilityHints#KEY_RELAXED_VALIDATION
+     */
+    public boolean isRelaxedValidation() {
+        if (relaxedValidation != null) {
+            return relaxedValidation;
+        }
+        return CompatibilityHints.isHintEnabled(CompatibilityHints.KEY_RELAXED_VALIDATION);
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationOptions{relaxedValidation=" + relaxedValidation + '}';
+    }
+
+    /**
+     * Support for building validation options. Options that are not specified default to the corresponding
+     * compatibility hint.
+     */
+    public static class Builder {
+
+        private Boolean relaxedValidation;
+
+        public Builder relaxedValidation(boolean relaxedValidation) {
+            this.relaxedValidation = relaxedValidation;
+            return this;
+        }
+
+        public ValidationOptions build() {
+            return new ValidationOptions(this);
+        }
+    }
+}
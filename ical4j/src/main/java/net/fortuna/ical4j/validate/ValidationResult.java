@@ -0,0 +1,55 @@
+package net.fortuna.ical4j.validate;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The violations identified by a validation run.
+ *
+ * @see BatchValidator
+ */
+public class ValidationResult implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<ValidationEntry> entries;
+
+    private final boolean truncated;
+
+    /**
+     * @param entries the violations identified
+     * @param truncated indicates whether validation stopped before all content was validated
+     */
+    public ValidationResult(List<ValidationEntry> entries, boolean truncated) {
+        this.entries = Collections.unmodifiableList(entries);
+        this.truncated = truncated;
+    }
+
+    /**
+     * @return an unmodifiable list of the violations identified
+     */
+    public List<ValidationEntry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * @return true if the violation limit was reached, in which case validation may have stopped before all
+     * content was validated
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    /**
+     * @return true if no violations were identified
+     */
+    public boolean isValid() {
+        return entries.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationResult{entries=" + entries + ", truncated=" + truncated + '}';
+    }
+}
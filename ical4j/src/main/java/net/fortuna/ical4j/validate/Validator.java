@@ -44,4 +44,15 @@ public interface Validator<T> extends Serializable {
      * @throws ValidationException where the model does not confirm to the applicable standard
      */
     void validate(T target) throws ValidationException;
+
+    /**
+     * Validates the associated model, applying the specified validation options. The default implementation ignores
+     * the options, and is overridden by validators whose rules are affected by the options.
+     * @param target the model to validate
+     * @param options the resolved validation options
+     * @throws ValidationException where the model does not confirm to the applicable standard
+     */
+    default void validate(T target, ValidationOptions options) throws ValidationException {
+        validate(target);
+    }
 }
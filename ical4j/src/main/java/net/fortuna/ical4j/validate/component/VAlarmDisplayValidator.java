@@ -1,8 +1,9 @@
 package net.fortuna.ical4j.validate.component;
 
 import net.fortuna.ical4j.model.component.VAlarm;
-import net.fortuna.ical4j.validate.PropertyValidator;
+import net.fortuna.ical4j.validate.PropertyRuleSet;
 import net.fortuna.ical4j.validate.ValidationException;
+import net.fortuna.ical4j.validate.ValidationOptions;
 import net.fortuna.ical4j.validate.Validator;
 
 import static net.fortuna.ical4j.model.Property.DESCRIPTION;
@@ -14,13 +15,25 @@ public class VAlarmDisplayValidator implements Validator<VAlarm> {
 
     private static final long serialVersionUID = 1L;
 
+    private static final PropertyRuleSet RULES = new PropertyRuleSet.Builder()
+            .assertOne(DESCRIPTION)
+            .build();
+
     /**
      * {@inheritDoc}
      */
     public void validate(VAlarm target) throws ValidationException {
+        validate(target, ValidationOptions.defaults());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void validate(VAlarm target, final ValidationOptions options) throws ValidationException {
         /*
          * ; the following are all REQUIRED, ; but MUST NOT occur more than once action / description / trigger /
          */
-        PropertyValidator.getInstance().assertOne(DESCRIPTION, target.getProperties());
+        RULES.validate(target.getProperties(), options);
     }
 }
@@ -1,12 +1,11 @@
 package net.fortuna.ical4j.validate.component;
 
 import net.fortuna.ical4j.model.component.VAlarm;
-import net.fortuna.ical4j.validate.PropertyValidator;
+import net.fortuna.ical4j.validate.PropertyRuleSet;
 import net.fortuna.ical4j.validate.ValidationException;
+import net.fortuna.ical4j.validate.ValidationOptions;
 import net.fortuna.ical4j.validate.Validator;
 
-import java.util.Arrays;
-
 import static net.fortuna.ical4j.model.Property.*;
 
 /**
@@ -16,10 +15,23 @@ public class VAlarmEmailValidator implements Validator<VAlarm> {
 
     private static final long serialVersionUID = 1L;
 
+    private static final PropertyRuleSet RULES = new PropertyRuleSet.Builder()
+            .assertOne(DESCRIPTION, SUMMARY)
+            .assertOneOrMore(ATTENDEE)
+            .build();
+
     /**
      * {@inheritDoc}
      */
     public void validate(final VAlarm target) throws ValidationException {
+        validate(target, ValidationOptions.defaults());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void validate(final VAlarm target, final ValidationOptions options) throws ValidationException {
         /*
          * ; the following are all REQUIRED,
          * ; but MUST NOT occur more than once action / description / trigger / summary
@@ -31,8 +43,6 @@ public class VAlarmEmailValidator implements Validator<VAlarm> {
          * ; the following are optional,
          * ; and MAY occur more than once attach / x-prop
          */
-        Arrays.asList(DESCRIPTION, SUMMARY).forEach(property -> PropertyValidator.getInstance().assertOne(property, target.getProperties()));
-
-        PropertyValidator.getInstance().assertOneOrMore(ATTENDEE, target.getProperties());
+        RULES.validate(target.getProperties(), options);
     }
 }
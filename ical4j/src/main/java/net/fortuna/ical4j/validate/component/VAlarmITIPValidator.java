@@ -1,12 +1,11 @@
 package net.fortuna.ical4j.validate.component;
 
 import net.fortuna.ical4j.model.component.VAlarm;
-import net.fortuna.ical4j.validate.PropertyValidator;
+import net.fortuna.ical4j.validate.PropertyRuleSet;
 import net.fortuna.ical4j.validate.ValidationException;
+import net.fortuna.ical4j.validate.ValidationOptions;
 import net.fortuna.ical4j.validate.Validator;
 
-import java.util.Arrays;
-
 import static net.fortuna.ical4j.model.Property.*;
 
 /**
@@ -30,12 +29,23 @@ public class VAlarmITIPValidator implements Validator<VAlarm> {
 
     private static final long serialVersionUID = 1L;
 
+    private static final PropertyRuleSet RULES = new PropertyRuleSet.Builder()
+            .assertOne(ACTION, TRIGGER)
+            .assertOneOrLess(DESCRIPTION, DURATION, REPEAT, SUMMARY)
+            .build();
+
     /**
      * {@inheritDoc}
      */
     public void validate(final VAlarm target) throws ValidationException {
-        Arrays.asList(ACTION, TRIGGER).forEach(property -> PropertyValidator.getInstance().assertOne(property, target.getProperties()));
+        validate(target, ValidationOptions.defaults());
+    }
 
-        Arrays.asList(DESCRIPTION, DURATION, REPEAT, SUMMARY).forEach(property -> PropertyValidator.getInstance().assertOneOrLess(property, target.getProperties()));
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void validate(final VAlarm target, final ValidationOptions options) throws ValidationException {
+        RULES.validate(target.getProperties(), options);
     }
 }
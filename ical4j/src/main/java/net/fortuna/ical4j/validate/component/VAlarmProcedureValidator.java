@@ -1,8 +1,9 @@
 package net.fortuna.ical4j.validate.component;
 
 import net.fortuna.ical4j.model.component.VAlarm;
-import net.fortuna.ical4j.validate.PropertyValidator;
+import net.fortuna.ical4j.validate.PropertyRuleSet;
 import net.fortuna.ical4j.validate.ValidationException;
+import net.fortuna.ical4j.validate.ValidationOptions;
 import net.fortuna.ical4j.validate.Validator;
 
 import static net.fortuna.ical4j.model.Property.ATTACH;
@@ -15,10 +16,23 @@ public class VAlarmProcedureValidator implements Validator<VAlarm> {
 
     private static final long serialVersionUID = 1L;
 
+    private static final PropertyRuleSet RULES = new PropertyRuleSet.Builder()
+            .assertOne(ATTACH)
+            .assertOneOrLess(DESCRIPTION)
+            .build();
+
     /**
      * {@inheritDoc}
      */
     public void validate(VAlarm target) throws ValidationException {
+        validate(target, ValidationOptions.defaults());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void validate(VAlarm target, final ValidationOptions options) throws ValidationException {
         /*
          * ; the following are all REQUIRED,
          * ; but MUST NOT occur more than once action / attach / trigger /
@@ -29,8 +43,6 @@ public class VAlarmProcedureValidator implements Validator<VAlarm> {
          * ; and MUST NOT occur more than once description /
          * ; the following is optional, ; and MAY occur more than once x-prop
          */
-        PropertyValidator.getInstance().assertOne(ATTACH, target.getProperties());
-
-        PropertyValidator.getInstance().assertOneOrLess(DESCRIPTION, target.getProperties());
+        RULES.validate(target.getProperties(), options);
     }
 }
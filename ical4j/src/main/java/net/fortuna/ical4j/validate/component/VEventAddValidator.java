@@ -3,12 +3,11 @@ package net.fortuna.ical4j.validate.component;
 import net.fortuna.ical4j.model.component.VAlarm;
 import net.fortuna.ical4j.model.component.VEvent;
 import net.fortuna.ical4j.model.property.Method;
-import net.fortuna.ical4j.validate.PropertyValidator;
+import net.fortuna.ical4j.validate.PropertyRuleSet;
 import net.fortuna.ical4j.validate.ValidationException;
+import net.fortuna.ical4j.validate.ValidationOptions;
 import net.fortuna.ical4j.validate.Validator;
 
-import java.util.Arrays;
-
 import static net.fortuna.ical4j.model.Property.*;
 
 /**
@@ -69,18 +68,26 @@ public class VEventAddValidator implements Validator<VEvent> {
 
     private static final long serialVersionUID = 1L;
 
-    public void validate(final VEvent target) throws ValidationException {
-        Arrays.asList(DTSTAMP, DTSTART, ORGANIZER, SEQUENCE,
-                SUMMARY, UID).forEach(property -> PropertyValidator.getInstance().assertOne(property, target.getProperties()));
+    private static final PropertyRuleSet RULES = new PropertyRuleSet.Builder()
+            .assertOne(DTSTAMP, DTSTART, ORGANIZER, SEQUENCE, SUMMARY, UID)
+            .assertOneOrLess(CATEGORIES, CLASS, CREATED, DESCRIPTION, DTEND, DURATION, GEO, LAST_MODIFIED,
+                    LOCATION, PRIORITY, RESOURCES, STATUS, TRANSP, URL)
+            .assertNone(RECURRENCE_ID, REQUEST_STATUS)
+            .build();
 
-        Arrays.asList(CATEGORIES, CLASS, CREATED, DESCRIPTION,
-                DTEND, DURATION, GEO, LAST_MODIFIED, LOCATION, PRIORITY,
-                RESOURCES, STATUS, TRANSP, URL).forEach(property -> PropertyValidator.getInstance().assertOneOrLess(property, target.getProperties()));
+    public void validate(final VEvent target) throws ValidationException {
+        validate(target, ValidationOptions.defaults());
+    }
 
-        Arrays.asList(RECURRENCE_ID, REQUEST_STATUS).forEach(property -> PropertyValidator.getInstance().assertNone(property, target.getProperties()));
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void validate(final VEvent target, final ValidationOptions options) throws ValidationException {
+        RULES.validate(target.getProperties(), options);
 
         for (final VAlarm alarm : target.getAlarms()) {
-            alarm.validate(Method.ADD);
+            alarm.validate(Method.ADD, options);
         }
     }
 }
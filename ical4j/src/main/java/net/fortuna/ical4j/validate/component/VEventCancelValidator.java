@@ -2,12 +2,11 @@ package net.fortuna.ical4j.validate.component;
 
 import net.fortuna.ical4j.model.component.VEvent;
 import net.fortuna.ical4j.validate.ComponentValidator;
-import net.fortuna.ical4j.validate.PropertyValidator;
+import net.fortuna.ical4j.validate.PropertyRuleSet;
 import net.fortuna.ical4j.validate.ValidationException;
+import net.fortuna.ical4j.validate.ValidationOptions;
 import net.fortuna.ical4j.validate.Validator;
 
-import java.util.Arrays;
-
 import static net.fortuna.ical4j.model.Component.VALARM;
 import static net.fortuna.ical4j.model.Property.*;
 
@@ -75,16 +74,23 @@ public class VEventCancelValidator implements Validator<VEvent> {
 
     private static final long serialVersionUID = 1L;
 
-    public final void validate(final VEvent target) throws ValidationException {
-        Arrays.asList(DTSTAMP, DTSTART, ORGANIZER, SEQUENCE,
-                UID).forEach(property -> PropertyValidator.getInstance().assertOne(property, target.getProperties()));
+    private static final PropertyRuleSet RULES = new PropertyRuleSet.Builder()
+            .assertOne(DTSTAMP, DTSTART, ORGANIZER, SEQUENCE, UID)
+            .assertOneOrLess(CATEGORIES, CLASS, CREATED, DESCRIPTION, DTEND, DTSTART, DURATION, GEO,
+                    LAST_MODIFIED, LOCATION, PRIORITY, RECURRENCE_ID, RESOURCES, STATUS, SUMMARY, TRANSP, URL)
+            .assertNone(REQUEST_STATUS)
+            .build();
 
-        Arrays.asList(CATEGORIES, CLASS, CREATED, DESCRIPTION,
-                DTEND, DTSTART, DURATION, GEO, LAST_MODIFIED, LOCATION,
-                PRIORITY, RECURRENCE_ID, RESOURCES, STATUS, SUMMARY,
-                TRANSP, URL).forEach(property -> PropertyValidator.getInstance().assertOneOrLess(property, target.getProperties()));
+    public final void validate(final VEvent target) throws ValidationException {
+        validate(target, ValidationOptions.defaults());
+    }
 
-        PropertyValidator.getInstance().assertNone(REQUEST_STATUS, target.getProperties());
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void validate(final VEvent target, final ValidationOptions options) throws ValidationException {
+        RULES.validate(target.getProperties(), options);
 
         ComponentValidator.assertNone(VALARM, target.getAlarms());
     }
@@ -3,13 +3,12 @@ package net.fortuna.ical4j.validate.component;
 import net.fortuna.ical4j.model.component.VAlarm;
 import net.fortuna.ical4j.model.component.VEvent;
 import net.fortuna.ical4j.model.property.Method;
-import net.fortuna.ical4j.util.CompatibilityHints;
-import net.fortuna.ical4j.validate.PropertyValidator;
+import net.fortuna.ical4j.validate.PropertyRuleSet;
+import net.fortuna.ical4j.validate.PropertyRuleSet.Cardinality;
 import net.fortuna.ical4j.validate.ValidationException;
+import net.fortuna.ical4j.validate.ValidationOptions;
 import net.fortuna.ical4j.validate.Validator;
 
-import java.util.Arrays;
-
 import static net.fortuna.ical4j.model.Property.*;
 
 /**
@@ -77,21 +76,27 @@ public class VEventCounterValidator implements Validator<VEvent> {
 
     private static final long serialVersionUID = 1L;
 
-    public void validate(final VEvent target) throws ValidationException {
-        Arrays.asList(DTSTAMP, DTSTART).forEach(property -> PropertyValidator.getInstance().assertOne(property, target.getProperties()));
-
-        if (!CompatibilityHints.isHintEnabled(CompatibilityHints.KEY_RELAXED_VALIDATION)) {
-            PropertyValidator.getInstance().assertOne(ORGANIZER, target.getProperties());
-        }
+    private static final PropertyRuleSet RULES = new PropertyRuleSet.Builder()
+            .assertOne(DTSTAMP, DTSTART)
+            .strict(Cardinality.One, ORGANIZER)
+            .assertOne(SEQUENCE, SUMMARY, UID)
+            .assertOneOrLess(CATEGORIES, CLASS, CREATED, DESCRIPTION, DTEND, DURATION, GEO, LAST_MODIFIED,
+                    LOCATION, PRIORITY, RECURRENCE_ID, RESOURCES, STATUS, TRANSP, URL)
+            .build();
 
-        Arrays.asList(SEQUENCE, SUMMARY, UID).forEach(property -> PropertyValidator.getInstance().assertOne(property, target.getProperties()));
+    public void validate(final VEvent target) throws ValidationException {
+        validate(target, ValidationOptions.defaults());
+    }
 
-        Arrays.asList(CATEGORIES, CLASS, CREATED, DESCRIPTION,
-                DTEND, DURATION, GEO, LAST_MODIFIED, LOCATION, PRIORITY,
-                RECURRENCE_ID, RESOURCES, STATUS, TRANSP, URL).forEach(property -> PropertyValidator.getInstance().assertOneOrLess(property, target.getProperties()));
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void validate(final VEvent target, final ValidationOptions options) throws ValidationException {
+        RULES.validate(target.getProperties(), options);
 
         for (final VAlarm alarm : target.getAlarms()) {
-            alarm.validate(Method.COUNTER);
+            alarm.validate(Method.COUNTER, options);
         }
     }
 }
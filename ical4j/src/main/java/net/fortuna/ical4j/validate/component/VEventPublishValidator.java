@@ -3,13 +3,12 @@ package net.fortuna.ical4j.validate.component;
 import net.fortuna.ical4j.model.component.VAlarm;
 import net.fortuna.ical4j.model.component.VEvent;
 import net.fortuna.ical4j.model.property.Method;
-import net.fortuna.ical4j.util.CompatibilityHints;
-import net.fortuna.ical4j.validate.PropertyValidator;
+import net.fortuna.ical4j.validate.PropertyRuleSet;
+import net.fortuna.ical4j.validate.PropertyRuleSet.Cardinality;
 import net.fortuna.ical4j.validate.ValidationException;
+import net.fortuna.ical4j.validate.ValidationOptions;
 import net.fortuna.ical4j.validate.Validator;
 
-import java.util.Arrays;
-
 import static net.fortuna.ical4j.model.Property.*;
 
 /**
@@ -89,27 +88,29 @@ public class VEventPublishValidator implements Validator<VEvent> {
 
     private static final long serialVersionUID = 1L;
 
-    public void validate(final VEvent target) throws ValidationException {
-        Arrays.asList(DTSTAMP, DTSTART).forEach(property -> PropertyValidator.getInstance().assertOne(property, target.getProperties()));
-
-        if (!CompatibilityHints.isHintEnabled(CompatibilityHints.KEY_RELAXED_VALIDATION)) {
-            Arrays.asList(ORGANIZER, SUMMARY).forEach(property -> PropertyValidator.getInstance().assertOne(property, target.getProperties()));
-        }
-
-        PropertyValidator.getInstance().assertOne(UID, target.getProperties());
+    private static final PropertyRuleSet RULES = new PropertyRuleSet.Builder()
+            .assertOne(DTSTAMP, DTSTART)
+            .strict(Cardinality.One, ORGANIZER, SUMMARY)
+            .assertOne(UID)
+            .assertOneOrLess(RECURRENCE_ID, SEQUENCE, CATEGORIES, CLASS, CREATED, DESCRIPTION, DTEND,
+                    DURATION, GEO, LAST_MODIFIED, LOCATION, PRIORITY, RESOURCES, STATUS, TRANSP, URL)
+            .strict(Cardinality.None, ATTENDEE)
+            .assertNone(REQUEST_STATUS)
+            .build();
 
-        Arrays.asList(RECURRENCE_ID, SEQUENCE, CATEGORIES, CLASS,
-                CREATED, DESCRIPTION, DTEND, DURATION, GEO, LAST_MODIFIED,
-                LOCATION, PRIORITY, RESOURCES, STATUS, TRANSP, URL).forEach(property -> PropertyValidator.getInstance().assertOneOrLess(property, target.getProperties()));
-
-        if (!CompatibilityHints.isHintEnabled(CompatibilityHints.KEY_RELAXED_VALIDATION)) {
-            PropertyValidator.getInstance().assertNone(ATTENDEE, target.getProperties());
-        }
+    public void validate(final VEvent target) throws ValidationException {
+        validate(target, ValidationOptions.defaults());
+    }
 
-        PropertyValidator.getInstance().assertNone(REQUEST_STATUS, target.getProperties());
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void validate(final VEvent target, final ValidationOptions options) throws ValidationException {
+        RULES.validate(target.getProperties(), options);
 
         for (final VAlarm alarm : target.getAlarms()) {
-            alarm.validate(Method.PUBLISH);
+            alarm.validate(Method.PUBLISH, options);
         }
     }
 }
@@ -3,12 +3,11 @@ package net.fortuna.ical4j.validate.component;
 import net.fortuna.ical4j.model.Component;
 import net.fortuna.ical4j.model.component.VEvent;
 import net.fortuna.ical4j.validate.ComponentValidator;
-import net.fortuna.ical4j.validate.PropertyValidator;
+import net.fortuna.ical4j.validate.PropertyRuleSet;
 import net.fortuna.ical4j.validate.ValidationException;
+import net.fortuna.ical4j.validate.ValidationOptions;
 import net.fortuna.ical4j.validate.Validator;
 
-import java.util.Arrays;
-
 import static net.fortuna.ical4j.model.Property.*;
 
 /**
@@ -71,16 +70,24 @@ public class VEventRefreshValidator implements Validator<VEvent> {
 
     private static final long serialVersionUID = 1L;
 
-    public void validate(final VEvent target) throws ValidationException {
-        Arrays.asList(ATTENDEE, DTSTAMP, ORGANIZER, UID).forEach(property -> PropertyValidator.getInstance().assertOne(property, target.getProperties()));
+    private static final PropertyRuleSet RULES = new PropertyRuleSet.Builder()
+            .assertOne(ATTENDEE, DTSTAMP, ORGANIZER, UID)
+            .assertOneOrLess(RECURRENCE_ID)
+            .assertNone(ATTACH, CATEGORIES, CLASS, CONTACT, CREATED, DESCRIPTION, DTEND, DTSTART, DURATION,
+                    EXDATE, EXRULE, GEO, LAST_MODIFIED, LOCATION, PRIORITY, RDATE, RELATED_TO, REQUEST_STATUS,
+                    RESOURCES, RRULE, SEQUENCE, STATUS, SUMMARY, TRANSP, URL)
+            .build();
 
-        PropertyValidator.getInstance().assertOneOrLess(RECURRENCE_ID, target.getProperties());
+    public void validate(final VEvent target) throws ValidationException {
+        validate(target, ValidationOptions.defaults());
+    }
 
-        Arrays.asList(ATTACH, CATEGORIES, CLASS, CONTACT,
-                CREATED, DESCRIPTION, DTEND, DTSTART, DURATION, EXDATE,
-                EXRULE, GEO, LAST_MODIFIED, LOCATION, PRIORITY, RDATE,
-                RELATED_TO, REQUEST_STATUS, RESOURCES, RRULE, SEQUENCE,
-                STATUS, SUMMARY, TRANSP, URL).forEach(property -> PropertyValidator.getInstance().assertNone(property, target.getProperties()));
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void validate(final VEvent target, final ValidationOptions options) throws ValidationException {
+        RULES.validate(target.getProperties(), options);
 
         ComponentValidator.assertNone(Component.VALARM, target.getAlarms());
     }
@@ -2,12 +2,11 @@ package net.fortuna.ical4j.validate.component;
 
 import net.fortuna.ical4j.model.component.VEvent;
 import net.fortuna.ical4j.validate.ComponentValidator;
-import net.fortuna.ical4j.validate.PropertyValidator;
+import net.fortuna.ical4j.validate.PropertyRuleSet;
 import net.fortuna.ical4j.validate.ValidationException;
+import net.fortuna.ical4j.validate.ValidationOptions;
 import net.fortuna.ical4j.validate.Validator;
 
-import java.util.Arrays;
-
 import static net.fortuna.ical4j.model.Component.VALARM;
 import static net.fortuna.ical4j.model.Property.*;
 
@@ -74,13 +73,22 @@ public class VEventReplyValidator implements Validator<VEvent> {
 
     private static final long serialVersionUID = 1L;
 
+    private static final PropertyRuleSet RULES = new PropertyRuleSet.Builder()
+            .assertOne(ATTENDEE, DTSTAMP, ORGANIZER, UID)
+            .assertOneOrLess(RECURRENCE_ID, SEQUENCE, CATEGORIES, CLASS, CREATED, DESCRIPTION, DTEND, DTSTART,
+                    DURATION, GEO, LAST_MODIFIED, LOCATION, PRIORITY, RESOURCES, STATUS, SUMMARY, TRANSP, URL)
+            .build();
+
     public void validate(final VEvent target) throws ValidationException {
-        Arrays.asList(ATTENDEE, DTSTAMP, ORGANIZER, UID).forEach(property -> PropertyValidator.getInstance().assertOne(property, target.getProperties()));
+        validate(target, ValidationOptions.defaults());
+    }
 
-        Arrays.asList(RECURRENCE_ID, SEQUENCE, CATEGORIES, CLASS,
-                CREATED, DESCRIPTION, DTEND, DTSTART, DURATION, GEO,
-                LAST_MODIFIED, LOCATION, PRIORITY, RESOURCES, STATUS, SUMMARY,
-                TRANSP, URL).forEach(property -> PropertyValidator.getInstance().assertOneOrLess(property, target.getProperties()));
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void validate(final VEvent target, final ValidationOptions options) throws ValidationException {
+        RULES.validate(target.getProperties(), options);
 
         ComponentValidator.assertNone(VALARM, target.getAlarms());
     }
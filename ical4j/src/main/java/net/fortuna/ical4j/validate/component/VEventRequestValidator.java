@@ -3,13 +3,12 @@ package net.fortuna.ical4j.validate.component;
 import net.fortuna.ical4j.model.component.VAlarm;
 import net.fortuna.ical4j.model.component.VEvent;
 import net.fortuna.ical4j.model.property.Method;
-import net.fortuna.ical4j.util.CompatibilityHints;
-import net.fortuna.ical4j.validate.PropertyValidator;
+import net.fortuna.ical4j.validate.PropertyRuleSet;
+import net.fortuna.ical4j.validate.PropertyRuleSet.Cardinality;
 import net.fortuna.ical4j.validate.ValidationException;
+import net.fortuna.ical4j.validate.ValidationOptions;
 import net.fortuna.ical4j.validate.Validator;
 
-import java.util.Arrays;
-
 import static net.fortuna.ical4j.model.Property.*;
 
 /**
@@ -71,20 +70,26 @@ public class VEventRequestValidator implements Validator<VEvent> {
 
     private static final long serialVersionUID = 1L;
 
-    public void validate(final VEvent target) throws ValidationException {
-        if (!CompatibilityHints.isHintEnabled(CompatibilityHints.KEY_RELAXED_VALIDATION)) {
-            PropertyValidator.getInstance().assertOneOrMore(ATTENDEE, target.getProperties());
-        }
+    private static final PropertyRuleSet RULES = new PropertyRuleSet.Builder()
+            .strict(Cardinality.OneOrMore, ATTENDEE)
+            .assertOne(DTSTAMP, DTSTART, ORGANIZER, SUMMARY, UID)
+            .assertOneOrLess(SEQUENCE, CATEGORIES, CLASS, CREATED, DESCRIPTION, DTEND, DURATION, GEO,
+                    LAST_MODIFIED, LOCATION, PRIORITY, RECURRENCE_ID, RESOURCES, STATUS, TRANSP, URL)
+            .build();
 
-        Arrays.asList(DTSTAMP, DTSTART, ORGANIZER, SUMMARY,
-                UID).forEach(property -> PropertyValidator.getInstance().assertOne(property, target.getProperties()));
+    public void validate(final VEvent target) throws ValidationException {
+        validate(target, ValidationOptions.defaults());
+    }
 
-        Arrays.asList(SEQUENCE, CATEGORIES, CLASS, CREATED,
-                DESCRIPTION, DTEND, DURATION, GEO, LAST_MODIFIED, LOCATION,
-                PRIORITY, RECURRENCE_ID, RESOURCES, STATUS, TRANSP, URL).forEach(property -> PropertyValidator.getInstance().assertOneOrLess(property, target.getProperties()));
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void validate(final VEvent target, final ValidationOptions options) throws ValidationException {
+        RULES.validate(target.getProperties(), options);
 
         for (final VAlarm alarm : target.getAlarms()) {
-            alarm.validate(Method.REQUEST);
+            alarm.validate(Method.REQUEST, options);
         }
     }
 }
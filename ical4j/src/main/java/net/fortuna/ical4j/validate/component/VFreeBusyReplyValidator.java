@@ -1,12 +1,11 @@
 package net.fortuna.ical4j.validate.component;
 
 import net.fortuna.ical4j.model.component.VFreeBusy;
-import net.fortuna.ical4j.validate.PropertyValidator;
+import net.fortuna.ical4j.validate.PropertyRuleSet;
 import net.fortuna.ical4j.validate.ValidationException;
+import net.fortuna.ical4j.validate.ValidationOptions;
 import net.fortuna.ical4j.validate.Validator;
 
-import java.util.Arrays;
-
 import static net.fortuna.ical4j.model.Property.*;
 
 /**
@@ -48,15 +47,24 @@ public class VFreeBusyReplyValidator implements Validator<VFreeBusy> {
 
     private static final long serialVersionUID = 1L;
 
-    public void validate(final VFreeBusy target) throws ValidationException {
+    private static final PropertyRuleSet RULES = new PropertyRuleSet.Builder()
+            .assertOne(ATTENDEE, DTSTAMP, DTEND, DTSTART, ORGANIZER, UID)
+            .assertOneOrLess(URL)
+            .assertNone(DURATION, SEQUENCE)
+            .build();
 
-        // FREEBUSY is 1+ in RFC2446 but 0+ in Calsify
+    public void validate(final VFreeBusy target) throws ValidationException {
+        validate(target, ValidationOptions.defaults());
+    }
 
-        Arrays.asList(ATTENDEE, DTSTAMP, DTEND, DTSTART,
-                ORGANIZER, UID).forEach(property -> PropertyValidator.getInstance().assertOne(property, target.getProperties()));
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void validate(final VFreeBusy target, final ValidationOptions options) throws ValidationException {
 
-        PropertyValidator.getInstance().assertOneOrLess(URL, target.getProperties());
+        // FREEBUSY is 1+ in RFC2446 but 0+ in Calsify
 
-        Arrays.asList(DURATION, SEQUENCE).forEach(property -> PropertyValidator.getInstance().assertNone(property, target.getProperties()));
+        RULES.validate(target.getProperties(), options);
     }
 }
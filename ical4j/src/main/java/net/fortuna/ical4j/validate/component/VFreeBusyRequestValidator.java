@@ -1,12 +1,11 @@
 package net.fortuna.ical4j.validate.component;
 
 import net.fortuna.ical4j.model.component.VFreeBusy;
-import net.fortuna.ical4j.validate.PropertyValidator;
+import net.fortuna.ical4j.validate.PropertyRuleSet;
 import net.fortuna.ical4j.validate.ValidationException;
+import net.fortuna.ical4j.validate.ValidationOptions;
 import net.fortuna.ical4j.validate.Validator;
 
-import java.util.Arrays;
-
 import static net.fortuna.ical4j.model.Property.*;
 
 /**
@@ -46,13 +45,21 @@ public class VFreeBusyRequestValidator implements Validator<VFreeBusy> {
 
     private static final long serialVersionUID = 1L;
 
-    public void validate(final VFreeBusy target) throws ValidationException {
-        PropertyValidator.getInstance().assertOneOrMore(ATTENDEE, target.getProperties());
+    private static final PropertyRuleSet RULES = new PropertyRuleSet.Builder()
+            .assertOneOrMore(ATTENDEE)
+            .assertOne(DTEND, DTSTAMP, DTSTART, ORGANIZER, UID)
+            .assertNone(FREEBUSY, DURATION, REQUEST_STATUS, URL)
+            .build();
 
-        Arrays.asList(DTEND, DTSTAMP, DTSTART, ORGANIZER,
-                UID).forEach(property -> PropertyValidator.getInstance().assertOne(property, target.getProperties()));
+    public void validate(final VFreeBusy target) throws ValidationException {
+        validate(target, ValidationOptions.defaults());
+    }
 
-        Arrays.asList(FREEBUSY, DURATION, REQUEST_STATUS,
-                URL).forEach(property -> PropertyValidator.getInstance().assertNone(property, target.getProperties()));
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void validate(final VFreeBusy target, final ValidationOptions options) throws ValidationException {
+        RULES.validate(target.getProperties(), options);
     }
 }
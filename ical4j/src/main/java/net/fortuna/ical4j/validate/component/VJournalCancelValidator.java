@@ -1,12 +1,11 @@
 package net.fortuna.ical4j.validate.component;
 
 import net.fortuna.ical4j.model.component.VJournal;
-import net.fortuna.ical4j.validate.PropertyValidator;
+import net.fortuna.ical4j.validate.PropertyRuleSet;
 import net.fortuna.ical4j.validate.ValidationException;
+import net.fortuna.ical4j.validate.ValidationOptions;
 import net.fortuna.ical4j.validate.Validator;
 
-import java.util.Arrays;
-
 import static net.fortuna.ical4j.model.Property.*;
 
 /**
@@ -60,14 +59,22 @@ public class VJournalCancelValidator implements Validator<VJournal> {
 
     private static final long serialVersionUID = 1L;
 
-    public void validate(final VJournal target) throws ValidationException {
-        Arrays.asList(DTSTAMP, ORGANIZER, SEQUENCE, UID).forEach(
-                property -> PropertyValidator.getInstance().assertOne(property, target.getProperties()));
+    private static final PropertyRuleSet RULES = new PropertyRuleSet.Builder()
+            .assertOne(DTSTAMP, ORGANIZER, SEQUENCE, UID)
+            .assertOneOrLess(CATEGORIES, CLASS, CREATED, DESCRIPTION, DTSTART, LAST_MODIFIED, RECURRENCE_ID,
+                    STATUS, SUMMARY, URL)
+            .assertNone(REQUEST_STATUS)
+            .build();
 
-        Arrays.asList(CATEGORIES, CLASS, CREATED, DESCRIPTION,
-                DTSTART, LAST_MODIFIED, RECURRENCE_ID, STATUS, SUMMARY,
-                URL).forEach(property -> PropertyValidator.getInstance().assertOneOrLess(property, target.getProperties()));
+    public void validate(final VJournal target) throws ValidationException {
+        validate(target, ValidationOptions.defaults());
+    }
 
-        PropertyValidator.getInstance().assertNone(REQUEST_STATUS, target.getProperties());
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void validate(final VJournal target, final ValidationOptions options) throws ValidationException {
+        RULES.validate(target.getProperties(), options);
     }
 }
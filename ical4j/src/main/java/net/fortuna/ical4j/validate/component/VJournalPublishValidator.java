@@ -1,12 +1,11 @@
 package net.fortuna.ical4j.validate.component;
 
 import net.fortuna.ical4j.model.component.VJournal;
-import net.fortuna.ical4j.validate.PropertyValidator;
+import net.fortuna.ical4j.validate.PropertyRuleSet;
 import net.fortuna.ical4j.validate.ValidationException;
+import net.fortuna.ical4j.validate.ValidationOptions;
 import net.fortuna.ical4j.validate.Validator;
 
-import java.util.Arrays;
-
 import static net.fortuna.ical4j.model.Property.*;
 
 /**
@@ -61,13 +60,22 @@ public class VJournalPublishValidator implements Validator<VJournal> {
 
     private static final long serialVersionUID = 1L;
 
-    public void validate(final VJournal target) throws ValidationException {
-        Arrays.asList(DESCRIPTION, DTSTAMP, DTSTART, ORGANIZER, UID).forEach(
-                property -> PropertyValidator.getInstance().assertOne(property, target.getProperties()));
+    private static final PropertyRuleSet RULES = new PropertyRuleSet.Builder()
+            .assertOne(DESCRIPTION, DTSTAMP, DTSTART, ORGANIZER, UID)
+            .assertOneOrLess(CATEGORIES, CLASS, CREATED, LAST_MODIFIED, RECURRENCE_ID, SEQUENCE, STATUS,
+                    SUMMARY, URL)
+            .assertNone(ATTENDEE)
+            .build();
 
-        Arrays.asList(CATEGORIES, CLASS, CREATED, LAST_MODIFIED,
-                RECURRENCE_ID, SEQUENCE, STATUS, SUMMARY, URL).forEach(property -> PropertyValidator.getInstance().assertOneOrLess(property, target.getProperties()));
+    public void validate(final VJournal target) throws ValidationException {
+        validate(target, ValidationOptions.defaults());
+    }
 
-        PropertyValidator.getInstance().assertNone(ATTENDEE, target.getProperties());
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void validate(final VJournal target, final ValidationOptions options) throws ValidationException {
+        RULES.validate(target.getProperties(), options);
     }
 }
@@ -2,12 +2,11 @@ package net.fortuna.ical4j.validate.component;
 
 import net.fortuna.ical4j.model.component.Observance;
 import net.fortuna.ical4j.model.component.VTimeZone;
-import net.fortuna.ical4j.validate.PropertyValidator;
+import net.fortuna.ical4j.validate.PropertyRuleSet;
 import net.fortuna.ical4j.validate.ValidationException;
+import net.fortuna.ical4j.validate.ValidationOptions;
 import net.fortuna.ical4j.validate.Validator;
 
-import java.util.Arrays;
-
 import static net.fortuna.ical4j.model.Property.*;
 
 /**
@@ -49,15 +48,25 @@ public class VTimeZoneITIPValidator implements Validator<VTimeZone> {
 
     private static final long serialVersionUID = 1L;
 
+    private static final PropertyRuleSet OBSERVANCE_RULES = new PropertyRuleSet.Builder()
+            .assertOne(DTSTART, TZOFFSETFROM, TZOFFSETTO)
+            .assertOneOrLess(TZNAME)
+            .build();
+
     /**
      * {@inheritDoc}
      */
     public void validate(VTimeZone target) throws ValidationException {
-        for (final Observance observance : target.getObservances()) {
-            Arrays.asList(DTSTART, TZOFFSETFROM, TZOFFSETTO).forEach(
-                    property -> PropertyValidator.getInstance().assertOne(property, observance.getProperties()));
+        validate(target, ValidationOptions.defaults());
+    }
 
-            PropertyValidator.getInstance().assertOneOrLess(TZNAME, observance.getProperties());
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void validate(VTimeZone target, final ValidationOptions options) throws ValidationException {
+        for (final Observance observance : target.getObservances()) {
+            OBSERVANCE_RULES.validate(observance.getProperties(), options);
         }
     }
 }
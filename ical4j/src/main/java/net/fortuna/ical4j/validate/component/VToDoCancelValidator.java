@@ -2,12 +2,11 @@ package net.fortuna.ical4j.validate.component;
 
 import net.fortuna.ical4j.model.component.VToDo;
 import net.fortuna.ical4j.validate.ComponentValidator;
-import net.fortuna.ical4j.validate.PropertyValidator;
+import net.fortuna.ical4j.validate.PropertyRuleSet;
 import net.fortuna.ical4j.validate.ValidationException;
+import net.fortuna.ical4j.validate.ValidationOptions;
 import net.fortuna.ical4j.validate.Validator;
 
-import java.util.Arrays;
-
 import static net.fortuna.ical4j.model.Component.VALARM;
 import static net.fortuna.ical4j.model.Property.*;
 
@@ -73,16 +72,24 @@ public class VToDoCancelValidator implements Validator<VToDo> {
 
     private static final long serialVersionUID = 1L;
 
-    public void validate(final VToDo target) throws ValidationException {
-        Arrays.asList(UID, DTSTAMP, ORGANIZER, SEQUENCE).forEach(
-                property -> PropertyValidator.getInstance().assertOne(property, target.getProperties()));
+    private static final PropertyRuleSet RULES = new PropertyRuleSet.Builder()
+            .assertOne(UID, DTSTAMP, ORGANIZER, SEQUENCE)
+            .assertOneOrLess(CATEGORIES, CLASS, CREATED, DESCRIPTION, DTSTART, DUE, DURATION, GEO,
+                    LAST_MODIFIED, LOCATION, PERCENT_COMPLETE, RECURRENCE_ID, RESOURCES, PRIORITY, STATUS,
+                    URL)
+            .assertNone(REQUEST_STATUS)
+            .build();
 
-        Arrays.asList(CATEGORIES, CLASS, CREATED, DESCRIPTION,
-                DTSTART, DUE, DURATION, GEO, LAST_MODIFIED, LOCATION,
-                PERCENT_COMPLETE, RECURRENCE_ID, RESOURCES, PRIORITY, STATUS,
-                URL).forEach(property -> PropertyValidator.getInstance().assertOneOrLess(property, target.getProperties()));
+    public void validate(final VToDo target) throws ValidationException {
+        validate(target, ValidationOptions.defaults());
+    }
 
-        PropertyValidator.getInstance().assertNone(REQUEST_STATUS, target.getProperties());
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void validate(final VToDo target, final ValidationOptions options) throws ValidationException {
+        RULES.validate(target.getProperties(), options);
 
         ComponentValidator.assertNone(VALARM, target.getAlarms());
     }
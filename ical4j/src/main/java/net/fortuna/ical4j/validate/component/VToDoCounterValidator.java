@@ -3,12 +3,11 @@ package net.fortuna.ical4j.validate.component;
 import net.fortuna.ical4j.model.component.VAlarm;
 import net.fortuna.ical4j.model.component.VToDo;
 import net.fortuna.ical4j.model.property.Method;
-import net.fortuna.ical4j.validate.PropertyValidator;
+import net.fortuna.ical4j.validate.PropertyRuleSet;
 import net.fortuna.ical4j.validate.ValidationException;
+import net.fortuna.ical4j.validate.ValidationOptions;
 import net.fortuna.ical4j.validate.Validator;
 
-import java.util.Arrays;
-
 import static net.fortuna.ical4j.model.Property.*;
 
 /**
@@ -71,19 +70,27 @@ public class VToDoCounterValidator implements Validator<VToDo> {
 
     private static final long serialVersionUID = 1L;
 
-    public void validate(final VToDo target) throws ValidationException {
-        PropertyValidator.getInstance().assertOneOrMore(ATTENDEE, target.getProperties());
+    private static final PropertyRuleSet RULES = new PropertyRuleSet.Builder()
+            .assertOneOrMore(ATTENDEE)
+            .assertOne(DTSTAMP, ORGANIZER, PRIORITY, SUMMARY, UID)
+            .assertOneOrLess(CATEGORIES, CLASS, CREATED, DESCRIPTION, DTSTART, DUE, DURATION, GEO,
+                    LAST_MODIFIED, LOCATION, PERCENT_COMPLETE, RECURRENCE_ID, RESOURCES, RRULE, SEQUENCE,
+                    STATUS, URL)
+            .build();
 
-        Arrays.asList(DTSTAMP, ORGANIZER, PRIORITY, SUMMARY, UID).forEach(
-                property -> PropertyValidator.getInstance().assertOne(property, target.getProperties()));
+    public void validate(final VToDo target) throws ValidationException {
+        validate(target, ValidationOptions.defaults());
+    }
 
-        Arrays.asList(CATEGORIES, CLASS, CREATED, DESCRIPTION,
-                DTSTART, DUE, DURATION, GEO, LAST_MODIFIED, LOCATION,
-                PERCENT_COMPLETE, RECURRENCE_ID, RESOURCES, RRULE, SEQUENCE,
-                STATUS, URL).forEach(property -> PropertyValidator.getInstance().assertOneOrLess(property, target.getProperties()));
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void validate(final VToDo target, final ValidationOptions options) throws ValidationException {
+        RULES.validate(target.getProperties(), options);
 
         for (final VAlarm alarm : target.getAlarms()) {
-            alarm.validate(Method.COUNTER);
+            alarm.validate(Method.COUNTER, options);
         }
     }
 }
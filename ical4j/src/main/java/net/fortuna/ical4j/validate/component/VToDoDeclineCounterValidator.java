@@ -2,12 +2,11 @@ package net.fortuna.ical4j.validate.component;
 
 import net.fortuna.ical4j.model.component.VToDo;
 import net.fortuna.ical4j.validate.ComponentValidator;
-import net.fortuna.ical4j.validate.PropertyValidator;
+import net.fortuna.ical4j.validate.PropertyRuleSet;
 import net.fortuna.ical4j.validate.ValidationException;
+import net.fortuna.ical4j.validate.ValidationOptions;
 import net.fortuna.ical4j.validate.Validator;
 
-import java.util.Arrays;
-
 import static net.fortuna.ical4j.model.Component.VALARM;
 import static net.fortuna.ical4j.model.Property.*;
 
@@ -67,16 +66,24 @@ public class VToDoDeclineCounterValidator implements Validator<VToDo> {
 
     private static final long serialVersionUID = 1L;
 
-    public void validate(final VToDo target) throws ValidationException {
-        PropertyValidator.getInstance().assertOneOrMore(ATTENDEE, target.getProperties());
+    private static final PropertyRuleSet RULES = new PropertyRuleSet.Builder()
+            .assertOneOrMore(ATTENDEE)
+            .assertOne(DTSTAMP, ORGANIZER, SEQUENCE, UID)
+            .assertOneOrLess(CATEGORIES, CLASS, CREATED, DESCRIPTION, DTSTART, DUE, DURATION, GEO,
+                    LAST_MODIFIED, LOCATION, LOCATION, PERCENT_COMPLETE, PRIORITY, RECURRENCE_ID, RESOURCES,
+                    STATUS, URL)
+            .build();
 
-        Arrays.asList(DTSTAMP, ORGANIZER, SEQUENCE, UID).forEach(
-                property -> PropertyValidator.getInstance().assertOne(property, target.getProperties()));
+    public void validate(final VToDo target) throws ValidationException {
+        validate(target, ValidationOptions.defaults());
+    }
 
-        Arrays.asList(CATEGORIES, CLASS, CREATED, DESCRIPTION,
-                DTSTART, DUE, DURATION, GEO, LAST_MODIFIED, LOCATION,
-                LOCATION, PERCENT_COMPLETE, PRIORITY, RECURRENCE_ID, RESOURCES,
-                STATUS, URL).forEach(property -> PropertyValidator.getInstance().assertOneOrLess(property, target.getProperties()));
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void validate(final VToDo target, final ValidationOptions options) throws ValidationException {
+        RULES.validate(target.getProperties(), options);
 
         ComponentValidator.assertNone(VALARM, target.getAlarms());
     }
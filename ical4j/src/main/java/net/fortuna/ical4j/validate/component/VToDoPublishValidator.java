@@ -3,13 +3,12 @@ package net.fortuna.ical4j.validate.component;
 import net.fortuna.ical4j.model.component.VAlarm;
 import net.fortuna.ical4j.model.component.VToDo;
 import net.fortuna.ical4j.model.property.Method;
-import net.fortuna.ical4j.util.CompatibilityHints;
-import net.fortuna.ical4j.validate.PropertyValidator;
+import net.fortuna.ical4j.validate.PropertyRuleSet;
+import net.fortuna.ical4j.validate.PropertyRuleSet.Cardinality;
 import net.fortuna.ical4j.validate.ValidationException;
+import net.fortuna.ical4j.validate.ValidationOptions;
 import net.fortuna.ical4j.validate.Validator;
 
-import java.util.Arrays;
-
 import static net.fortuna.ical4j.model.Property.*;
 
 /**
@@ -73,28 +72,29 @@ public class VToDoPublishValidator implements Validator<VToDo> {
 
     private static final long serialVersionUID = 1L;
 
-    public void validate(final VToDo target) throws ValidationException {
-        PropertyValidator.getInstance().assertOne(DTSTAMP, target.getProperties());
-
-        if (!CompatibilityHints.isHintEnabled(CompatibilityHints.KEY_RELAXED_VALIDATION)) {
-            Arrays.asList(ORGANIZER, PRIORITY).forEach(
-                    property -> PropertyValidator.getInstance().assertOne(property, target.getProperties()));
-        }
+    private static final PropertyRuleSet RULES = new PropertyRuleSet.Builder()
+            .assertOne(DTSTAMP)
+            .strict(Cardinality.One, ORGANIZER, PRIORITY)
+            .assertOne(SUMMARY, UID)
+            // DTSTART: RFC2446 conflicts with RCF2445..
+            .assertOneOrLess(DTSTART, SEQUENCE, CATEGORIES, CLASS, CREATED, DESCRIPTION, DUE, DURATION, GEO,
+                    LAST_MODIFIED, LOCATION, PERCENT_COMPLETE, RECURRENCE_ID, RESOURCES, STATUS, URL)
+            .assertNone(ATTENDEE, REQUEST_STATUS)
+            .build();
 
-        Arrays.asList(SUMMARY, UID).forEach(
-                property -> PropertyValidator.getInstance().assertOne(property, target.getProperties()));
-
-        // DTSTART: RFC2446 conflicts with RCF2445..
-        Arrays.asList(DTSTART, SEQUENCE, CATEGORIES, CLASS,
-                CREATED, DESCRIPTION, DUE, DURATION, GEO, LAST_MODIFIED,
-                LOCATION, PERCENT_COMPLETE, RECURRENCE_ID, RESOURCES, STATUS,
-                URL).forEach(property -> PropertyValidator.getInstance().assertOneOrLess(property, target.getProperties()));
+    public void validate(final VToDo target) throws ValidationException {
+        validate(target, ValidationOptions.defaults());
+    }
 
-        Arrays.asList(ATTENDEE, REQUEST_STATUS).forEach(
-                property -> PropertyValidator.getInstance().assertNone(property, target.getProperties()));
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void validate(final VToDo target, final ValidationOptions options) throws ValidationException {
+        RULES.validate(target.getProperties(), options);
 
         for (final VAlarm alarm : target.getAlarms()) {
-            alarm.validate(Method.PUBLISH);
+            alarm.validate(Method.PUBLISH, options);
         }
     }
 }
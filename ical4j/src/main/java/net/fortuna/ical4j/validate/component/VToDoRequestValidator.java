@@ -3,12 +3,11 @@ package net.fortuna.ical4j.validate.component;
 import net.fortuna.ical4j.model.component.VAlarm;
 import net.fortuna.ical4j.model.component.VToDo;
 import net.fortuna.ical4j.model.property.Method;
-import net.fortuna.ical4j.validate.PropertyValidator;
+import net.fortuna.ical4j.validate.PropertyRuleSet;
 import net.fortuna.ical4j.validate.ValidationException;
+import net.fortuna.ical4j.validate.ValidationOptions;
 import net.fortuna.ical4j.validate.Validator;
 
-import java.util.Arrays;
-
 import static net.fortuna.ical4j.model.Property.*;
 
 /**
@@ -74,20 +73,27 @@ public class VToDoRequestValidator implements Validator<VToDo> {
 
     private static final long serialVersionUID = 1L;
 
-    public void validate(final VToDo target) throws ValidationException {
-        PropertyValidator.getInstance().assertOneOrMore(ATTENDEE, target.getProperties());
-
-        Arrays.asList(DTSTAMP, DTSTART, ORGANIZER, PRIORITY, SUMMARY, UID).forEach(
-                property -> PropertyValidator.getInstance().assertOne(property, target.getProperties()));
+    private static final PropertyRuleSet RULES = new PropertyRuleSet.Builder()
+            .assertOneOrMore(ATTENDEE)
+            .assertOne(DTSTAMP, DTSTART, ORGANIZER, PRIORITY, SUMMARY, UID)
+            .assertOneOrLess(SEQUENCE, CATEGORIES, CLASS, CREATED, DESCRIPTION, DUE, DURATION, GEO,
+                    LAST_MODIFIED, LOCATION, PERCENT_COMPLETE, RECURRENCE_ID, RESOURCES, STATUS, URL)
+            .assertNone(REQUEST_STATUS)
+            .build();
 
-        Arrays.asList(SEQUENCE, CATEGORIES, CLASS, CREATED,
-                DESCRIPTION, DUE, DURATION, GEO, LAST_MODIFIED, LOCATION,
-                PERCENT_COMPLETE, RECURRENCE_ID, RESOURCES, STATUS, URL).forEach(property -> PropertyValidator.getInstance().assertOneOrLess(property, target.getProperties()));
+    public void validate(final VToDo target) throws ValidationException {
+        validate(target, ValidationOptions.defaults());
+    }
 
-        PropertyValidator.getInstance().assertNone(REQUEST_STATUS, target.getProperties());
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void validate(final VToDo target, final ValidationOptions options) throws ValidationException {
+        RULES.validate(target.getProperties(), options);
 
         for (final VAlarm alarm : target.getAlarms()) {
-            alarm.validate(Method.REQUEST);
+            alarm.validate(Method.REQUEST, options);
         }
     }
 }
@@ -0,0 +1,90 @@
+package net.fortuna.ical4j.data;
+
+import net.fortuna.ical4j.model.Calendar;
+import net.fortuna.ical4j.model.Component;
+import net.fortuna.ical4j.model.DateTime;
+import net.fortuna.ical4j.model.Property;
+import net.fortuna.ical4j.model.component.VEvent;
+import net.fortuna.ical4j.model.property.DtStart;
+
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link CalendarBuilderPool}, where inputs parsed by the same builder define the same timezone identifier
+ * differently.
+ */
+public class CalendarBuilderPoolTest {
+
+    private static final String TZID = "Custom/Zone";
+
+    @Test
+    public void testLazyPropertiesResolveOwnTimezones() throws Exception {
+        final ParserOptions options = new ParserOptions.Builder().lazyProperties(true).build();
+        // a single idle builder, such that both inputs are parsed by the same builder..
+        final CalendarBuilderPool pool = new CalendarBuilderPool(() -> new CalendarBuilder(options), 1);
+
+        final Calendar east = pool.build(new StringReader(calendar("+0100")));
+        final Calendar west = pool.build(new StringReader(calendar("-0500")));
+
+        // deferred properties are first read once both inputs are parsed..
+        assertEquals(new DateTime("20200101T110000Z").getTime(), getStart(east));
+        assertEquals(new DateTime("20200101T170000Z").getTime(), getStart(west));
+    }
+
+    @Test
+    public void testEagerPropertiesResolveOwnTimezones() throws Exception {
+        final CalendarBuilderPool pool = new CalendarBuilderPool(CalendarBuilder::new, 1);
+
+        final Calendar east = pool.build(new StringReader(calendar("+0100")));
+        final Calendar west = pool.build(new StringReader(calendar("-0500")));
+
+        assertEquals(new DateTime("20200101T110000Z").getTime(), getStart(east));
+        assertEquals(new DateTime("20200101T170000Z").getTime(), getStart(west));
+    }
+
+    @Test
+    public void testParallelLazyPropertiesResolveOwnTimezones() throws Exception {
+        final ParserOptions options = new ParserOptions.Builder().lazyProperties(true).build();
+        final ParallelCalendarBuilder builder = new ParallelCalendarBuilder(Runnable::run, 1, options);
+
+        final List<Calendar> calendars = builder.build(new StringReader(calendar("+0100") + calendar("-0500")));
+        assertEquals(2, calendars.size());
+        assertEquals(new DateTime("20200101T110000Z").getTime(), getStart(calendars.get(0)));
+        assertEquals(new DateTime("20200101T170000Z").getTime(), getStart(calendars.get(1)));
+    }
+
+    private static long getStart(Calendar calendar) {
+        final VEvent event = (VEvent) calendar.getComponent(Component.VEVENT);
+        final DtStart start = event.getProperty(Property.DTSTART);
+        assertNotNull(start.getDate());
+        return start.getDate().getTime();
+    }
+
+    /**
+     * @return a calendar defining a timezone with a fixed offset, and an event starting at noon in that timezone
+     */
+    private static String calendar(String offset) {
+        return "BEGIN:VCALENDAR\r\n"
+                + "PRODID:-//ical4j//test//EN\r\n"
+                + "VERSION:2.0\r\n"
+                + "BEGIN:VEVENT\r\n"
+                + "UID:" + offset + "\r\n"
+                + "DTSTAMP:20200101T000000Z\r\n"
+                + "DTSTART;TZID=" + TZID + ":20200101T120000\r\n"
+                + "END:VEVENT\r\n"
+                + "BEGIN:VTIMEZONE\r\n"
+                + "TZID:" + TZID + "\r\n"
+                + "BEGIN:STANDARD\r\n"
+                + "DTSTART:19700101T000000\r\n"
+                + "TZOFFSETFROM:" + offset + "\r\n"
+                + "TZOFFSETTO:" + offset + "\r\n"
+                + "END:STANDARD\r\n"
+                + "END:VTIMEZONE\r\n"
+                + "END:VCALENDAR\r\n";
+    }
+}
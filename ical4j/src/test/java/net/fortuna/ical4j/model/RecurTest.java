@@ -0,0 +1,257 @@
+package net.fortuna.ical4j.model;
+
+import net.fortuna.ical4j.model.RecurrenceLimitException.Limit;
+import net.fortuna.ical4j.model.component.Daylight;
+import net.fortuna.ical4j.model.component.Standard;
+import net.fortuna.ical4j.model.component.VTimeZone;
+import net.fortuna.ical4j.model.parameter.Value;
+import net.fortuna.ical4j.model.property.DtStart;
+import net.fortuna.ical4j.model.property.RRule;
+import net.fortuna.ical4j.model.property.TzId;
+import net.fortuna.ical4j.model.property.TzOffsetFrom;
+import net.fortuna.ical4j.model.property.TzOffsetTo;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.text.ParseException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link Recur#getDates(Date, Date, Date, Value, int, RecurrenceOptions)}.
+ *
+ * Rules with a fixed duration frequency (SECONDLY, MINUTELY, HOURLY) are advanced directly to the requested period,
+ * and so the dates in a period are compared with those expected from the seed, and with the dates of the same
+ * period expanded from the seed.
+ */
+public class RecurTest {
+
+    private static final long SECOND = 1000L;
+
+    private static final long MINUTE = 60 * SECOND;
+
+    private static final long HOUR = 60 * MINUTE;
+
+    private TimeZone timezone;
+
+    @Before
+    public void setUp() throws ParseException {
+        timezone = newYork();
+    }
+
+    @Test
+    public void testHourlyAcrossDaylightSavingStart() throws ParseException {
+        final Recur recur = new Recur("FREQ=HOURLY");
+        final DateTime seed = dateTime("20200301T003000");
+        final DateTime start = dateTime("20200308T000000");
+        final DateTime end = dateTime("20200308T060000");
+
+        final List<Long> dates = getTimes(recur.getDates(seed, start, end, Value.DATE_TIME));
+        assertEquals(expected(seed, HOUR, start, end), dates);
+        assertEquals(reference(recur, seed, start, end), dates);
+        // 02:30 does not occur..
+        assertEquals(5, dates.size());
+    }
+
+    @Test
+    public void testMinutelyAcrossDaylightSavingEnd() throws ParseException {
+        final Recur recur = new Recur("FREQ=MINUTELY;INTERVAL=7");
+        final DateTime seed = dateTime("20201025T000000");
+        final DateTime start = dateTime("20201101T003000");
+        final DateTime end = dateTime("20201101T023000");
+
+        final List<Long> dates = getTimes(recur.getDates(seed, start, end, Value.DATE_TIME));
+        assertEquals(expected(seed, 7 * MINUTE, start, end), dates);
+        assertEquals(reference(recur, seed, start, end), dates);
+        // 01:00 to 02:00 occurs twice..
+        assertEquals(3 * HOUR, end.getTime() - start.getTime());
+    }
+
+    @Test
+    public void testSecondlyAcrossDaylightSavingStart() throws ParseException {
+        final Recur recur = new Recur("FREQ=SECONDLY;INTERVAL=45");
+        final DateTime seed = dateTime("20200307T000000");
+        final DateTime start = dateTime("20200308T013000");
+        final DateTime end = dateTime("20200308T033000");
+
+        final List<Long> dates = getTimes(recur.getDates(seed, start, end, Value.DATE_TIME));
+        assertEquals(expected(seed, 45 * SECOND, start, end), dates);
+        assertEquals(reference(recur, seed, start, end), dates);
+        assertEquals(81, dates.size());
+    }
+
+    @Test
+    public void testHourlyWithUntil() throws ParseException {
+        final Recur recur = new Recur("FREQ=HOURLY;INTERVAL=5;UNTIL=20201101T120000Z");
+        final DateTime seed = dateTime("20201020T000000");
+        final DateTime start = dateTime("20201030T000000");
+        final DateTime end = dateTime("20201105T000000");
+
+        final List<Long> dates = getTimes(recur.getDates(seed, start, end, Value.DATE_TIME));
+        final DateTime until = new DateTime("20201101T120000Z");
+        assertEquals(expected(seed, 5 * HOUR, start, until), dates);
+        assertEquals(reference(recur, seed, start, end), dates);
+        assertTrue(dates.get(dates.size() - 1) <= until.getTime());
+    }
+
+    @Test
+    public void testMinutelyWithCount() throws ParseException {
+        final Recur recur = new Recur("FREQ=MINUTELY;INTERVAL=20;COUNT=12");
+        final DateTime seed = dateTime("20200308T000000");
+        final DateTime end = dateTime("20200309T000000");
+
+        final List<Long> dates = getTimes(recur.getDates(seed, seed, end, Value.DATE_TIME));
+        assertEquals(expected(seed, 20 * MINUTE, seed, new DateTime(seed.getTime() + 11 * 20 * MINUTE)), dates);
+
+        // dates before the period count towards the COUNT..
+        final DateTime start = dateTime("20200308T030000");
+        assertEquals(reference(recur, seed, start, end),
+                getTimes(recur.getDates(seed, start, end, Value.DATE_TIME)));
+        assertEquals(6, getTimes(recur.getDates(seed, start, end, Value.DATE_TIME)).size());
+    }
+
+    @Test
+    public void testHourlyWithSetPos() throws ParseException {
+        final Recur recur = new Recur("FREQ=HOURLY;BYMINUTE=0,20,40;BYSETPOS=1,-1");
+        final DateTime seed = dateTime("20200307T220000");
+        final DateTime start = dateTime("20200308T000000");
+        final DateTime end = dateTime("20200308T050000");
+
+        final List<Long> dates = getTimes(recur.getDates(seed, start, end, Value.DATE_TIME));
+        final List<Long> expected = new ArrayList<>();
+        for (final long hour : expected(seed, HOUR, start, end)) {
+            expected.add(hour);
+            if (hour + 40 * MINUTE <= end.getTime()) {
+                expected.add(hour + 40 * MINUTE);
+            }
+        }
+        assertEquals(expected, dates);
+        assertEquals(reference(recur, seed, start, end), dates);
+    }
+
+    @Test
+    public void testCandidatesLimit() throws ParseException {
+        final Recur recur = new Recur("FREQ=SECONDLY");
+        final DateTime seed = new DateTime("20200101T000000Z");
+        final RecurrenceOptions options = new RecurrenceOptions.Builder().maxCandidates(1000).build();
+        try {
+            recur.getDates(seed, seed, new DateTime("20200102T000000Z"), Value.DATE_TIME, -1, options);
+            fail("Expected RecurrenceLimitException");
+        } catch (RecurrenceLimitException e) {
+            assertEquals(Limit.CANDIDATES, e.getLimit());
+            assertEquals(1000, e.getDates().size());
+        }
+    }
+
+    @Test
+    public void testResultsLimit() throws ParseException {
+        final Recur recur = new Recur("FREQ=MINUTELY");
+        final DateTime seed = new DateTime("20200101T000000Z");
+        final RecurrenceOptions options = new RecurrenceOptions.Builder().maxResults(100).build();
+        try {
+            recur.getDates(seed, seed, new DateTime("20200102T000000Z"), Value.DATE_TIME, -1, options);
+            fail("Expected RecurrenceLimitException");
+        } catch (RecurrenceLimitException e) {
+            assertEquals(Limit.RESULTS, e.getLimit());
+            assertEquals(100, e.getDates().size());
+        }
+    }
+
+    @Test
+    public void testTimeLimit() throws ParseException {
+        final Recur recur = new Recur("FREQ=MINUTELY");
+        final DateTime seed = new DateTime("20200101T000000Z");
+        final RecurrenceOptions options = new RecurrenceOptions.Builder()
+                .deadline(Instant.now().minusSeconds(1)).build();
+        try {
+            recur.getDates(seed, seed, new DateTime("20200102T000000Z"), Value.DATE_TIME, -1, options);
+            fail("Expected RecurrenceLimitException");
+        } catch (RecurrenceLimitException e) {
+            assertEquals(Limit.TIME, e.getLimit());
+            assertTrue(e.getDates().isEmpty());
+        }
+    }
+
+    @Test
+    public void testSetPosCandidatesLimit() throws ParseException {
+        // only one of the 24 hourly candidates is selected each day..
+        final Recur recur = new Recur("FREQ=DAILY;BYHOUR=0,1,2,3,4,5,6,7,8,9,10,11,12,13,14,15,16,17,18,19,20,21,22,23;"
+                + "BYSETPOS=-1");
+        final DateTime seed = new DateTime("20200101T000000Z");
+        final DateTime end = new DateTime("20200110T000000Z");
+        final RecurrenceOptions options = new RecurrenceOptions.Builder().maxCandidates(50).build();
+
+        final DateList dates = recur.getDates(seed, seed, end, Value.DATE_TIME, -1, options);
+        assertEquals(9, dates.size());
+    }
+
+    /**
+     * @return the times of the specified dates
+     */
+    private static List<Long> getTimes(final DateList dates) {
+        final List<Long> times = new ArrayList<>();
+        for (final Date date : dates) {
+            times.add(date.getTime());
+        }
+        return times;
+    }
+
+    /**
+     * @return the times at a fixed step from the seed within the specified period (inclusive)
+     */
+    private static List<Long> expected(final DateTime seed, final long step, final DateTime start, final DateTime end) {
+        final List<Long> times = new ArrayList<>();
+        for (long time = seed.getTime(); time <= end.getTime(); time += step) {
+            if (time >= start.getTime()) {
+                times.add(time);
+            }
+        }
+        return times;
+    }
+
+    /**
+     * @return the times in the specified period of the dates expanded from the seed, such that no increments are
+     * skipped
+     */
+    private static List<Long> reference(final Recur recur, final DateTime seed, final DateTime start,
+                                        final DateTime end) {
+        final List<Long> times = new ArrayList<>();
+        for (final Date date : recur.getDates(seed, seed, end, Value.DATE_TIME)) {
+            if (!date.before(start)) {
+                times.add(date.getTime());
+            }
+        }
+        return times;
+    }
+
+    private DateTime dateTime(final String value) throws ParseException {
+        return new DateTime(value, timezone);
+    }
+
+    /**
+     * @return a timezone with the daylight saving rules of America/New_York since 2007
+     */
+    private static TimeZone newYork() throws ParseException {
+        final Daylight daylight = new Daylight();
+        daylight.getProperties().add(new DtStart("20070311T020000"));
+        daylight.getProperties().add(new TzOffsetFrom("-0500"));
+        daylight.getProperties().add(new TzOffsetTo("-0400"));
+        daylight.getProperties().add(new RRule("FREQ=YEARLY;BYMONTH=3;BYDAY=2SU"));
+
+        final Standard standard = new Standard();
+        standard.getProperties().add(new DtStart("20071104T020000"));
+        standard.getProperties().add(new TzOffsetFrom("-0400"));
+        standard.getProperties().add(new TzOffsetTo("-0500"));
+        standard.getProperties().add(new RRule("FREQ=YEARLY;BYMONTH=11;BYDAY=1SU"));
+
+        final VTimeZone vTimeZone = new VTimeZone();
+        vTimeZone.getProperties().add(new TzId("America/New_York"));
+        vTimeZone.getObservances().add(daylight);
+        vTimeZone.getObservances().add(standard);
+        return new TimeZone(vTimeZone);
+    }
+}